@@ -0,0 +1,225 @@
+package com.javalab.student.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.javalab.student.StudentBackendApplication;
+import com.javalab.student.constant.Role;
+import com.javalab.student.entity.Member;
+import com.javalab.student.entity.product.Product;
+import com.javalab.student.repository.MemberRepository;
+import com.javalab.student.repository.product.ProductRepository;
+import com.javalab.student.service.cartOrder.pg.StubPaymentGateway;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제 흐름 부하 테스트 (./gradlew loadTest)
+ *
+ * 외부 서버 없이 한 대에서 실행합니다.
+ * - DB: H2 인메모리 (MariaDB 호환 모드), Redis: 내장 Redis (127.0.0.1, 빈 포트), PG: StubPaymentGateway (payment.pg.stub=true)
+ * - 애플리케이션을 loadtest 프로필로 임의 포트에 띄우고, 상품/회원을 만든 뒤 가상 사용자(CheckoutUser)들이
+ *   상품 목록 → 상품 상세 → 장바구니 담기 → 장바구니 조회 → 주문 생성 → 결제 완료를 반복합니다.
+ * - 워밍업 이후 측정 구간의 단계별 p50/p99 응답 시간, 처리량(결제 완료 건수/초), DB 커넥션 풀 포화도를 출력합니다.
+ *
+ * 설정 (-P 로 전달, 괄호는 기본값)
+ * - loadtest.users (20) : 동시 가상 사용자 수
+ * - loadtest.warmup-seconds (10), loadtest.duration-seconds (60) : 워밍업/측정 시간
+ * - loadtest.products (100) : 만들 상품 수
+ * - loadtest.think-time-ms (0) : 주문 한 건을 끝내고 다음 주문까지 쉬는 시간
+ * - loadtest.request-timeout-ms (10000) : HTTP 요청 제한 시간
+ * - loadtest.pg-delay-ms (0) : 스텁 PG 응답 지연 (PG 조회 시간을 흉내냄)
+ * - loadtest.pool-size (application.properties 값) : DB 커넥션 풀 최대 크기
+ *
+ * 예) ./gradlew loadTest -Ploadtest.users=50 -Ploadtest.duration-seconds=120 -Ploadtest.pg-delay-ms=300
+ */
+@Slf4j
+public class CheckoutLoadTest {
+
+    private static final String PASSWORD = "loadtest1234";
+    private static final int PAGE_SIZE = 10;
+    private static final long POOL_SAMPLE_INTERVAL_MILLIS = 100;
+
+    private final ConfigurableApplicationContext context;
+    private final int users = Integer.getInteger("loadtest.users", 20);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+    private final int products = Integer.getInteger("loadtest.products", 100);
+    private final long thinkTimeMillis = Long.getLong("loadtest.think-time-ms", 0);
+    private final long requestTimeoutMillis = Long.getLong("loadtest.request-timeout-ms", 10_000);
+
+    private CheckoutLoadTest(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int redisPort = freePort();
+        RedisServer redis = RedisServer.newRedisServer()
+                .port(redisPort)
+                .setting("bind 127.0.0.1")
+                .build();
+        redis.start();
+        ConfigurableApplicationContext context = null;
+        try {
+            context = new SpringApplicationBuilder(StudentBackendApplication.class)
+                    .profiles("loadtest")
+                    .run(applicationArgs(redisPort));
+            new CheckoutLoadTest(context).run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            redis.stop();
+        }
+    }
+
+    /** 명령행 인자로 넘겨 application.properties 보다 우선 적용되게 합니다. */
+    private static String[] applicationArgs(int redisPort) {
+        List<String> args = new ArrayList<>();
+        args.add("--spring.data.redis.host=127.0.0.1");
+        args.add("--spring.data.redis.port=" + redisPort);
+        args.add("--payment.pg.stub.delay-ms=" + Long.getLong("loadtest.pg-delay-ms", 0));
+        Integer poolSize = Integer.getInteger("loadtest.pool-size");
+        if (poolSize != null) {
+            args.add("--spring.datasource.hikari.maximum-pool-size=" + poolSize);
+        }
+        return args.toArray(new String[0]);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private void run() throws InterruptedException {
+        String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+        List<String> emails = seedMembers();
+        seedProducts();
+
+        HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .configure(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES, false); // 금액을 받은 그대로 다시 보냄
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        CheckoutMetrics metrics = new CheckoutMetrics();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(users,
+                runnable -> new Thread(runnable, "loadtest-user-" + threadNumber.incrementAndGet()));
+
+        try (ConnectionPoolSampler poolSampler = new ConnectionPoolSampler(
+                dataSource.getHikariPoolMXBean(), dataSource.getMaximumPoolSize())) {
+            int productPages = Math.max(1, products / PAGE_SIZE);
+            for (String email : emails) {
+                executor.submit(new CheckoutUser(client, objectMapper, baseUrl, email, PASSWORD,
+                        context.getBean(StubPaymentGateway.class), metrics, productPages, PAGE_SIZE,
+                        Duration.ofMillis(requestTimeoutMillis), thinkTimeMillis, running::get));
+            }
+            poolSampler.start(POOL_SAMPLE_INTERVAL_MILLIS);
+
+            log.info("워밍업 {}초 - 가상 사용자 {}명, {}", warmupSeconds, users, baseUrl);
+            TimeUnit.SECONDS.sleep(warmupSeconds);
+            long measureFrom = System.nanoTime();
+            metrics.startMeasuring(measureFrom, measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds));
+            poolSampler.reset();
+
+            log.info("측정 {}초", durationSeconds);
+            TimeUnit.SECONDS.sleep(durationSeconds);
+            String poolSummary = poolSampler.summary();
+
+            running.set(false);
+            executor.shutdown();
+            if (!executor.awaitTermination(requestTimeoutMillis + 5_000, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+            printReport(metrics, poolSummary);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** 가상 사용자마다 회원 한 명 (비밀번호 암호화는 한 번만 해서 같이 씀) */
+    private List<String> seedMembers() {
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<Member> members = new ArrayList<>();
+        List<String> emails = new ArrayList<>();
+        for (int i = 1; i <= users; i++) {
+            Member member = new Member();
+            member.setEmail("loadtest" + i + "@example.com");
+            member.setName("부하테스트" + i);
+            member.setPassword(encodedPassword);
+            member.setPhone("010-0000-0000");
+            member.setRole(Role.USER);
+            member.setActivate(true);
+            member.setSocial(false);
+            members.add(member);
+            emails.add(member.getEmail());
+        }
+        context.getBean(MemberRepository.class).saveAll(members);
+        return emails;
+    }
+
+    /** 재고가 넉넉한 상품 (재고 부족으로 실패하지 않게) */
+    private void seedProducts() {
+        List<Product> seeded = new ArrayList<>();
+        for (int i = 1; i <= products; i++) {
+            seeded.add(Product.builder()
+                    .name("부하 테스트 상품 " + i)
+                    .description("부하 테스트용 상품입니다.")
+                    .price(BigDecimal.valueOf(10_000L + (i % 10) * 1_000L))
+                    .stock(1_000_000)
+                    .active(true)
+                    .mainImageUrl("")
+                    .build());
+        }
+        context.getBean(ProductRepository.class).saveAll(seeded);
+    }
+
+    private void printReport(CheckoutMetrics metrics, String poolSummary) {
+        StringBuilder report = new StringBuilder();
+        report.append(System.lineSeparator()).append("=== 결제 흐름 부하 테스트 결과 ===").append(System.lineSeparator());
+        report.append(String.format("가상 사용자 %d명, 워밍업 %d초, 측정 %d초, 상품 %d개, 생각 시간 %dms, PG 지연 %dms%n",
+                users, warmupSeconds, durationSeconds, products, thinkTimeMillis, Long.getLong("loadtest.pg-delay-ms", 0)));
+        report.append(String.format("처리량: 결제 완료 %.1f건/초 (%d건), HTTP 요청 %.1f건/초 (%d건)%n",
+                (double) metrics.getCheckouts() / durationSeconds, metrics.getCheckouts(),
+                (double) metrics.getRequests() / durationSeconds, metrics.getRequests()));
+        report.append("DB 커넥션 풀: ").append(poolSummary).append(System.lineSeparator());
+        report.append(String.format("%n%8s %6s %9s %9s %9s %9s  %s%n", "성공", "실패", "p50(ms)", "p99(ms)", "평균(ms)", "최대(ms)", "단계"));
+        List<StepLatency.Snapshot> snapshots = metrics.snapshots();
+        for (StepLatency.Snapshot snapshot : snapshots) {
+            report.append(String.format("%8d %6d %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    snapshot.getCount(), snapshot.getFailureCount(),
+                    snapshot.getPercentileMillis(50), snapshot.getPercentileMillis(99),
+                    snapshot.getMeanMillis(), snapshot.getMaxMillis(), snapshot.getName()));
+        }
+        for (StepLatency.Snapshot snapshot : snapshots) {
+            for (Map.Entry<Integer, Long> failure : snapshot.getFailures().entrySet()) {
+                report.append(String.format("실패 - %s: %s %d건%n", snapshot.getName(),
+                        failure.getKey() == 0 ? "통신 오류/시간 초과" : "HTTP " + failure.getKey(), failure.getValue()));
+            }
+        }
+        System.out.println(report);
+    }
+}
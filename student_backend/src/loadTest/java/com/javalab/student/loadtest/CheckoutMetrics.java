@@ -0,0 +1,96 @@
+package com.javalab.student.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 측정값 모음
+ * - 측정 구간(워밍업 이후 ~ 종료 시각) 안에서 시작하고 끝난 요청만 기록합니다.
+ * - 처리량은 측정 구간 안에 결제까지 끝난 주문 수로 계산합니다.
+ */
+class CheckoutMetrics {
+
+    /** 측정 단계 */
+    enum Step {
+        LOGIN("POST /api/auth/login (로그인)"),
+        BROWSE("GET  /api/products/paged (상품 목록)"),
+        DETAIL("GET  /api/products/{id} (상품 상세)"),
+        ADD_TO_CART("POST /api/cart (장바구니 담기)"),
+        VIEW_CART("GET  /api/cart (장바구니 조회)"),
+        ORDER("POST /api/orders (주문 생성)"),
+        PAY("POST /api/payments/request (결제 완료)"),
+        CHECKOUT("전체 (둘러보기 ~ 결제 완료)");
+
+        private final String label;
+
+        Step(String label) {
+            this.label = label;
+        }
+
+        String getLabel() {
+            return label;
+        }
+    }
+
+    private final Map<Step, StepLatency> steps = new EnumMap<>(Step.class);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder checkouts = new LongAdder();
+    private volatile long measureFromNanos = Long.MAX_VALUE;
+    private volatile long measureUntilNanos = Long.MAX_VALUE;
+
+    CheckoutMetrics() {
+        for (Step step : Step.values()) {
+            steps.put(step, new StepLatency(step.getLabel()));
+        }
+    }
+
+    void startMeasuring(long fromNanos, long untilNanos) {
+        this.measureFromNanos = fromNanos;
+        this.measureUntilNanos = untilNanos;
+    }
+
+    private boolean inWindow(long startedNanos, long finishedNanos) {
+        return startedNanos >= measureFromNanos && finishedNanos <= measureUntilNanos;
+    }
+
+    void success(Step step, long startedNanos, long finishedNanos) {
+        if (inWindow(startedNanos, finishedNanos)) {
+            steps.get(step).record(finishedNanos - startedNanos);
+            if (step == Step.CHECKOUT) {
+                checkouts.increment();
+            } else {
+                requests.increment();
+            }
+        }
+    }
+
+    void failure(Step step, int status, long startedNanos, long finishedNanos) {
+        if (inWindow(startedNanos, finishedNanos)) {
+            steps.get(step).fail(status);
+            if (step != Step.CHECKOUT) {
+                requests.increment();
+            }
+        }
+    }
+
+    /** 측정 구간에서 보낸 HTTP 요청 수 (실패 포함) */
+    long getRequests() {
+        return requests.sum();
+    }
+
+    /** 측정 구간에서 결제까지 끝난 주문 수 */
+    long getCheckouts() {
+        return checkouts.sum();
+    }
+
+    List<StepLatency.Snapshot> snapshots() {
+        List<StepLatency.Snapshot> result = new ArrayList<>();
+        for (StepLatency latency : steps.values()) {
+            result.add(latency.snapshot());
+        }
+        return result;
+    }
+}
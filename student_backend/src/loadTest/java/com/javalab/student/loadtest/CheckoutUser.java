@@ -0,0 +1,241 @@
+package com.javalab.student.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.javalab.student.loadtest.CheckoutMetrics.Step;
+import com.javalab.student.service.cartOrder.pg.StubPaymentGateway;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 가상 사용자 한 명 (스레드 하나)
+ *
+ * 프론트엔드와 같은 순서로 API 를 호출합니다: 상품 목록 → 상품 상세 → 장바구니 담기 → 장바구니 조회 → 주문 생성 → 결제 완료
+ * - 로그인은 폼 로그인으로 받은 액세스 토큰 쿠키(accToken)를 이후 요청에 붙입니다. 토큰이 만료되어 401 이 오면 다시 로그인합니다.
+ * - 결제창(포트원) 대신 스텁 PG 에 결제 완료를 등록한 뒤 결제 완료 요청을 보냅니다. (서버는 스텁 PG 를 조회해 검증)
+ * - 결제가 끝난 장바구니 상품은 서버의 아웃박스 처리로 비워지므로, 비워지기 전에 다음 주문을 하면 남은 상품도 함께 주문됩니다.
+ */
+class CheckoutUser implements Runnable {
+
+    private static final String ACCESS_TOKEN_COOKIE = "accToken";
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String email;
+    private final String password;
+    private final StubPaymentGateway paymentGateway;
+    private final CheckoutMetrics metrics;
+    private final int productPages;
+    private final int pageSize;
+    private final Duration requestTimeout;
+    private final long thinkTimeMillis;
+    private final BooleanSupplier running;
+
+    private String accessToken;
+
+    CheckoutUser(HttpClient client, ObjectMapper objectMapper, String baseUrl, String email, String password,
+                 StubPaymentGateway paymentGateway, CheckoutMetrics metrics, int productPages, int pageSize,
+                 Duration requestTimeout, long thinkTimeMillis, BooleanSupplier running) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.email = email;
+        this.password = password;
+        this.paymentGateway = paymentGateway;
+        this.metrics = metrics;
+        this.productPages = productPages;
+        this.pageSize = pageSize;
+        this.requestTimeout = requestTimeout;
+        this.thinkTimeMillis = thinkTimeMillis;
+        this.running = running;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running.getAsBoolean() && !login()) {
+                pause(1000);
+            }
+            while (running.getAsBoolean()) {
+                long started = System.nanoTime();
+                try {
+                    checkout();
+                    metrics.success(Step.CHECKOUT, started, System.nanoTime());
+                } catch (StepFailedException e) {
+                    // 실패한 단계에서 상태 코드별로 이미 기록함
+                    metrics.failure(Step.CHECKOUT, e.status, started, System.nanoTime());
+                }
+                pause(thinkTimeMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** 주문 한 건: 둘러보기부터 결제 완료까지 */
+    private void checkout() throws InterruptedException, StepFailedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // 1. 상품 목록 한 페이지를 보고 그중 한 상품의 상세를 봄
+        JsonNode page = send(Step.BROWSE, get("/api/products/paged?page=" + random.nextInt(productPages) + "&size=" + pageSize));
+        JsonNode products = page.path("content");
+        if (!products.isArray() || products.isEmpty()) {
+            throw new StepFailedException(0);
+        }
+        long productId = products.get(random.nextInt(products.size())).path("id").asLong();
+        send(Step.DETAIL, get("/api/products/" + productId));
+
+        // 2. 장바구니 담기
+        ObjectNode cartItem = objectMapper.createObjectNode()
+                .put("productId", productId)
+                .put("quantity", 1);
+        send(Step.ADD_TO_CART, post("/api/cart", cartItem));
+
+        // 3. 장바구니를 조회해 주문할 상품 목록을 만듦
+        JsonNode cart = send(Step.VIEW_CART, get("/api/cart"));
+        ArrayNode orderItems = objectMapper.createArrayNode();
+        for (JsonNode line : cart) {
+            orderItems.addObject()
+                    .put("cartItemId", line.path("cartItemId").asLong())
+                    .put("quantity", line.path("quantity").asInt())
+                    .put("price", line.path("price").decimalValue());
+        }
+
+        // 4. 주문 생성 (재고 예약)
+        ObjectNode orderRequest = objectMapper.createObjectNode().put("payMethod", "card");
+        orderRequest.set("cartOrderItems", orderItems);
+        JsonNode order = send(Step.ORDER, post("/api/orders?purchaseType=oneTime", orderRequest));
+        long orderId = order.path("id").asLong();
+        BigDecimal amount = order.path("amount").decimalValue();
+
+        // 5. 결제: 결제창에서 결제가 끝난 것으로 스텁 PG 에 등록한 뒤 결제 완료 요청
+        String impUid = "imp_loadtest_" + UUID.randomUUID();
+        paymentGateway.register(impUid, orderId + "_" + System.currentTimeMillis(), amount);
+        ObjectNode paymentRequest = objectMapper.createObjectNode()
+                .put("impUid", impUid)
+                .put("merchantUid", orderId)
+                .put("name", "부하 테스트 주문")
+                .put("paidAmount", amount)
+                .put("selectedPaymentMethod", "card")
+                .put("buyerEmail", email)
+                .put("buyerName", email)
+                .put("paidAt", System.currentTimeMillis() / 1000);
+        send(Step.PAY, post("/api/payments/request?purchaseType=oneTime", paymentRequest)
+                .header("Idempotency-Key", UUID.randomUUID().toString()));
+    }
+
+    /**
+     * 폼 로그인으로 액세스 토큰을 받습니다.
+     *
+     * @return 로그인에 성공했으면 true
+     */
+    private boolean login() throws InterruptedException {
+        String form = "username=" + URLEncoder.encode(email, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            String token = response.headers().allValues("Set-Cookie").stream()
+                    .filter(cookie -> cookie.startsWith(ACCESS_TOKEN_COOKIE + "="))
+                    .map(cookie -> cookie.substring(ACCESS_TOKEN_COOKIE.length() + 1).split(";", 2)[0])
+                    .findFirst()
+                    .orElse(null);
+            if (response.statusCode() != 200 || token == null) {
+                metrics.failure(Step.LOGIN, response.statusCode(), started, System.nanoTime());
+                return false;
+            }
+            accessToken = token;
+            metrics.success(Step.LOGIN, started, System.nanoTime());
+            return true;
+        } catch (IOException e) {
+            metrics.failure(Step.LOGIN, 0, started, System.nanoTime());
+            return false;
+        }
+    }
+
+    /**
+     * 요청을 보내고 응답 본문을 JSON 으로 읽습니다.
+     * - 401 이면 다시 로그인한 뒤 한 번 더 보내고, 다시 보낸 요청의 응답 시간을 기록합니다.
+     *
+     * @throws StepFailedException 2xx 가 아니거나 통신에 실패한 경우 (상태 코드별로 기록한 뒤)
+     */
+    private JsonNode send(Step step, HttpRequest.Builder request) throws InterruptedException, StepFailedException {
+        long started = System.nanoTime();
+        HttpResponse<String> response = exchange(step, request, started);
+        if (response.statusCode() == 401 && login()) {
+            started = System.nanoTime();
+            response = exchange(step, request, started);
+        }
+        long finished = System.nanoTime();
+        if (response.statusCode() / 100 != 2) {
+            metrics.failure(step, response.statusCode(), started, finished);
+            throw new StepFailedException(response.statusCode());
+        }
+        metrics.success(step, started, finished);
+        try {
+            return response.body().isEmpty() ? objectMapper.createObjectNode() : objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new StepFailedException(response.statusCode());
+        }
+    }
+
+    private HttpResponse<String> exchange(Step step, HttpRequest.Builder request, long started)
+            throws InterruptedException, StepFailedException {
+        try {
+            return client.send(request.setHeader("Cookie", ACCESS_TOKEN_COOKIE + "=" + accessToken).build(),
+                    HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            metrics.failure(step, 0, started, System.nanoTime());
+            throw new StepFailedException(0);
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .GET();
+    }
+
+    private HttpRequest.Builder post(String path, JsonNode body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()));
+    }
+
+    private static void pause(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    /** 단계 실패 (HTTP 상태 코드, 통신 실패면 0) */
+    private static final class StepFailedException extends Exception {
+
+        private final int status;
+
+        private StepFailedException(int status) {
+            super(null, null, false, false);
+            this.status = status;
+        }
+    }
+}
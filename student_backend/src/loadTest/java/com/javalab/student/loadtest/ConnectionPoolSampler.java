@@ -0,0 +1,78 @@
+package com.javalab.student.loadtest;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 커넥션 풀(Hikari) 포화도 샘플링
+ * - 일정 간격으로 사용 중/유휴 커넥션 수와 커넥션을 기다리는 스레드 수를 읽어 최댓값과 평균을 냅니다.
+ * - 대기 스레드가 있던 샘플 비율이 높으면 처리량이 DB 커넥션 수에 묶여 있다는 뜻입니다.
+ */
+class ConnectionPoolSampler implements AutoCloseable {
+
+    private final HikariPoolMXBean pool;
+    private final int maximumPoolSize;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "loadtest-pool-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long samples;
+    private long activeSum;
+    private int maxActive;
+    private int maxWaiting;
+    private long saturatedSamples;
+    private long waitingSamples;
+
+    ConnectionPoolSampler(HikariPoolMXBean pool, int maximumPoolSize) {
+        this.pool = pool;
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    void start(long intervalMillis) {
+        scheduler.scheduleAtFixedRate(this::sample, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** 측정 구간 시작 시 워밍업 동안의 샘플을 버립니다. */
+    synchronized void reset() {
+        samples = 0;
+        activeSum = 0;
+        maxActive = 0;
+        maxWaiting = 0;
+        saturatedSamples = 0;
+        waitingSamples = 0;
+    }
+
+    private synchronized void sample() {
+        int active = pool.getActiveConnections();
+        int waiting = pool.getThreadsAwaitingConnection();
+        samples++;
+        activeSum += active;
+        maxActive = Math.max(maxActive, active);
+        maxWaiting = Math.max(maxWaiting, waiting);
+        if (active >= maximumPoolSize) {
+            saturatedSamples++;
+        }
+        if (waiting > 0) {
+            waitingSamples++;
+        }
+    }
+
+    synchronized String summary() {
+        if (samples == 0) {
+            return "샘플 없음";
+        }
+        return String.format("최대 %d개 중 사용 평균 %.1f / 최대 %d, 전부 사용 중 %.1f%%, 대기 발생 %.1f%% (최대 대기 스레드 %d)",
+                maximumPoolSize, (double) activeSum / samples, maxActive,
+                100.0 * saturatedSamples / samples, 100.0 * waitingSamples / samples, maxWaiting);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,102 @@
+package com.javalab.student.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 부하 테스트 단계(상품 조회, 장바구니 담기, 주문, 결제 ...)별 응답 시간 기록
+ * - 측정 구간의 응답 시간을 모두 보관했다가 끝난 뒤 정렬해 정확한 백분위를 계산합니다.
+ *   (운영용 LatencyHistogram 은 구간 상한으로만 백분위를 주므로 p50/p99 비교에는 거칩니다)
+ * - 실패는 HTTP 상태 코드별로 세고, 응답 시간에는 넣지 않습니다.
+ */
+class StepLatency {
+
+    private final String name;
+    private long[] samples = new long[1024];
+    private int size;
+    private final Map<Integer, Long> failures = new TreeMap<>();
+
+    StepLatency(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /** 성공한 요청의 응답 시간 (나노초) */
+    synchronized void record(long elapsedNanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = elapsedNanos;
+    }
+
+    /**
+     * 실패한 요청
+     *
+     * @param status HTTP 상태 코드 (요청 자체가 실패하면 0)
+     */
+    synchronized void fail(int status) {
+        failures.merge(status, 1L, Long::sum);
+    }
+
+    synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new Snapshot(name, sorted, new TreeMap<>(failures));
+    }
+
+    /**
+     * 측정 결과 (응답 시간은 밀리초)
+     */
+    static final class Snapshot {
+
+        private final String name;
+        private final long[] sortedNanos;
+        private final Map<Integer, Long> failures;
+
+        private Snapshot(String name, long[] sortedNanos, Map<Integer, Long> failures) {
+            this.name = name;
+            this.sortedNanos = sortedNanos;
+            this.failures = failures;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        long getCount() {
+            return sortedNanos.length;
+        }
+
+        long getFailureCount() {
+            return failures.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        Map<Integer, Long> getFailures() {
+            return failures;
+        }
+
+        /** 백분위 응답 시간 (nearest-rank, 기록이 없으면 0) */
+        double getPercentileMillis(double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(sortedNanos.length * percentile / 100.0);
+            return sortedNanos[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+
+        double getMeanMillis() {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            return Arrays.stream(sortedNanos).average().orElse(0) / 1_000_000.0;
+        }
+
+        double getMaxMillis() {
+            return sortedNanos.length == 0 ? 0 : sortedNanos[sortedNanos.length - 1] / 1_000_000.0;
+        }
+    }
+}
@@ -109,8 +109,10 @@ public class SecurityConfig {
                 .requestMatchers("/api/members/register", "/api/members/checkEmail").permitAll()
                 .requestMatchers("/api/email/send", "/api/email/verify").permitAll()
                 .requestMatchers("/members/login").permitAll()
+                .requestMatchers("/api/products/bulk/**").hasRole("ADMIN") // 상품 대량 등록/내보내기
                 .requestMatchers("/api/products/**").permitAll()
                 .requestMatchers("/api/categories").permitAll()
+                .requestMatchers("/api/categories/*/ingredients").permitAll()
                 .requestMatchers("/api/ingredients").permitAll()
                 .requestMatchers("/api/ingredients/categories").permitAll()
                 .requestMatchers("/api/auth/userInfo").permitAll()
@@ -123,12 +125,21 @@ public class SecurityConfig {
                 .requestMatchers("/api/recommendations/**").hasAnyRole("USER", "ADMIN", "CS_AGENT")
                 .requestMatchers("/api/cart/**").hasAnyRole("USER", "ADMIN", "CS_AGENT")
                 .requestMatchers("/api/members/**").hasAnyRole("USER", "ADMIN", "CS_AGENT")
+                .requestMatchers("/api/payments/webhook").permitAll() // PG 웹훅 (본문은 신뢰하지 않고 PG 재조회로 확인)
                 .requestMatchers("/api/payments/**").hasAnyRole("USER", "ADMIN", "CS_AGENT")
                 .requestMatchers("/api/orders").hasAnyRole("USER", "ADMIN", "CS_AGENT")
                 .requestMatchers("/api/messages").hasAnyRole("USER", "ADMIN", "CS_AGENT")
 
                 // 관리자 전용 엔드포인트
                 .requestMatchers("/admin/**").hasRole("ADMIN")
+                .requestMatchers("/api/admin/request-coalescing/**").hasRole("ADMIN") // 요청 합치기 통계
+                .requestMatchers("/api/admin/pg-webhook/**").hasRole("ADMIN") // PG 웹훅 처리 현황
+                .requestMatchers("/api/admin/pg-client/**").hasRole("ADMIN") // PG 호출 통계
+                .requestMatchers("/api/admin/sales/**").hasRole("ADMIN") // 매출 집계
+                .requestMatchers("/api/admin/outbox/**").hasRole("ADMIN") // 아웃박스 처리 현황/재처리
+                .requestMatchers("/api/admin/orders/bulk-status/**").hasRole("ADMIN") // 주문 상태/운송장 일괄 변경
+                .requestMatchers("/api/admin/settlement/**").hasRole("ADMIN") // PG 정산 대사
+                .requestMatchers("/api/admin/order-archive/**").hasRole("ADMIN") // 주문 보관
                 .requestMatchers("/api/posts/create").hasRole("ADMIN")  // 게시물 작성
                 .requestMatchers("/api/posts/*/update").hasRole("ADMIN")  // 게시물 수정
                 .requestMatchers("/api/posts/*/delete").hasRole("ADMIN")  // 게시물 삭제
@@ -0,0 +1,10 @@
+package com.javalab.student.constant;
+
+/**
+ * 필터 조건 결합 방식
+ * - 같은 그룹(카테고리, 영양성분) 안에서 선택한 값들을 어떻게 묶을지 정의
+ */
+public enum FacetMatch {
+    ANY,    // 하나라도 포함 (OR)
+    ALL     // 모두 포함 (AND)
+}
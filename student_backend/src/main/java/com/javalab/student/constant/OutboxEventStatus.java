@@ -0,0 +1,13 @@
+package com.javalab.student.constant;
+
+/**
+ * 아웃박스 이벤트 처리 상태
+ * - 주문/결제 트랜잭션에서 PENDING 으로 쌓고, 릴레이가 가져가면 PROCESSING(next_attempt_at 까지 잠금)으로 바꿉니다.
+ * - 처리에 성공하면 DONE, 재시도 횟수를 넘기면 DEAD(데드 레터)가 됩니다.
+ */
+public enum OutboxEventStatus {
+    PENDING,     // 처리 대기 (next_attempt_at 이후 처리)
+    PROCESSING,  // 처리 중 (next_attempt_at 이 지나면 다시 가져갈 수 있음)
+    DONE,        // 처리 완료
+    DEAD         // 재시도 횟수 초과 또는 처리할 핸들러 없음 (관리자 확인 후 재시도)
+}
@@ -0,0 +1,9 @@
+package com.javalab.student.constant;
+
+/**
+ * 아웃박스 이벤트 종류 (OutboxEventHandler 가 종류별로 하나씩 처리)
+ */
+public enum OutboxEventType {
+    CART_CLEAR,          // 결제 완료 후 장바구니 비우기 (DB + Redis)
+    SUBSCRIPTION_APPLY   // 정기 구독 결제 후 구독 생성 또는 다음 회차 상품 갱신
+}
@@ -0,0 +1,46 @@
+package com.javalab.student.constant;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 가격대 (필터 사이드바용)
+ * - 하한 이상 ~ 상한 미만, 상한이 null 이면 제한 없음
+ */
+public enum PriceBand {
+    UNDER_10000("1만원 미만", null, 10_000),
+    FROM_10000_TO_30000("1만원 ~ 3만원", 10_000, 30_000),
+    FROM_30000_TO_50000("3만원 ~ 5만원", 30_000, 50_000),
+    OVER_50000("5만원 이상", 50_000, null);
+
+    private final String label;
+    private final BigDecimal min;
+    private final BigDecimal max;
+
+    PriceBand(String label, Integer min, Integer max) {
+        this.label = label;
+        this.min = min != null ? BigDecimal.valueOf(min) : null;
+        this.max = max != null ? BigDecimal.valueOf(max) : null;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 가격이 속한 가격대를 반환합니다.
+     * @param price 상품 가격
+     * @return 가격대 (가격이 없으면 null)
+     */
+    public static PriceBand of(BigDecimal price) {
+        if (price == null) {
+            return null;
+        }
+        for (PriceBand band : values()) {
+            if ((band.min == null || price.compareTo(band.min) >= 0)
+                    && (band.max == null || price.compareTo(band.max) < 0)) {
+                return band;
+            }
+        }
+        return null;
+    }
+}
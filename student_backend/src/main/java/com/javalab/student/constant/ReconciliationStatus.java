@@ -0,0 +1,10 @@
+package com.javalab.student.constant;
+
+/**
+ * PG 정산 대사 실행 상태
+ */
+public enum ReconciliationStatus {
+    RUNNING,    // 실행 중
+    COMPLETED,  // 완료
+    FAILED      // 실패 (정산 파일 형식 오류, 정렬 순서 오류 등)
+}
@@ -0,0 +1,14 @@
+package com.javalab.student.constant;
+
+/**
+ * 재고 예약 상태
+ * - 주문 생성 시 재고를 먼저 차감(RESERVED)하고, 결제가 끝나면 확정(CONFIRMED)합니다.
+ * - 주문 취소 시 재고를 되돌립니다(RELEASED), 결제 대기 시간 초과 시에도 되돌리되 만료(EXPIRED)로 구분합니다.
+ * - 만료된 예약만 뒤늦게 결제가 확인되면 다시 확정할 수 있습니다. 취소된 예약은 되살리지 않습니다.
+ */
+public enum ReservationStatus {
+    RESERVED,   // 결제 대기 중 (재고 차감됨, 만료 시각 있음)
+    CONFIRMED,  // 결제 완료 (재고 차감 확정)
+    RELEASED,   // 취소 (재고 복원됨)
+    EXPIRED     // 결제 대기 시간 초과 (재고 복원됨)
+}
@@ -0,0 +1,12 @@
+package com.javalab.student.constant;
+
+/**
+ * 매출 집계 기준
+ * - dimension_key 에 들어가는 값이 기준마다 다릅니다.
+ */
+public enum SalesDimension {
+    TOTAL,          // 전체 (dimension_key = "ALL")
+    PRODUCT,        // 상품별 (dimension_key = 상품 ID)
+    CATEGORY,       // 카테고리별 (dimension_key = 카테고리 ID)
+    PAYMENT_METHOD  // 결제 수단별 (dimension_key = 결제 수단, 없으면 "UNKNOWN")
+}
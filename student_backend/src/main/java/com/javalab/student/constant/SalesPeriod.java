@@ -0,0 +1,10 @@
+package com.javalab.student.constant;
+
+/**
+ * 매출 집계 기간 단위
+ * - 집계 행의 period_start 는 일 단위면 그 날짜, 월 단위면 그 달의 1일입니다.
+ */
+public enum SalesPeriod {
+    DAILY,   // 일별
+    MONTHLY  // 월별
+}
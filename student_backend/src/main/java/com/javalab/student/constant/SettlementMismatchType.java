@@ -0,0 +1,11 @@
+package com.javalab.student.constant;
+
+/**
+ * PG 정산 대사 불일치 유형
+ */
+public enum SettlementMismatchType {
+    MISSING_IN_DB,    // PG 에는 있으나 결제(payment) 기록이 없음 (클라이언트 결제 완료 요청 유실 등)
+    MISSING_IN_PG,    // 결제 기록은 있으나 PG 정산 내역에 없음
+    AMOUNT_MISMATCH,  // 결제 금액이 다름
+    STATUS_MISMATCH   // 결제/취소 상태가 다름 (관리자 취소 후 PG 환불 누락 등)
+}
@@ -0,0 +1,13 @@
+package com.javalab.student.constant;
+
+/**
+ * PG 웹훅 이벤트 처리 상태
+ * - 웹훅을 받으면 PENDING 으로 쌓아 두고, 작업자가 가져가면 PROCESSING(잠금 만료 시각 있음)으로 바꿉니다.
+ * - 처리 결과에 따라 DONE 또는 재시도 대기(PENDING), 재시도 횟수를 넘기면 FAILED 가 됩니다.
+ */
+public enum WebhookEventStatus {
+    PENDING,     // 처리 대기 (next_attempt_at 이후 처리)
+    PROCESSING,  // 처리 중 (locked_until 이 지나면 다시 가져갈 수 있음)
+    DONE,        // 처리 완료
+    FAILED       // 재시도 횟수 초과 또는 재시도해도 해결되지 않는 오류 (관리자 확인 필요)
+}
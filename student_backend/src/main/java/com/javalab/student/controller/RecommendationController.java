@@ -7,18 +7,11 @@ import com.javalab.student.dto.healthSurvey.RecommendedIngredientDTO;
 import com.javalab.student.dto.healthSurvey.RecommendedProductDTO;
 import com.javalab.student.dto.healthSurvey.ProductRecommendationDTO;
 import com.javalab.student.entity.Member;
-import com.javalab.student.entity.product.ProductImg;
-import com.javalab.student.entity.product.Product;
 import com.javalab.student.entity.healthSurvey.HealthRecord;
-import com.javalab.student.entity.healthSurvey.Recommendation;
-import com.javalab.student.entity.healthSurvey.RecommendedIngredient;
-import com.javalab.student.entity.healthSurvey.RecommendedProduct;
 import com.javalab.student.service.healthSurvey.HealthRecordService;
+import com.javalab.student.service.healthSurvey.RecommendationQueryService;
 import com.javalab.student.service.healthSurvey.RecommendationService;
 import com.javalab.student.service.healthSurvey.AuthenticationService;
-import com.javalab.student.repository.healthSurvey.RecommendationRepository;
-import com.javalab.student.repository.healthSurvey.RecommendedIngredientRepository;
-import com.javalab.student.repository.healthSurvey.RecommendedProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -43,10 +36,8 @@ import java.io.IOException;
 public class RecommendationController {
 
     private final RecommendationService recommendationService; // 추천 서비스
+    private final RecommendationQueryService recommendationQueryService; // 추천 결과 조회 서비스
     private final AuthenticationService authenticationService; // 인증 서비스
-    private final RecommendationRepository recommendationRepository; // 추천 리포지토리
-    private final RecommendedIngredientRepository recommendedIngredientRepository; // 추천 영양 성분 리포지토리
-    private final RecommendedProductRepository recommendedProductRepository; // 추천 제품 리포지토리
     private final HealthRecordService healthRecordService; // 건강 기록 서비스
 
     /**
@@ -92,22 +83,7 @@ public class RecommendationController {
     public ResponseEntity<List<RecommendedIngredientDTO>> getRecommendedIngredients() {
         try {
             Member member = authenticationService.getAuthenticatedMember();
-
-            Recommendation latestRecommendation = recommendationRepository
-                    .findTopByMemberIdOrderByCreatedAtDesc(member.getId())
-                    .orElseThrow(() -> new RuntimeException("추천 데이터가 없습니다."));
-
-            List<RecommendedIngredient> ingredients = recommendedIngredientRepository.findByRecommendationId(latestRecommendation.getId());
-
-            List<RecommendedIngredientDTO> ingredientDTOs = ingredients.stream()
-                    .map(ingredient -> {
-                        RecommendedIngredientDTO dto = new RecommendedIngredientDTO();
-                        dto.setId(ingredient.getId());
-                        dto.setIngredientName(ingredient.getIngredientName());
-                        dto.setScore(ingredient.getScore());
-                        return dto;
-                    })
-                    .collect(Collectors.toList());
+            List<RecommendedIngredientDTO> ingredientDTOs = recommendationQueryService.getRecommendedIngredients(member.getId());
 
             log.info("Recommended Ingredients: {}", ingredientDTOs);
 
@@ -127,33 +103,7 @@ public class RecommendationController {
     public ResponseEntity<List<RecommendedProductDTO>> getRecommendedProducts() {
         try {
             Member member = authenticationService.getAuthenticatedMember();
-
-            Recommendation latestRecommendation = recommendationRepository
-                    .findTopByMemberIdOrderByCreatedAtDesc(member.getId())
-                    .orElseThrow(() -> new RuntimeException("추천 데이터가 없습니다."));
-
-            List<RecommendedProduct> recommendedProducts = recommendedProductRepository.findByRecommendationId(latestRecommendation.getId());
-
-            List<RecommendedProductDTO> productDTOs = recommendedProducts.stream()
-                    .map(recommendedProduct -> {
-                        Product product = recommendedProduct.getProduct();
-
-                        RecommendedProductDTO dto = new RecommendedProductDTO();
-                        dto.setId(recommendedProduct.getId());
-                        dto.setProductId(product.getId());
-                        dto.setProductName(product.getName());
-                        dto.setPrice(product.getPrice().doubleValue());
-                        String mainImageUrl = product.getProductImgList().stream()
-                                .filter(img -> "대표".equals(img.getImageType()))
-                                .findFirst()
-                                .map(ProductImg::getImageUrl)
-                                .orElse(null);
-                        dto.setMainImageUrl(mainImageUrl); // 이미지 URL 추가
-                        dto.setReason(recommendedProduct.getReason());
-                        dto.setRelatedIngredients(recommendedProduct.getRelatedIngredients());
-                        return dto;
-                    })
-                    .collect(Collectors.toList());
+            List<RecommendedProductDTO> productDTOs = recommendationQueryService.getRecommendedProducts(member.getId());
 
             log.info("Recommended Products: {}", productDTOs);
 
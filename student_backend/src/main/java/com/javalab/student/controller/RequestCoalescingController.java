@@ -0,0 +1,28 @@
+package com.javalab.student.controller;
+
+import com.javalab.student.dto.RequestCoalescingStatsDto;
+import com.javalab.student.service.coalescing.RequestCoalescer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 요청 합치기(single-flight) 통계 API (관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/request-coalescing")
+@RequiredArgsConstructor
+public class RequestCoalescingController {
+
+    private final RequestCoalescer requestCoalescer;
+
+    /** 그룹별 실행/합쳐진 요청/대기 시간 초과 수 */
+    @GetMapping("/stats")
+    public ResponseEntity<List<RequestCoalescingStatsDto>> getStats() {
+        return ResponseEntity.ok(requestCoalescer.getStats());
+    }
+}
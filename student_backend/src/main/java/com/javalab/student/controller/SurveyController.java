@@ -4,6 +4,7 @@ import com.javalab.student.dto.healthSurvey.SurveySubmissionDto;
 import com.javalab.student.entity.Member;
 import com.javalab.student.service.healthSurvey.SurveyService;
 import com.javalab.student.service.MemberService;
+import com.javalab.student.service.coalescing.RequestCoalescer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -21,19 +22,24 @@ public class SurveyController {
 
     private final SurveyService surveyService;
     private final MemberService memberService;
+    private final RequestCoalescer requestCoalescer;
 
     @Autowired
-    public SurveyController(SurveyService surveyService, MemberService memberService) {
+    public SurveyController(SurveyService surveyService, MemberService memberService,
+                            RequestCoalescer requestCoalescer) {
         this.surveyService = surveyService;
         this.memberService = memberService;
+        this.requestCoalescer = requestCoalescer;
     }
 
     /**
      * 설문 카테고리 목록 조회 (서브카테고리 포함)
+     * - 모든 사용자에게 같은 목록이므로 동시에 들어온 요청은 진행 중인 조회 하나의 결과를 함께 받습니다.
      */
     @GetMapping("/categories")
     public ResponseEntity<List<Map<String, Object>>> getCategoriesWithSubCategories() {
-        return ResponseEntity.ok(surveyService.getAllCategoriesWithSubCategories());
+        return ResponseEntity.ok(requestCoalescer.execute(RequestCoalescer.SURVEY_CATEGORIES, "all",
+                surveyService::getAllCategoriesWithSubCategories));
     }
 
     /**
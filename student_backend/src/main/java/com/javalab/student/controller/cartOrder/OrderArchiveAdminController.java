@@ -0,0 +1,44 @@
+package com.javalab.student.controller.cartOrder;
+
+import com.javalab.student.service.cartOrder.archive.OrderArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 주문 보관 관리자 API
+ */
+@RestController
+@RequestMapping("/api/admin/order-archive")
+@RequiredArgsConstructor
+public class OrderArchiveAdminController {
+
+    private final OrderArchiveService orderArchiveService;
+
+    /** 보관 현황: 실행 중 여부, 보관 기준 일시, 마지막 실행 결과 */
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(orderArchiveService.getStatus());
+    }
+
+    /**
+     * 보관 작업을 바로 시작합니다. (백그라운드)
+     *
+     * @return 202 Accepted, 이미 실행 중이거나 보관 테이블이 준비되지 않았으면 409 Conflict
+     */
+    @PostMapping("/run")
+    public ResponseEntity<Map<String, Object>> run() {
+        try {
+            if (!orderArchiveService.start()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(Map.of("message", "주문 보관 작업이 이미 실행 중입니다."));
+            }
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("started", true));
+    }
+}
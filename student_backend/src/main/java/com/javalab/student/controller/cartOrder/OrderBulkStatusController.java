@@ -0,0 +1,64 @@
+package com.javalab.student.controller.cartOrder;
+
+import com.javalab.student.dto.cartOrder.OrderBulkStatusResultDto;
+import com.javalab.student.dto.cartOrder.OrderBulkStatusRowDto;
+import com.javalab.student.service.cartOrder.OrderBulkStatusService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 상태/운송장 일괄 변경 API (관리자 전용)
+ * - SecurityConfig 에서 /api/admin/orders/bulk-status/** 는 ADMIN 권한으로 제한합니다.
+ * - 일부 행이 실패해도 200 OK 로 응답하며, 행마다 결과를 돌려줍니다.
+ */
+@RestController
+@RequestMapping("/api/admin/orders/bulk-status")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderBulkStatusController {
+
+    private final OrderBulkStatusService orderBulkStatusService;
+
+    /**
+     * 주문 상태/운송장 일괄 변경 (JSON)
+     * 예) PUT /api/admin/orders/bulk-status
+     *     [{"orderId": 1, "status": "IN_TRANSIT", "waybillNum": "123456789012", "parcelCd": "04"}, ...]
+     */
+    @PutMapping
+    public ResponseEntity<?> updateStatuses(@RequestBody List<OrderBulkStatusRowDto> rows) {
+        try {
+            OrderBulkStatusResultDto result = orderBulkStatusService.update(rows);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            log.warn("주문 상태 일괄 변경 실패 - {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 주문 상태/운송장 일괄 변경 (CSV 업로드)
+     * 예) PUT /api/admin/orders/bulk-status/csv (multipart: file=waybills.csv, 헤더: orderId,status,waybillNum,parcelCd)
+     */
+    @PutMapping(value = "/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> updateStatusesCsv(@RequestParam("file") MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            OrderBulkStatusResultDto result = orderBulkStatusService.updateCsv(in);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            log.warn("주문 상태 일괄 변경 실패 - {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (IOException e) {
+            log.error("주문 상태 일괄 변경 파일 읽기 실패", e);
+            return ResponseEntity.badRequest().body(Map.of("message", "파일을 읽을 수 없습니다: " + e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.javalab.student.controller.cartOrder;
+
+import com.javalab.student.dto.cartOrder.OutboxStatusDto;
+import com.javalab.student.service.cartOrder.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 아웃박스(결제 후속 처리) 관리자 API
+ */
+@RestController
+@RequestMapping("/api/admin/outbox")
+@RequiredArgsConstructor
+public class OutboxAdminController {
+
+    private final OutboxRelay outboxRelay;
+
+    /** 처리 현황: 대기/처리 중/데드 레터 이벤트 수 */
+    @GetMapping("/status")
+    public ResponseEntity<OutboxStatusDto> getStatus() {
+        return ResponseEntity.ok(outboxRelay.getStatus());
+    }
+
+    /**
+     * 데드 레터 이벤트를 다시 처리 대기로 돌립니다.
+     *
+     * @return 200 OK, 이벤트가 없거나 데드 레터가 아니면 409 Conflict
+     */
+    @PostMapping("/{eventId}/retry")
+    public ResponseEntity<Map<String, Object>> retry(@PathVariable Long eventId) {
+        if (!outboxRelay.retryDead(eventId)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("message", "데드 레터 상태의 이벤트가 아닙니다. 이벤트 ID: " + eventId));
+        }
+        return ResponseEntity.ok(Map.of("eventId", eventId, "retried", true));
+    }
+}
@@ -2,8 +2,9 @@ package com.javalab.student.controller.cartOrder;
 
 import com.javalab.student.config.portone.PortOneProperties;
 import com.javalab.student.dto.cartOrder.*;
-import com.javalab.student.service.subscription.SubscriptionService;
+import com.javalab.student.service.cartOrder.PaymentResult;
 import com.javalab.student.service.cartOrder.PaymentService;
+import com.javalab.student.service.cartOrder.pg.PaymentGatewayException;
 import com.javalab.student.repository.MemberRepository;
 import com.javalab.student.entity.Member;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 
 import java.security.Principal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 import com.javalab.student.entity.cartOrder.Order;
@@ -23,7 +25,6 @@ import jakarta.persistence.EntityNotFoundException;
 import com.javalab.student.dto.cartOrder.OrderDto;
 import java.util.stream.Collectors;
 import java.util.List;
-import com.javalab.student.dto.Subscription.SubscriptionUpdateNextItemDto;
 
 /**
  * 결제 관련 API를 처리하는 컨트롤러
@@ -35,7 +36,6 @@ import com.javalab.student.dto.Subscription.SubscriptionUpdateNextItemDto;
 public class PaymentController {
 
     private final PaymentService paymentService;
-    private final SubscriptionService subscriptionService;
     private final MemberRepository memberRepository;
     private final PortOneProperties portOneProperties;
 
@@ -62,6 +62,7 @@ public class PaymentController {
     public ResponseEntity<Map<String, Object>> processPayment(
             @RequestBody PaymentRequestDto requestDto,
             @RequestParam("purchaseType") String purchaseType,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             Principal principal) {
         log.info("결제 요청 시작 - 주문 정보: {}, 구매 유형: {}", requestDto, purchaseType);
 
@@ -74,57 +75,14 @@ public class PaymentController {
 
         try {
             // 1. 결제 처리: PaymentService를 사용하여 결제를 처리하고 결과를 받습니다.
-            Map<String, Object> paymentResult = paymentService.processPayment(requestDto, email, purchaseType);
+            PaymentResult result = paymentService.processPayment(requestDto, email, purchaseType, idempotencyKey);
+            Map<String, Object> paymentResult = result.getBody();
 
-            // 2. 구독 처리 (정기 구독 결제인 경우에만)
-            if ("subscription".equals(purchaseType)) {
-                log.info("정기 구독 결제 시작");
-
-                // 3. 사용자가 기존 구독자인지 확인합니다.
-                boolean isSubscribed = false;
-                try {
-                    subscriptionService.getSubscription(member.getId());
-                    isSubscribed = true;
-                } catch (RuntimeException e) {
-                    // 활성화된 구독 정보가 없는 경우
-                    isSubscribed = false;
-                }
-
-                if (isSubscribed) {
-                    log.info("기존 구독자입니다. 다음 결제 상품 목록을 업데이트합니다.");
-                    // 4. 기존 구독자인 경우: 다음 결제 상품 목록을 업데이트합니다.
-                    List<SubscriptionUpdateNextItemDto> updatedItems = requestDto.getCartOrderItems().stream()
-                            .map(item -> {
-                                SubscriptionUpdateNextItemDto dto = new SubscriptionUpdateNextItemDto();
-                                dto.setProductId(item.getCartItemId());
-                                dto.setNextMonthQuantity(item.getQuantity());
-                                dto.setNextMonthPrice(item.getPrice().doubleValue());
-                                return dto;
-                            })
-                            .collect(Collectors.toList());
-                    // SubscriptionService의 updateNextSubscriptionItems 메소드를 호출하여 다음 결제 상품 목록을 업데이트합니다.
-                    subscriptionService.updateNextSubscriptionItems(member.getId(), updatedItems);
-                } else {
-                    log.info("새로운 구독자입니다. 새로운 구독을 생성하고 상품 목록을 업데이트합니다.");
-                    // 5. 새로운 구독자인 경우: 새로운 구독을 생성하고 현재 및 다음 결제 상품 목록을 업데이트합니다.
-                    List<SubscriptionUpdateNextItemDto> items = requestDto.getCartOrderItems().stream()
-                            .map(item -> {
-                                SubscriptionUpdateNextItemDto dto = new SubscriptionUpdateNextItemDto();
-                                dto.setProductId(item.getCartItemId());
-                                dto.setNextMonthQuantity(item.getQuantity());
-                                dto.setNextMonthPrice(item.getPrice().doubleValue());
-                                return dto;
-                            })
-                            .collect(Collectors.toList());
-                    subscriptionService.createSubscription(
-                            member.getId(),
-                            requestDto.getPayMethod(),
-                            requestDto.getBuyerPostcode(),
-                            requestDto.getBuyerAddr(),
-                            requestDto.getBuyerAddr(), // 상세 주소가 별도로 없다면 이렇게 사용
-                            items
-                    );
-                }
+            // 이미 처리된 결제를 다시 요청한 경우 처음 결과를 그대로 반환
+            // (장바구니 비우기/구독 반영은 처음 결제 트랜잭션에 아웃박스 이벤트로 기록되어 한 번만 처리됨)
+            if (result.isReplayed()) {
+                log.info("이미 처리된 결제 요청 - 기존 결과 반환: {}", paymentResult);
+                return ResponseEntity.ok().header("Idempotent-Replayed", "true").body(paymentResult);
             }
 
             log.info("결제 처리 완료: {}", paymentResult);
@@ -133,6 +91,14 @@ public class PaymentController {
         } catch (EntityNotFoundException e) {
             log.error("결제 처리 중 EntityNotFoundException 발생", e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", "관련 정보를 찾을 수 없습니다: " + e.getMessage()));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            // 결제 검증 실패, 이미 결제/취소된 주문 등
+            log.warn("결제 처리 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", e.getMessage()));
+        } catch (PaymentGatewayException e) {
+            // PG 통신 실패/시간 초과: 같은 요청으로 다시 시도할 수 있음
+            log.warn("PG 결제 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("message", e.getMessage()));
         } catch (Exception e) {
             log.error("결제 처리 중 예외 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -157,7 +123,7 @@ public class PaymentController {
         // PaymentRequestDto 내용 로깅
         log.info("PaymentRequestDto 내용: {}", requestDto);
         try {
-            // PaymentService를 사용하여 주문 생성
+            // PaymentService를 사용하여 주문 생성 (장바구니는 Redis 에서 바로 읽음)
             Order order = paymentService.createOrder(requestDto, principal.getName(), purchaseType);
             log.info("주문 생성 성공 - 주문 ID: {}", order.getId());
 
@@ -170,8 +136,8 @@ public class PaymentController {
             log.error("주문 생성 실패 - 멤버 또는 장바구니를 찾을 수 없음: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage()); // 404 Not Found 반환
         } catch (IllegalStateException e) {
-            // 상품 가격이 유효하지 않은 경우
-            log.error("주문 생성 실패 - 상품 가격이 유효하지 않음: {}", e.getMessage());
+            // 상품 가격이 유효하지 않거나 재고가 부족한 경우
+            log.error("주문 생성 실패 - 상품 가격이 유효하지 않거나 재고 부족: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage()); // 400 Bad Request 반환
         } catch (Exception e) {
             // 기타 예외 발생 시
@@ -237,25 +203,32 @@ public class PaymentController {
 
     /**
      * 관리자 주문 목록 조회 API (검색 기능 및 기간 검색 기능 추가)
-     * 페이징 네이션 처리가 되어 있으며, DataGrid에 맞춰 AdminOrderDto 리스트와 페이징 정보를 반환합니다.
+     * 주문일시 최신순 키셋 페이지네이션으로, DataGrid에 맞춘 AdminOrderDto 리스트와 다음 페이지 커서를 반환합니다.
+     * 다음 페이지는 응답의 nextCursorDate, nextCursorId 를 cursorDate, cursorId 로 넘겨 요청합니다.
      *
-     * @param page 페이지 번호 (기본값 0)
-     * @param size 페이지 크기 (기본값 10)
+     * @param size 페이지 크기 (주문 수, 기본값 10)
      * @param memberName 검색할 회원 이름
      * @param startDate 검색할 시작 주문일자
      * @param endDate 검색할 종료 주문일자
-     * @return 관리자 주문 목록 및 페이징 정보
+     * @param cursorDate 직전 페이지 마지막 주문의 주문일시
+     * @param cursorId 직전 페이지 마지막 주문의 ID
+     * @return 관리자 주문 목록 및 다음 페이지 정보
      */
     @GetMapping("/admin/orders")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> getAdminOrders(
-            @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "memberName", required = false) String memberName,
             @RequestParam(value = "startDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate, // LocalDate 타입으로 변경
-            @RequestParam(value = "endDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) { // LocalDate 타입으로 변경
-        Map<String, Object> orders = paymentService.getAdminOrders(page, size, memberName, startDate, endDate); // Service 호출 시 날짜 파라미터 전달
-        return ResponseEntity.ok(orders);
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate, // LocalDate 타입으로 변경
+            @RequestParam(value = "cursorDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+            @RequestParam(value = "cursorId", required = false) Long cursorId) {
+        try {
+            Map<String, Object> orders = paymentService.getAdminOrders(size, memberName, startDate, endDate, cursorDate, cursorId);
+            return ResponseEntity.ok(orders);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     /**
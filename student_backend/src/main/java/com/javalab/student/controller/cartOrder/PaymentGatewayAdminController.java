@@ -0,0 +1,29 @@
+package com.javalab.student.controller.cartOrder;
+
+import com.javalab.student.service.cartOrder.pg.PaymentGateway;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * PG 호출 통계 API (관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/pg-client")
+@RequiredArgsConstructor
+public class PaymentGatewayAdminController {
+
+    private final PaymentGateway paymentGateway;
+
+    /** 서킷 브레이커 상태와 호출 종류(토큰 발급/결제 조회)별 결과 건수, 응답 시간 분포 */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(Map.of(
+                "circuitState", paymentGateway.getCircuitState().name(),
+                "calls", paymentGateway.getCallStats()));
+    }
+}
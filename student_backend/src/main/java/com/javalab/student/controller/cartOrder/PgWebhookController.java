@@ -0,0 +1,48 @@
+package com.javalab.student.controller.cartOrder;
+
+import com.javalab.student.dto.cartOrder.PgWebhookRequestDto;
+import com.javalab.student.dto.cartOrder.PgWebhookStatusDto;
+import com.javalab.student.service.cartOrder.PgWebhookService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * PG(포트원) 웹훅 API
+ * - 웹훅은 대기열에 쌓기만 하고 바로 응답합니다. 실제 처리는 PgWebhookService 작업자가 비동기로 합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class PgWebhookController {
+
+    private final PgWebhookService pgWebhookService;
+
+    /**
+     * 포트원 웹훅 수신
+     * - 같은 알림을 다시 받아도 200 OK 로 응답합니다. (포트원은 200 이 아니면 재전송함)
+     *
+     * @param requestDto 웹훅 본문 (imp_uid, merchant_uid, status)
+     * @return 200 OK, imp_uid 가 없으면 400 Bad Request
+     */
+    @PostMapping("/api/payments/webhook")
+    public ResponseEntity<Map<String, Object>> receiveWebhook(@RequestBody PgWebhookRequestDto requestDto) {
+        try {
+            boolean queued = pgWebhookService.receive(requestDto);
+            return ResponseEntity.ok(Map.of("queued", queued));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 PG 웹훅 요청: {}", requestDto);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /** 웹훅 처리 현황 (관리자 전용): 서킷 브레이커 상태, 대기/처리 중/실패 이벤트 수 */
+    @GetMapping("/api/admin/pg-webhook/status")
+    public ResponseEntity<PgWebhookStatusDto> getStatus() {
+        return ResponseEntity.ok(pgWebhookService.getStatus());
+    }
+}
@@ -0,0 +1,105 @@
+package com.javalab.student.controller.cartOrder;
+
+import com.javalab.student.constant.SalesDimension;
+import com.javalab.student.constant.SalesPeriod;
+import com.javalab.student.dto.cartOrder.SalesBreakdownDto;
+import com.javalab.student.dto.cartOrder.SalesTrendDto;
+import com.javalab.student.service.cartOrder.sales.SalesDashboardService;
+import com.javalab.student.service.cartOrder.sales.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 매출 화면 API
+ * - 조회는 매출 집계(sales_rollup)만 읽습니다.
+ * - 관리자 전용 (SecurityConfig 의 /api/admin/sales/**)
+ */
+@RestController
+@RequestMapping("/api/admin/sales")
+@RequiredArgsConstructor
+@Slf4j
+public class SalesDashboardController {
+
+    private final SalesDashboardService salesDashboardService;
+    private final SalesRollupService salesRollupService;
+
+    /**
+     * 기간별 전체 매출 (일별/월별)
+     *
+     * @param period 기간 단위 (DAILY, MONTHLY)
+     * @param from   시작일 (yyyy-MM-dd)
+     * @param to     종료일 (yyyy-MM-dd)
+     * @return 기간별 주문 수, 판매 수량, 매출액
+     */
+    @GetMapping("/trend")
+    public ResponseEntity<?> getTrend(
+            @RequestParam(value = "period", defaultValue = "DAILY") SalesPeriod period,
+            @RequestParam("from") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam("to") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to) {
+        try {
+            List<SalesTrendDto> trend = salesDashboardService.getTrend(period, from, to);
+            return ResponseEntity.ok(trend);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 기준별 매출 상위 목록 (상품/카테고리/결제 수단)
+     *
+     * @param dimension 집계 기준 (PRODUCT, CATEGORY, PAYMENT_METHOD)
+     * @param period    기간 단위 (DAILY, MONTHLY)
+     * @param from      시작일 (yyyy-MM-dd)
+     * @param to        종료일 (yyyy-MM-dd)
+     * @param limit     최대 개수 (기본값 10)
+     * @return 매출액 순 목록
+     */
+    @GetMapping("/breakdown")
+    public ResponseEntity<?> getBreakdown(
+            @RequestParam("dimension") SalesDimension dimension,
+            @RequestParam(value = "period", defaultValue = "MONTHLY") SalesPeriod period,
+            @RequestParam("from") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam("to") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        try {
+            List<SalesBreakdownDto> breakdown = salesDashboardService.getBreakdown(dimension, period, from, to, limit);
+            return ResponseEntity.ok(breakdown);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 매출 집계 다시 만들기 (from 이 속한 달 ~ to 가 속한 달, 백그라운드 실행)
+     *
+     * @return 202 Accepted, 이미 실행 중이면 409 Conflict
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild(
+            @RequestParam("from") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam("to") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to) {
+        try {
+            if (!salesRollupService.rebuild(from, to)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", "매출 다시 집계가 이미 실행 중입니다."));
+            }
+            log.info("매출 다시 집계 요청 - 기간: {} ~ {}", from, to);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("started", true));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /** 매출 다시 집계 실행 여부 */
+    @GetMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> getRebuildStatus() {
+        return ResponseEntity.ok(Map.of("rebuilding", salesRollupService.isRebuilding()));
+    }
+}
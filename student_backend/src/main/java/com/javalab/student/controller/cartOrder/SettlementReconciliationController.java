@@ -0,0 +1,112 @@
+package com.javalab.student.controller.cartOrder;
+
+import com.javalab.student.constant.SettlementMismatchType;
+import com.javalab.student.entity.cartOrder.SettlementMismatch;
+import com.javalab.student.service.cartOrder.settlement.SettlementReconciliationService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PG 정산 대사 API (관리자 전용)
+ * - SecurityConfig 에서 /api/admin/settlement/** 는 ADMIN 권한으로 제한합니다.
+ * - 대사는 백그라운드에서 실행되므로 시작 요청은 202 Accepted 와 실행 ID 를 돌려주고, 결과는 실행 ID 로 조회합니다.
+ */
+@RestController
+@RequestMapping("/api/admin/settlement")
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementReconciliationController {
+
+    private final SettlementReconciliationService reconciliationService;
+
+    /**
+     * 정산 파일로 대사 시작
+     * 예) POST /api/admin/settlement/reconcile?from=2025-03-01&to=2025-03-31 (multipart: file=settlement.csv)
+     */
+    @PostMapping(value = "/reconcile", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Map<String, Object>> reconcileFile(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to) {
+        try (InputStream in = file.getInputStream()) {
+            Long runId = reconciliationService.startFile(in, from, to);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("runId", runId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        } catch (IOException e) {
+            log.error("정산 파일 읽기 실패", e);
+            return ResponseEntity.badRequest().body(Map.of("message", "파일을 읽을 수 없습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * PG 정산 내역 조회로 대사 시작 (PG 연동이 정산 내역 조회를 지원하지 않으면 실행 기록이 실패로 끝남)
+     * 예) POST /api/admin/settlement/reconcile/pg?from=2025-03-01&to=2025-03-31
+     */
+    @PostMapping("/reconcile/pg")
+    public ResponseEntity<Map<String, Object>> reconcilePg(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to) {
+        try {
+            Long runId = reconciliationService.startPg(from, to);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("runId", runId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /** 최근 대사 실행 기록과 실행 여부 */
+    @GetMapping("/runs")
+    public ResponseEntity<Map<String, Object>> getRuns() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("running", reconciliationService.isRunning());
+        response.put("runs", reconciliationService.getRecentRuns());
+        return ResponseEntity.ok(response);
+    }
+
+    /** 대사 실행 기록 (건수 요약) */
+    @GetMapping("/runs/{runId}")
+    public ResponseEntity<?> getRun(@PathVariable Long runId) {
+        try {
+            return ResponseEntity.ok(reconciliationService.getRun(runId));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 불일치 건 조회 (ID 순 키셋 페이지네이션)
+     * 다음 페이지는 응답 마지막 건의 id 를 afterId 로 넘겨 요청합니다.
+     */
+    @GetMapping("/runs/{runId}/mismatches")
+    public ResponseEntity<?> getMismatches(
+            @PathVariable Long runId,
+            @RequestParam(value = "type", required = false) SettlementMismatchType type,
+            @RequestParam(value = "afterId", required = false) Long afterId,
+            @RequestParam(value = "size", defaultValue = "100") int size) {
+        try {
+            List<SettlementMismatch> mismatches = reconciliationService.getMismatches(runId, type, afterId, size);
+            return ResponseEntity.ok(mismatches);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.javalab.student.controller.message;
 import com.javalab.student.dto.message.MessageRequestDto;
 import com.javalab.student.dto.message.MessageResponseDto;
 import com.javalab.student.entity.Member;
-import com.javalab.student.entity.message.Message;
 import com.javalab.student.service.webSoket.MessagePublisherService;
 import com.javalab.student.service.webSoket.MessageService;
 import lombok.RequiredArgsConstructor;
@@ -35,7 +34,7 @@ public class MessageController {
     /**
      * ✅ 사용자가 보낸 메시지 조회
      * @param userId 사용자 ID
-     * @return ResponseEntity<List<Message>>
+     * @return ResponseEntity<List<MessageResponseDto>>
      */
     @GetMapping("/sent/{userId}")
     public ResponseEntity<List<MessageResponseDto>> getSentMessages(@PathVariable("userId") Long userId) {
@@ -46,10 +45,10 @@ public class MessageController {
     /**
      * ✅ 사용자가 받은 메시지 조회
      * @param userId 사용자 ID
-     * @return ResponseEntity<List<Message>>
+     * @return ResponseEntity<List<MessageResponseDto>>
      */
     @GetMapping("/received/{userId}")
-    public ResponseEntity<List<Message>> getReceivedMessages(@PathVariable("userId") Long userId) {
+    public ResponseEntity<List<MessageResponseDto>> getReceivedMessages(@PathVariable("userId") Long userId) {
         return ResponseEntity.ok(messageService.getReceivedMessages(userId));
     }
 
@@ -0,0 +1,82 @@
+package com.javalab.student.controller.product;
+
+import com.javalab.student.dto.product.ProductImportResultDto;
+import com.javalab.student.service.product.bulk.ProductBulkService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * 상품 대량 등록/내보내기 API (관리자 전용)
+ * - SecurityConfig 에서 /api/products/bulk/** 는 ADMIN 권한으로 제한합니다.
+ */
+@RestController
+@RequestMapping("/api/products/bulk")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductBulkController {
+
+    private final ProductBulkService productBulkService;
+
+    /**
+     * 상품 대량 등록
+     * - format 을 생략하면 파일 확장자(.csv/.json)로 판단합니다.
+     * 예) POST /api/products/bulk/import (multipart: file=products.csv)
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importProducts(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "format", required = false) String format) {
+        String resolvedFormat = resolveFormat(format, file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            ProductImportResultDto result = "json".equals(resolvedFormat)
+                    ? productBulkService.importJson(in)
+                    : productBulkService.importCsv(in);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            log.warn("상품 대량 등록 실패 - {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (IOException e) {
+            log.error("상품 대량 등록 파일 읽기 실패", e);
+            return ResponseEntity.badRequest().body(Map.of("message", "파일을 읽을 수 없습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 전체 상품 내보내기 (응답으로 바로 스트리밍)
+     * 예) GET /api/products/bulk/export?format=csv
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(value = "format", defaultValue = "csv") String format) {
+        boolean json = "json".equalsIgnoreCase(format);
+        StreamingResponseBody body = out -> {
+            if (json) {
+                productBulkService.exportJson(out);
+            } else {
+                productBulkService.exportCsv(out);
+            }
+        };
+        return ResponseEntity.status(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=products." + (json ? "json" : "csv"))
+                .contentType(json ? MediaType.APPLICATION_JSON : new MediaType("text", "csv"))
+                .body(body);
+    }
+
+    private static String resolveFormat(String format, String filename) {
+        if (format != null && !format.isBlank()) {
+            return format.toLowerCase();
+        }
+        return filename != null && filename.toLowerCase().endsWith(".json") ? "json" : "csv";
+    }
+}
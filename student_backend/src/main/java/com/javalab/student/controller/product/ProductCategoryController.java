@@ -1,24 +1,44 @@
 package com.javalab.student.controller.product;
 
-import com.javalab.student.entity.product.ProductCategory;
-import com.javalab.student.repository.product.ProductCategoryRepository;
+import com.javalab.student.service.product.taxonomy.TaxonomyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/categories")
 @RequiredArgsConstructor
 public class ProductCategoryController {
-    private final ProductCategoryRepository categoryRepository;
+    private final TaxonomyService taxonomyService;
 
+    /**
+     * 전체 카테고리 목록 (ID 오름차순)
+     * - 메모리 분류 그래프에서 미리 직렬화해 둔 JSON 을 그대로 반환합니다.
+     */
     @GetMapping
-    public ResponseEntity<List<ProductCategory>> getCategories() {
-        List<ProductCategory> categories = categoryRepository.findAllByOrderByIdAsc();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<byte[]> getCategories() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(taxonomyService.getCategoriesJson());
+    }
+
+    /**
+     * 카테고리에 속한 영양성분 목록
+     * @param categoryId 카테고리 ID
+     * @return [{id, ingredientName}], 없는 카테고리면 404
+     */
+    @GetMapping("/{categoryId}/ingredients")
+    public ResponseEntity<byte[]> getIngredientsByCategory(@PathVariable Long categoryId) {
+        byte[] body = taxonomyService.getIngredientsJsonByCategoryId(categoryId);
+        if (body == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
@@ -1,13 +1,20 @@
 package com.javalab.student.controller.product;
 
 import com.javalab.student.dto.product.ProductDto;
+import com.javalab.student.dto.product.ProductFacetFilterDto;
+import com.javalab.student.dto.product.ProductFacetResponseDto;
 import com.javalab.student.dto.product.ProductFormDto;
 import com.javalab.student.dto.product.ProductResponseDTO;
-import com.javalab.student.entity.product.Product;
+import com.javalab.student.dto.product.ProductSuggestionDto;
 import com.javalab.student.entity.product.ProductCategory;
 import com.javalab.student.repository.product.ProductCategoryRepository;
-import com.javalab.student.repository.product.ProductRepository;
+import com.javalab.student.service.coalescing.RequestCoalescer;
+import com.javalab.student.service.product.ProductQueryService;
 import com.javalab.student.service.product.ProductService;
+import com.javalab.student.service.product.detail.ProductDetailCache;
+import com.javalab.student.service.product.detail.ProductDetailView;
+import com.javalab.student.service.product.trending.TrendingProductService;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,6 +24,8 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -38,27 +47,55 @@ import java.util.UUID;
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
-    private final ProductRepository productRepository;
     private final ProductService productService;
+    private final ProductQueryService productQueryService;
     private final ProductCategoryRepository productCategoryRepository;
+    private final ProductDetailCache productDetailCache;
+    private final RequestCoalescer requestCoalescer;
+    private final TrendingProductService trendingProductService;
 
     @Value("${itemImgLocation}")
     private String itemImgLocation;
 
-    public ProductController(ProductRepository productRepository, ProductService productService,
-                             ProductCategoryRepository productCategoryRepository) {
-        this.productRepository = productRepository;
+    public ProductController(ProductService productService, ProductQueryService productQueryService,
+                             ProductCategoryRepository productCategoryRepository,
+                             ProductDetailCache productDetailCache,
+                             RequestCoalescer requestCoalescer,
+                             TrendingProductService trendingProductService) {
         this.productService = productService;
+        this.productQueryService = productQueryService;
         this.productCategoryRepository = productCategoryRepository;
+        this.productDetailCache = productDetailCache;
+        this.requestCoalescer = requestCoalescer;
+        this.trendingProductService = trendingProductService;
     }
 
-    /** 특정 상품 상세 정보 조회 */
+    /**
+     * 특정 상품 상세 정보 조회
+     * - 미리 직렬화된 상세 응답(ProductDetailCache)을 그대로 내려주고, 상품 버전 기반 ETag 를 붙입니다.
+     * - If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 를 반환합니다.
+     * - 존재하는 상품의 조회는 인기 상품 점수에 반영됩니다.
+     */
     @GetMapping("/{productId}")
-    public ResponseEntity<Product> getProductDetails(@PathVariable("productId") Long productId) {
+    public ResponseEntity<byte[]> getProductDetails(@PathVariable("productId") Long productId,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            return productRepository.findById(productId)
-                    .map(ResponseEntity::ok)
-                    .orElse(ResponseEntity.notFound().build());
+            ProductDetailView view = productDetailCache.get(productId);
+            if (view == null) {
+                return ResponseEntity.notFound().build();
+            }
+            trendingProductService.recordView(productId);
+            if (view.matches(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(view.getEtag())
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(view.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(view.getBody());
         } catch (DataAccessException e) {
             log.error("Database error occurred while fetching product with id: " + productId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -150,10 +187,14 @@ public class ProductController {
         }
     }
 
-    /** 전체 상품 목록 조회 */
+    /**
+     * 전체 상품 목록 조회
+     * - 동시에 들어온 같은 요청은 진행 중인 조회 하나의 결과를 함께 받습니다. (RequestCoalescer)
+     */
     @GetMapping
     public ResponseEntity<List<ProductResponseDTO>> getAllProducts() {
-        List<ProductResponseDTO> products = productService.getProductList();
+        List<ProductResponseDTO> products = requestCoalescer.execute(
+                RequestCoalescer.PRODUCT_LIST, "all", productService::getProductList);
         return ResponseEntity.ok(products);
     }
 
@@ -170,6 +211,46 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * 상품 필터(패싯) 조회
+     * 예) /api/products/facets?categoryIds=1&categoryIds=2&ingredientIds=5&ingredientMatch=ALL&priceBands=UNDER_10000&active=true
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ProductFacetResponseDto> filterProducts(@ModelAttribute ProductFacetFilterDto filter) {
+        try {
+            return ResponseEntity.ok(productService.filterProducts(filter));
+        } catch (IllegalArgumentException e) {
+            log.warn("상품 필터 조회 조건 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("상품 필터 조회 불가: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /** 검색어 자동완성 (상품명/영양성분/카테고리, 초성 입력 지원) */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProductSuggestionDto>> suggestProducts(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productService.suggestProducts(query, limit));
+    }
+
+    /** 인기 상품 (최근 조회/구매가 많은 순, 시간이 지날수록 점수 감소) */
+    @GetMapping("/trending")
+    public ResponseEntity<List<ProductResponseDTO>> getTrendingProducts(
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productQueryService.getTrendingProducts(limit));
+    }
+
+    /** 함께 구매한 상품 (자주 함께 구매된 순) */
+    @GetMapping("/{productId}/related")
+    public ResponseEntity<List<ProductResponseDTO>> getRelatedProducts(
+            @PathVariable("productId") Long productId,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productQueryService.getRelatedProducts(productId, limit));
+    }
+
     /** 카테고리 ID로 상품 필터링 */
     @GetMapping("/filter-by-category")
     public ResponseEntity<List<ProductResponseDTO>> getProductsFilteredByCategory(@RequestParam("categoryId") Long categoryId) {
@@ -210,6 +291,8 @@ public class ProductController {
             // ProductResponseDTO productResponseDTO = ProductResponseDTO.fromEntity(productRepository.findById(productId).orElseThrow(() -> new RuntimeException("Product not found"))); // 기존 코드 (삭제)
             ProductResponseDTO productResponseDTO = productService.getProductById(productId); // ✅ ProductService.getProductById() 사용
             return ResponseEntity.ok(productResponseDTO); // ✅ ProductResponseDTO 반환
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("Error fetching product details for product ID: " + productId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -220,11 +303,7 @@ public class ProductController {
     @PutMapping("/{id}/categories")
     public ResponseEntity<Void> updateProductCategories(@PathVariable("id") Long productId,
                                                         @RequestBody List<Long> categoryIds) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new RuntimeException("Product not found"));
-        List<ProductCategory> categories = productCategoryRepository.findAllById(categoryIds);
-        product.setCategories(categories);
-        productRepository.save(product);
+        productService.updateProductCategories(productId, categoryIds);
         return ResponseEntity.ok().build();
     }
 
@@ -235,9 +314,7 @@ public class ProductController {
             @RequestParam(value = "size", defaultValue = "10") int size) {
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Product> productPage = productRepository.findAll(pageable);
-        Page<ProductResponseDTO> responseDTOPage = productPage.map(ProductResponseDTO::fromEntity);
-        return ResponseEntity.ok(responseDTOPage);
+        return ResponseEntity.ok(productQueryService.getProducts(pageable));
     }
 
     /** 새로운 카테고리별 필터링 (페이징 O) */
@@ -248,9 +325,7 @@ public class ProductController {
             @RequestParam(value = "size", defaultValue = "10") int size) {
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Product> productPage = productRepository.findByCategories_Id(categoryId, pageable);
-        Page<ProductResponseDTO> responseDTOPage = productPage.map(ProductResponseDTO::fromEntity);
-        return ResponseEntity.ok(responseDTOPage);
+        return ResponseEntity.ok(productQueryService.getProductsByCategory(categoryId, pageable));
     }
 
     /** 상품 이미지 삭제 핸들러 */
@@ -1,11 +1,9 @@
 package com.javalab.student.controller.product;
 
-import com.javalab.student.entity.product.ProductCategory;
-import com.javalab.student.entity.product.ProductIngredient;
-import com.javalab.student.repository.product.ProductIngredientCategoryRepository;
-import com.javalab.student.repository.product.ProductIngredientRepository;
+import com.javalab.student.service.product.taxonomy.TaxonomyService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -17,38 +15,35 @@ import java.util.List;
 @Slf4j
 public class ProductIngredientController {
 
-    private final ProductIngredientRepository ingredientRepository;
-    private final ProductIngredientCategoryRepository ingredientCategoryRepository;
+    private final TaxonomyService taxonomyService;
 
-    public ProductIngredientController(ProductIngredientRepository ingredientRepository,
-                                       ProductIngredientCategoryRepository ingredientCategoryRepository) {
-        this.ingredientRepository = ingredientRepository;
-        this.ingredientCategoryRepository = ingredientCategoryRepository;
+    public ProductIngredientController(TaxonomyService taxonomyService) {
+        this.taxonomyService = taxonomyService;
     }
 
-    // ✅ 기존 영양성분 전체 조회 API (유지)
+    // ✅ 기존 영양성분 전체 조회 API (유지) - 메모리 분류 그래프의 미리 직렬화된 JSON 반환
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<List<ProductIngredient>> getAllIngredients() {
+    public ResponseEntity<byte[]> getAllIngredients() {
         try {
-            log.info("영양성분 목록 조회 시작");
-            List<ProductIngredient> ingredients = ingredientRepository.findAll();
-            log.info("조회된 영양성분 수: {}", ingredients.size());
-            return ResponseEntity.ok(ingredients);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(taxonomyService.getIngredientsJson());
         } catch (Exception e) {
             log.error("영양성분 목록 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-    // ✅ 추가: 영양성분 ID 목록을 받아 해당하는 카테고리 목록 반환
+    // ✅ 추가: 영양성분 ID 목록을 받아 해당하는 카테고리 목록 반환 (DB 조회 없음)
     @GetMapping("/categories")
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<List<ProductCategory>> getCategoriesByIngredientIds(@RequestParam(name = "ingredientIds", required = false) List<Long> ingredientIds) {
-        if (ingredientIds == null || ingredientIds.isEmpty()) {
-            return ResponseEntity.ok(List.of()); // 빈 리스트 반환
-        }
-        List<ProductCategory> categories = ingredientCategoryRepository.findCategoriesByIngredientIds(ingredientIds);
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<byte[]> getCategoriesByIngredientIds(@RequestParam(name = "ingredientIds", required = false) List<Long> ingredientIds) {
+        byte[] body = ingredientIds == null || ingredientIds.isEmpty()
+                ? new byte[]{'[', ']'} // 빈 리스트 반환
+                : taxonomyService.getCategoriesJsonByIngredientIds(ingredientIds);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
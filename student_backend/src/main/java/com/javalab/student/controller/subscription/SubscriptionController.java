@@ -1,9 +1,9 @@
 package com.javalab.student.controller.subscription;
 
+import com.javalab.student.dto.Subscription.SubscriptionNextItemDto;
 import com.javalab.student.dto.Subscription.SubscriptionResponseDto;
 import com.javalab.student.dto.Subscription.SubscriptionUpdateNextItemDto;
 import com.javalab.student.dto.Subscription.SubscriptionUpdateNextItemRequestDto;
-import com.javalab.student.entity.subscription.SubscriptionNextItem;
 import com.javalab.student.service.subscription.SubscriptionService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -301,11 +301,11 @@ public class SubscriptionController {
      * @return
      */
     @PostMapping("/add-next-item")
-    public ResponseEntity<SubscriptionNextItem> addNextSubscriptionItem(
+    public ResponseEntity<SubscriptionNextItemDto> addNextSubscriptionItem(
             @RequestBody SubscriptionUpdateNextItemDto newItemDto
     ) {
-        // ✅ 서비스에서 추가된 `SubscriptionNextItem`을 반환받음
-        SubscriptionNextItem addedItem = subscriptionService.addNextSubscriptionItem(newItemDto.getSubscriptionId(), newItemDto);
+        // ✅ 서비스에서 추가된 `SubscriptionNextItem`을 DTO 로 반환받음 (트랜잭션 안에서 변환)
+        SubscriptionNextItemDto addedItem = subscriptionService.addNextSubscriptionItem(newItemDto.getSubscriptionId(), newItemDto);
 
         return ResponseEntity.ok(addedItem); // ✅ 추가된 상품 정보를 응답으로 반환
     }
@@ -0,0 +1,23 @@
+package com.javalab.student.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 요청 합치기(single-flight) 그룹별 통계
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestCoalescingStatsDto {
+    private String group;          // 그룹명
+    private long timeoutMillis;    // 팔로워 최대 대기 시간
+    private int inFlight;          // 현재 진행 중인 키 수
+    private long executions;       // 실제 실행된 조회 수
+    private long collapsed;        // 다른 요청의 결과를 받아 조회를 건너뛴 요청 수
+    private long timeouts;         // 대기 시간 초과로 직접 조회한 요청 수
+    private long failures;         // 리더 조회 실패 수
+}
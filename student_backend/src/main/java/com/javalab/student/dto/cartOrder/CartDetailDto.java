@@ -20,4 +20,5 @@ public class CartDetailDto {
     private int quantity; //수량
     private BigDecimal price; //상품 금액
     private String imageUrl; //상품 이미지 경로
+    private int stock; //상품 재고
 }
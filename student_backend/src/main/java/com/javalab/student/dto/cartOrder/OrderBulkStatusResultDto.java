@@ -0,0 +1,39 @@
+package com.javalab.student.dto.cartOrder;
+
+import com.javalab.student.constant.OrderStatus;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 주문 상태/운송장 일괄 변경 결과 DTO
+ * - results 에는 요청한 모든 행의 처리 결과가 요청 순서대로 담깁니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderBulkStatusResultDto {
+    private long totalRows;
+    private long updated;
+    private long failed;
+    private List<RowResult> results;
+
+    /** 행 단위 결과 (CSV 는 줄 번호, JSON 은 배열 순번) */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowResult {
+        private long row;
+        private Long orderId;
+        private boolean success;
+        /** 변경 전 상태 (주문을 찾지 못했으면 null) */
+        private OrderStatus previousStatus;
+        /** 변경 후 상태 (실패했으면 null) */
+        private OrderStatus status;
+        /** 실패 사유 (성공이면 null) */
+        private String message;
+    }
+}
@@ -0,0 +1,21 @@
+package com.javalab.student.dto.cartOrder;
+
+import com.javalab.student.constant.OrderStatus;
+import lombok.*;
+
+/**
+ * 주문 상태/운송장 일괄 변경 한 행 DTO
+ * - status 를 비우면 상태는 그대로 두고 운송장 번호/택배사 코드만 바꿉니다.
+ * - waybillNum, parcelCd 를 비우면 기존 값을 유지합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderBulkStatusRowDto {
+    private Long orderId;
+    private OrderStatus status;
+    private String waybillNum;
+    private String parcelCd;
+}
@@ -0,0 +1,17 @@
+package com.javalab.student.dto.cartOrder;
+
+import lombok.*;
+
+/**
+ * 아웃박스 처리 현황 DTO (관리자용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxStatusDto {
+    private long pending;     // 처리 대기 이벤트 수
+    private long processing;  // 처리 중 이벤트 수
+    private long dead;        // 데드 레터 이벤트 수 (관리자 확인 필요)
+}
@@ -0,0 +1,31 @@
+package com.javalab.student.dto.cartOrder;
+
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * PG 호출 종류별 통계 DTO (관리자용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PgCallStatsDto {
+    private String operation;         // 호출 종류 (token, payment)
+    private long calls;               // PG 로 보낸 호출 수
+    private long success;             // 정상 응답 (2xx)
+    private long clientError;         // PG 가 거절한 요청 (4xx)
+    private long serverError;         // PG 서버 오류 (5xx)
+    private long timeout;             // 제한 시간 초과
+    private long ioError;             // 연결/통신 오류
+    private long rejected;            // 동시 호출 한도 초과로 보내지 않은 요청
+    private long circuitOpen;         // 서킷 브레이커가 열려 보내지 않은 요청
+    private long meanMillis;          // 평균 응답 시간
+    private long p50Millis;           // 중앙값 (구간 상한)
+    private long p95Millis;           // 95 백분위 (구간 상한)
+    private long p99Millis;           // 99 백분위 (구간 상한)
+    private long maxMillis;           // 최대 응답 시간
+    private Map<String, Long> latencyBuckets; // 응답 시간 구간별 건수
+}
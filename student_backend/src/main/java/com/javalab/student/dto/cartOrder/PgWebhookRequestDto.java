@@ -0,0 +1,29 @@
+package com.javalab.student.dto.cartOrder;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+/**
+ * PG(포트원) 웹훅 요청 DTO
+ * - 포트원이 결제 상태가 바뀔 때 보내는 알림 본문입니다.
+ * - 본문은 위조될 수 있으므로 처리 시에는 imp_uid 로 PG 를 다시 조회한 결과만 사용합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class PgWebhookRequestDto {
+
+    /** 포트원 결제 고유 번호 */
+    @JsonProperty("imp_uid")
+    private String impUid;
+
+    /** 가맹점 주문 번호 ({주문 ID}_{시각}) */
+    @JsonProperty("merchant_uid")
+    private String merchantUid;
+
+    /** 결제 상태 (ready, paid, failed, cancelled) */
+    private String status;
+}
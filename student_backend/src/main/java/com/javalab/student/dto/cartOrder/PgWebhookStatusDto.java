@@ -0,0 +1,19 @@
+package com.javalab.student.dto.cartOrder;
+
+import lombok.*;
+
+/**
+ * PG 웹훅 처리 현황 DTO (관리자용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PgWebhookStatusDto {
+    private String circuitState;  // PG 호출 서킷 브레이커 상태 (CLOSED, OPEN, HALF_OPEN)
+    private long pending;         // 처리 대기 이벤트 수
+    private long processing;      // 처리 중 이벤트 수
+    private long failed;          // 처리 실패 이벤트 수 (관리자 확인 필요)
+    private int activeWorkers;    // 처리 중인 작업자 수
+}
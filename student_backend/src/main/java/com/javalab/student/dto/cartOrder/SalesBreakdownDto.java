@@ -0,0 +1,21 @@
+package com.javalab.student.dto.cartOrder;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 기준별(상품/카테고리/결제 수단) 매출 DTO (관리자 매출 화면)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesBreakdownDto {
+    private String key;          // 기준 값 (상품 ID, 카테고리 ID, 결제 수단)
+    private String label;        // 표시 이름 (상품명, 카테고리명, 결제 수단)
+    private long orderCount;     // 주문 수
+    private long quantity;       // 판매 수량
+    private BigDecimal revenue;  // 매출액 (주문 아이템 금액 합계, 결제 수단은 주문 금액 합계)
+}
@@ -0,0 +1,21 @@
+package com.javalab.student.dto.cartOrder;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 기간별 매출 DTO (관리자 매출 화면)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesTrendDto {
+    private LocalDate periodStart;  // 기간 시작일 (일별: 그 날짜, 월별: 그 달의 1일)
+    private long orderCount;        // 주문 수
+    private long quantity;          // 판매 수량
+    private BigDecimal revenue;     // 매출액 (주문 금액 합계)
+}
@@ -0,0 +1,17 @@
+package com.javalab.student.dto.product;
+
+import lombok.*;
+
+/**
+ * 필터 항목별 상품 수 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FacetCountDto {
+    private String key;   // 카테고리/영양성분 ID 또는 가격대 코드
+    private String name;  // 화면에 표시할 이름
+    private long count;   // 현재 조건에서 이 항목을 선택했을 때의 상품 수
+}
@@ -0,0 +1,27 @@
+package com.javalab.student.dto.product;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 상품 대량 등록/내보내기 한 행 DTO
+ * - id 가 있으면 기존 상품 수정, 없으면 신규 등록
+ * - 카테고리/영양성분은 이름으로 주고받습니다. (CSV 에서는 '|' 로 구분)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductBulkRowDto {
+    private Long id;
+    private String name;
+    private String description;
+    private BigDecimal price;
+    private Integer stock;
+    private Boolean active;
+    private List<String> categories;
+    private List<String> ingredients;
+}
@@ -0,0 +1,54 @@
+package com.javalab.student.dto.product;
+
+import com.javalab.student.entity.product.Product;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 상품 상세 응답 DTO (GET /api/products/{productId})
+ * - 기존에 Product 엔티티를 그대로 직렬화하던 응답과 같은 필드 구성을 유지합니다.
+ * - version 은 상세 응답 ETag 의 기준 값입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductDetailDto {
+    private Long id;
+    private String name;
+    private String description;
+    private BigDecimal price;
+    private int stock;
+    private boolean active;
+    private String mainImageUrl;
+    private List<ProductImgDto> productImgList;
+    private int score;
+    private String productName;
+    private String imageUrl;
+    private long version;
+
+    /** 트랜잭션 안에서 호출해야 합니다. (이미지 목록 지연 로딩) */
+    public static ProductDetailDto fromEntity(Product product) {
+        return ProductDetailDto.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .stock(product.getStock())
+                .active(product.isActive())
+                .mainImageUrl(product.getMainImageUrl())
+                .productImgList(product.getProductImgList().stream()
+                        .sorted(Comparator.comparing(img -> img.getOrder() == null ? 0 : img.getOrder()))
+                        .map(ProductImgDto::fromEntity)
+                        .toList())
+                .score(product.getScore())
+                .productName(product.getProductName())
+                .imageUrl(product.getImageUrl())
+                .version(product.getVersion())
+                .build();
+    }
+}
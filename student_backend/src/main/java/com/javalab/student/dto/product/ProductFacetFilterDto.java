@@ -0,0 +1,33 @@
+package com.javalab.student.dto.product;
+
+import com.javalab.student.constant.FacetMatch;
+import com.javalab.student.constant.PriceBand;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 상품 필터(패싯) 조회 조건 DTO
+ * - 그룹 간(카테고리, 영양성분, 가격대, 판매 상태)은 AND 로 묶습니다.
+ * - 카테고리/영양성분 그룹 안에서는 categoryMatch, ingredientMatch 로 OR(ANY)/AND(ALL) 를 고릅니다.
+ * - 가격대는 하나의 상품이 한 가격대에만 속하므로 항상 OR 입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductFacetFilterDto {
+    private List<Long> categoryIds;
+    @Builder.Default
+    private FacetMatch categoryMatch = FacetMatch.ANY;
+    private List<Long> ingredientIds;
+    @Builder.Default
+    private FacetMatch ingredientMatch = FacetMatch.ANY;
+    private List<PriceBand> priceBands;
+    private Boolean active;   // null 이면 판매 상태와 무관
+    @Builder.Default
+    private int page = 0;
+    @Builder.Default
+    private int size = 10;    // 1 이상, 최대 ProductFacetIndex.MAX_PAGE_SIZE 로 줄임
+}
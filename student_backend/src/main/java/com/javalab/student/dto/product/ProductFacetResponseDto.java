@@ -0,0 +1,26 @@
+package com.javalab.student.dto.product;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 상품 필터(패싯) 조회 응답 DTO
+ * - 현재 페이지의 상품 목록과 사이드바에 표시할 항목별 상품 수를 함께 담습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductFacetResponseDto {
+    private long totalElements;
+    private int page;
+    private int size;
+    private List<ProductResponseDTO> content;
+    private List<FacetCountDto> categories;
+    private List<FacetCountDto> ingredients;
+    private List<FacetCountDto> priceBands;
+    private long activeCount;
+    private long inactiveCount;
+}
@@ -0,0 +1,32 @@
+package com.javalab.student.dto.product;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 상품 대량 등록 결과 DTO
+ * - 행 단위 오류는 최대 1,000 건까지 담고, 나머지는 failed 건수에만 반영합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImportResultDto {
+    private long totalRows;
+    private long inserted;
+    private long updated;
+    private long failed;
+    private List<RowError> errors;
+
+    /** 행 단위 오류 (CSV 는 줄 번호, JSON 은 배열 순번) */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;
+        private String message;
+    }
+}
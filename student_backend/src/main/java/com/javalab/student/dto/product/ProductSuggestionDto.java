@@ -0,0 +1,17 @@
+package com.javalab.student.dto.product;
+
+import lombok.*;
+
+/**
+ * 검색어 자동완성 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSuggestionDto {
+    private String type;  // PRODUCT, INGREDIENT, CATEGORY
+    private Long id;      // 상품/영양성분/카테고리 ID
+    private String text;  // 화면에 표시할 이름
+}
@@ -9,11 +9,15 @@ import lombok.Setter;
 /**
  * 장바구니에 담긴 상품 정보를 담는 엔티티 클래스.
  * 장바구니 아이템과 관련된 상품, 수량 등을 관리합니다.
+ * - 한 장바구니에 같은 상품은 한 행만 둡니다. (uk_cart_item_cart_product)
+ *   기존 중복 행이 있는 DB 는 CartItemUniqueKeyMigration 이 기동 시 정리하고 키를 추가합니다.
  */
 @Entity
 @Getter
 @Setter
-@Table(name = "cart_item")
+@Table(name = "cart_item", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_cart_item_cart_product", columnNames = {"cart_id", "product_id"})
+})
 public class CartItem extends BaseEntity {
 
     /** 장바구니 아이템 ID, Primary Key */
@@ -18,7 +18,10 @@ import java.util.stream.Collectors;
  * 주문과 관련된 기본 정보, 주문 상태, 배송 정보 등을 관리합니다.
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_order_date_id", columnList = "order_date, id"),
+        @Index(name = "idx_orders_member_order_date", columnList = "member_id, order_date")
+})
 @Getter
 @Setter
 @Builder
@@ -124,12 +127,10 @@ public class Order {
 
     /**
      * 주문 취소 메소드
+     * - 재고 복원은 StockReservationService.release() 가 예약 내역을 기준으로 수행합니다.
      */
     public void cancelOrder() {
         this.orderStatus = OrderStatus.CANCELED;
-        for (OrderItem orderItem : orderItems) {
-            orderItem.cancel();
-        }
     }
 
     /**
@@ -71,13 +71,6 @@ public class OrderItem extends BaseEntity {
         return orderPrice.multiply(BigDecimal.valueOf(count));
     }
 
-    /**
-     * 주문 취소 메소드 (재고 증가)
-     */
-    public void cancel() {
-        this.getProduct().setStock(this.getProduct().getStock() + count);
-    }
-
     /**
      * Entity -> Dto 변환
      *
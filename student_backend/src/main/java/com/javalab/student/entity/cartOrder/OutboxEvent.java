@@ -0,0 +1,69 @@
+package com.javalab.student.entity.cartOrder;
+
+import com.javalab.student.constant.OutboxEventStatus;
+import com.javalab.student.constant.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 엔티티 (주문/결제 후속 작업 대기열)
+ * - 결제 반영 트랜잭션 안에서 INSERT 되므로 결제가 커밋되면 후속 작업도 반드시 남고, 롤백되면 함께 사라집니다.
+ * - OutboxRelay 가 트랜잭션 밖에서 가져가 종류별 핸들러로 처리합니다.
+ */
+@Entity
+@Table(name = "outbox_event",
+        indexes = @Index(name = "idx_outbox_event_status_next", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class OutboxEvent {
+
+    /** 이벤트 ID, Primary Key */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long id;
+
+    /** 이벤트 종류 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private OutboxEventType eventType;
+
+    /** 관련 ID (주문 ID 등, 조회/추적용) */
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    /** 이벤트 내용 (JSON) */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /** 처리 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxEventStatus status;
+
+    /** 실패한 처리 횟수 */
+    @Column(nullable = false)
+    private int attempts;
+
+    /** 다음 처리 시각 (PENDING: 재시도 시각, PROCESSING: 잠금 만료 시각) */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /** 마지막 오류 메시지 */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /** 생성 시각 */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** 처리 완료 시각 */
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
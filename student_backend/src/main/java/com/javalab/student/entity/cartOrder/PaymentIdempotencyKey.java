@@ -0,0 +1,44 @@
+package com.javalab.student.entity.cartOrder;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 멱등 키 엔티티
+ * - 결제 완료 요청의 멱등 키(Idempotency-Key 헤더, 없으면 "imp:{imp_uid}")와 처리 결과(결제 ID)를 기록합니다.
+ * - 같은 키로 다시 요청하면 PG 조회 없이 기록된 결제의 응답을 그대로 돌려줍니다.
+ * - 키는 Primary Key 이므로 동시에 같은 키로 처리되더라도 한 요청만 커밋됩니다.
+ */
+@Entity
+@Table(name = "payment_idempotency_key")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PaymentIdempotencyKey {
+
+    /** 멱등 키, Primary Key */
+    @Id
+    @Column(name = "idempotency_key", length = 120)
+    private String idempotencyKey;
+
+    /** PG 결제 고유 번호 */
+    @Column(name = "imp_uid", nullable = false, length = 100)
+    private String impUid;
+
+    /** 주문 ID */
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    /** 결제 ID */
+    @Column(name = "payment_id", nullable = false)
+    private Long paymentId;
+
+    /** 처리 시각 */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
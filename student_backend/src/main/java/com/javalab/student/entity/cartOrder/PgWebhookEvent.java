@@ -0,0 +1,72 @@
+package com.javalab.student.entity.cartOrder;
+
+import com.javalab.student.constant.WebhookEventStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * PG 웹훅 이벤트 엔티티 (웹훅 처리 대기열)
+ * - 웹훅 요청은 이 테이블에 한 행을 쌓고 바로 응답하며, PgWebhookService 작업자가 비동기로 처리합니다.
+ * - 같은 결제의 같은 상태 알림은 (imp_uid, pg_status) 유니크 제약으로 한 번만 쌓입니다.
+ */
+@Entity
+@Table(name = "pg_webhook_event",
+        uniqueConstraints = @UniqueConstraint(name = "uk_pg_webhook_event_imp_status", columnNames = {"imp_uid", "pg_status"}),
+        indexes = @Index(name = "idx_pg_webhook_event_status_next", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PgWebhookEvent {
+
+    /** 이벤트 ID, Primary Key */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long id;
+
+    /** PG 결제 고유 번호 */
+    @Column(name = "imp_uid", nullable = false, length = 100)
+    private String impUid;
+
+    /** 가맹점 주문 번호 */
+    @Column(name = "merchant_uid", length = 100)
+    private String merchantUid;
+
+    /** 웹훅이 알린 결제 상태 (paid, cancelled 등, 처리 시에는 PG 를 다시 조회해 확인) */
+    @Column(name = "pg_status", nullable = false, length = 30)
+    private String pgStatus;
+
+    /** 처리 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WebhookEventStatus status;
+
+    /** 처리 시도 횟수 (PG 장애로 미룬 경우는 세지 않음) */
+    @Column(nullable = false)
+    private int attempts;
+
+    /** 다음 처리 가능 시각 */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /** 처리 중 잠금 만료 시각 (작업자가 중단되면 이 시각 이후 다시 처리) */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    /** 마지막 오류 메시지 */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /** 수신 시각 */
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    /** 처리 완료 시각 */
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,67 @@
+package com.javalab.student.entity.cartOrder;
+
+import com.javalab.student.constant.SalesDimension;
+import com.javalab.student.constant.SalesPeriod;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 매출 집계 엔티티 (일별/월별, 전체/상품/카테고리/결제 수단별)
+ * - 결제 완료 시 더하고 결제된 주문이 취소되면 빼는 방식으로 SalesRollupService 가 INSERT ... ON DUPLICATE KEY UPDATE 로 갱신합니다.
+ * - 주문은 주문일시(order_date) 기준 날짜/월에 집계됩니다. (취소도 원래 주문일에서 뺌)
+ * - 관리자 매출 화면은 이 테이블만 읽습니다.
+ */
+@Entity
+@Table(name = "sales_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sales_rollup", columnNames = {"period_type", "dimension", "period_start", "dimension_key"})
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class SalesRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 기간 단위 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false, length = 10)
+    private SalesPeriod periodType;
+
+    /** 집계 기준 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SalesDimension dimension;
+
+    /** 기간 시작일 (일별: 그 날짜, 월별: 그 달의 1일) */
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    /** 기준 값 (상품 ID, 카테고리 ID, 결제 수단, 전체면 "ALL") */
+    @Column(name = "dimension_key", nullable = false, length = 50)
+    private String dimensionKey;
+
+    /** 주문 수 */
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    /** 판매 수량 */
+    @Column(nullable = false)
+    private long quantity;
+
+    /** 매출액 (전체/결제 수단: 주문 금액 합계, 상품/카테고리: 주문 아이템 금액 합계) */
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    /** 마지막 갱신 시각 */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,58 @@
+package com.javalab.student.entity.cartOrder;
+
+import com.javalab.student.constant.SettlementMismatchType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * PG 정산 대사 불일치 건
+ * - SettlementReconciliationService 가 JDBC 배치 INSERT 로 기록하고, 관리자 화면은 (run_id, id) 키셋으로 나눠 읽습니다.
+ */
+@Entity
+@Table(name = "settlement_mismatch", indexes = {
+        @Index(name = "idx_settlement_mismatch_run", columnList = "run_id, id"),
+        @Index(name = "idx_settlement_mismatch_run_type", columnList = "run_id, mismatch_type, id")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class SettlementMismatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 대사 실행 ID (SettlementReconciliation) */
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mismatch_type", nullable = false, length = 20)
+    private SettlementMismatchType mismatchType;
+
+    @Column(name = "imp_uid", nullable = false, length = 100)
+    private String impUid;
+
+    /** 가맹점 주문 번호 (PG 쪽, 없으면 null) */
+    private String merchantUid;
+
+    /** 주문 ID (결제 기록 쪽, 없으면 null) */
+    private Long orderId;
+
+    private BigDecimal pgAmount;
+
+    private BigDecimal dbAmount;
+
+    /** PG 결제 상태 (paid, cancelled 등) */
+    @Column(length = 20)
+    private String pgStatus;
+
+    /** 결제 기록 상태 (paid, cancelled) */
+    @Column(length = 20)
+    private String dbStatus;
+}
@@ -0,0 +1,67 @@
+package com.javalab.student.entity.cartOrder;
+
+import com.javalab.student.constant.ReconciliationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * PG 정산 대사 실행 기록 (SettlementReconciliationService)
+ * - 실행마다 한 행이며, 불일치 건은 SettlementMismatch 에 run_id 로 연결됩니다.
+ */
+@Entity
+@Table(name = "settlement_reconciliation")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class SettlementReconciliation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 정산 내역 출처 (FILE: 업로드한 정산 파일, PG: PG 정산 내역 조회) */
+    @Column(nullable = false, length = 10)
+    private String source;
+
+    /** 대사 기간 시작일 (결제 시각 기준, 없으면 전체) */
+    private LocalDate periodFrom;
+
+    /** 대사 기간 종료일 (포함, 없으면 전체) */
+    private LocalDate periodTo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReconciliationStatus status;
+
+    /** 읽은 PG 정산 건수 */
+    private long pgCount;
+
+    /** 읽은 결제 기록 건수 */
+    private long dbCount;
+
+    /** 일치 건수 */
+    private long matchedCount;
+
+    private long missingInDbCount;
+
+    private long missingInPgCount;
+
+    private long amountMismatchCount;
+
+    private long statusMismatchCount;
+
+    /** 실패 사유 */
+    @Column(length = 500)
+    private String message;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+}
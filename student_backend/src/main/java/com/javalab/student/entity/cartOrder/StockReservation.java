@@ -0,0 +1,55 @@
+package com.javalab.student.entity.cartOrder;
+
+import com.javalab.student.constant.ReservationStatus;
+import com.javalab.student.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 엔티티
+ * - 주문 아이템마다 차감한 재고 수량과 예약 상태, 만료 시각을 기록합니다.
+ * - 상태 변경은 StockReservationRepository 의 조건부 UPDATE 로만 수행하여
+ *   결제 확정과 만료 처리가 동시에 일어나도 재고가 두 번 복원되지 않도록 합니다.
+ */
+@Entity
+@Table(name = "stock_reservation", indexes = {
+        @Index(name = "idx_stock_reservation_order", columnList = "order_id"),
+        @Index(name = "idx_stock_reservation_status_expires", columnList = "status, expires_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class StockReservation extends BaseTimeEntity {
+
+    /** 예약 ID, Primary Key */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reservation_id")
+    private Long id;
+
+    /** 주문 ID */
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    /** 상품 ID */
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    /** 차감한 재고 수량 */
+    @Column(nullable = false)
+    private int quantity;
+
+    /** 예약 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, columnDefinition = "VARCHAR(20)")
+    private ReservationStatus status;
+
+    /** 결제 대기 만료 시각 (이 시각이 지나도록 RESERVED 이면 재고를 되돌립니다.) */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
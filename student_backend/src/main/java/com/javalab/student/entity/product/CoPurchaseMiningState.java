@@ -0,0 +1,39 @@
+package com.javalab.student.entity.product;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 함께 구매 집계 진행 상태 (단일 행)
+ * - 마지막으로 반영한 주문 ID 와 반영한 전체 주문 수를 기록해 다음 집계는 그 이후 주문만 읽습니다.
+ * - 집계 시작 시 이 행을 잠가(SELECT ... FOR UPDATE) 여러 서버가 동시에 같은 주문을 두 번 세지 않게 합니다.
+ */
+@Entity
+@Table(name = "co_purchase_mining_state")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class CoPurchaseMiningState {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    /** 마지막으로 반영한 주문 ID */
+    @Column(name = "last_order_id", nullable = false)
+    private long lastOrderId;
+
+    /** 반영한 전체 주문 수 */
+    @Column(name = "basket_count", nullable = false)
+    private long basketCount;
+
+    /** 마지막 집계 시각 */
+    @Column(name = "mined_at")
+    private LocalDateTime minedAt;
+}
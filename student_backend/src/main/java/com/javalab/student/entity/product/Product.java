@@ -3,6 +3,7 @@ package com.javalab.student.entity.product;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
@@ -11,9 +12,11 @@ import java.util.List;
  * 영양제 상품 정보를 나타내는 엔티티 클래스입니다.
  * 이 클래스는 상품의 기본 정보, 가격, 재고, 상태 등을 포함합니다.
  * 또한 상품과 관련된 영양 성분 및 카테고리와의 관계를 정의합니다.
+ * 변경된 컬럼만 UPDATE 하므로(@DynamicUpdate) 재고를 바꾸지 않는 수정이 동시에 차감된 재고를 덮어쓰지 않습니다.
  */
 @Entity
 @Table(name = "product")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -46,6 +49,14 @@ public class Product {
     @Column(nullable = false)
     private boolean active;
 
+    /**
+     * 상품 상세 버전 (상품 상세 응답의 ETag 기준 값, 낙관적 잠금 아님)
+     * 상품 수정, 재고 변경, 이미지 변경 시마다 UPDATE 문(ProductRepository.increaseVersion 등)으로만 증가합니다.
+     * 엔티티 저장에는 포함되지 않으므로 주문의 재고 차감과 관리자 상품 수정이 겹쳐도 충돌하지 않습니다.
+     */
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long version;
+
     /** 상품 이미지 */
     /**
      * 대표 이미지를 보여줄 때는, Product 엔티티의 productImgList 에서
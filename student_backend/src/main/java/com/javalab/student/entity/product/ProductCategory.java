@@ -1,5 +1,6 @@
 package com.javalab.student.entity.product;
 
+import com.javalab.student.service.product.taxonomy.TaxonomyEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -8,6 +9,7 @@ import lombok.*;
  * 이 클래스는 카테고리의 기본 정보를 포함합니다.
  */
 @Entity
+@EntityListeners(TaxonomyEntityListener.class)
 @Table(name = "product_category")
 @Getter @Setter
 @ToString
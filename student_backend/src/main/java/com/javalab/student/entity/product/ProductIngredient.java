@@ -1,5 +1,6 @@
 package com.javalab.student.entity.product;
 
+import com.javalab.student.service.product.taxonomy.TaxonomyEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -10,6 +11,7 @@ import java.util.List;
  * 이 클래스는 영양 성분의 기본 정보와 해당 성분을 포함하는 상품들과의 관계를 정의합니다.
  */
 @Entity
+@EntityListeners(TaxonomyEntityListener.class)
 @Table(name = "product_ingredient")
 @Getter
 @Setter
@@ -1,9 +1,11 @@
 package com.javalab.student.entity.product;
 
+import com.javalab.student.service.product.taxonomy.TaxonomyEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@EntityListeners(TaxonomyEntityListener.class)
 @Table(name = "product_ingredient_category_mapping")
 @Getter
 @Setter
@@ -0,0 +1,38 @@
+package com.javalab.student.entity.product;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 상품 쌍 동시 구매 집계 엔티티
+ * - 두 상품이 같은 결제 주문에 함께 담긴 주문 수를 누적합니다. (productAId < productBId)
+ * - CoPurchaseMiningService 가 새로 결제된 주문만 읽어 INSERT ... ON DUPLICATE KEY UPDATE 로 더합니다.
+ */
+@Entity
+@Table(name = "product_pair_count", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_pair", columnNames = {"product_a_id", "product_b_id"})
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ProductPairCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 작은 상품 ID */
+    @Column(name = "product_a_id", nullable = false)
+    private Long productAId;
+
+    /** 큰 상품 ID */
+    @Column(name = "product_b_id", nullable = false)
+    private Long productBId;
+
+    /** 함께 구매된 주문 수 */
+    @Column(name = "pair_count", nullable = false)
+    private int pairCount;
+}
@@ -0,0 +1,27 @@
+package com.javalab.student.entity.product;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 상품별 구매 주문 수 집계 엔티티 (함께 구매 lift 계산의 분모)
+ */
+@Entity
+@Table(name = "product_purchase_count")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ProductPurchaseCount {
+
+    /** 상품 ID */
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    /** 이 상품이 담긴 결제 주문 수 */
+    @Column(name = "basket_count", nullable = false)
+    private int basketCount;
+}
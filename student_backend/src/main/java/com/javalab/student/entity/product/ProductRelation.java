@@ -0,0 +1,45 @@
+package com.javalab.student.entity.product;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 함께 구매한 상품 (자주 함께 구매한 상품 상위 K개)
+ * - CoPurchaseMiningService 가 집계할 때마다 통째로 다시 만들고, RelatedProductIndex 가 메모리에 적재해 사용합니다.
+ */
+@Entity
+@Table(name = "product_relation", indexes = {
+        @Index(name = "idx_product_relation_product", columnList = "product_id, relation_rank")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ProductRelation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 기준 상품 ID */
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    /** 함께 구매한 상품 ID */
+    @Column(name = "related_product_id", nullable = false)
+    private Long relatedProductId;
+
+    /** 순위 (1부터) */
+    @Column(name = "relation_rank", nullable = false)
+    private int rank;
+
+    /** lift (1 보다 크면 우연보다 자주 함께 구매) */
+    @Column(nullable = false)
+    private double lift;
+
+    /** 함께 구매된 주문 수 */
+    @Column(name = "pair_count", nullable = false)
+    private int pairCount;
+}
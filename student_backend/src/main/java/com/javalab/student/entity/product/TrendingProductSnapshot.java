@@ -0,0 +1,39 @@
+package com.javalab.student.entity.product;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 상품 점수 스냅샷 엔티티
+ * - Redis 인기 상품 정렬 집합(sorted set)을 주기적으로 저장해 두고, Redis 데이터가 사라졌을 때 복구에 사용합니다.
+ * - 점수는 기준 시각(base_epoch_second) 기준 값이므로 같은 스냅샷의 행끼리만 비교할 수 있습니다.
+ */
+@Entity
+@Table(name = "trending_product_snapshot")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TrendingProductSnapshot {
+
+    /** 상품 ID */
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    /** 기준 시각 기준 감쇠 점수 */
+    @Column(nullable = false)
+    private double score;
+
+    /** 점수의 기준 시각 (epoch 초) */
+    @Column(name = "base_epoch_second", nullable = false)
+    private long baseEpochSecond;
+
+    /** 스냅샷 저장 시각 */
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+}
@@ -3,9 +3,11 @@ package com.javalab.student.repository.cartOrder;
 import com.javalab.student.dto.cartOrder.CartDetailDto;
 import com.javalab.student.entity.cartOrder.CartItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,7 +33,7 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
      * @param cartId 장바구니 ID
      * @return 장바구니 상세 정보 DTO 리스트
      */
-    @Query("select new com.javalab.student.dto.cartOrder.CartDetailDto(ci.id, p.name, ci.quantity, p.price, p.mainImageUrl) " +
+    @Query("select new com.javalab.student.dto.cartOrder.CartDetailDto(ci.id, p.name, ci.quantity, p.price, p.mainImageUrl, p.stock) " +
             "from CartItem ci join ci.product p where ci.cart.id = :cartId")
     List<CartDetailDto> findCartDetailDtoList(@Param("cartId") Long cartId);
 
@@ -40,9 +42,29 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
      * @param cartItemId 장바구니 아이템 ID
      * @return 장바구니 아이템 상세 정보 DTO (Optional로 래핑됨)
      */
-    @Query("SELECT new com.javalab.student.dto.cartOrder.CartDetailDto(ci.id, p.name, ci.quantity, p.price, p.mainImageUrl)"
+    @Query("SELECT new com.javalab.student.dto.cartOrder.CartDetailDto(ci.id, p.name, ci.quantity, p.price, p.mainImageUrl, p.stock)"
             + "  FROM CartItem ci "
             + "   JOIN ci.product p"
             + "  WHERE ci.id = :cartItemId")
     Optional<CartDetailDto> findCartDetailDto(@Param("cartItemId") Long cartItemId);
+
+    /**
+     * 회원의 장바구니 아이템을 모두 삭제합니다. (결제 완료 후 장바구니 비우기)
+     * @param memberId 회원 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.id IN (SELECT c.id FROM Cart c WHERE c.member.id = :memberId)")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 회원의 장바구니에서 주어진 상품의 아이템만 삭제합니다. (결제 완료 후 주문한 상품 비우기)
+     * @param memberId 회원 ID
+     * @param productIds 상품 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.id IN (SELECT c.id FROM Cart c WHERE c.member.id = :memberId)"
+            + " AND ci.product.id IN :productIds")
+    int deleteByMemberIdAndProductIds(@Param("memberId") Long memberId, @Param("productIds") Collection<Long> productIds);
 }
@@ -1,5 +1,6 @@
 package com.javalab.student.repository.cartOrder;
 
+import com.javalab.student.constant.OrderStatus;
 import com.javalab.student.entity.cartOrder.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -25,4 +26,13 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     // 특정 주문의 주문 아이템 개수를 조회
     @Query("SELECT COUNT(oi) FROM OrderItem oi WHERE oi.order.id = :orderId")
     Long countByOrderId(@Param("orderId") Long orderId);
+
+    /**
+     * 상품별 누적 판매 수량을 조회합니다. (자동완성 인기순 정렬용)
+     * @param excluded 집계에서 제외할 주문 상태 (예: 취소)
+     * @return [상품 ID, 판매 수량] 목록
+     */
+    @Query("SELECT oi.product.id, SUM(oi.count) FROM OrderItem oi " +
+            "WHERE oi.order.orderStatus NOT IN :excluded GROUP BY oi.product.id")
+    List<Object[]> sumCountGroupByProductId(@Param("excluded") List<OrderStatus> excluded);
 }
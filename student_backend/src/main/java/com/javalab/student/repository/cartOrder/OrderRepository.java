@@ -1,15 +1,16 @@
 package com.javalab.student.repository.cartOrder;
 
 import com.javalab.student.entity.cartOrder.Order;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 주문(Order) 엔티티에 대한 데이터 접근 인터페이스입니다.
@@ -20,7 +21,7 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     // 기본 CRUD 메서드들이 JpaRepository에 의해 자동으로 제공됩니다.
 
     /**
-     * 특정 사용자의 주문 목록을 최신순으로 조회합니다.
+     * 특정 사용자의 주문 목록을 최신순으로 조회합니다. (보관 테이블로 옮겨진 오래된 주문은 포함하지 않음)
      * @param email 사용자 이메일
      * @param pageable 페이징 정보
      * @return 주문 목록
@@ -29,7 +30,7 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findOrders(@Param("email") String email, Pageable pageable);
 
     /**
-     * 특정 사용자의 총 주문 수를 조회합니다.
+     * 특정 사용자의 총 주문 수를 조회합니다. (보관 테이블로 옮겨진 오래된 주문은 포함하지 않음)
      * @param email 사용자 이메일
      * @return 총 주문 수
      */
@@ -37,16 +38,11 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     Long countOrder(@Param("email") String email);
 
     /**
-     * 회원 이름으로 주문 목록 검색 (부분 검색, 페이징)
+     * 주문을 쓰기 잠금으로 조회합니다. (결제 반영 중 주문 취소가 끼어들지 못하게)
+     * @param id 주문 ID
+     * @return 주문
      */
-    Page<Order> findOrdersByMemberNameContaining(String memberName, Pageable pageable);
-
-    /**
-     * 주문일자 범위로 주문 목록 검색 (페이징) - 추가됨
-     * @param startDate 시작 주문일시 (LocalDateTime)
-     * @param endDate 종료 주문일시 (LocalDateTime)
-     * @param pageable 페이징 정보
-     * @return 검색된 주문 목록 (Page)
-     */
-    Page<Order> findOrdersByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findByIdForUpdate(@Param("id") Long id);
 }
@@ -0,0 +1,34 @@
+package com.javalab.student.repository.cartOrder;
+
+import com.javalab.student.constant.OutboxEventStatus;
+import com.javalab.student.entity.cartOrder.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트(OutboxEvent) 엔티티에 대한 데이터 접근 인터페이스입니다.
+ * - 이벤트 추가/가져가기/처리 결과 기록은 OutboxService, OutboxRelay 가 JDBC 로 합니다. 여기서는 관리자 조회/재시도만 다룹니다.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    long countByStatus(OutboxEventStatus status);
+
+    /**
+     * 데드 레터 이벤트를 다시 처리 대기로 돌립니다. (시도 횟수 초기화)
+     *
+     * @return 변경된 행 수 (DEAD 상태가 아니면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.javalab.student.constant.OutboxEventStatus.PENDING, " +
+            "e.attempts = 0, e.nextAttemptAt = :now " +
+            "WHERE e.id = :id AND e.status = com.javalab.student.constant.OutboxEventStatus.DEAD")
+    int retryDead(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
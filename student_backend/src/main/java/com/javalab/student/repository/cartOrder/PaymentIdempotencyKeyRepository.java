@@ -0,0 +1,33 @@
+package com.javalab.student.repository.cartOrder;
+
+import com.javalab.student.entity.cartOrder.PaymentIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 멱등 키(PaymentIdempotencyKey) 엔티티에 대한 데이터 접근 인터페이스입니다.
+ */
+@Repository
+public interface PaymentIdempotencyKeyRepository extends JpaRepository<PaymentIdempotencyKey, String> {
+
+    /**
+     * 멱등 키를 기록합니다.
+     * - save() 는 키가 지정된 엔티티를 먼저 조회(merge)하므로 INSERT 를 직접 실행해 중복 키가 바로 예외로 드러나게 합니다.
+     *
+     * @return 변경된 행 수
+     * @throws org.springframework.dao.DataIntegrityViolationException 이미 기록된 키인 경우
+     */
+    @Modifying
+    @Query(value = "INSERT INTO payment_idempotency_key (idempotency_key, imp_uid, order_id, payment_id, created_at) " +
+            "VALUES (:idempotencyKey, :impUid, :orderId, :paymentId, :createdAt)", nativeQuery = true)
+    int insert(@Param("idempotencyKey") String idempotencyKey,
+               @Param("impUid") String impUid,
+               @Param("orderId") Long orderId,
+               @Param("paymentId") Long paymentId,
+               @Param("createdAt") LocalDateTime createdAt);
+}
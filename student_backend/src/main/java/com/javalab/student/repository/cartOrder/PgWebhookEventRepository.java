@@ -0,0 +1,90 @@
+package com.javalab.student.repository.cartOrder;
+
+import com.javalab.student.constant.WebhookEventStatus;
+import com.javalab.student.entity.cartOrder.PgWebhookEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PG 웹훅 이벤트(PgWebhookEvent) 엔티티에 대한 데이터 접근 인터페이스입니다.
+ * - 상태 변경은 조건부 UPDATE 로만 수행하므로 여러 서버의 작업자가 같은 이벤트를 동시에 처리하지 않습니다.
+ * - 웹훅 수신/작업자 스레드에서 트랜잭션 없이 호출하므로 변경 메서드마다 자체 트랜잭션을 가집니다.
+ */
+@Repository
+public interface PgWebhookEventRepository extends JpaRepository<PgWebhookEvent, Long> {
+
+    /**
+     * 웹훅 이벤트를 쌓습니다. 같은 결제의 같은 상태 알림이 이미 있으면 무시합니다.
+     *
+     * @return 추가된 행 수 (중복이면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO pg_webhook_event " +
+            "(imp_uid, merchant_uid, pg_status, status, attempts, next_attempt_at, received_at) " +
+            "VALUES (:impUid, :merchantUid, :pgStatus, 'PENDING', 0, :now, :now)", nativeQuery = true)
+    int enqueue(@Param("impUid") String impUid,
+                @Param("merchantUid") String merchantUid,
+                @Param("pgStatus") String pgStatus,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * 처리할 차례인 이벤트 ID 를 조회합니다. (대기 중이고 처리 시각이 된 것, 처리 중이지만 잠금이 만료된 것)
+     */
+    @Query("SELECT e.id FROM PgWebhookEvent e " +
+            "WHERE (e.status = com.javalab.student.constant.WebhookEventStatus.PENDING AND e.nextAttemptAt <= :now) " +
+            "OR (e.status = com.javalab.student.constant.WebhookEventStatus.PROCESSING AND e.lockedUntil < :now) " +
+            "ORDER BY e.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 이벤트를 처리 중으로 가져옵니다. 다른 작업자가 먼저 가져갔으면 0 을 반환합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PgWebhookEvent e SET e.status = com.javalab.student.constant.WebhookEventStatus.PROCESSING, " +
+            "e.lockedUntil = :lockedUntil " +
+            "WHERE e.id = :id AND ((e.status = com.javalab.student.constant.WebhookEventStatus.PENDING AND e.nextAttemptAt <= :now) " +
+            "OR (e.status = com.javalab.student.constant.WebhookEventStatus.PROCESSING AND e.lockedUntil < :now))")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /** 처리 완료 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PgWebhookEvent e SET e.status = com.javalab.student.constant.WebhookEventStatus.DONE, " +
+            "e.processedAt = :now, e.lockedUntil = null, e.lastError = :note WHERE e.id = :id")
+    int markDone(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("note") String note);
+
+    /**
+     * 다시 대기열로 돌립니다.
+     *
+     * @param countAttempt 시도 횟수에 포함할지 여부 (PG 장애로 미룬 경우는 포함하지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PgWebhookEvent e SET e.status = com.javalab.student.constant.WebhookEventStatus.PENDING, " +
+            "e.attempts = e.attempts + (CASE WHEN :countAttempt = true THEN 1 ELSE 0 END), " +
+            "e.nextAttemptAt = :nextAttemptAt, e.lockedUntil = null, e.lastError = :error WHERE e.id = :id")
+    int reschedule(@Param("id") Long id,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("countAttempt") boolean countAttempt,
+                   @Param("error") String error);
+
+    /** 처리 실패 (관리자 확인 필요) */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PgWebhookEvent e SET e.status = com.javalab.student.constant.WebhookEventStatus.FAILED, " +
+            "e.attempts = e.attempts + 1, e.processedAt = :now, e.lockedUntil = null, e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("error") String error);
+
+    /** 상태별 이벤트 수 */
+    long countByStatus(WebhookEventStatus status);
+}
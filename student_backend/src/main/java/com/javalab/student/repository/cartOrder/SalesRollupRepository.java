@@ -0,0 +1,42 @@
+package com.javalab.student.repository.cartOrder;
+
+import com.javalab.student.constant.SalesDimension;
+import com.javalab.student.constant.SalesPeriod;
+import com.javalab.student.entity.cartOrder.SalesRollup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 매출 집계(SalesRollup) 엔티티에 대한 데이터 접근 인터페이스입니다.
+ * - 조회만 합니다. 갱신은 SalesRollupService 가 JDBC 로 증감분을 더합니다.
+ * - 모든 조회가 (period_type, dimension, period_start) 유니크 인덱스 앞부분으로 범위를 좁힙니다.
+ */
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+
+    /**
+     * 기간별 집계 행을 기간 순으로 조회합니다.
+     */
+    List<SalesRollup> findByPeriodTypeAndDimensionAndPeriodStartBetweenOrderByPeriodStartAsc(
+            SalesPeriod periodType, SalesDimension dimension, LocalDate from, LocalDate to);
+
+    /**
+     * 기간 안의 집계를 기준 값별로 합쳐 매출액 순으로 조회합니다.
+     *
+     * @return [기준 값, 주문 수, 판매 수량, 매출액] 목록
+     */
+    @Query("SELECT s.dimensionKey, SUM(s.orderCount), SUM(s.quantity), SUM(s.revenue) FROM SalesRollup s " +
+            "WHERE s.periodType = :periodType AND s.dimension = :dimension AND s.periodStart BETWEEN :from AND :to " +
+            "GROUP BY s.dimensionKey ORDER BY SUM(s.revenue) DESC")
+    List<Object[]> sumByDimensionKey(@Param("periodType") SalesPeriod periodType,
+                                     @Param("dimension") SalesDimension dimension,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     Pageable pageable);
+}
@@ -0,0 +1,23 @@
+package com.javalab.student.repository.cartOrder;
+
+import com.javalab.student.constant.SettlementMismatchType;
+import com.javalab.student.entity.cartOrder.SettlementMismatch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * PG 정산 대사 불일치 건(SettlementMismatch) 엔티티에 대한 데이터 접근 인터페이스입니다.
+ * - 조회만 합니다. 기록은 SettlementReconciliationService 가 JDBC 배치로 합니다.
+ * - (run_id, id) / (run_id, mismatch_type, id) 인덱스로 직전 페이지 마지막 ID 다음부터 읽습니다.
+ */
+@Repository
+public interface SettlementMismatchRepository extends JpaRepository<SettlementMismatch, Long> {
+
+    List<SettlementMismatch> findByRunIdAndIdGreaterThanOrderByIdAsc(Long runId, Long id, Pageable pageable);
+
+    List<SettlementMismatch> findByRunIdAndMismatchTypeAndIdGreaterThanOrderByIdAsc(
+            Long runId, SettlementMismatchType mismatchType, Long id, Pageable pageable);
+}
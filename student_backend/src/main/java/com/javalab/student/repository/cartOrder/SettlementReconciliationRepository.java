@@ -0,0 +1,20 @@
+package com.javalab.student.repository.cartOrder;
+
+import com.javalab.student.constant.ReconciliationStatus;
+import com.javalab.student.entity.cartOrder.SettlementReconciliation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * PG 정산 대사 실행 기록(SettlementReconciliation) 엔티티에 대한 데이터 접근 인터페이스입니다.
+ */
+@Repository
+public interface SettlementReconciliationRepository extends JpaRepository<SettlementReconciliation, Long> {
+
+    /** 최근 실행 기록 20건 */
+    List<SettlementReconciliation> findTop20ByOrderByIdDesc();
+
+    List<SettlementReconciliation> findByStatus(ReconciliationStatus status);
+}
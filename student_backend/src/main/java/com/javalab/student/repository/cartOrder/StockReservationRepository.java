@@ -0,0 +1,65 @@
+package com.javalab.student.repository.cartOrder;
+
+import com.javalab.student.constant.ReservationStatus;
+import com.javalab.student.entity.cartOrder.StockReservation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 예약(StockReservation) 엔티티에 대한 데이터 접근 인터페이스입니다.
+ */
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    /**
+     * 주문의 재고 예약 목록을 조회합니다.
+     *
+     * @param orderId 주문 ID
+     * @return 재고 예약 목록
+     */
+    List<StockReservation> findByOrderId(Long orderId);
+
+    /**
+     * 주문에 해당 상태의 예약이 있는지 확인합니다.
+     *
+     * @param orderId 주문 ID
+     * @param status 예약 상태
+     */
+    boolean existsByOrderIdAndStatus(Long orderId, ReservationStatus status);
+
+    /**
+     * 만료된 결제 대기 예약의 주문 ID 를 조회합니다. (오래된 순)
+     *
+     * @param status 예약 상태 (RESERVED)
+     * @param now 기준 시각
+     * @param pageable 한 번에 처리할 개수
+     * @return 주문 ID 목록
+     */
+    @Query("SELECT DISTINCT r.orderId FROM StockReservation r " +
+            "WHERE r.status = :status AND r.expiresAt < :now ORDER BY r.orderId")
+    List<Long> findExpiredOrderIds(@Param("status") ReservationStatus status,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+
+    /**
+     * 예약 상태를 조건부로 변경합니다.
+     * - 현재 상태가 from 일 때만 변경되므로, 반환값이 1 인 호출자만 후속 처리(재고 복원 등)를 수행해야 합니다.
+     *
+     * @param id 예약 ID
+     * @param from 기대하는 현재 상태
+     * @param to 변경할 상태
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :to WHERE r.id = :id AND r.status = :from")
+    int changeStatus(@Param("id") Long id,
+                     @Param("from") ReservationStatus from,
+                     @Param("to") ReservationStatus to);
+}
@@ -2,7 +2,10 @@ package com.javalab.student.repository.healthSurvey;
 
 import com.javalab.student.entity.healthSurvey.RecommendedProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface RecommendedProductRepository extends JpaRepository<RecommendedProduct, Long> {
@@ -13,4 +16,23 @@ public interface RecommendedProductRepository extends JpaRepository<RecommendedP
      * @return 해당 recommendationId와 연관된 RecommendedProduct 리스트
      */
     List<RecommendedProduct> findByRecommendationId(Long recommendationId);
+
+    /**
+     * 추천 제품 목록을 상품 정보와 함께 한 번에 조회합니다. (RecommendationQueryService)
+     *
+     * @param recommendationId 조회할 Recommendation의 ID
+     * @return [추천 제품 ID, 상품 ID, 상품명, 가격, 추천 이유] 리스트
+     */
+    @Query("SELECT rp.id, p.id, p.name, p.price, rp.reason FROM RecommendedProduct rp " +
+            "JOIN rp.product p WHERE rp.recommendation.id = :recommendationId ORDER BY rp.id")
+    List<Object[]> findRowsByRecommendationId(@Param("recommendationId") Long recommendationId);
+
+    /**
+     * 여러 추천 제품의 관련 영양성분을 한 번에 조회합니다.
+     *
+     * @param ids 추천 제품 ID 목록
+     * @return [추천 제품 ID, 영양성분명] 리스트
+     */
+    @Query("SELECT rp.id, ri FROM RecommendedProduct rp JOIN rp.relatedIngredients ri WHERE rp.id IN :ids")
+    List<Object[]> findRelatedIngredientRowsByIds(@Param("ids") Collection<Long> ids);
 }
@@ -2,8 +2,11 @@ package com.javalab.student.repository.product;
 
 import com.javalab.student.entity.product.ProductImg;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +16,8 @@ public interface ProductImgRepository extends JpaRepository<ProductImg, Long> {
 
     // ✅ 상세 이미지 조회 시 order 순으로 정렬하는 메소드 추가
     List<ProductImg> findByProductIdAndImageTypeOrderByOrderAsc(Long productId, String imageType);
+
+    /** 여러 상품의 이미지를 한 번에 조회 - [상품 ID, ProductImg] (상품 프록시를 초기화하지 않음) */
+    @Query("SELECT i.product.id, i FROM ProductImg i WHERE i.product.id IN :productIds")
+    List<Object[]> findRowsByProductIds(@Param("productIds") Collection<Long> productIds);
 }
\ No newline at end of file
@@ -4,10 +4,12 @@ import com.javalab.student.entity.product.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -71,4 +73,101 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     Page<Product> findByCategories_NameContaining(String categoryName, Pageable pageable);
     Page<Product> findByIngredients_IngredientNameContaining(String ingredientName, Pageable pageable);
 
+    /*
+     * 조회 전용 프로젝션 (ProductQueryService)
+     * - 엔티티 그래프 대신 필요한 컬럼만 읽어 평면 DTO 를 만듭니다.
+     */
+
+    /** 전체 상품 ID (ID 순) */
+    @Query("SELECT p.id FROM Product p ORDER BY p.id")
+    List<Long> findAllIds();
+
+    /** 전체 상품 ID (페이징) */
+    @Query(value = "SELECT p.id FROM Product p",
+            countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<Long> findIds(Pageable pageable);
+
+    /** 카테고리에 속한 상품 ID (ID 순) */
+    @Query("SELECT p.id FROM Product p JOIN p.categories c WHERE c.id = :categoryId ORDER BY p.id")
+    List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId);
+
+    /** 카테고리에 속한 상품 ID (페이징) */
+    @Query(value = "SELECT p.id FROM Product p JOIN p.categories c WHERE c.id = :categoryId",
+            countQuery = "SELECT COUNT(p) FROM Product p JOIN p.categories c WHERE c.id = :categoryId")
+    Page<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /** 영양 성분을 포함하는 상품 ID (카테고리명 순, 상품이 여러 카테고리에 속하면 중복될 수 있음) */
+    @Query("SELECT p.id FROM Product p " +
+            "JOIN p.ingredients i " +
+            "JOIN p.categories c " +
+            "WHERE i.id = :ingredientId " +
+            "ORDER BY c.name ASC")
+    List<Long> findIdsByIngredientIdOrderByCategoryName(@Param("ingredientId") Long ingredientId);
+
+    /** [상품 ID, 상품명, 가격, 재고, 활성 여부, 설명] */
+    @Query("SELECT p.id, p.name, p.price, p.stock, p.active, p.description FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findSummaryRowsByIds(@Param("ids") Collection<Long> ids);
+
+    /** [상품 ID, 카테고리명] */
+    @Query("SELECT p.id, c.name FROM Product p JOIN p.categories c WHERE p.id IN :ids")
+    List<Object[]> findCategoryNameRowsByIds(@Param("ids") Collection<Long> ids);
+
+    /** [상품 ID, 영양 성분명] */
+    @Query("SELECT p.id, i.ingredientName FROM Product p JOIN p.ingredients i WHERE p.id IN :ids")
+    List<Object[]> findIngredientNameRowsByIds(@Param("ids") Collection<Long> ids);
+
+    /** 검색 인덱스 적재용 전체 상품 [상품 ID, 상품명, 가격, 재고, 활성 여부, 설명] (ID 순) */
+    @Query("SELECT p.id, p.name, p.price, p.stock, p.active, p.description FROM Product p ORDER BY p.id")
+    List<Object[]> findAllSummaryRows();
+
+    /** 검색 인덱스 적재용 전체 [상품 ID, 카테고리 ID, 카테고리명] */
+    @Query("SELECT p.id, c.id, c.name FROM Product p JOIN p.categories c")
+    List<Object[]> findAllCategoryRows();
+
+    /** 검색 인덱스 적재용 전체 [상품 ID, 영양 성분 ID, 영양 성분명] */
+    @Query("SELECT p.id, i.id, i.ingredientName FROM Product p JOIN p.ingredients i")
+    List<Object[]> findAllIngredientRows();
+
+    /** 장바구니 화면용 [상품 ID, 상품명, 가격, 재고, 대표 이미지 URL] */
+    @Query("SELECT p.id, p.name, p.price, p.stock, p.mainImageUrl FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findCartRowsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 대표 이미지 URL 컬럼이 비어 있는 상품에 대표 이미지(순서가 가장 앞선 것)를 채웁니다.
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE product p SET p.main_image_url = (" +
+            "SELECT i.image_url FROM product_img i WHERE i.product_id = p.id AND i.image_type = '대표' " +
+            "ORDER BY i.`order`, i.id LIMIT 1) " +
+            "WHERE (p.main_image_url IS NULL OR p.main_image_url = '') " +
+            "AND EXISTS (SELECT 1 FROM product_img i WHERE i.product_id = p.id AND i.image_type = '대표')",
+            nativeQuery = true)
+    int fillMissingMainImageUrls();
+
+    /**
+     * 재고를 조건부로 차감합니다. (재고가 count 이상일 때만)
+     * - 조회 후 비교하지 않고 한 번의 UPDATE 로 확인과 차감을 함께 처리하므로 동시 주문에도 초과 판매가 생기지 않습니다.
+     * @return 변경된 행 수 (0 이면 재고 부족)
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :count, p.version = p.version + 1 WHERE p.id = :productId AND p.stock >= :count")
+    int decreaseStock(@Param("productId") Long productId, @Param("count") int count);
+
+    /**
+     * 재고를 증가시킵니다. (예약 취소/만료 시 복원)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :count, p.version = p.version + 1 WHERE p.id = :productId")
+    int increaseStock(@Param("productId") Long productId, @Param("count") int count);
+
+    /**
+     * 상품 버전만 증가시킵니다.
+     * - 상품 행은 그대로지만 상세 화면 내용이 바뀌는 경우(이미지 추가/삭제)에 상세 응답의 ETag 를 바꾸기 위해 사용합니다.
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.version = p.version + 1 WHERE p.id = :productId")
+    int increaseVersion(@Param("productId") Long productId);
 }
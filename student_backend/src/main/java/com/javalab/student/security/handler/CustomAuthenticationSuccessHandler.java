@@ -6,6 +6,7 @@ import com.javalab.student.repository.MemberRepository;
 import com.javalab.student.security.dto.MemberSecurityDto;
 import com.javalab.student.service.RedisService;
 import com.javalab.student.service.RefreshTokenService;
+import com.javalab.student.service.cartOrder.RedisCartStore;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -38,6 +39,7 @@ public class CustomAuthenticationSuccessHandler implements AuthenticationSuccess
     private final TokenProvider tokenProvider;
     private final RedisService redisService;
     private final MemberRepository memberRepository;
+    private final RedisCartStore redisCartStore;
 
     /**
      * 로그인 성공 후처리 메서드
@@ -67,6 +69,13 @@ public class CustomAuthenticationSuccessHandler implements AuthenticationSuccess
             member.setLastLoginAt(LocalDateTime.now()); // ✅ 현재 시간을 마지막 로그인 시간으로 저장
             memberRepository.save(member);
             log.info("🔹 [CustomAuthenticationSuccessHandler] 마지막 로그인 시간 저장 완료: {}", member.getLastLoginAt());
+
+            // 장바구니를 Redis 에 준비 (Redis 에 없으면 DB 장바구니를 불러옴, 실패해도 로그인은 계속)
+            try {
+                redisCartStore.reconcile(member);
+            } catch (Exception e) {
+                log.warn("⚠ [CustomAuthenticationSuccessHandler] 장바구니 준비 실패: {}", e.getMessage());
+            }
         } else {
             log.warn("⚠ [CustomAuthenticationSuccessHandler] 회원을 찾을 수 없음: {}", email);
         }
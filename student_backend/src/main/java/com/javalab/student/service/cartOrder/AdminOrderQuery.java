@@ -0,0 +1,212 @@
+package com.javalab.student.service.cartOrder;
+
+import com.javalab.student.dto.cartOrder.AdminOrderDto;
+import com.javalab.student.service.cartOrder.archive.OrderArchiveService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 주문 목록 조회 (키셋 페이지네이션)
+ *
+ * 주문 목록 그리드에 필요한 컬럼만 쿼리 한 번으로 읽습니다. (주문/회원/배송지/결제/주문 아이템/상품 조인)
+ * - 페이지는 (order_date, id) 내림차순 키셋으로 나눕니다. 직전 페이지 마지막 주문의 (주문일시, 주문 ID) 다음부터 읽으므로
+ *   OFFSET 처럼 앞 페이지를 건너뛰며 읽지 않고, 오래된 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+ * - 페이지 크기는 주문 기준입니다. 안쪽 쿼리에서 주문 ID 를 (size + 1)개 고른 뒤 바깥에서 아이템을 붙여, 다음 페이지 유무를 함께 판단합니다.
+ * - 회원 이름/주문일자 검색도 같은 쿼리에 조건만 더해 사용합니다. (orders 의 (order_date, id) 인덱스를 순서대로 읽음)
+ * - 보관된 주문(OrderArchiveService)은 조회 기간이 보관 기준 일시 이전을 포함할 때만 보관 테이블에서 같은 쿼리로 읽어
+ *   (order_date, id) 순으로 합칩니다. 원본 테이블만으로 페이지가 채워지고 그 끝이 보관 기준보다 최근이면 보관 테이블은 읽지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminOrderQuery {
+
+    private static final DateTimeFormatter ORDER_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final String SELECT_SQL =
+            "SELECT o.id, o.order_date, o.order_status, o.payment_method, m.name AS member_name, " +
+            "       a.deli_addr, a.deli_addr_detail, a.deli_zip_code, pay.buyer_addr, " +
+            "       oi.order_item_id, oi.order_price, oi.count, p.name AS product_name " +
+            "FROM (%1$s) page " +
+            "JOIN %2$s o ON o.id = page.id " +
+            "JOIN member m ON m.member_id = o.member_id " +
+            "LEFT JOIN %3$s a ON a.order_id = o.id " +
+            "LEFT JOIN %4$s pay ON pay.order_id = o.id " +
+            "LEFT JOIN %5$s oi ON oi.order_id = o.id " +
+            "LEFT JOIN product p ON p.id = oi.product_id " +
+            "ORDER BY o.order_date DESC, o.id DESC, oi.order_item_id";
+
+    private static final String[] LIVE_TABLES = {"orders", "address", "payment", "order_item"};
+    private static final String[] ARCHIVE_TABLES = {"orders_archive", "address_archive", "payment_archive", "order_item_archive"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderArchiveService orderArchiveService;
+
+    /**
+     * 주문 목록 한 페이지를 조회합니다.
+     *
+     * @param size        페이지 크기 (주문 수)
+     * @param memberName  회원 이름 부분 검색 (없으면 null)
+     * @param from        주문일시 하한, 포함 (없으면 null)
+     * @param to          주문일시 상한, 포함 (없으면 null)
+     * @param cursorDate  직전 페이지 마지막 주문의 주문일시 (첫 페이지면 null)
+     * @param cursorId    직전 페이지 마지막 주문의 ID (첫 페이지면 null)
+     */
+    public AdminOrderPage findPage(int size, String memberName, LocalDateTime from, LocalDateTime to,
+                                   LocalDateTime cursorDate, Long cursorId) {
+        Map<Long, LocalDateTime> orderDates = new LinkedHashMap<>();
+        Map<Long, List<AdminOrderDto>> rowsByOrder = new LinkedHashMap<>();
+        readPage(LIVE_TABLES, size, memberName, from, to, cursorDate, cursorId, orderDates, rowsByOrder);
+
+        LocalDateTime archivedThrough = orderArchiveService.getArchivedThrough();
+        // 원본 테이블에서 (size + 1)개를 채웠고 그 끝이 보관 기준보다 최근이면 보관된 주문은 이 페이지에 들어올 수 없음
+        boolean liveFilled = orderDates.size() > size
+                && archivedThrough != null && lastValue(orderDates).isAfter(archivedThrough);
+        if (!liveFilled && orderArchiveService.includesArchive(from)) {
+            Map<Long, LocalDateTime> archiveDates = new LinkedHashMap<>();
+            Map<Long, List<AdminOrderDto>> archiveRows = new LinkedHashMap<>();
+            readPage(ARCHIVE_TABLES, size, memberName, from, to, cursorDate, cursorId, archiveDates, archiveRows);
+            if (!archiveDates.isEmpty()) {
+                orderDates.putAll(archiveDates);
+                rowsByOrder.putAll(archiveRows);
+                List<Long> merged = new ArrayList<>(orderDates.keySet());
+                merged.sort(Comparator.comparing((Long id) -> orderDates.get(id)).thenComparing(id -> id).reversed());
+                Map<Long, List<AdminOrderDto>> sorted = new LinkedHashMap<>();
+                for (Long id : merged.subList(0, Math.min(merged.size(), size + 1))) {
+                    sorted.put(id, rowsByOrder.get(id));
+                }
+                orderDates.keySet().retainAll(sorted.keySet());
+                rowsByOrder = sorted;
+            }
+        }
+
+        boolean hasNext = orderDates.size() > size;
+        List<AdminOrderDto> content = new ArrayList<>();
+        Long lastOrderId = null;
+        int taken = 0;
+        for (Map.Entry<Long, List<AdminOrderDto>> entry : rowsByOrder.entrySet()) {
+            if (taken++ == size) {
+                break; // 다음 페이지 유무 확인용으로 더 읽은 주문
+            }
+            content.addAll(entry.getValue());
+            lastOrderId = entry.getKey();
+        }
+        return new AdminOrderPage(content, hasNext,
+                hasNext ? orderDates.get(lastOrderId) : null,
+                hasNext ? lastOrderId : null);
+    }
+
+    /** 주문 테이블 묶음(원본 또는 보관) 하나에서 (size + 1)개 주문과 아이템 행을 읽습니다. */
+    private void readPage(String[] tables, int size, String memberName, LocalDateTime from, LocalDateTime to,
+                          LocalDateTime cursorDate, Long cursorId,
+                          Map<Long, LocalDateTime> orderDates, Map<Long, List<AdminOrderDto>> rowsByOrder) {
+        StringBuilder pageSql = new StringBuilder("SELECT o2.id FROM ").append(tables[0]).append(" o2");
+        List<Object> args = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+
+        if (memberName != null) {
+            pageSql.append(" JOIN member m2 ON m2.member_id = o2.member_id");
+            conditions.add("m2.name LIKE ?");
+            args.add("%" + escapeLike(memberName) + "%");
+        }
+        if (from != null) {
+            conditions.add("o2.order_date >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            conditions.add("o2.order_date <= ?");
+            args.add(Timestamp.valueOf(to));
+        }
+        if (cursorDate != null && cursorId != null) {
+            // (order_date, id) < (cursorDate, cursorId) 를 인덱스 범위로 쓸 수 있는 형태로 풀어 씀
+            Timestamp cursor = Timestamp.valueOf(cursorDate);
+            conditions.add("o2.order_date <= ? AND (o2.order_date < ? OR o2.id < ?)");
+            args.add(cursor);
+            args.add(cursor);
+            args.add(cursorId);
+        }
+        if (!conditions.isEmpty()) {
+            pageSql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        pageSql.append(" ORDER BY o2.order_date DESC, o2.id DESC LIMIT ?");
+        args.add(size + 1);
+
+        String sql = String.format(SELECT_SQL, pageSql, tables[0], tables[1], tables[2], tables[3]);
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            Long orderId = rs.getLong("id");
+            LocalDateTime orderDate = rs.getTimestamp("order_date").toLocalDateTime();
+            orderDates.putIfAbsent(orderId, orderDate);
+            List<AdminOrderDto> rows = rowsByOrder.computeIfAbsent(orderId, key -> new ArrayList<>());
+
+            long orderItemId = rs.getLong("order_item_id");
+            if (rs.wasNull()) {
+                return; // 아이템 없는 주문은 행 없이 페이지 수에만 포함
+            }
+            BigDecimal orderPrice = rs.getBigDecimal("order_price");
+            int count = rs.getInt("count");
+            rows.add(AdminOrderDto.builder()
+                    .id(orderItemId)
+                    .orderId(orderId)
+                    .memberName(rs.getString("member_name"))
+                    .productName(rs.getString("product_name"))
+                    .quantity(count)
+                    .totalPrice(orderPrice.multiply(BigDecimal.valueOf(count)))
+                    .orderDate(orderDate.format(ORDER_DATE_FORMAT))
+                    .shippingAddress(toShippingAddress(rs.getString("deli_addr"), rs.getString("deli_addr_detail"),
+                            rs.getString("deli_zip_code")))
+                    .paymentMethod(rs.getString("payment_method"))
+                    .orderStatus(rs.getString("order_status"))
+                    .buyerAddr(rs.getString("buyer_addr"))
+                    .build());
+        }, args.toArray());
+    }
+
+    private static LocalDateTime lastValue(Map<Long, LocalDateTime> orderDates) {
+        LocalDateTime last = null;
+        for (LocalDateTime value : orderDates.values()) {
+            last = value;
+        }
+        return last;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static String toShippingAddress(String addr, String addrDetail, String zipcode) {
+        if (addr == null && addrDetail == null && zipcode == null) {
+            return "";
+        }
+        return addr + " " + addrDetail + " (" + zipcode + ")";
+    }
+
+    /**
+     * 주문 목록 한 페이지
+     *
+     * @param content        주문 아이템 단위 행
+     * @param hasNext        다음 페이지가 있는지
+     * @param nextCursorDate 다음 페이지 요청에 넘길 주문일시 (다음 페이지가 없으면 null)
+     * @param nextCursorId   다음 페이지 요청에 넘길 주문 ID (다음 페이지가 없으면 null)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AdminOrderPage {
+        private final List<AdminOrderDto> content;
+        private final boolean hasNext;
+        private final LocalDateTime nextCursorDate;
+        private final Long nextCursorId;
+    }
+}
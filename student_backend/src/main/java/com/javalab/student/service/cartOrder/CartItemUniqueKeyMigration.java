@@ -0,0 +1,65 @@
+package com.javalab.student.service.cartOrder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 장바구니 아이템 유니크 키(uk_cart_item_cart_product) 적용 (기동 시 1회)
+ *
+ * ddl-auto=update 는 같은 (cart_id, product_id) 행이 이미 여러 개 있으면 제약 추가에 실패하고 로그만 남긴 채 기동하므로,
+ * 키가 없으면 중복 행을 먼저 정리하고 직접 추가합니다.
+ * - 중복 행은 가장 작은 cart_item_id 한 행에 수량을 합치고 나머지는 삭제합니다.
+ * - 키가 이미 있으면 아무것도 하지 않습니다. (깨끗한 스키마는 ddl-auto 가 만든 키를 그대로 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartItemUniqueKeyMigration {
+
+    private static final String UNIQUE_KEY = "uk_cart_item_cart_product";
+
+    private static final String KEY_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'cart_item' AND index_name = ?";
+
+    private static final String MERGE_DUPLICATES_SQL =
+            "UPDATE cart_item ci JOIN (" +
+            "  SELECT MIN(cart_item_id) AS keep_id, SUM(quantity) AS total FROM cart_item " +
+            "  GROUP BY cart_id, product_id HAVING COUNT(*) > 1" +
+            ") d ON ci.cart_item_id = d.keep_id SET ci.quantity = d.total";
+
+    private static final String DELETE_DUPLICATES_SQL =
+            "DELETE ci FROM cart_item ci JOIN (" +
+            "  SELECT cart_id, product_id, MIN(cart_item_id) AS keep_id FROM cart_item " +
+            "  GROUP BY cart_id, product_id HAVING COUNT(*) > 1" +
+            ") d ON ci.cart_id = d.cart_id AND ci.product_id = d.product_id AND ci.cart_item_id <> d.keep_id";
+
+    private static final String ADD_KEY_SQL =
+            "ALTER TABLE cart_item ADD CONSTRAINT " + UNIQUE_KEY + " UNIQUE (cart_id, product_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void apply() {
+        try {
+            Integer keys = jdbcTemplate.queryForObject(KEY_EXISTS_SQL, Integer.class, UNIQUE_KEY);
+            if (keys != null && keys > 0) {
+                return;
+            }
+            Integer deleted = transactionTemplate.execute(status -> {
+                jdbcTemplate.update(MERGE_DUPLICATES_SQL);
+                return jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+            });
+            jdbcTemplate.execute(ADD_KEY_SQL);
+            log.info("장바구니 아이템 유니크 키 추가 완료 - 정리한 중복 행: {}", deleted);
+        } catch (Exception e) {
+            log.error("장바구니 아이템 유니크 키 추가 실패 - 중복 (cart_id, product_id) 행을 확인하세요: {}", e.getMessage());
+        }
+    }
+}
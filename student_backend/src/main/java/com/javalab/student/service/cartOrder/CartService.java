@@ -3,13 +3,8 @@ package com.javalab.student.service.cartOrder;
 import com.javalab.student.dto.cartOrder.CartDetailDto;
 import com.javalab.student.dto.cartOrder.CartItemDto;
 import com.javalab.student.entity.Member;
-import com.javalab.student.entity.cartOrder.Cart;
-import com.javalab.student.entity.cartOrder.CartItem;
 import com.javalab.student.entity.product.Product;
-import com.javalab.student.entity.product.ProductImg;
 import com.javalab.student.repository.MemberRepository;
-import com.javalab.student.repository.cartOrder.CartItemRepository;
-import com.javalab.student.repository.cartOrder.CartRepository;
 import com.javalab.student.repository.product.ProductRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -17,67 +12,43 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * 장바구니 관련 기능을 제공하는 서비스 클래스
  * 장바구니에 상품 추가, 목록 조회, 수정, 삭제 등의 기능을 수행한다.
+ * - 장바구니 자체는 Redis(RedisCartStore)에서 읽고 쓰며, DB 반영은 RedisCartStore 가 모아서 비동기로 처리합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class CartService {
 
     private final ProductRepository productRepository;
     private final MemberRepository memberRepository;
-    private final CartRepository cartRepository;
-    private final CartItemRepository cartItemRepository;
+    private final RedisCartStore redisCartStore;
 
     /**
      * 장바구니에 상품을 추가하는 메서드
+     * - 상품 존재 여부와 재고는 호출 전에 checkStock 으로 확인합니다.
      *
      * @param cartItemDto 장바구니에 추가할 상품 정보 DTO
      * @param email 현재 사용자의 이메일
      * @return 추가된 장바구니 아이템의 ID
-     * @throws EntityNotFoundException 상품 또는 회원을 찾을 수 없을 경우 발생
+     * @throws IllegalArgumentException 수량이 1 미만인 경우 (Redis 스크립트는 음수 수량을 처리하지 않음)
+     * @throws EntityNotFoundException 회원을 찾을 수 없을 경우 발생
      */
-    @Transactional
     public Long addCart(CartItemDto cartItemDto, String email) {
+        if (cartItemDto.getQuantity() < 1) {
+            throw new IllegalArgumentException("수량은 1개 이상이어야 합니다. 수량: " + cartItemDto.getQuantity());
+        }
         try {
-            // 상품 조회
-            Product product = productRepository.findById(cartItemDto.getProductId())
-                    .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다. ID: " + cartItemDto.getProductId()));
-
-            // 회원 조회
-            Member member = memberRepository.findByEmail(email);
-            if (member == null) {
-                throw new EntityNotFoundException("회원을 찾을 수 없습니다. Email: " + email);
-            }
-
-            // 회원의 장바구니를 조회하거나 새로 생성
-            Cart cart = cartRepository.findByMemberId(member.getId())
-                    .orElseGet(() -> {
-                        Cart newCart = Cart.createCart(member);
-                        return cartRepository.save(newCart);
-                    });
-
-            // 장바구니에 이미 같은 상품이 있는지 확인
-            CartItem savedCartItem = cartItemRepository.findByCartIdAndProductId(cart.getId(), product.getId());
-
-            if (savedCartItem != null) {
-                // 이미 있다면 수량만 증가
-                savedCartItem.addQuantity(cartItemDto.getQuantity());
-                return savedCartItem.getId();
-            } else {
-                // 없다면 새로운 CartItem 생성
-                CartItem cartItem = CartItem.createCartItem(cart, product, cartItemDto.getQuantity());
-                cartItemRepository.save(cartItem);
-                return cartItem.getId();
-            }
+            return redisCartStore.add(email, cartItemDto.getProductId(), cartItemDto.getQuantity());
         } catch (Exception e) {
             // 로그에 에러 메시지 출력
             log.error("장바구니에 상품을 추가하는 중 오류 발생: " + e.getMessage(), e);
@@ -86,29 +57,54 @@ public class CartService {
     }
 
     /**
-     * 장바구니 목록을 조회하는 메서드
+     * 장바구니에 여러 상품을 한 번에 추가하는 메서드
+     * - 재고는 요청한 상품 전체를 한 번의 조회로 확인하고, 담기는 Redis 스크립트 한 번으로 처리합니다. (전부 담기거나 하나도 안 담김)
+     * - 같은 상품이 여러 줄이면 수량을 합쳐 재고를 확인합니다.
      *
+     * @param cartItemDtos 장바구니에 추가할 상품 정보 DTO 목록
      * @param email 현재 사용자의 이메일
-     * @return 장바구니 상세 정보 DTO 리스트
+     * @return 요청 순서대로 추가된 장바구니 아이템 ID 목록
+     * @throws IllegalArgumentException 요청이 비어 있거나 재고가 부족한 경우
+     * @throws EntityNotFoundException 상품이나 회원을 찾을 수 없을 경우 발생
      */
-    @Transactional(readOnly = true)
-    public List<CartDetailDto> getCartList(String email) {
-        // Member member = memberRepository.findByEmail(email); // 불필요한 DB 조회 제거
-
-        // 이메일로 Member ID를 조회
-        // Member member = memberRepository.findByEmail(email); // 불필요한 DB 조회 <-- 삭제!
-        // Long memberId = member.getId(); // Member ID 얻기  <-- 삭제!
-
-        // Cart cart = cartRepository.findByMemberId(memberId).orElse(null); // Member ID로 Cart 조회 <-- memberId 관련 코드 삭제!
+    public List<Long> addCarts(List<CartItemDto> cartItemDtos, String email) {
+        if (cartItemDtos == null || cartItemDtos.isEmpty()) {
+            throw new IllegalArgumentException("추가할 상품이 없습니다.");
+        }
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (CartItemDto cartItemDto : cartItemDtos) {
+            if (cartItemDto.getProductId() == null || cartItemDto.getQuantity() <= 0) {
+                throw new IllegalArgumentException("상품 ID 와 수량을 확인하세요. 상품 ID: " + cartItemDto.getProductId());
+            }
+            quantities.merge(cartItemDto.getProductId(), cartItemDto.getQuantity(), Integer::sum);
+        }
 
-        Member member = memberRepository.findByEmail(email);
+        Map<Long, Integer> stocks = new HashMap<>();
+        for (Object[] row : productRepository.findCartRowsByIds(quantities.keySet())) {
+            stocks.put((Long) row[0], ((Number) row[3]).intValue());
+        }
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Integer stock = stocks.get(entry.getKey());
+            if (stock == null) {
+                throw new EntityNotFoundException("상품을 찾을 수 없습니다. ID: " + entry.getKey());
+            }
+            if (stock < entry.getValue()) {
+                throw new IllegalArgumentException("재고가 부족합니다. 상품 ID: " + entry.getKey());
+            }
+        }
 
-        Cart cart = cartRepository.findByMemberId(member.getId()).orElse(null);
+        Map<Long, Long> cartItemIds = redisCartStore.addAll(email, quantities);
+        return cartItemDtos.stream().map(cartItemDto -> cartItemIds.get(cartItemDto.getProductId())).toList();
+    }
 
-        if (cart == null) {
-            return new ArrayList<>();
-        }
-        return getCartDetailList(cart.getId());
+    /**
+     * 장바구니 목록을 조회하는 메서드
+     *
+     * @param email 현재 사용자의 이메일
+     * @return 장바구니 상세 정보 DTO 리스트
+     */
+    public List<CartDetailDto> getCartList(String email) {
+        return toCartDetails(redisCartStore.getLines(email));
     }
 
     /**
@@ -117,15 +113,9 @@ public class CartService {
      * @param cartItemId 확인할 장바구니 아이템 ID
      * @param email 현재 사용자의 이메일
      * @return 현재 사용자가 장바구니 아이템의 소유자인지 여부
-     * @throws EntityNotFoundException 장바구니 아이템을 찾을 수 없을 경우 발생
      */
-    @Transactional(readOnly = true)
     public boolean validateCartItem(Long cartItemId, String email) {
-        Member curMember = memberRepository.findByEmail(email);
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new EntityNotFoundException("장바구니 아이템을 찾을 수 없습니다."));
-        Member savedMember = cartItem.getCart().getMember();
-        return curMember.getEmail().equals(savedMember.getEmail());
+        return redisCartStore.getLine(email, cartItemId) != null;
     }
 
     /**
@@ -133,26 +123,26 @@ public class CartService {
      *
      * @param cartItemId 업데이트할 장바구니 아이템 ID
      * @param quantity 새로운 수량
+     * @param email 현재 사용자의 이메일
+     * @throws IllegalArgumentException 수량이 1 미만인 경우 (Redis 스크립트는 음수 수량을 처리하지 않음)
      * @throws EntityNotFoundException 장바구니 아이템을 찾을 수 없을 경우 발생
      */
-    @Transactional
-    public void updateCartItemCount(Long cartItemId, int quantity) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new EntityNotFoundException("장바구니 아이템을 찾을 수 없습니다."));
-        cartItem.updateQuantity(quantity);
-        cartItemRepository.save(cartItem);
+    public void updateCartItemCount(Long cartItemId, int quantity, String email) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("수량은 1개 이상이어야 합니다. 수량: " + quantity);
+        }
+        redisCartStore.updateQuantity(email, cartItemId, quantity);
     }
 
     /**
      * 장바구니 아이템을 삭제하는 메서드
      *
      * @param cartItemId 삭제할 장바구니 아이템 ID
+     * @param email 현재 사용자의 이메일
      * @throws EntityNotFoundException 장바구니 아이템을 찾을 수 없을 경우 발생
      */
-    public void deleteCartItem(Long cartItemId) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new EntityNotFoundException("장바구니 아이템을 찾을 수 없습니다."));
-        cartItemRepository.delete(cartItem);
+    public void deleteCartItem(Long cartItemId, String email) {
+        redisCartStore.remove(email, cartItemId);
     }
 
     /**
@@ -174,42 +164,28 @@ public class CartService {
      * 장바구니 아이템 ID로 상품 ID를 조회하는 메서드
      *
      * @param cartItemId 조회할 장바구니 아이템 ID
+     * @param email 현재 사용자의 이메일
      * @return 상품 ID
      * @throws EntityNotFoundException 장바구니 아이템을 찾을 수 없을 경우 발생
      */
-    @Transactional(readOnly = true)
-    public Long getItemIdByCartItemId(Long cartItemId) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new EntityNotFoundException("장바구니 아이템을 찾을 수 없습니다."));
-        return cartItem.getProduct().getId();
+    public Long getItemIdByCartItemId(Long cartItemId, String email) {
+        return getLine(cartItemId, email).getProductId();
     }
 
     /**
      * 장바구니 아이템의 상세 정보를 조회하는 메서드
      *
      * @param cartItemId 조회할 장바구니 아이템 ID
+     * @param email 현재 사용자의 이메일
      * @return 장바구니 상세 정보 DTO
      * @throws EntityNotFoundException 장바구니 아이템을 찾을 수 없을 경우 발생
      */
-    @Transactional(readOnly = true)
-    public CartDetailDto getCartItemDetail(Long cartItemId) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new EntityNotFoundException("장바구니 아이템을 찾을 수 없습니다. ID: " + cartItemId));
-
-        Product product = cartItem.getProduct();
-        String imageUrl = product.getProductImgList().stream()
-                .filter(img -> "대표".equals(img.getImageType()))
-                .findFirst()
-                .map(ProductImg::getImageUrl)
-                .orElse(null);
-
-        return CartDetailDto.builder()
-                .cartItemId(cartItem.getId())
-                .name(product.getName())
-                .quantity(cartItem.getQuantity())
-                .price(product.getPrice())
-                .imageUrl(imageUrl)
-                .build();
+    public CartDetailDto getCartItemDetail(Long cartItemId, String email) {
+        List<CartDetailDto> details = toCartDetails(List.of(getLine(cartItemId, email)));
+        if (details.isEmpty()) {
+            throw new EntityNotFoundException("장바구니 아이템을 찾을 수 없습니다. ID: " + cartItemId);
+        }
+        return details.get(0);
     }
 
 
@@ -219,41 +195,50 @@ public class CartService {
      * @param memberId 비울 장바구니의 회원 ID
      */
     public void clearCart(Long memberId) {
-        Optional<Cart> optionalCart = cartRepository.findByMemberId(memberId);
-        if (optionalCart.isPresent()) {
-            Cart cart = optionalCart.get();
-            List<CartItem> cartItems = cartItemRepository.findByCartId(cart.getId());
-            cartItemRepository.deleteAll(cartItems);
+        Member member = memberRepository.findById(memberId).orElse(null);
+        if (member != null) {
+            redisCartStore.clear(member.getEmail());
         } else {
-            log.warn("clearCart - 해당 memberId {} 에 대한 장바구니가 존재하지 않습니다.", memberId);
+            log.warn("clearCart - 해당 memberId {} 에 대한 회원이 존재하지 않습니다.", memberId);
         }
     }
 
+    private RedisCartStore.CartLine getLine(Long cartItemId, String email) {
+        RedisCartStore.CartLine line = redisCartStore.getLine(email, cartItemId);
+        if (line == null) {
+            throw new EntityNotFoundException("장바구니 아이템을 찾을 수 없습니다. ID: " + cartItemId);
+        }
+        return line;
+    }
+
     /**
-     * 장바구니 상세 정보 DTO 리스트를 조회하는 메서드
-     *
-     * @param cartId 장바구니 ID
-     * @return 장바구니 상세 정보 DTO 리스트
+     * 장바구니 아이템에 상품 정보(이름, 가격, 재고, 대표 이미지)를 붙여 DTO 로 만듭니다. (삭제된 상품은 제외)
+     * - 상품 정보는 장바구니 상품 ID 전체에 대해 한 번의 프로젝션 쿼리로 읽습니다. (대표 이미지는 product.main_image_url 컬럼)
      */
-    public List<CartDetailDto> getCartDetailList(Long cartId) {
-        List<CartItem> cartItems = cartItemRepository.findByCartId(cartId);
-        return cartItems.stream()
-                .map(cartItem -> {
-                    Product product = cartItem.getProduct();
-                    String imageUrl = product.getProductImgList().stream()
-                            .filter(img -> "대표".equals(img.getImageType()))
-                            .findFirst()
-                            .map(ProductImg::getImageUrl)
-                            .orElse(null);
-
-                    return CartDetailDto.builder()
-                            .cartItemId(cartItem.getId())
-                            .name(product.getName())
-                            .quantity(cartItem.getQuantity())
-                            .price(product.getPrice())
-                            .imageUrl(imageUrl)
-                            .build();
-                })
-                .collect(Collectors.toList());
+    private List<CartDetailDto> toCartDetails(List<RedisCartStore.CartLine> lines) {
+        if (lines.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> productIds = lines.stream().map(RedisCartStore.CartLine::getProductId).distinct().toList();
+        Map<Long, Object[]> products = new HashMap<>();
+        for (Object[] row : productRepository.findCartRowsByIds(productIds)) {
+            products.put((Long) row[0], row);
+        }
+        List<CartDetailDto> details = new ArrayList<>(lines.size());
+        for (RedisCartStore.CartLine line : lines) {
+            Object[] product = products.get(line.getProductId());
+            if (product == null) {
+                continue;
+            }
+            details.add(CartDetailDto.builder()
+                    .cartItemId(line.getCartItemId())
+                    .name((String) product[1])
+                    .quantity(line.getQuantity())
+                    .price((BigDecimal) product[2])
+                    .stock(((Number) product[3]).intValue())
+                    .imageUrl((String) product[4])
+                    .build());
+        }
+        return details;
     }
 }
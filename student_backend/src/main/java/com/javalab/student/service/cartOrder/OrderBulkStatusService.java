@@ -0,0 +1,358 @@
+package com.javalab.student.service.cartOrder;
+
+import com.javalab.student.constant.OrderStatus;
+import com.javalab.student.dto.cartOrder.OrderBulkStatusResultDto;
+import com.javalab.student.dto.cartOrder.OrderBulkStatusRowDto;
+import com.javalab.student.service.product.bulk.CsvReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 상태/운송장 일괄 변경 서비스 (관리자 출고 처리)
+ *
+ * - 요청 전체를 먼저 메모리에서 검증(필수 값, 중복 주문, 주문 취소 여부)한 뒤 500 건씩 나눠 묶음마다 트랜잭션을 커밋합니다.
+ * - 묶음마다 주문 ID, 상태, 운송장 번호만 한 번의 SELECT ... FOR UPDATE 로 읽고, 상태 전이를 메모리에서 검사합니다.
+ *   (주문 아이템/결제/배송지 등 연관 엔티티는 읽지 않음)
+ * - 운송장 없이 상태만 바꾸는 행은 바꿀 상태별로 UPDATE ... WHERE id IN (...) 한 번에, 운송장을 함께 바꾸는 행은 JDBC 배치 UPDATE 로 씁니다.
+ * - 묶음 쓰기가 실패하면 그 묶음의 행만 실패로 보고하고 다음 묶음을 계속 처리합니다.
+ *
+ * 주문 취소는 재고 복원/매출 차감이 함께 필요하므로 일괄 변경에서 받지 않습니다. (주문별 취소 API 사용)
+ * 허용하는 상태 전이는 모두 매출 집계 대상 상태(결제 완료 이후) 사이의 전이라 매출 집계는 바뀌지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderBulkStatusService {
+
+    public static final List<String> CSV_HEADER = List.of("orderId", "status", "waybillNum", "parcelCd");
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_ROWS = 10_000;
+    private static final int MAX_WAYBILL_LENGTH = 255;
+
+    /** 일괄 변경에서 허용하는 상태 전이 (출고 흐름 순방향만) */
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+    /** 상태는 그대로 두고 운송장만 바꿀 수 있는 상태 */
+    private static final Set<OrderStatus> WAYBILL_EDITABLE = EnumSet.of(
+            OrderStatus.PAYMENT_COMPLETED, OrderStatus.PREPARING_SHIPMENT, OrderStatus.IN_TRANSIT, OrderStatus.DELIVERED);
+
+    static {
+        TRANSITIONS.put(OrderStatus.PAYMENT_COMPLETED, EnumSet.of(OrderStatus.PREPARING_SHIPMENT, OrderStatus.IN_TRANSIT));
+        TRANSITIONS.put(OrderStatus.PREPARING_SHIPMENT, EnumSet.of(OrderStatus.IN_TRANSIT));
+        TRANSITIONS.put(OrderStatus.IN_TRANSIT, EnumSet.of(OrderStatus.DELIVERED));
+        TRANSITIONS.put(OrderStatus.DELIVERED, EnumSet.of(OrderStatus.RETURN_REQUESTED, OrderStatus.ORDER_COMPLETED));
+        TRANSITIONS.put(OrderStatus.RETURN_REQUESTED, EnumSet.of(OrderStatus.ORDER_COMPLETED));
+    }
+
+    private static final String UPDATE_STATUS_SQL = "UPDATE orders SET order_status = ? WHERE id IN (%s)";
+    private static final String UPDATE_STATUS_AND_WAYBILL_SQL =
+            "UPDATE orders SET order_status = ?, waybill_num = COALESCE(?, waybill_num), parcel_cd = COALESCE(?, parcel_cd) " +
+            "WHERE id = ?";
+    private static final String LOCK_SQL = "SELECT id, order_status, waybill_num FROM orders WHERE id IN (%s) FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 주문 상태/운송장 일괄 변경 (JSON)
+     *
+     * @param rows 변경할 주문 목록 (최대 10,000 건)
+     * @return 행 단위 결과
+     * @throws IllegalArgumentException 목록이 비었거나 최대 건수를 넘은 경우
+     */
+    public OrderBulkStatusResultDto update(List<OrderBulkStatusRowDto> rows) {
+        if (rows == null || rows.isEmpty()) {
+            throw new IllegalArgumentException("변경할 주문이 없습니다.");
+        }
+        List<Row> parsed = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            OrderBulkStatusRowDto dto = rows.get(i);
+            parsed.add(dto == null
+                    ? Row.failed(i + 1, null, "빈 행입니다.")
+                    : new Row(i + 1, dto.getOrderId(), dto.getStatus(), trimToNull(dto.getWaybillNum()), trimToNull(dto.getParcelCd())));
+        }
+        return apply(parsed);
+    }
+
+    /**
+     * 주문 상태/운송장 일괄 변경 (CSV)
+     * - 첫 줄은 헤더이며 CSV_HEADER 의 열 이름을 사용합니다. (순서/대소문자 무관, orderId 는 필수)
+     *
+     * @param in CSV 입력 스트림 (UTF-8)
+     * @return 행 단위 결과 (row 는 CSV 줄 번호)
+     * @throws IllegalArgumentException 헤더가 잘못되었거나 최대 건수를 넘은 경우
+     */
+    public OrderBulkStatusResultDto updateCsv(InputStream in) throws IOException {
+        CsvReader reader = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("빈 CSV 파일입니다.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).replace("\uFEFF", "").trim().toLowerCase(), i);
+        }
+        if (!columns.containsKey("orderid")) {
+            throw new IllegalArgumentException("CSV 헤더에 orderId 열이 필요합니다.");
+        }
+
+        List<Row> parsed = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            if (parsed.size() >= MAX_ROWS) {
+                throw new IllegalArgumentException("한 번에 최대 " + MAX_ROWS + "건까지 변경할 수 있습니다.");
+            }
+            long row = reader.getRecordLine();
+            String orderId = column(record, columns, "orderid");
+            try {
+                parsed.add(new Row(row, parseOrderId(orderId), parseStatus(column(record, columns, "status")),
+                        column(record, columns, "waybillnum"), column(record, columns, "parcelcd")));
+            } catch (IllegalArgumentException e) {
+                parsed.add(Row.failed(row, null, e.getMessage()));
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("변경할 주문이 없습니다.");
+        }
+        return apply(parsed);
+    }
+
+    private OrderBulkStatusResultDto apply(List<Row> rows) {
+        if (rows.size() > MAX_ROWS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_ROWS + "건까지 변경할 수 있습니다.");
+        }
+        long started = System.currentTimeMillis();
+
+        // 1. DB 를 읽지 않고 검사할 수 있는 오류
+        Set<Long> seen = new HashSet<>();
+        List<Row> pending = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (row.result != null) {
+                continue;
+            }
+            String error = validate(row, seen);
+            if (error != null) {
+                row.fail(null, error);
+            } else {
+                pending.add(row);
+            }
+        }
+
+        // 2. 묶음마다 잠금 → 전이 검사 → UPDATE (묶음마다 커밋)
+        for (int from = 0; from < pending.size(); from += CHUNK_SIZE) {
+            List<Row> chunk = pending.subList(from, Math.min(from + CHUNK_SIZE, pending.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyChunk(chunk));
+            } catch (DataAccessException e) {
+                log.error("주문 상태 일괄 변경 묶음 실패 - 주문 ID {} ~ {}", chunk.get(0).orderId,
+                        chunk.get(chunk.size() - 1).orderId, e);
+                for (Row row : chunk) {
+                    row.fail(null, "저장 실패: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+
+        List<OrderBulkStatusResultDto.RowResult> results = new ArrayList<>(rows.size());
+        long updated = 0;
+        for (Row row : rows) {
+            results.add(row.result);
+            if (row.result.isSuccess()) {
+                updated++;
+            }
+        }
+        log.info("주문 상태 일괄 변경 - 전체: {}, 성공: {}, 실패: {}, 소요: {}ms",
+                rows.size(), updated, rows.size() - updated, System.currentTimeMillis() - started);
+        return OrderBulkStatusResultDto.builder()
+                .totalRows(rows.size())
+                .updated(updated)
+                .failed(rows.size() - updated)
+                .results(results)
+                .build();
+    }
+
+    private static String validate(Row row, Set<Long> seen) {
+        if (row.orderId == null) {
+            return "주문 ID 가 없습니다.";
+        }
+        if (row.status == null && row.waybillNum == null && row.parcelCd == null) {
+            return "변경할 상태나 운송장 번호가 없습니다.";
+        }
+        if (row.status == OrderStatus.CANCELED) {
+            return "주문 취소는 일괄 변경할 수 없습니다. 주문 취소 API 를 사용하세요.";
+        }
+        if ((row.waybillNum != null && row.waybillNum.length() > MAX_WAYBILL_LENGTH)
+                || (row.parcelCd != null && row.parcelCd.length() > MAX_WAYBILL_LENGTH)) {
+            return "운송장 번호/택배사 코드는 " + MAX_WAYBILL_LENGTH + "자 이하여야 합니다.";
+        }
+        if (!seen.add(row.orderId)) {
+            return "같은 주문이 앞 행에 이미 있습니다.";
+        }
+        return null;
+    }
+
+    /** 묶음 하나를 처리합니다. (트랜잭션 안에서 호출) */
+    private void applyChunk(List<Row> chunk) {
+        List<Object> ids = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            ids.add(row.orderId);
+        }
+        Map<Long, Current> currents = new HashMap<>();
+        jdbcTemplate.query(String.format(LOCK_SQL, placeholders(ids.size())), (RowCallbackHandler) rs ->
+                currents.put(rs.getLong("id"), new Current(OrderStatus.valueOf(rs.getString("order_status")),
+                        rs.getString("waybill_num"))), ids.toArray());
+
+        Map<OrderStatus, List<Object>> statusOnly = new EnumMap<>(OrderStatus.class);
+        List<Row> withWaybill = new ArrayList<>();
+        for (Row row : chunk) {
+            Current current = currents.get(row.orderId);
+            if (current == null) {
+                row.fail(null, "주문을 찾을 수 없습니다.");
+                continue;
+            }
+            OrderStatus target = row.status != null ? row.status : current.status;
+            String error = checkTransition(current, target, row);
+            if (error != null) {
+                row.fail(current.status, error);
+                continue;
+            }
+            if (row.waybillNum != null || row.parcelCd != null) {
+                withWaybill.add(row);
+            } else if (target != current.status) {
+                statusOnly.computeIfAbsent(target, key -> new ArrayList<>()).add(row.orderId);
+            }
+            row.succeed(current.status, target);
+        }
+
+        statusOnly.forEach((status, orderIds) -> {
+            List<Object> args = new ArrayList<>(orderIds.size() + 1);
+            args.add(status.name());
+            args.addAll(orderIds);
+            jdbcTemplate.update(String.format(UPDATE_STATUS_SQL, placeholders(orderIds.size())), args.toArray());
+        });
+        if (!withWaybill.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_STATUS_AND_WAYBILL_SQL, withWaybill, withWaybill.size(), (ps, row) -> {
+                ps.setString(1, row.result.getStatus().name());
+                ps.setString(2, row.waybillNum);
+                ps.setString(3, row.parcelCd);
+                ps.setLong(4, row.orderId);
+            });
+        }
+    }
+
+    /**
+     * 상태 전이를 검사합니다.
+     *
+     * @return 오류 메시지 (변경 가능하면 null)
+     */
+    private static String checkTransition(Current current, OrderStatus target, Row row) {
+        if (target == current.status) {
+            if ((row.waybillNum != null || row.parcelCd != null) && !WAYBILL_EDITABLE.contains(current.status)) {
+                return current.status + " 상태의 주문은 운송장을 바꿀 수 없습니다.";
+            }
+        } else if (!TRANSITIONS.getOrDefault(current.status, Set.of()).contains(target)) {
+            return current.status + " 에서 " + target + " 로 변경할 수 없습니다.";
+        }
+        if (target == OrderStatus.IN_TRANSIT && row.waybillNum == null && current.waybillNum == null) {
+            return "배송중으로 변경하려면 운송장 번호가 필요합니다.";
+        }
+        return null;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        return trimToNull(record.get(index));
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static Long parseOrderId(String value) {
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("orderId 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static OrderStatus parseStatus(String value) {
+        try {
+            return value == null ? null : OrderStatus.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 주문 상태입니다: " + value);
+        }
+    }
+
+    /** 잠금 조회한 주문의 현재 값 */
+    private static final class Current {
+        private final OrderStatus status;
+        private final String waybillNum;
+
+        private Current(OrderStatus status, String waybillNum) {
+            this.status = status;
+            this.waybillNum = waybillNum;
+        }
+    }
+
+    /** 요청 한 행과 처리 결과 */
+    private static final class Row {
+        private final long row;
+        private final Long orderId;
+        private final OrderStatus status;
+        private final String waybillNum;
+        private final String parcelCd;
+        private OrderBulkStatusResultDto.RowResult result;
+
+        private Row(long row, Long orderId, OrderStatus status, String waybillNum, String parcelCd) {
+            this.row = row;
+            this.orderId = orderId;
+            this.status = status;
+            this.waybillNum = waybillNum;
+            this.parcelCd = parcelCd;
+        }
+
+        private static Row failed(long row, Long orderId, String message) {
+            Row failed = new Row(row, orderId, null, null, null);
+            failed.fail(null, message);
+            return failed;
+        }
+
+        private void fail(OrderStatus previousStatus, String message) {
+            this.result = new OrderBulkStatusResultDto.RowResult(row, orderId, false, previousStatus, null, message);
+        }
+
+        private void succeed(OrderStatus previousStatus, OrderStatus newStatus) {
+            this.result = new OrderBulkStatusResultDto.RowResult(row, orderId, true, previousStatus, newStatus, null);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.javalab.student.service.cartOrder;
+
+import com.javalab.student.entity.cartOrder.Address;
+import com.javalab.student.entity.cartOrder.Order;
+import com.javalab.student.entity.cartOrder.OrderItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 저장기 (주문 생성 전용)
+ *
+ * 주문 한 건을 JDBC 로 저장합니다.
+ * - 주문(orders) 1문장, 주문 아이템(order_item) 1배치, 배송 주소(address) 1문장으로 아이템 수와 관계없이 왕복 횟수가 고정됩니다.
+ *   (IDENTITY 키 엔티티는 Hibernate 가 INSERT 를 묶어 보내지 않으므로 직접 배치로 보냄)
+ * - 생성된 키를 전달받은 Order/OrderItem/Address 객체에 채워 줍니다. 이 객체들은 영속성 컨텍스트에 올라가지 않으므로
+ *   같은 트랜잭션에서 다시 저장(save)하지 말고, 이후 변경은 ID 로 다시 조회해서 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderPlacementWriter {
+
+    private static final String INSERT_ORDER_SQL =
+            "INSERT INTO orders (member_id, order_date, order_status, order_amount, payment_method) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ORDER_ITEM_SQL =
+            "INSERT INTO order_item (order_id, product_id, order_price, count, reg_time, update_time, created_by, modified_by) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ADDRESS_SQL =
+            "INSERT INTO address (order_id, deli_name, deli_phone, deli_addr, deli_addr_detail, deli_zip_code, deli_memo) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주문과 주문 아이템, 배송 주소를 저장하고 생성된 ID 를 채웁니다.
+     *
+     * @param order   저장할 주문 (member, orderDate, orderStatus, amount, paymentMethod, orderItems 필요)
+     * @param address 배송 주소 (없으면 null)
+     * @param email   작성자 (주문 아이템의 created_by/modified_by)
+     */
+    public void insert(Order order, Address address, String email) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        KeyHolder orderKey = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_ORDER_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, order.getMember().getId());
+            ps.setTimestamp(2, Timestamp.valueOf(order.getOrderDate()));
+            ps.setString(3, order.getOrderStatus().name());
+            ps.setBigDecimal(4, order.getAmount());
+            ps.setString(5, order.getPaymentMethod());
+            return ps;
+        }, orderKey);
+        order.setId(orderKey.getKey().longValue());
+
+        List<OrderItem> orderItems = order.getOrderItems();
+        KeyHolder itemKeys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_ORDER_ITEM_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        OrderItem orderItem = orderItems.get(i);
+                        ps.setLong(1, order.getId());
+                        ps.setLong(2, orderItem.getProduct().getId());
+                        ps.setBigDecimal(3, orderItem.getOrderPrice());
+                        ps.setInt(4, orderItem.getCount());
+                        ps.setTimestamp(5, now);
+                        ps.setTimestamp(6, now);
+                        ps.setString(7, email);
+                        ps.setString(8, email);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return orderItems.size();
+                    }
+                }, itemKeys);
+        List<Map<String, Object>> keys = itemKeys.getKeyList();
+        for (int i = 0; i < orderItems.size() && i < keys.size(); i++) {
+            Object key = keys.get(i).values().iterator().next();
+            orderItems.get(i).setId(((Number) key).longValue());
+        }
+
+        if (address != null) {
+            KeyHolder addressKey = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_ADDRESS_SQL, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, order.getId());
+                ps.setString(2, address.getName());
+                ps.setString(3, address.getPhone());
+                ps.setString(4, address.getAddr());
+                ps.setString(5, address.getAddrDetail());
+                ps.setString(6, address.getZipcode());
+                ps.setString(7, address.getMemo());
+                return ps;
+            }, addressKey);
+            address.setId(addressKey.getKey().longValue());
+            address.setOrder(order);
+            order.setAddress(address);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.javalab.student.service.cartOrder;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * 결제 처리 결과
+ * - body: 응답 데이터 (결제 ID, imp_uid, 주문 ID, 금액, 결제 수단, 상태, 결제 시각)
+ * - replayed: 이미 처리된 결제를 다시 요청해 기록된 결과를 돌려준 경우 true (구독 처리 등 후속 작업을 다시 하지 않음)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PaymentResult {
+
+    private final Map<String, Object> body;
+    private final boolean replayed;
+}
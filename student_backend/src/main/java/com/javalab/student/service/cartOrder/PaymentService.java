@@ -1,10 +1,11 @@
 package com.javalab.student.service.cartOrder;
 
 import com.javalab.student.constant.OrderStatus;
+import com.javalab.student.constant.OutboxEventType;
 import com.javalab.student.constant.PayStatus;
+import com.javalab.student.dto.Subscription.SubscriptionUpdateNextItemDto;
 import com.javalab.student.dto.cartOrder.OrderDto;
 import com.javalab.student.dto.cartOrder.PaymentRequestDto;
-import com.javalab.student.dto.cartOrder.AdminOrderDto;
 import com.javalab.student.entity.Member;
 import com.javalab.student.entity.subscription.Subscription;
 import com.javalab.student.entity.subscription.SubscriptionNextItem;
@@ -14,31 +15,31 @@ import com.javalab.student.repository.MemberRepository;
 import com.javalab.student.repository.SubscriptionNextItemRepository;
 import com.javalab.student.repository.SubscriptionRepository;
 import com.javalab.student.repository.cartOrder.*;
-import com.siot.IamportRestClient.IamportClient;
-import com.siot.IamportRestClient.exception.IamportResponseException;
-import com.siot.IamportRestClient.response.IamportResponse;
+import com.javalab.student.repository.product.ProductRepository;
+import com.javalab.student.service.cartOrder.outbox.CartClearPayload;
+import com.javalab.student.service.cartOrder.outbox.OutboxService;
+import com.javalab.student.service.cartOrder.outbox.SubscriptionApplyPayload;
+import com.javalab.student.service.cartOrder.pg.PaymentGateway;
+import com.javalab.student.service.cartOrder.pg.PaymentGatewayException;
+import com.javalab.student.service.cartOrder.pg.PgPayment;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 /**
  * 결제 서비스 (포트원 SDK 적용)
  *
- * 포트원(Iamport) SDK를 사용하여 결제 처리 및 검증을 수행하는 서비스입니다.
+ * 포트원(Iamport) 결제 조회(PaymentGateway)를 사용하여 결제 처리 및 검증을 수행하는 서비스입니다.
  * 주문 생성, 결제 검증, 결제 정보 저장, 장바구니 비우기, 구독 처리 등의 기능을 제공합니다.
  */
 @Service
@@ -46,52 +47,259 @@ import java.util.*;
 @Slf4j
 public class PaymentService {
 
-    private final IamportClient iamportClient;
+    /** 관리자 주문 목록 한 페이지의 최대 주문 수 */
+    private static final int MAX_ADMIN_ORDER_PAGE_SIZE = 100;
+
+    private final PaymentGateway paymentGateway;
     private final OrderRepository orderRepository;
     private final PaymentRepository paymentRepository;
-    private final CartItemRepository cartItemRepository;
-    private final CartRepository cartRepository;
+    private final PaymentIdempotencyKeyRepository paymentIdempotencyKeyRepository;
     private final MemberRepository memberRepository;
     private final SubscriptionRepository subscriptionRepository;
     private final SubscriptionNextItemRepository subscriptionNextItemRepository;
+    private final StockReservationService stockReservationService;
+    private final ProductRepository productRepository;
+    private final DeliveryInfoRepository deliveryInfoRepository;
+    private final RedisCartStore redisCartStore;
+    private final OrderPlacementWriter orderPlacementWriter;
+    private final AdminOrderQuery adminOrderQuery;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
 
 
     /**
      * 결제를 처리하고 검증합니다.
      *
-     * @param requestDto   결제 요청 정보 (PaymentRequestDto)
-     * @param email        사용자 이메일
-     * @param purchaseType 구매 유형 ('oneTime' 또는 'subscription')
-     * @return 처리된 결제 정보 (Map<String, Object>)
-     * @throws EntityNotFoundException 해당 이메일로 멤버를 찾을 수 없거나, 장바구니를 찾을 수 없을 경우 예외 발생
+     * 두 단계로 처리합니다.
+     * 1. PG 결제 조회/검증: 트랜잭션 밖에서 제한 시간(payment.pg.timeout-ms) 안에 수행하므로 PG 응답을 기다리는 동안 DB 커넥션을 잡지 않습니다.
+     * 2. 결과 반영: 짧은 트랜잭션에서 재고 확정, 결제 저장, 주문 상태 변경을 수행하고
+     *    장바구니 비우기/구독 반영은 같은 트랜잭션에 아웃박스 이벤트로만 기록합니다. (커밋 후 OutboxRelay 가 처리)
+     * 같은 멱등 키(없으면 imp_uid)나 같은 imp_uid 로 다시 요청하면 처음 처리한 결과를 그대로 돌려줍니다.
+     * 동시에 같은 결제가 들어와도 imp_uid 유니크 제약과 멱등 키 Primary Key 로 한 요청만 커밋됩니다.
+     *
+     * @param requestDto     결제 요청 정보 (PaymentRequestDto)
+     * @param email          사용자 이메일
+     * @param purchaseType   구매 유형 ('oneTime' 또는 'subscription')
+     * @param idempotencyKey 클라이언트 멱등 키 (Idempotency-Key 헤더, 없으면 null)
+     * @return 처리 결과 (응답 데이터, 재요청 여부)
+     * @throws EntityNotFoundException 주문을 찾을 수 없을 경우 예외 발생
+     * @throws IllegalArgumentException 결제 검증 실패, 같은 멱등 키로 다른 결제를 요청한 경우
+     * @throws PaymentGatewayException PG 호출이 실패하거나 제한 시간을 넘긴 경우 (다시 시도 가능)
      */
-    @Transactional
-    public Map<String, Object> processPayment(PaymentRequestDto requestDto, String email, String purchaseType) {
+    public PaymentResult processPayment(PaymentRequestDto requestDto, String email, String purchaseType, String idempotencyKey) {
         log.info("🔹 결제 검증 시작: {}", requestDto);
+        if (requestDto.getImpUid() == null || requestDto.getImpUid().isBlank()) {
+            throw new IllegalArgumentException("❌ imp_uid 가 없습니다.");
+        }
+        String key = (idempotencyKey == null || idempotencyKey.isBlank())
+                ? "imp:" + requestDto.getImpUid() : idempotencyKey.trim();
+        if (key.length() > 120) {
+            throw new IllegalArgumentException("❌ 멱등 키는 120자 이하여야 합니다.");
+        }
+
+        // 1. 이미 처리된 결제면 기록된 결과 반환 (PG 조회 생략)
+        PaymentResult replay = findProcessed(key, requestDto.getImpUid());
+        if (replay != null) {
+            log.info("이미 처리된 결제 요청 - 멱등 키: {}, imp_uid: {}", key, requestDto.getImpUid());
+            return replay;
+        }
+
+        // 2. 포트원 API를 사용하여 결제 정보 조회 및 검증 (트랜잭션 밖)
+        verifyPayment(requestDto);
+
+        // 3. 검증된 결제 반영 (짧은 트랜잭션)
+        try {
+            return transactionTemplate.execute(status -> applyPayment(requestDto, email, key, purchaseType));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 결제가 동시에 처리되어 먼저 커밋된 쪽이 있는 경우
+            PaymentResult original = findProcessed(key, requestDto.getImpUid());
+            if (original != null) {
+                log.info("동시에 처리된 결제 요청 - 멱등 키: {}, imp_uid: {}", key, requestDto.getImpUid());
+                return original;
+            }
+            throw e;
+        }
+    }
 
-        // 1. 주문 정보 조회 (merchantUid는 주문 ID)
-        Order order = orderRepository.findById(Long.valueOf(requestDto.getMerchantUid()))
+    /**
+     * PG 웹훅으로 알려진 결제 완료를 반영합니다. (PgWebhookService 작업자가 PG 재조회 후 트랜잭션 밖에서 호출)
+     * - 클라이언트 결제 완료 요청과 같은 멱등 키(imp:{imp_uid})를 쓰므로 어느 쪽이 먼저 오든 결제는 한 번만 반영됩니다.
+     * - 클라이언트가 보낸 금액이 없으므로 PG 결제 금액을 주문 금액과 비교합니다.
+     *
+     * @param pgPayment PG 에서 다시 조회한 결제 정보 (status=paid)
+     * @return 이번에 반영했으면 true, 이미 반영된 결제면 false
+     * @throws EntityNotFoundException 주문을 찾을 수 없을 경우
+     * @throws IllegalArgumentException 주문 번호 형식이 잘못되었거나 결제 금액이 주문 금액과 다른 경우
+     * @throws IllegalStateException 주문에 다른 결제가 이미 반영된 경우
+     */
+    public boolean applyWebhookPayment(PgPayment pgPayment) {
+        String key = "imp:" + pgPayment.getImpUid();
+        if (findProcessed(key, pgPayment.getImpUid()) != null) {
+            return false;
+        }
+        PaymentRequestDto requestDto = PaymentRequestDto.builder()
+                .impUid(pgPayment.getImpUid())
+                .merchantUid(parseOrderId(pgPayment.getMerchantUid()))
+                .name(pgPayment.getName())
+                .paidAmount(pgPayment.getAmount())
+                .selectedPaymentMethod(pgPayment.getPayMethod())
+                .buyerEmail(pgPayment.getBuyerEmail())
+                .buyerName(pgPayment.getBuyerName())
+                .buyerTel(pgPayment.getBuyerTel())
+                .buyerAddr(pgPayment.getBuyerAddr())
+                .buyerPostcode(pgPayment.getBuyerPostcode())
+                .paidAt(pgPayment.getPaidAt())
+                .build();
+        try {
+            PaymentResult result = transactionTemplate.execute(status -> applyPayment(requestDto, null, key, null));
+            return result != null && !result.isReplayed();
+        } catch (DataIntegrityViolationException e) {
+            if (findProcessed(key, pgPayment.getImpUid()) != null) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * PG 웹훅으로 알려진 결제 취소를 반영합니다. (PG 관리자 화면 등에서 취소된 경우)
+     * - 반영된 결제가 없거나 이미 취소된 주문이면 아무것도 하지 않습니다.
+     * - 배송이 시작된 주문은 자동으로 취소하지 않고 경고만 남깁니다.
+     *
+     * @param pgPayment PG 에서 다시 조회한 결제 정보 (status=cancelled)
+     * @return 이번에 주문을 취소했으면 true
+     */
+    public boolean applyWebhookCancel(PgPayment pgPayment) {
+        Boolean canceled = transactionTemplate.execute(status -> {
+            com.javalab.student.entity.cartOrder.Payment payment = paymentRepository.findByImpUid(pgPayment.getImpUid()).orElse(null);
+            if (payment == null) {
+                return false;
+            }
+            Order order = payment.getOrder();
+            if (order.getOrderStatus() == OrderStatus.CANCELED) {
+                return false;
+            }
+            if (order.getOrderStatus() == OrderStatus.PREPARING_SHIPMENT
+                    || order.getOrderStatus() == OrderStatus.IN_TRANSIT
+                    || order.getOrderStatus() == OrderStatus.DELIVERED) {
+                log.warn("배송이 시작된 주문의 결제가 PG 에서 취소되었습니다. 확인이 필요합니다. 주문 ID: {}, imp_uid: {}",
+                        order.getId(), pgPayment.getImpUid());
+                return false;
+            }
+            order.cancelOrder();
+            payment.setOrderStatus(OrderStatus.CANCELED);
+            stockReservationService.release(order.getId());
+            log.info("PG 결제 취소 반영 - 주문 ID: {}, imp_uid: {}", order.getId(), pgPayment.getImpUid());
+            return true;
+        });
+        return Boolean.TRUE.equals(canceled);
+    }
+
+    /**
+     * 가맹점 주문 번호({주문 ID}_{시각} 또는 {주문 ID})에서 주문 ID 를 꺼냅니다.
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    private Long parseOrderId(String merchantUid) {
+        if (merchantUid == null) {
+            throw new IllegalArgumentException("❌ 주문 번호가 없습니다.");
+        }
+        int separator = merchantUid.indexOf('_');
+        String orderId = separator >= 0 ? merchantUid.substring(0, separator) : merchantUid;
+        try {
+            return Long.valueOf(orderId);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("❌ 주문 번호 형식이 잘못되었습니다: " + merchantUid);
+        }
+    }
+
+    /**
+     * 검증된 결제를 반영합니다. (트랜잭션 안에서 호출)
+     * - 결제 대기 시간이 지나 취소된 주문이라도 결제가 확인되면 재고를 다시 확보해 결제 완료로 바꿉니다. (StockReservationService.confirm)
+     * - 관리자/PG 취소 등 만료가 아닌 이유로 취소된 주문은 결제를 반영하지 않습니다.
+     *
+     * @param email        장바구니를 비울 사용자 이메일 (null 이면 주문 회원의 이메일)
+     * @param purchaseType 구매 유형 ('subscription' 이면 구독 반영, 웹훅처럼 알 수 없으면 null)
+     */
+    private PaymentResult applyPayment(PaymentRequestDto requestDto, String email, String key, String purchaseType) {
+        // 1. 주문 정보 조회 (merchantUid는 주문 ID, 동시에 들어온 주문 취소와 순서를 맞추기 위해 잠금)
+        Order order = orderRepository.findByIdForUpdate(Long.valueOf(requestDto.getMerchantUid()))
                 .orElseThrow(() -> new EntityNotFoundException("주문 ID [" + requestDto.getMerchantUid() + "]에 해당하는 주문을 찾을 수 없습니다."));
+        if (order.getPayment() != null) {
+            // PG 검증 중에 같은 결제가 먼저 커밋된 경우 그 결과를 돌려줌
+            if (requestDto.getImpUid().equals(order.getPayment().getImpUid())) {
+                return new PaymentResult(toPaymentResponse(order.getPayment(), order.getId()), true);
+            }
+            throw new IllegalStateException("이미 결제된 주문입니다. 주문 ID: " + order.getId());
+        }
+
+        // PG 에서 확인된 결제 금액(verifyPayment)이 주문 금액과 같아야 함 (결제창에서 금액을 바꾼 경우 차단)
+        if (order.getAmount().compareTo(requestDto.getPaidAmount()) != 0) {
+            throw new IllegalArgumentException("❌ 결제 금액 불일치: 주문 금액=" + order.getAmount() + ", 실제 결제 금액=" + requestDto.getPaidAmount());
+        }
 
-        // 2. 포트원 API를 사용하여 결제 정보 조회 및 검증
-        verifyPayment(requestDto, order);
+        if (order.getOrderStatus() == OrderStatus.CANCELED && !stockReservationService.isExpired(order.getId())) {
+            throw new IllegalStateException("취소된 주문입니다. 주문 ID: " + order.getId());
+        }
 
-        // 3. Payment 엔티티 생성 및 저장
+        // 2. 주문 생성 시 잡아둔 재고 예약 확정
+        stockReservationService.confirm(order.getId());
+
+        // 3. Payment 엔티티 생성 및 저장 (imp_uid 유니크)
         com.javalab.student.entity.cartOrder.Payment payment = createAndSavePayment(requestDto, order);
+        paymentIdempotencyKeyRepository.insert(key, payment.getImpUid(), order.getId(), payment.getId(), LocalDateTime.now());
 
         // 4. 주문 상태 업데이트 (결제 완료) 및 결제 수단 정보 저장
         order.setOrderStatus(OrderStatus.PAYMENT_COMPLETED);
         order.setPaymentMethod(requestDto.getSelectedPaymentMethod()); // 결제 수단 정보 저장
         orderRepository.save(order);
 
-        // 5. 장바구니 비우기
-        clearCart(email);
+        // 5. 주문한 상품 장바구니에서 비우기/구독 반영 (결제와 같은 트랜잭션에 기록, 커밋 후 OutboxRelay 가 처리)
+        if (order.getMember() != null) {
+            Long memberId = order.getMember().getId();
+            outboxService.append(OutboxEventType.CART_CLEAR, order.getId(),
+                    new CartClearPayload(memberId, email != null ? email : order.getMember().getEmail(),
+                            order.getOrderItems().stream()
+                                    .map(orderItem -> orderItem.getProduct().getId())
+                                    .distinct()
+                                    .toList()));
+            if ("subscription".equals(purchaseType)) {
+                outboxService.append(OutboxEventType.SUBSCRIPTION_APPLY, order.getId(),
+                        toSubscriptionApplyPayload(memberId, requestDto));
+            }
+        }
+
+        return new PaymentResult(toPaymentResponse(payment, order.getId()), false);
+    }
+
+    /**
+     * 이미 처리된 결제를 찾아 기록된 결과를 돌려줍니다.
+     * - 멱등 키 기록이 있으면 그 결제를, 없으면 같은 imp_uid 의 결제를 찾습니다.
+     *
+     * @return 처리 결과 (처리된 적이 없으면 null)
+     * @throws IllegalArgumentException 같은 멱등 키로 다른 imp_uid 를 요청한 경우
+     */
+    private PaymentResult findProcessed(String key, String impUid) {
+        Optional<PaymentIdempotencyKey> recorded = paymentIdempotencyKeyRepository.findById(key);
+        if (recorded.isPresent() && !recorded.get().getImpUid().equals(impUid)) {
+            throw new IllegalArgumentException("❌ 같은 멱등 키로 다른 결제를 요청했습니다. 멱등 키: " + key);
+        }
+        Optional<com.javalab.student.entity.cartOrder.Payment> payment = recorded.isPresent()
+                ? paymentRepository.findById(recorded.get().getPaymentId())
+                : paymentRepository.findByImpUid(impUid);
+        return payment
+                .map(found -> new PaymentResult(toPaymentResponse(found, found.getOrder().getId()), true))
+                .orElse(null);
+    }
 
-        // 6. 응답 데이터 구성
+    /**
+     * 결제 응답 데이터를 구성합니다. (처음 처리와 재요청 모두 같은 형태)
+     */
+    private Map<String, Object> toPaymentResponse(com.javalab.student.entity.cartOrder.Payment payment, Long orderId) {
         Map<String, Object> response = new HashMap<>();
         response.put("paymentId", payment.getId());
         response.put("impUid", payment.getImpUid());
-        response.put("merchantUid", order.getId());
+        response.put("merchantUid", orderId);
         response.put("amount", payment.getAmount());
         response.put("paymentMethod", payment.getPaymentMethod()); // 결제 수단 정보 반환
         response.put("status", payment.getOrderStatus());
@@ -102,12 +310,16 @@ public class PaymentService {
 
     /**
      * 장바구니 상품들을 주문으로 변환하고 처리합니다.
+     * - 회원, 배송지, 장바구니(Redis), 상품을 아이템 수와 관계없이 정해진 횟수로 조회하고 ID 로 색인해 매칭합니다.
+     * - 주문/주문 아이템/배송 주소는 OrderPlacementWriter 가 배치 INSERT 로 저장합니다.
+     * - 저장된 배송지(savedAddressId)가 지정되면 그 내용을 주문 배송 주소로 복사합니다. (없으면 배송 주소 없이 저장)
      *
      * @param requestDto 결제 요청 정보 (PaymentRequestDto)
      * @param email 사용자 이메일
      * @param purchaseType 구매 유형 ('oneTime' 또는 'subscription')
-     * @return 주문 객체 (Order)
-     * @throws EntityNotFoundException 해당 이메일로 멤버를 찾을 수 없거나, 장바구니를 찾을 수 없을 경우 예외 발생
+     * @return 주문 객체 (Order, 영속 상태가 아니므로 이후 변경은 주문 ID 로 다시 조회해서 처리)
+     * @throws EntityNotFoundException 해당 이메일로 멤버를 찾을 수 없거나, 저장된 배송지를 찾을 수 없을 경우 예외 발생
+     * @throws IllegalStateException 장바구니가 비었거나, 상품 가격이 없거나 재고가 부족한 경우
      */
     @Transactional
     public Order createOrder(PaymentRequestDto requestDto, String email, String purchaseType) {
@@ -117,108 +329,115 @@ public class PaymentService {
             throw new EntityNotFoundException("해당 이메일로 멤버를 찾을 수 없습니다: " + email);
         }
 
-        // 2. 사용자 장바구니 조회
-        Cart cart = cartRepository.findByMemberId(member.getId())
-                .orElseThrow(() -> new EntityNotFoundException("Cart not found for member id: " + member.getId()));
-
-        // 3. 장바구니 아이템 조회
-        List<CartItem> cartItems = cartItemRepository.findByCartId(cart.getId());
-        BigDecimal totalOrderAmount = BigDecimal.ZERO;
-
-        // 4. 주문 DTO 생성 및 총 주문 금액 계산
-        List<OrderDto.OrderItemDto> orderItemDtoList = new ArrayList<>();
-        for (CartItem cartItem : cartItems) {
-            PaymentRequestDto.CartOrderItemDto cartOrderItemDto = requestDto.getCartOrderItems().stream()
-                    .filter(itemDto -> itemDto.getCartItemId().equals(cartItem.getId()))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("CartItemDto not found for cartItemId: " + cartItem.getId()));
-            OrderDto.OrderItemDto orderItemDto = OrderDto.OrderItemDto.builder()
-                    .productId(cartItem.getProduct().getId())
-                    .productName(cartItem.getProduct().getName())
-                    .count(cartItem.getQuantity())
-                    .orderPrice(cartItem.getProduct().getPrice())
-                    .build();
-            orderItemDtoList.add(orderItemDto);
-
-            // 1. **productPrice를 가져오기 전에 product가 null인지 확인합니다.**
-            Product product = cartItem.getProduct();
-            if (product == null) {
-                log.error("Product is null for cartItem: {}", cartItem);
-                throw new IllegalStateException("Product cannot be null for cart item id: " + cartItem.getId());
-            }
+        // 2. 장바구니 아이템 조회 (Redis)
+        List<RedisCartStore.CartLine> cartLines = redisCartStore.getLines(email);
+        if (cartLines.isEmpty()) {
+            throw new IllegalStateException("장바구니가 비어 있습니다.");
+        }
 
-            // 2. **product가 null이 아닌 경우에만 price를 가져옵니다.**
-            BigDecimal productPrice = cartOrderItemDto.getPrice();
-            if (productPrice == null) {
-                log.error("Product price is null for product: {}", product);
-                throw new IllegalStateException("Product price cannot be null for product id: " + product.getId());
+        // 3. 요청 아이템과 상품을 ID 로 색인
+        Map<Long, PaymentRequestDto.CartOrderItemDto> requestItems = new HashMap<>();
+        if (requestDto.getCartOrderItems() != null) {
+            for (PaymentRequestDto.CartOrderItemDto itemDto : requestDto.getCartOrderItems()) {
+                requestItems.put(itemDto.getCartItemId(), itemDto);
             }
-            totalOrderAmount = totalOrderAmount.add(productPrice.multiply(BigDecimal.valueOf(cartItem.getQuantity())));
+        }
+        Set<Long> productIds = new HashSet<>();
+        for (RedisCartStore.CartLine line : cartLines) {
+            productIds.add(line.getProductId());
+        }
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productRepository.findAllById(productIds)) {
+            products.put(product.getId(), product);
         }
 
-        // 5. 주문 객체 생성
+        // 4. 배송 주소 (저장된 배송지가 지정된 경우)
+        Address address = toOrderAddress(requestDto.getSavedAddressId(), member);
+
+        // 5. 주문 아이템 생성 및 총 주문 금액 계산
         Order order = Order.builder()
                 .member(member)
                 .orderDate(LocalDateTime.now())
                 .orderStatus(OrderStatus.ORDERED)
-                .amount(totalOrderAmount)
                 .paymentMethod(requestDto.getPayMethod())
                 .build();
-
-        // 6. OrderItem 생성 및 Order에 추가
-        List<OrderItem> orderItems = new ArrayList<>();
-        for (CartItem cartItem : cartItems) {
-            PaymentRequestDto.CartOrderItemDto cartOrderItemDto = requestDto.getCartOrderItems().stream()
-                    .filter(itemDto -> itemDto.getCartItemId().equals(cartItem.getId()))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("CartItemDto not found for cartItemId: " + cartItem.getId()));
-            // 1. **product를 가져오기 전에 product가 null인지 확인합니다.**
-            Product product = cartItem.getProduct();
+        BigDecimal totalOrderAmount = BigDecimal.ZERO;
+        for (RedisCartStore.CartLine line : cartLines) {
+            PaymentRequestDto.CartOrderItemDto cartOrderItemDto = requestItems.get(line.getCartItemId());
+            if (cartOrderItemDto == null) {
+                throw new IllegalArgumentException("CartItemDto not found for cartItemId: " + line.getCartItemId());
+            }
+            Product product = products.get(line.getProductId());
             if (product == null) {
-                log.error("Product is null for cartItem: {}", cartItem);
-                throw new IllegalStateException("Product cannot be null for cart item id: " + cartItem.getId());
+                log.error("Product is null for cartItem: {}", line.getCartItemId());
+                throw new IllegalStateException("Product cannot be null for cart item id: " + line.getCartItemId());
             }
-            // 2. **product가 null이 아닌 경우에만 price를 가져옵니다.**
             BigDecimal productPrice = cartOrderItemDto.getPrice();
             if (productPrice == null) {
-                log.error("Product price is null for product: {}", product);
+                log.error("Product price is null for product: {}", product.getId());
                 throw new IllegalStateException("Product price cannot be null for product id: " + product.getId());
             }
-            OrderItem orderItem = OrderItem.builder()
-                    .order(order)
+            order.addOrderItem(OrderItem.builder()
                     .product(product)
-                    .orderPrice(productPrice)  // 이 부분이 핵심: 가격 설정
-                    .count(cartItem.getQuantity())
-                    .build();
-            orderItems.add(orderItem);
+                    .orderPrice(productPrice)
+                    .count(line.getQuantity())
+                    .build());
+            totalOrderAmount = totalOrderAmount.add(productPrice.multiply(BigDecimal.valueOf(line.getQuantity())));
         }
-        order.setOrderItems(orderItems);
+        order.setAmount(totalOrderAmount);
+
+        // 6. 주문, 주문 아이템, 배송 주소 저장 (배치 INSERT)
+        orderPlacementWriter.insert(order, address, email);
 
-        return orderRepository.save(order);
+        // 7. 재고 예약 (조건부 차감, 부족하면 예외 → 주문 생성 롤백)
+        stockReservationService.reserve(order);
+
+        return order;
     }
 
     /**
-     * 포트원 API를 사용하여 결제 정보를 조회하고 검증합니다.
+     * 저장된 배송지를 주문 배송 주소로 변환합니다.
+     * - 주문서 화면이 선택한 배송지 ID(savedAddressId)를 보내지만 이전에는 무시되어 주문에 배송 주소가 남지 않았습니다.
+     * - 배송지 내용을 주문 시점 그대로 복사하므로, 이후 배송지를 수정/삭제해도 주문의 배송 주소는 바뀌지 않습니다.
      *
-     * @param requestDto 결제 요청 정보 (PaymentRequestDto)
-     * @param order 주문 정보 (Order)
-     * @throws IllegalArgumentException 포트원 결제 검증 실패, 결제 정보 없음, 결제 금액 불일치 시 예외 발생
+     * @param savedAddressId 저장된 배송지 ID (없으면 null 반환)
+     * @param member 주문 회원 (배송지 소유자 확인)
+     * @return 주문 배송 주소 (저장 전)
+     * @throws EntityNotFoundException 회원의 배송지 중에 해당 ID 가 없을 경우
      */
-    private void verifyPayment(PaymentRequestDto requestDto, Order order) {
-        IamportResponse<com.siot.IamportRestClient.response.Payment> paymentResponse;
-        try {
-            paymentResponse = iamportClient.paymentByImpUid(requestDto.getImpUid());
-        } catch (IamportResponseException | IOException e) {
-            throw new IllegalArgumentException("❌ 포트원 결제 검증 실패: " + e.getMessage());
+    private Address toOrderAddress(Long savedAddressId, Member member) {
+        if (savedAddressId == null) {
+            return null;
         }
+        DeliveryInfo deliveryInfo = deliveryInfoRepository.findById(savedAddressId)
+                .filter(info -> info.getMember() != null && member.getId().equals(info.getMember().getId()))
+                .orElseThrow(() -> new EntityNotFoundException("배송지를 찾을 수 없습니다. ID: " + savedAddressId));
+        return Address.builder()
+                .name(deliveryInfo.getRecipientName())
+                .phone(deliveryInfo.getRecipientPhone())
+                .addr(deliveryInfo.getRoadAddress())
+                .addrDetail(deliveryInfo.getDetailAddress())
+                .zipcode(deliveryInfo.getPostalCode())
+                .memo(deliveryInfo.getDeliveryMemo())
+                .build();
+    }
 
-        com.siot.IamportRestClient.response.Payment paymentInfo = paymentResponse.getResponse();
-        if (paymentInfo == null) {
-            throw new IllegalArgumentException("❌ 결제 정보 없음: imp_uid=" + requestDto.getImpUid());
+    /**
+     * PG 에서 결제 정보를 조회하고 검증합니다. (트랜잭션 밖에서 호출)
+     *
+     * @param requestDto 결제 요청 정보 (PaymentRequestDto)
+     * @throws IllegalArgumentException 결제 정보 없음, 결제 미완료, 결제 금액 불일치 시 예외 발생
+     * @throws PaymentGatewayException PG 호출이 실패하거나 제한 시간을 넘긴 경우
+     */
+    private void verifyPayment(PaymentRequestDto requestDto) {
+        PgPayment paymentInfo = paymentGateway.getPayment(requestDto.getImpUid());
+
+        if (paymentInfo.getStatus() != null && !"paid".equals(paymentInfo.getStatus())) {
+            throw new IllegalArgumentException("❌ 결제가 완료되지 않았습니다: imp_uid=" + requestDto.getImpUid() + ", 상태=" + paymentInfo.getStatus());
         }
 
         BigDecimal paidAmount = paymentInfo.getAmount();
-        if (paidAmount.compareTo(requestDto.getPaidAmount()) != 0) {
+        if (paidAmount == null || requestDto.getPaidAmount() == null || paidAmount.compareTo(requestDto.getPaidAmount()) != 0) {
             throw new IllegalArgumentException("❌ 결제 금액 불일치: 요청 금액=" + requestDto.getPaidAmount() + ", 실제 결제 금액=" + paidAmount);
         }
     }
@@ -249,27 +468,22 @@ public class PaymentService {
     }
 
     /**
-     * 장바구니를 비웁니다.
-     *
-     * @param email 사용자 이메일
-     * @throws EntityNotFoundException 해당 이메일로 멤버를 찾을 수 없거나, 장바구니를 찾을 수 없을 경우 예외 발생
+     * 결제한 상품으로 구독 반영 이벤트 내용을 만듭니다.
+     * - 결제 요청의 장바구니 아이템 ID 를 상품 ID 로 넘기는 기존 방식을 그대로 따릅니다.
      */
-    private void clearCart(String email) {
-        // 1. 사용자 정보 조회
-        Member member = memberRepository.findByEmail(email);
-        if (member == null) {
-            throw new EntityNotFoundException("해당 이메일로 멤버를 찾을 수 없습니다: " + email);
+    private SubscriptionApplyPayload toSubscriptionApplyPayload(Long memberId, PaymentRequestDto requestDto) {
+        List<SubscriptionUpdateNextItemDto> items = new ArrayList<>();
+        if (requestDto.getCartOrderItems() != null) {
+            for (PaymentRequestDto.CartOrderItemDto item : requestDto.getCartOrderItems()) {
+                SubscriptionUpdateNextItemDto dto = new SubscriptionUpdateNextItemDto();
+                dto.setProductId(item.getCartItemId());
+                dto.setNextMonthQuantity(item.getQuantity());
+                dto.setNextMonthPrice(item.getPrice().doubleValue());
+                items.add(dto);
+            }
         }
-
-        // 2. 사용자 장바구니 조회
-        Cart cart = cartRepository.findByMemberId(member.getId())
-                .orElseThrow(() -> new EntityNotFoundException("Cart not found for member id: " + member.getId()));
-
-        // 3. 장바구니 아이템 조회
-        List<CartItem> cartItems = cartItemRepository.findByCartId(cart.getId());
-
-        // 4. 장바구니 아이템 삭제
-        cartItemRepository.deleteAll(cartItems);
+        return new SubscriptionApplyPayload(memberId, requestDto.getPayMethod(), requestDto.getBuyerPostcode(),
+                requestDto.getBuyerAddr(), items);
     }
 
     /**
@@ -351,6 +565,7 @@ public class PaymentService {
 
         // 3. 주문 취소 처리 (Order 엔티티의 cancelOrder() 메소드 호출)
         order.cancelOrder(); // Order 엔티티에 구현된 cancelOrder() 메소드 호출
+        stockReservationService.release(orderId); // 예약해 둔 재고 복원
 
         // 4. 변경된 주문 상태 저장
         orderRepository.save(order); // 변경된 주문 엔티티 저장
@@ -360,69 +575,39 @@ public class PaymentService {
 
     /**
      * 관리자용 주문 목록 조회 메소드 (검색 기능 및 기간 검색 기능 추가)
-     * 페이징 네이션 처리와 AdminOrderDto 변환을 수행합니다.
+     * 주문 기준 키셋 페이지네이션으로 조회하며, 주문 아이템 단위의 AdminOrderDto 행을 반환합니다. (AdminOrderQuery 참고)
      *
-     * @param page 페이지 번호
-     * @param size 페이지 크기
+     * @param size 페이지 크기 (주문 수)
      * @param memberName 검색할 회원 이름 (선택 사항)
      * @param startDate 검색할 시작 주문일자
      * @param endDate 검색할 종료 주문일자
-     * @return 페이징된 주문 목록과 메타데이터를 포함한 Map 객체 반환
+     * @param cursorDate 직전 페이지 응답의 nextCursorDate (첫 페이지면 null)
+     * @param cursorId 직전 페이지 응답의 nextCursorId (첫 페이지면 null)
+     * @return 주문 목록과 다음 페이지 커서를 포함한 Map 객체 반환
      */
-    @Transactional(readOnly = true)
-    public Map<String, Object> getAdminOrders(int page, int size, String memberName, LocalDate startDate, LocalDate endDate) { // 날짜 파라미터 추가
-        Pageable pageable = PageRequest.of(page, size, Sort.by("orderDate").descending());
-        Page<Order> ordersPage;
-
+    public Map<String, Object> getAdminOrders(int size, String memberName, LocalDate startDate, LocalDate endDate,
+                                              LocalDateTime cursorDate, Long cursorId) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        String nameFilter = null;
+        LocalDateTime from = null;
+        LocalDateTime to = null;
         if (memberName != null && !memberName.trim().isEmpty()) { // 회원 이름 검색
-            ordersPage = orderRepository.findOrdersByMemberNameContaining(memberName, pageable);
+            nameFilter = memberName.trim();
         } else if (startDate != null && endDate != null) { // 날짜 범위 검색
-            ordersPage = orderRepository.findOrdersByOrderDateBetween(startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX), pageable); // Repository 메소드 호출 (날짜 범위 전달)
+            from = startDate.atStartOfDay();
+            to = endDate.atTime(LocalTime.MAX);
         }
-        else { // 전체 주문 목록 조회
-            ordersPage = orderRepository.findAll(pageable);
-        }
-
-        List<AdminOrderDto> dtoList = new ArrayList<>();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-
-        for (Order order : ordersPage.getContent()) {
-            String orderDateStr = order.getOrderDate().format(formatter);
-
-            String shippingAddress = "";
-            if (order.getAddress() != null) {
-                shippingAddress = order.getAddress().getAddr() + " " +
-                        order.getAddress().getAddrDetail() + " (" +
-                        order.getAddress().getZipcode() + ")";
-            }
 
-            // Payment 정보에서 buyerAddr 가져오기 (null 처리)
-            String buyerAddr = (order.getPayment() != null) ? order.getPayment().getBuyerAddr() : null;
-
-
-            for (OrderItem orderItem : order.getOrderItems()) {
-                AdminOrderDto dto = AdminOrderDto.builder()
-                        .id(orderItem.getId())
-                        .orderId(order.getId())
-                        .memberName(order.getMember().getName())
-                        .productName(orderItem.getProduct().getName())
-                        .quantity(orderItem.getCount())
-                        .totalPrice(orderItem.getOrderPrice().multiply(BigDecimal.valueOf(orderItem.getCount())))
-                        .orderDate(orderDateStr)
-                        .shippingAddress(shippingAddress)
-                        .paymentMethod(order.getPaymentMethod())
-                        .orderStatus(order.getOrderStatus().name())
-                        .buyerAddr(buyerAddr) // buyerAddr 설정
-                        .build();
-                dtoList.add(dto);
-            }
-        }
+        AdminOrderQuery.AdminOrderPage page = adminOrderQuery.findPage(Math.min(size, MAX_ADMIN_ORDER_PAGE_SIZE),
+                nameFilter, from, to, cursorDate, cursorId);
 
         Map<String, Object> response = new HashMap<>();
-        response.put("content", dtoList); // DTO 리스트 추가
-        response.put("totalElements", ordersPage.getTotalElements()); // 총 요소 수 추가
-        response.put("totalPages", ordersPage.getTotalPages()); // 총 페이지 수 추가
-        response.put("number", ordersPage.getNumber()); // 현재 페이지 번호 추가
+        response.put("content", page.getContent()); // DTO 리스트 추가
+        response.put("hasNext", page.isHasNext()); // 다음 페이지 여부
+        response.put("nextCursorDate", page.getNextCursorDate()); // 다음 페이지 요청 시 cursorDate
+        response.put("nextCursorId", page.getNextCursorId()); // 다음 페이지 요청 시 cursorId
 
         return response; // 결과 반환
     }
@@ -443,6 +628,9 @@ public class PaymentService {
 
         // 2. 주문 상태 변경 (Order 엔티티의 메서드 호출)
         order.changeOrderStatus(newStatus);
+        if (newStatus == OrderStatus.CANCELED) {
+            stockReservationService.release(orderId); // 예약해 둔 재고 복원
+        }
 
         // 3. 변경 사항 저장
         orderRepository.save(order);
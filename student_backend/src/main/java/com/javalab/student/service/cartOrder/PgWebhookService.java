@@ -0,0 +1,199 @@
+package com.javalab.student.service.cartOrder;
+
+import com.javalab.student.constant.WebhookEventStatus;
+import com.javalab.student.dto.cartOrder.PgWebhookRequestDto;
+import com.javalab.student.dto.cartOrder.PgWebhookStatusDto;
+import com.javalab.student.entity.cartOrder.PgWebhookEvent;
+import com.javalab.student.repository.cartOrder.PgWebhookEventRepository;
+import com.javalab.student.service.cartOrder.pg.CircuitBreaker;
+import com.javalab.student.service.cartOrder.pg.PaymentGateway;
+import com.javalab.student.service.cartOrder.pg.PaymentGatewayException;
+import com.javalab.student.service.cartOrder.pg.PgPayment;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PG 웹훅 처리 서비스
+ *
+ * 웹훅 요청은 pg_webhook_event 테이블에 한 행을 쌓고 바로 응답합니다. (PG 조회/주문 반영은 요청 스레드에서 하지 않음)
+ * 스케줄러가 처리할 차례인 이벤트를 조건부 UPDATE 로 가져가 고정 크기 작업자 풀(webhook.pg.workers)에 넘깁니다.
+ * - 작업자는 imp_uid 로 PG 를 다시 조회한 결과로만 주문을 바꾸며, 결제 반영은 PaymentService 의 멱등 처리를 그대로 씁니다.
+ * - PG 장애(서킷 브레이커 열림, 시간 초과)로 조회하지 못한 이벤트는 시도 횟수를 올리지 않고 미뤄 두었다가 PG 가 회복되면 이어서 처리합니다.
+ * - 그 밖의 오류는 지수 백오프로 재시도하고, webhook.pg.max-attempts 를 넘기거나 재시도해도 소용없는 오류면 FAILED 로 남깁니다.
+ * - 작업자가 중단되어도 잠금 만료(webhook.pg.lock-ms) 후 다른 작업자가 다시 가져갑니다.
+ */
+@Slf4j
+@Service
+public class PgWebhookService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final PgWebhookEventRepository pgWebhookEventRepository;
+    private final PaymentGateway paymentGateway;
+    private final PaymentService paymentService;
+    private final ThreadPoolExecutor workers;
+    private final int workerCount;
+    private final int maxAttempts;
+    private final long lockMillis;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public PgWebhookService(PgWebhookEventRepository pgWebhookEventRepository,
+                            PaymentGateway paymentGateway,
+                            PaymentService paymentService,
+                            @Value("${webhook.pg.workers:2}") int workerCount,
+                            @Value("${webhook.pg.max-attempts:10}") int maxAttempts,
+                            @Value("${webhook.pg.lock-ms:60000}") long lockMillis,
+                            @Value("${webhook.pg.backoff-ms:5000}") long baseBackoffMillis,
+                            @Value("${webhook.pg.max-backoff-ms:600000}") long maxBackoffMillis) {
+        this.pgWebhookEventRepository = pgWebhookEventRepository;
+        this.paymentGateway = paymentGateway;
+        this.paymentService = paymentService;
+        this.workerCount = workerCount;
+        this.maxAttempts = maxAttempts;
+        this.lockMillis = lockMillis;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workerCount),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "pg-webhook-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.workers.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 웹훅을 대기열에 쌓습니다. (요청 스레드에서 호출, INSERT 한 번)
+     *
+     * @return 새로 쌓였으면 true, 같은 알림이 이미 있으면 false
+     * @throws IllegalArgumentException imp_uid 가 없는 경우
+     */
+    public boolean receive(PgWebhookRequestDto requestDto) {
+        if (requestDto.getImpUid() == null || requestDto.getImpUid().isBlank()) {
+            throw new IllegalArgumentException("imp_uid 가 없습니다.");
+        }
+        String pgStatus = requestDto.getStatus() != null ? requestDto.getStatus() : "unknown";
+        boolean queued = pgWebhookEventRepository.enqueue(requestDto.getImpUid(), requestDto.getMerchantUid(),
+                pgStatus, LocalDateTime.now()) == 1;
+        log.info("PG 웹훅 수신 - imp_uid: {}, 상태: {}, 대기열 추가: {}", requestDto.getImpUid(), pgStatus, queued);
+        return queued;
+    }
+
+    /**
+     * 처리할 차례인 이벤트를 가져와 작업자에게 넘깁니다.
+     * - 작업자 풀에 남은 자리만큼만 가져가므로 PG 가 느려도 대기 이벤트는 DB 에 남아 있습니다.
+     * - 서킷 브레이커가 열려 있으면 가져가지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${webhook.pg.poll-interval-ms:1000}")
+    public void dispatch() {
+        if (paymentGateway.getCircuitState() == CircuitBreaker.State.OPEN) {
+            return;
+        }
+        int capacity = workerCount * 2 - workers.getActiveCount() - workers.getQueue().size();
+        if (capacity <= 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> eventIds = pgWebhookEventRepository.findDueIds(now, PageRequest.of(0, capacity));
+        for (Long eventId : eventIds) {
+            if (pgWebhookEventRepository.claim(eventId, now, now.plusNanos(lockMillis * 1_000_000)) == 0) {
+                continue; // 다른 작업자가 먼저 가져감
+            }
+            try {
+                workers.execute(() -> process(eventId));
+            } catch (RejectedExecutionException e) {
+                // 자리가 없으면 잠금만 풀어 다음 주기에 다시 가져가게 함
+                pgWebhookEventRepository.reschedule(eventId, now, false, null);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 이벤트 하나를 처리합니다. (작업자 스레드)
+     */
+    void process(Long eventId) {
+        PgWebhookEvent event = pgWebhookEventRepository.findById(eventId).orElse(null);
+        if (event == null) {
+            return;
+        }
+        try {
+            // 1. PG 재조회 (트랜잭션 밖, 서킷 브레이커/벌크헤드 적용)
+            PgPayment pgPayment = paymentGateway.getPayment(event.getImpUid());
+
+            // 2. PG 의 현재 상태 기준으로 반영 (멱등)
+            String note;
+            if ("paid".equals(pgPayment.getStatus())) {
+                note = paymentService.applyWebhookPayment(pgPayment) ? null : "이미 반영된 결제";
+            } else if ("cancelled".equals(pgPayment.getStatus())) {
+                note = paymentService.applyWebhookCancel(pgPayment) ? null : "취소할 결제 없음";
+            } else {
+                note = "처리하지 않는 상태: " + pgPayment.getStatus();
+            }
+            pgWebhookEventRepository.markDone(eventId, LocalDateTime.now(), note);
+            log.info("PG 웹훅 처리 완료 - 이벤트 ID: {}, imp_uid: {}, PG 상태: {}{}",
+                    eventId, event.getImpUid(), pgPayment.getStatus(), note != null ? " (" + note + ")" : "");
+        } catch (PaymentGatewayException e) {
+            // PG 장애: 시도 횟수에 넣지 않고 미룸 (회복 후 이어서 처리)
+            pgWebhookEventRepository.reschedule(eventId, LocalDateTime.now().plusNanos(baseBackoffMillis * 1_000_000),
+                    false, truncate(e.getMessage()));
+            log.warn("PG 장애로 웹훅 처리 연기 - 이벤트 ID: {}, 사유: {}", eventId, e.getMessage());
+        } catch (IllegalArgumentException | IllegalStateException | EntityNotFoundException e) {
+            // 결제 정보 없음, 금액 불일치, 다른 결제가 반영된 주문 등: 재시도해도 같은 결과
+            pgWebhookEventRepository.markFailed(eventId, LocalDateTime.now(), truncate(e.getMessage()));
+            log.error("PG 웹훅 처리 실패 (확인 필요) - 이벤트 ID: {}, imp_uid: {}, 사유: {}", eventId, event.getImpUid(), e.getMessage());
+        } catch (Exception e) {
+            int attempts = event.getAttempts() + 1;
+            if (attempts >= maxAttempts) {
+                pgWebhookEventRepository.markFailed(eventId, LocalDateTime.now(), truncate(e.getMessage()));
+                log.error("PG 웹훅 처리 실패 (재시도 횟수 초과) - 이벤트 ID: {}, imp_uid: {}", eventId, event.getImpUid(), e);
+                return;
+            }
+            long backoff = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempts, 20));
+            pgWebhookEventRepository.reschedule(eventId, LocalDateTime.now().plusNanos(backoff * 1_000_000),
+                    true, truncate(e.getMessage()));
+            log.warn("PG 웹훅 처리 재시도 예정 - 이벤트 ID: {}, 시도: {}, 대기: {}ms", eventId, attempts, backoff, e);
+        }
+    }
+
+    /**
+     * 웹훅 처리 현황 (관리자용)
+     */
+    public PgWebhookStatusDto getStatus() {
+        return PgWebhookStatusDto.builder()
+                .circuitState(paymentGateway.getCircuitState().name())
+                .pending(pgWebhookEventRepository.countByStatus(WebhookEventStatus.PENDING))
+                .processing(pgWebhookEventRepository.countByStatus(WebhookEventStatus.PROCESSING))
+                .failed(pgWebhookEventRepository.countByStatus(WebhookEventStatus.FAILED))
+                .activeWorkers(workers.getActiveCount())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,571 @@
+package com.javalab.student.service.cartOrder;
+
+import com.javalab.student.entity.Member;
+import com.javalab.student.repository.MemberRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 장바구니 저장소 (write-behind)
+ *
+ * 회원별 장바구니를 Redis 해시(cart:{이메일})에 두고, 담기/수량 변경/삭제/조회는 Redis 만 사용합니다.
+ * - 해시 필드: m = 회원 ID, c = 장바구니 ID, i:{장바구니 아이템 ID} = "{상품 ID}:{수량}", p:{상품 ID} = 장바구니 아이템 ID
+ * - 장바구니 아이템 ID 는 Redis 카운터(cart:item:seq, 기동 시 DB 최대값으로 맞춤)로 미리 발급하므로
+ *   DB 에 저장되기 전에도 기존 API(장바구니 아이템 ID 기준 수정/삭제, 주문 시 아이템 매칭)를 그대로 쓸 수 있습니다.
+ * - 변경된 장바구니는 cart:dirty 집합에 표시해 두고, 스케줄러가 모아서 cart/cart_item 테이블에 반영합니다.
+ *   여러 번 바뀐 장바구니도 반영 시점의 최종 상태 한 번만 씁니다.
+ * - 로그인 시 Redis 에 장바구니가 없으면 DB 에서 불러옵니다(있으면 Redis 가 최신). 주문 생성도 Redis 의 아이템을 바로 읽습니다.
+ * - 장바구니별 반영은 Redis 잠금(cart:lock:{이메일})으로 한 서버에서만 실행되어 오래된 상태가 나중에 쓰이지 않습니다.
+ */
+@Slf4j
+@Component
+public class RedisCartStore {
+
+    private static final String CART_KEY_PREFIX = "cart:";
+    private static final String LOCK_KEY_PREFIX = "cart:lock:";
+    private static final String DIRTY_KEY = "cart:dirty";
+    private static final String SEQUENCE_KEY = "cart:item:seq";
+
+    /** 스크립트 결과: Redis 에 장바구니가 없음 (DB 에서 불러온 뒤 재시도) */
+    private static final long NOT_LOADED = -1L;
+    /** 스크립트 결과: 장바구니 아이템 ID 카운터가 없음 (DB 최대값으로 맞춘 뒤 재시도) */
+    private static final long NO_SEQUENCE = -2L;
+
+    /** 상품 담기 (이미 있으면 수량 증가) → 장바구니 아이템 ID. ARGV: 상품 ID, 수량, 이메일, TTL(초) */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local id = redis.call('HGET', KEYS[1], 'p:' .. ARGV[1]) " +
+            "if id then " +
+            "  local line = redis.call('HGET', KEYS[1], 'i:' .. id) " +
+            "  local quantity = tonumber(string.match(line, ':(%d+)$')) + tonumber(ARGV[2]) " +
+            "  redis.call('HSET', KEYS[1], 'i:' .. id, ARGV[1] .. ':' .. quantity) " +
+            "else " +
+            "  if redis.call('EXISTS', KEYS[3]) == 0 then return -2 end " +
+            "  id = redis.call('INCR', KEYS[3]) " +
+            "  redis.call('HSET', KEYS[1], 'i:' .. id, ARGV[1] .. ':' .. ARGV[2], 'p:' .. ARGV[1], id) " +
+            "end " +
+            "redis.call('SADD', KEYS[2], ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "return tonumber(id)", Long.class);
+
+    /**
+     * 여러 상품 한 번에 담기 → 상품별 장바구니 아이템 ID 목록 (ARGV 순서). ARGV: 이메일, TTL(초), (상품 ID, 수량)...
+     * - 쓰기 전에 장바구니/ID 카운터 유무를 확인하므로 재시도해도 일부만 두 번 담기지 않습니다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADD_ALL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {-1} end " +
+            "if redis.call('EXISTS', KEYS[3]) == 0 then return {-2} end " +
+            "local ids = {} " +
+            "for i = 3, #ARGV, 2 do " +
+            "  local id = redis.call('HGET', KEYS[1], 'p:' .. ARGV[i]) " +
+            "  if id then " +
+            "    local line = redis.call('HGET', KEYS[1], 'i:' .. id) " +
+            "    local quantity = tonumber(string.match(line, ':(%d+)$')) + tonumber(ARGV[i + 1]) " +
+            "    redis.call('HSET', KEYS[1], 'i:' .. id, ARGV[i] .. ':' .. quantity) " +
+            "  else " +
+            "    id = redis.call('INCR', KEYS[3]) " +
+            "    redis.call('HSET', KEYS[1], 'i:' .. id, ARGV[i] .. ':' .. ARGV[i + 1], 'p:' .. ARGV[i], id) " +
+            "  end " +
+            "  ids[#ids + 1] = tonumber(id) " +
+            "end " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return ids", List.class);
+
+    /** 수량 변경 → 상품 ID (없는 아이템이면 0). ARGV: 장바구니 아이템 ID, 수량, 이메일, TTL(초) */
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local line = redis.call('HGET', KEYS[1], 'i:' .. ARGV[1]) " +
+            "if not line then return 0 end " +
+            "local productId = string.match(line, '^(%d+):') " +
+            "redis.call('HSET', KEYS[1], 'i:' .. ARGV[1], productId .. ':' .. ARGV[2]) " +
+            "redis.call('SADD', KEYS[2], ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "return tonumber(productId)", Long.class);
+
+    /** 아이템 삭제 → 상품 ID (없는 아이템이면 0). ARGV: 장바구니 아이템 ID, 이메일, TTL(초) */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local line = redis.call('HGET', KEYS[1], 'i:' .. ARGV[1]) " +
+            "if not line then return 0 end " +
+            "local productId = string.match(line, '^(%d+):') " +
+            "redis.call('HDEL', KEYS[1], 'i:' .. ARGV[1]) " +
+            "if redis.call('HGET', KEYS[1], 'p:' .. productId) == ARGV[1] then " +
+            "  redis.call('HDEL', KEYS[1], 'p:' .. productId) " +
+            "end " +
+            "redis.call('SADD', KEYS[2], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "return tonumber(productId)", Long.class);
+
+    /** 아이템 전체 삭제 (회원/장바구니 ID 는 유지). ARGV: 이메일, TTL(초) */
+    private static final RedisScript<Long> CLEAR_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "local memberId = redis.call('HGET', KEYS[1], 'm') " +
+            "local cartId = redis.call('HGET', KEYS[1], 'c') " +
+            "if not memberId then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], 'm', memberId) " +
+            "if cartId then redis.call('HSET', KEYS[1], 'c', cartId) end " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1", Long.class);
+
+    /** 상품별 아이템 삭제 → 삭제된 아이템 수. ARGV: 이메일, TTL(초), 상품 ID... */
+    private static final RedisScript<Long> REMOVE_PRODUCTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "local removed = 0 " +
+            "for i = 3, #ARGV do " +
+            "  local id = redis.call('HGET', KEYS[1], 'p:' .. ARGV[i]) " +
+            "  if id then " +
+            "    redis.call('HDEL', KEYS[1], 'i:' .. id, 'p:' .. ARGV[i]) " +
+            "    removed = removed + 1 " +
+            "  end " +
+            "end " +
+            "if removed > 0 then " +
+            "  redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "  redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return removed", Long.class);
+
+    /**
+     * DB 장바구니를 Redis 에 불러옵니다. (Redis 에 이미 있으면 그대로 둠)
+     * ARGV: 회원 ID, 장바구니 ID(없으면 빈 문자열), TTL(초), 최대 아이템 ID, (아이템 ID, 상품 ID, 수량)...
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'm', ARGV[1]) " +
+            "if ARGV[2] ~= '' then redis.call('HSET', KEYS[1], 'c', ARGV[2]) end " +
+            "for i = 5, #ARGV, 3 do " +
+            "  redis.call('HSET', KEYS[1], 'i:' .. ARGV[i], ARGV[i + 1] .. ':' .. ARGV[i + 2], 'p:' .. ARGV[i + 1], ARGV[i]) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "local sequence = tonumber(redis.call('GET', KEYS[2]) or '-1') " +
+            "if sequence >= 0 and sequence < tonumber(ARGV[4]) then redis.call('SET', KEYS[2], ARGV[4]) end " +
+            "return 1", Long.class);
+
+    /** 장바구니 아이템 ID 카운터를 DB 최대값 이상으로 맞춥니다. ARGV: DB 최대 아이템 ID */
+    private static final RedisScript<Long> SEED_SEQUENCE_SCRIPT = new DefaultRedisScript<>(
+            "local sequence = tonumber(redis.call('GET', KEYS[1]) or '-1') " +
+            "if sequence < tonumber(ARGV[1]) then redis.call('SET', KEYS[1], ARGV[1]) end " +
+            "return 1", Long.class);
+
+    /** 잠금 해제 (내가 잡은 잠금일 때만). ARGV: 잠금 토큰 */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private static final String MAX_CART_ITEM_ID_SQL = "SELECT COALESCE(MAX(cart_item_id), 0) FROM cart_item";
+    private static final String SELECT_CART_SQL =
+            "SELECT c.cart_id, ci.cart_item_id, ci.product_id, ci.quantity FROM cart c " +
+            "LEFT JOIN cart_item ci ON ci.cart_id = c.cart_id WHERE c.member_id = ?";
+    private static final String SELECT_CART_ID_SQL = "SELECT cart_id FROM cart WHERE member_id = ?";
+    private static final String INSERT_CART_SQL =
+            "INSERT INTO cart (member_id, reg_time, update_time, created_by, modified_by) VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_CART_ITEMS_SQL =
+            "SELECT cart_item_id, quantity FROM cart_item WHERE cart_id = ?";
+    private static final String DELETE_CART_ITEM_SQL = "DELETE FROM cart_item WHERE cart_item_id = ? AND cart_id = ?";
+    private static final String UPSERT_CART_ITEM_SQL =
+            "INSERT INTO cart_item (cart_item_id, cart_id, product_id, quantity, reg_time, update_time, created_by, modified_by) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE quantity = VALUES(quantity), update_time = VALUES(update_time), modified_by = VALUES(modified_by)";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberRepository memberRepository;
+    private final long ttlSeconds;
+    private final int flushBatchSize;
+    private final long lockMillis;
+
+    public RedisCartStore(@Qualifier("redisStringTemplate") RedisTemplate<String, String> redisTemplate,
+                          JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          MemberRepository memberRepository,
+                          @Value("${cart.store.ttl-hours:168}") long ttlHours,
+                          @Value("${cart.store.flush-batch-size:100}") int flushBatchSize,
+                          @Value("${cart.store.lock-ms:10000}") long lockMillis) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.memberRepository = memberRepository;
+        this.ttlSeconds = Duration.ofHours(ttlHours).toSeconds();
+        this.flushBatchSize = flushBatchSize;
+        this.lockMillis = lockMillis;
+    }
+
+    /**
+     * 장바구니에 상품을 담습니다. (이미 담긴 상품이면 수량 증가)
+     * @return 장바구니 아이템 ID
+     */
+    public Long add(String email, Long productId, int quantity) {
+        return execute(ADD_SCRIPT, email, List.of(cartKey(email), DIRTY_KEY, SEQUENCE_KEY),
+                String.valueOf(productId), String.valueOf(quantity), email, String.valueOf(ttlSeconds));
+    }
+
+    /**
+     * 여러 상품을 스크립트 한 번으로 담습니다. (이미 담긴 상품이면 수량 증가, 전부 담기거나 하나도 안 담김)
+     * @param quantities 상품 ID → 담을 수량
+     * @return 상품 ID → 장바구니 아이템 ID
+     */
+    public Map<Long, Long> addAll(String email, Map<Long, Integer> quantities) {
+        List<String> args = new ArrayList<>(2 + quantities.size() * 2);
+        args.add(email);
+        args.add(String.valueOf(ttlSeconds));
+        quantities.forEach((productId, quantity) -> {
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+        List<String> keys = List.of(cartKey(email), DIRTY_KEY, SEQUENCE_KEY);
+        List<?> ids = redisTemplate.execute(ADD_ALL_SCRIPT, keys, args.toArray());
+        if (isResult(ids, NOT_LOADED)) {
+            ensureLoaded(email);
+            ids = redisTemplate.execute(ADD_ALL_SCRIPT, keys, args.toArray());
+        }
+        if (isResult(ids, NO_SEQUENCE)) {
+            seedSequence();
+            ids = redisTemplate.execute(ADD_ALL_SCRIPT, keys, args.toArray());
+        }
+        if (ids == null || ids.size() != quantities.size()) {
+            throw new IllegalStateException("장바구니를 처리할 수 없습니다. 사용자: " + email);
+        }
+        Map<Long, Long> cartItemIds = new HashMap<>();
+        int index = 0;
+        for (Long productId : quantities.keySet()) {
+            cartItemIds.put(productId, ((Number) ids.get(index++)).longValue());
+        }
+        return cartItemIds;
+    }
+
+    /**
+     * 장바구니 아이템 수량을 변경합니다.
+     * @param quantity 새 수량 (1 이상, 스크립트가 부호 없는 정수만 처리하므로 호출한 쪽에서 확인)
+     * @throws EntityNotFoundException 회원의 장바구니에 없는 아이템인 경우
+     */
+    public void updateQuantity(String email, Long cartItemId, int quantity) {
+        Long productId = execute(UPDATE_SCRIPT, email, List.of(cartKey(email), DIRTY_KEY),
+                String.valueOf(cartItemId), String.valueOf(quantity), email, String.valueOf(ttlSeconds));
+        if (productId == 0) {
+            throw new EntityNotFoundException("장바구니 아이템을 찾을 수 없습니다. ID: " + cartItemId);
+        }
+    }
+
+    /**
+     * 장바구니 아이템을 삭제합니다.
+     * @throws EntityNotFoundException 회원의 장바구니에 없는 아이템인 경우
+     */
+    public void remove(String email, Long cartItemId) {
+        Long productId = execute(REMOVE_SCRIPT, email, List.of(cartKey(email), DIRTY_KEY),
+                String.valueOf(cartItemId), email, String.valueOf(ttlSeconds));
+        if (productId == 0) {
+            throw new EntityNotFoundException("장바구니 아이템을 찾을 수 없습니다. ID: " + cartItemId);
+        }
+    }
+
+    /** 장바구니의 모든 아이템을 삭제합니다. */
+    public void clear(String email) {
+        redisTemplate.execute(CLEAR_SCRIPT, List.of(cartKey(email), DIRTY_KEY), email, String.valueOf(ttlSeconds));
+    }
+
+    /**
+     * 장바구니에서 주어진 상품의 아이템만 삭제합니다. (결제 완료된 상품 비우기)
+     * - Redis 에 장바구니가 없으면 아무것도 하지 않습니다. (DB 장바구니는 호출한 쪽에서 정리)
+     * @return 삭제된 아이템 수
+     */
+    public long removeProducts(String email, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        List<String> args = new ArrayList<>(2 + productIds.size());
+        args.add(email);
+        args.add(String.valueOf(ttlSeconds));
+        productIds.forEach(productId -> args.add(String.valueOf(productId)));
+        Long removed = redisTemplate.execute(REMOVE_PRODUCTS_SCRIPT, List.of(cartKey(email), DIRTY_KEY), args.toArray());
+        return removed != null ? removed : 0;
+    }
+
+    /**
+     * 장바구니 아이템 목록 (장바구니 아이템 ID 순)
+     */
+    public List<CartLine> getLines(String email) {
+        ensureLoaded(email);
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(cartKey(email));
+        List<CartLine> lines = new ArrayList<>();
+        entries.forEach((field, value) -> {
+            String name = String.valueOf(field);
+            if (name.startsWith("i:")) {
+                lines.add(CartLine.parse(Long.valueOf(name.substring(2)), String.valueOf(value)));
+            }
+        });
+        lines.sort(Comparator.comparing(CartLine::getCartItemId));
+        return lines;
+    }
+
+    /**
+     * 회원의 장바구니 아이템을 조회합니다.
+     * @return 회원의 장바구니에 없으면 null
+     */
+    public CartLine getLine(String email, Long cartItemId) {
+        ensureLoaded(email);
+        Object value = redisTemplate.opsForHash().get(cartKey(email), "i:" + cartItemId);
+        return value != null ? CartLine.parse(cartItemId, String.valueOf(value)) : null;
+    }
+
+    /**
+     * 로그인 시 장바구니 준비
+     * - Redis 에 장바구니가 없으면 DB 에서 불러옵니다. 있으면 아직 DB 에 반영되지 않은 최신 상태이므로 그대로 둡니다.
+     */
+    public void reconcile(Member member) {
+        load(member.getEmail(), member.getId());
+    }
+
+    /**
+     * 변경된 장바구니를 모아서 DB 에 반영합니다. (write-behind)
+     * - 반영에 실패하거나 다른 서버가 반영 중인 장바구니는 다음 주기에 다시 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${cart.store.flush-interval-ms:2000}")
+    public void flushDirty() {
+        List<String> emails;
+        try {
+            emails = redisTemplate.opsForSet().pop(DIRTY_KEY, flushBatchSize);
+        } catch (Exception e) {
+            log.warn("장바구니 반영 대상 조회 실패: {}", e.getMessage());
+            return;
+        }
+        if (emails == null || emails.isEmpty()) {
+            return;
+        }
+        int flushed = 0;
+        for (String email : emails) {
+            boolean done;
+            try {
+                done = flush(email);
+            } catch (Exception e) {
+                log.error("장바구니 DB 반영 실패 - 사용자: {}", email, e);
+                done = false;
+            }
+            if (done) {
+                flushed++;
+            } else {
+                redisTemplate.opsForSet().add(DIRTY_KEY, email);
+            }
+        }
+        log.debug("장바구니 DB 반영 - 대상: {}, 완료: {}", emails.size(), flushed);
+    }
+
+    /** 장바구니 아이템 ID 카운터를 DB 최대값 이상으로 맞춥니다. (기동 직후) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedSequence() {
+        try {
+            Long maxId = jdbcTemplate.queryForObject(MAX_CART_ITEM_ID_SQL, Long.class);
+            redisTemplate.execute(SEED_SEQUENCE_SCRIPT, List.of(SEQUENCE_KEY), String.valueOf(maxId));
+        } catch (Exception e) {
+            log.warn("장바구니 아이템 ID 카운터 초기화 실패 - 첫 담기 시 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스크립트를 실행하고, 장바구니나 ID 카운터가 아직 없으면 준비한 뒤 한 번 더 실행합니다.
+     */
+    private Long execute(RedisScript<Long> script, String email, List<String> keys, Object... args) {
+        Long result = redisTemplate.execute(script, keys, args);
+        if (result != null && result == NOT_LOADED) {
+            ensureLoaded(email);
+            result = redisTemplate.execute(script, keys, args);
+        }
+        if (result != null && result == NO_SEQUENCE) {
+            seedSequence();
+            result = redisTemplate.execute(script, keys, args);
+        }
+        if (result == null || result < 0) {
+            throw new IllegalStateException("장바구니를 처리할 수 없습니다. 사용자: " + email);
+        }
+        return result;
+    }
+
+    private static boolean isResult(List<?> result, long code) {
+        return result != null && result.size() == 1 && ((Number) result.get(0)).longValue() == code;
+    }
+
+    /** Redis 에 장바구니가 없으면 DB 에서 불러옵니다. (Redis 에서 만료된 경우에만 DB 조회) */
+    private void ensureLoaded(String email) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(cartKey(email)))) {
+            return;
+        }
+        Member member = memberRepository.findByEmail(email);
+        if (member == null) {
+            throw new EntityNotFoundException("회원을 찾을 수 없습니다. Email: " + email);
+        }
+        load(email, member.getId());
+    }
+
+    private void load(String email, Long memberId) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(memberId));
+        args.add("");
+        args.add(String.valueOf(ttlSeconds));
+        args.add("0");
+        long[] maxId = {0};
+        jdbcTemplate.query(SELECT_CART_SQL, (RowCallbackHandler) rs -> {
+            args.set(1, String.valueOf(rs.getLong("cart_id")));
+            long cartItemId = rs.getLong("cart_item_id");
+            if (!rs.wasNull()) {
+                args.add(String.valueOf(cartItemId));
+                args.add(String.valueOf(rs.getLong("product_id")));
+                args.add(String.valueOf(rs.getInt("quantity")));
+                maxId[0] = Math.max(maxId[0], cartItemId);
+            }
+        }, memberId);
+        args.set(3, String.valueOf(maxId[0]));
+        redisTemplate.execute(LOAD_SCRIPT, List.of(cartKey(email), SEQUENCE_KEY), args.toArray());
+    }
+
+    /**
+     * 장바구니 하나를 DB 에 반영합니다.
+     * @return 다른 서버가 반영 중이라 건너뛰었으면 false
+     */
+    private boolean flush(String email) {
+        String lockKey = LOCK_KEY_PREFIX + email;
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockMillis, TimeUnit.MILLISECONDS))) {
+            return false;
+        }
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(cartKey(email));
+            if (entries.isEmpty() || entries.get("m") == null) {
+                return true;
+            }
+            Long memberId = Long.valueOf(String.valueOf(entries.get("m")));
+            Long knownCartId = entries.get("c") != null ? Long.valueOf(String.valueOf(entries.get("c"))) : null;
+            Map<Long, CartLine> lines = new HashMap<>();
+            entries.forEach((field, value) -> {
+                String name = String.valueOf(field);
+                if (name.startsWith("i:")) {
+                    CartLine line = CartLine.parse(Long.valueOf(name.substring(2)), String.valueOf(value));
+                    lines.put(line.getCartItemId(), line);
+                }
+            });
+
+            Long cartId = transactionTemplate.execute(status -> writeCart(email, memberId, knownCartId, lines));
+            if (knownCartId == null && cartId != null) {
+                redisTemplate.opsForHash().put(cartKey(email), "c", String.valueOf(cartId));
+            }
+            return true;
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+        }
+    }
+
+    /** 장바구니 행을 준비하고, 아이템을 Redis 상태와 같게 맞춥니다. (바뀐 아이템만 씀) */
+    private Long writeCart(String email, Long memberId, Long knownCartId, Map<Long, CartLine> lines) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long cartId = knownCartId;
+        if (cartId == null) {
+            cartId = jdbcTemplate.query(SELECT_CART_ID_SQL, rs -> rs.next() ? rs.getLong(1) : null, memberId);
+        }
+        if (cartId == null) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_CART_SQL, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, memberId);
+                ps.setTimestamp(2, now);
+                ps.setTimestamp(3, now);
+                ps.setString(4, email);
+                ps.setString(5, email);
+                return ps;
+            }, keyHolder);
+            cartId = keyHolder.getKey().longValue();
+        }
+
+        Map<Long, Integer> stored = new HashMap<>();
+        jdbcTemplate.query(SELECT_CART_ITEMS_SQL, (RowCallbackHandler) rs ->
+                stored.put(rs.getLong("cart_item_id"), rs.getInt("quantity")), cartId);
+
+        List<Object[]> deletes = new ArrayList<>();
+        for (Long cartItemId : stored.keySet()) {
+            if (!lines.containsKey(cartItemId)) {
+                deletes.add(new Object[]{cartItemId, cartId});
+            }
+        }
+        List<Object[]> upserts = new ArrayList<>();
+        for (CartLine line : lines.values()) {
+            Integer storedQuantity = stored.get(line.getCartItemId());
+            if (storedQuantity == null || storedQuantity != line.getQuantity()) {
+                upserts.add(new Object[]{line.getCartItemId(), cartId, line.getProductId(), line.getQuantity(),
+                        now, now, email, email});
+            }
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_CART_ITEM_SQL, deletes);
+        }
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_CART_ITEM_SQL, upserts);
+        }
+        return cartId;
+    }
+
+    private static String cartKey(String email) {
+        return CART_KEY_PREFIX + email;
+    }
+
+    /** Redis 장바구니 아이템 */
+    public static final class CartLine {
+        private final Long cartItemId;
+        private final Long productId;
+        private final int quantity;
+
+        private CartLine(Long cartItemId, Long productId, int quantity) {
+            this.cartItemId = cartItemId;
+            this.productId = productId;
+            this.quantity = quantity;
+        }
+
+        /** "{상품 ID}:{수량}" 형식의 값을 읽습니다. */
+        static CartLine parse(Long cartItemId, String value) {
+            int separator = value.indexOf(':');
+            return new CartLine(cartItemId, Long.valueOf(value.substring(0, separator)),
+                    Integer.parseInt(value.substring(separator + 1)));
+        }
+
+        public Long getCartItemId() {
+            return cartItemId;
+        }
+
+        public Long getProductId() {
+            return productId;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.javalab.student.service.cartOrder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 만료된 재고 예약 정리 스케줄러
+ * - 1분마다 결제 대기 시간이 지난 주문을 찾아 주문 단위 트랜잭션으로 재고를 복원합니다.
+ * - 한 주문의 처리 실패가 다른 주문의 처리에 영향을 주지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationExpiryScheduler {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final StockReservationService stockReservationService;
+
+    @Scheduled(fixedDelayString = "${stock.reservation.sweep-interval-ms:60000}")
+    public void releaseExpiredReservations() {
+        List<Long> orderIds;
+        do {
+            orderIds = stockReservationService.findExpiredOrderIds(BATCH_SIZE);
+            int failed = 0;
+            for (Long orderId : orderIds) {
+                try {
+                    stockReservationService.expire(orderId);
+                } catch (Exception e) {
+                    failed++;
+                    log.error("만료 재고 예약 처리 실패 - 주문 ID: {}", orderId, e);
+                }
+            }
+            if (failed > 0) {
+                // 실패한 주문은 다음 주기에 다시 시도합니다.
+                return;
+            }
+        } while (orderIds.size() == BATCH_SIZE);
+    }
+}
@@ -0,0 +1,207 @@
+package com.javalab.student.service.cartOrder;
+
+import com.javalab.student.constant.OrderStatus;
+import com.javalab.student.constant.ReservationStatus;
+import com.javalab.student.entity.cartOrder.Order;
+import com.javalab.student.entity.cartOrder.OrderItem;
+import com.javalab.student.entity.cartOrder.StockReservation;
+import com.javalab.student.repository.cartOrder.OrderRepository;
+import com.javalab.student.repository.cartOrder.StockReservationRepository;
+import com.javalab.student.repository.product.ProductRepository;
+import com.javalab.student.service.cartOrder.sales.OrderSalesChangedEvent;
+import com.javalab.student.service.product.detail.ProductDetailChangedEvent;
+import com.javalab.student.service.product.trending.ProductPurchasedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재고 예약 서비스
+ *
+ * 주문 생성 시점에 재고를 조건부 UPDATE(stock >= 수량)로 원자적으로 차감하고, 예약 내역을 남깁니다.
+ * - 결제 완료: 예약 확정 (재고 차감 유지)
+ * - 주문 취소: 예약 해제 (재고 복원)
+ * - 결제 대기 시간 초과: StockReservationExpiryScheduler 가 예약을 만료(EXPIRED)시키고 주문을 취소합니다.
+ * 예약 상태는 조건부 UPDATE 로만 바꾸므로 확정/취소/만료가 동시에 일어나도 재고는 정확히 한 번만 복원됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationService {
+
+    private final ProductRepository productRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 결제 대기 중 재고를 잡아두는 시간 (분) */
+    @Value("${stock.reservation.ttl-minutes:15}")
+    private long ttlMinutes;
+
+    /**
+     * 주문 아이템의 재고를 차감하고 예약을 생성합니다.
+     * - 상품 ID 순서로 차감하여 여러 상품을 동시에 주문해도 행 잠금 순서가 엇갈리지 않습니다(교착 상태 방지).
+     * - 하나라도 재고가 부족하면 예외가 발생하고, 호출한 트랜잭션 전체(주문 생성 포함)가 롤백됩니다.
+     *
+     * @param order 저장된 주문 (ID 필요)
+     * @throws IllegalStateException 재고가 부족한 경우
+     */
+    @Transactional
+    public void reserve(Order order) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItem orderItem : order.getOrderItems()) {
+            quantities.merge(orderItem.getProduct().getId(), orderItem.getCount(), Integer::sum);
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(ttlMinutes);
+        List<StockReservation> reservations = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> {
+            if (productRepository.decreaseStock(productId, quantity) == 0) {
+                throw new IllegalStateException("재고가 부족합니다. 상품 ID: " + productId + ", 요청 수량: " + quantity);
+            }
+            reservations.add(StockReservation.builder()
+                    .orderId(order.getId())
+                    .productId(productId)
+                    .quantity(quantity)
+                    .status(ReservationStatus.RESERVED)
+                    .expiresAt(expiresAt)
+                    .build());
+        });
+        stockReservationRepository.saveAll(reservations);
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(List.copyOf(quantities.keySet())));
+        log.info("재고 예약 완료 - 주문 ID: {}, 상품 수: {}, 만료: {}", order.getId(), reservations.size(), expiresAt);
+    }
+
+    /**
+     * 결제가 완료된 주문의 예약을 확정합니다.
+     * - 결제 대기 시간이 지나 만료된 예약은 재고를 다시 차감해 확정합니다.
+     * - 관리자/PG 취소로 해제된 예약은 되살리지 않고 예외를 던집니다. (결제 반영 트랜잭션 전체 롤백)
+     * - 이번에 확정된 예약만 구매 이벤트(ProductPurchasedEvent)로 발행하므로 같은 결제를 다시 확정해도 인기 점수는 한 번만 오릅니다.
+     *   매출 집계 이벤트(OrderSalesChangedEvent)도 같은 조건으로 한 번만 발행됩니다.
+     *
+     * @param orderId 주문 ID
+     * @throws IllegalStateException 취소된 예약이 있거나, 만료된 예약의 재고를 다시 확보하지 못한 경우
+     */
+    @Transactional
+    public void confirm(Long orderId) {
+        Map<Long, Integer> purchased = new TreeMap<>();
+        for (StockReservation reservation : stockReservationRepository.findByOrderId(orderId)) {
+            if (stockReservationRepository.changeStatus(reservation.getId(),
+                    ReservationStatus.RESERVED, ReservationStatus.CONFIRMED) == 1) {
+                purchased.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+                continue;
+            }
+            if (reservation.getStatus() == ReservationStatus.RELEASED) {
+                throw new IllegalStateException("취소된 주문입니다. 주문 ID: " + orderId);
+            }
+            if (stockReservationRepository.changeStatus(reservation.getId(),
+                    ReservationStatus.EXPIRED, ReservationStatus.CONFIRMED) == 1) {
+                if (productRepository.decreaseStock(reservation.getProductId(), reservation.getQuantity()) == 0) {
+                    throw new IllegalStateException("결제 대기 시간이 지나 재고가 소진되었습니다. 주문 ID: "
+                            + orderId + ", 상품 ID: " + reservation.getProductId());
+                }
+                purchased.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+                eventPublisher.publishEvent(new ProductDetailChangedEvent(List.of(reservation.getProductId())));
+                log.warn("만료된 재고 예약을 다시 확보했습니다 - 주문 ID: {}, 상품 ID: {}", orderId, reservation.getProductId());
+            }
+        }
+        if (!purchased.isEmpty()) {
+            eventPublisher.publishEvent(new ProductPurchasedEvent(purchased));
+            eventPublisher.publishEvent(new OrderSalesChangedEvent(orderId, false));
+        }
+    }
+
+    /**
+     * 주문의 예약을 해제하고 재고를 복원합니다. (주문 취소)
+     * - 결제 대기(RESERVED)와 결제 완료(CONFIRMED) 예약 모두 해제합니다.
+     * - 이미 해제/만료된 예약은 건너뛰므로 여러 번 호출해도 재고는 한 번만 복원됩니다.
+     * - 결제 완료 예약을 해제했으면 매출 차감 이벤트(OrderSalesChangedEvent)를 발행합니다.
+     *
+     * @param orderId 주문 ID
+     * @return 해제된 예약 수
+     */
+    @Transactional
+    public int release(Long orderId) {
+        int released = 0;
+        boolean confirmedReleased = false;
+        for (StockReservation reservation : stockReservationRepository.findByOrderId(orderId)) {
+            if (releaseIfStatus(reservation, ReservationStatus.RESERVED, ReservationStatus.RELEASED)) {
+                released++;
+            } else if (releaseIfStatus(reservation, ReservationStatus.CONFIRMED, ReservationStatus.RELEASED)) {
+                released++;
+                confirmedReleased = true;
+            }
+        }
+        if (confirmedReleased) {
+            eventPublisher.publishEvent(new OrderSalesChangedEvent(orderId, true));
+        }
+        log.info("재고 예약 해제 - 주문 ID: {}, 해제 수: {}", orderId, released);
+        return released;
+    }
+
+    /**
+     * 결제 대기 시간 초과로 취소된 주문인지 확인합니다. (만료된 예약이 있는 주문)
+     * - 관리자/PG 취소와 달리 만료로 취소된 주문은 뒤늦게 확인된 결제를 반영할 수 있습니다.
+     *
+     * @param orderId 주문 ID
+     */
+    @Transactional(readOnly = true)
+    public boolean isExpired(Long orderId) {
+        return stockReservationRepository.existsByOrderIdAndStatus(orderId, ReservationStatus.EXPIRED);
+    }
+
+    /**
+     * 만료된 결제 대기 주문의 ID 를 조회합니다.
+     *
+     * @param limit 최대 개수
+     * @return 주문 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findExpiredOrderIds(int limit) {
+        return stockReservationRepository.findExpiredOrderIds(
+                ReservationStatus.RESERVED, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 결제 대기 시간이 지난 주문의 예약을 만료(EXPIRED)시키고, 아직 결제 전인 주문은 취소합니다.
+     * - 결제 확정과 동시에 실행되어도 조건부 UPDATE 로 한쪽만 성공합니다.
+     *
+     * @param orderId 주문 ID
+     */
+    @Transactional
+    public void expire(Long orderId) {
+        int released = 0;
+        for (StockReservation reservation : stockReservationRepository.findByOrderId(orderId)) {
+            if (releaseIfStatus(reservation, ReservationStatus.RESERVED, ReservationStatus.EXPIRED)) {
+                released++;
+            }
+        }
+        if (released == 0) {
+            return;
+        }
+        orderRepository.findById(orderId)
+                .filter(order -> order.getOrderStatus() == OrderStatus.ORDERED
+                        || order.getOrderStatus() == OrderStatus.PAYMENT_PENDING)
+                .ifPresent(order -> order.setOrderStatus(OrderStatus.CANCELED));
+        log.info("결제 대기 시간 초과 - 주문 ID: {}, 재고 복원 예약 수: {}", orderId, released);
+    }
+
+    private boolean releaseIfStatus(StockReservation reservation, ReservationStatus from, ReservationStatus to) {
+        if (stockReservationRepository.changeStatus(reservation.getId(), from, to) == 0) {
+            return false;
+        }
+        productRepository.increaseStock(reservation.getProductId(), reservation.getQuantity());
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(List.of(reservation.getProductId())));
+        return true;
+    }
+}
@@ -0,0 +1,280 @@
+package com.javalab.student.service.cartOrder.archive;
+
+import com.javalab.student.constant.OrderStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 보관(archive) 서비스
+ *
+ * 보관 기간(order.archive.horizon-days)이 지난 종료 주문(주문 완료/배송 완료/주문 취소)을
+ * 주문/주문 아이템/결제/배송 주소 테이블에서 같은 구조의 보관 테이블(*_archive)로 옮깁니다.
+ * - 주문일시 (order_date, id) 순 키셋으로 order.archive.chunk-size 건씩 잘라, 묶음마다 한 트랜잭션에서
+ *   INSERT ... SELECT 로 복사한 뒤 자식 테이블부터 DELETE 합니다. (묶음마다 커밋하므로 잠금이 짧음)
+ * - 보관 테이블은 기동 시 CREATE TABLE ... LIKE 로 만들고, 원본에 새로 생긴 컬럼은 보관 테이블에도 추가합니다.
+ *   (외래 키는 복사되지 않으므로 회원/상품이 지워져도 보관 데이터는 남음)
+ * - MariaDB 범위 파티션은 주문일을 모든 Primary/Unique 키에 넣어야 하고 외래 키가 있는 테이블에는 쓸 수 없어
+ *   (order_item/payment/address → orders) 보관 테이블 방식을 사용합니다.
+ *
+ * 읽기: 보관 테이블에 옮겨진 가장 최근 주문일시(archivedThrough)를 기억해 두고, 조회 기간이 그 이전을 포함할 때만
+ * 보관 테이블도 함께 조회합니다. (AdminOrderQuery, SalesRollupService 다시 집계, 정산 대사)
+ * 최근 주문만 보는 조회는 줄어든 원본 테이블만 읽습니다.
+ */
+@Slf4j
+@Service
+public class OrderArchiveService {
+
+    /** 옮기는 테이블 (원본, 보관, 주문 ID 컬럼) - 옮길 때는 이 순서로 복사하고 역순으로 지움 */
+    static final List<ArchiveTable> TABLES = List.of(
+            new ArchiveTable("orders", "orders_archive", "id"),
+            new ArchiveTable("order_item", "order_item_archive", "order_id"),
+            new ArchiveTable("payment", "payment_archive", "order_id"),
+            new ArchiveTable("address", "address_archive", "order_id"));
+
+    /** 보관하는 주문 상태 (더 이상 바뀌지 않는 주문) */
+    static final Set<OrderStatus> ARCHIVABLE_STATUSES = EnumSet.of(
+            OrderStatus.ORDER_COMPLETED, OrderStatus.DELIVERED, OrderStatus.CANCELED);
+
+    private static final String SELECT_CHUNK_SQL =
+            "SELECT id, order_date FROM orders WHERE order_date < ? AND (order_date > ? OR (order_date = ? AND id > ?)) " +
+            "AND order_status IN (" + ARCHIVABLE_STATUSES.stream().map(status -> "'" + status.name() + "'")
+                    .collect(Collectors.joining(", ")) + ") " +
+            "ORDER BY order_date, id LIMIT ? FOR UPDATE";
+    private static final String SELECT_COLUMNS_SQL =
+            "SELECT column_name, column_type FROM information_schema.columns " +
+            "WHERE table_schema = DATABASE() AND table_name = ? ORDER BY ordinal_position";
+    private static final String ARCHIVED_THROUGH_SQL = "SELECT MAX(order_date) FROM orders_archive";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int horizonDays;
+    private final int chunkSize;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    /** 원본 테이블별 복사할 컬럼 목록 (ensureTables 후 채움) */
+    private final Map<String, String> columnLists = new LinkedHashMap<>();
+    private volatile boolean ready;
+    /** 보관 테이블의 가장 최근 주문일시 (보관된 주문이 없으면 null) */
+    private volatile LocalDateTime archivedThrough;
+    private volatile LocalDateTime lastRunAt;
+    private volatile long lastRunCount;
+
+    public OrderArchiveService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${order.archive.enabled:true}") boolean enabled,
+                               @Value("${order.archive.horizon-days:365}") int horizonDays,
+                               @Value("${order.archive.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.horizonDays = horizonDays;
+        this.chunkSize = chunkSize;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-archive");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 조회 기간이 보관된 주문을 포함할 수 있는지 확인합니다.
+     *
+     * @param from 조회 기간 시작 주문일시 (null 이면 처음부터)
+     * @return 보관 테이블도 조회해야 하면 true
+     */
+    public boolean includesArchive(LocalDateTime from) {
+        LocalDateTime through = archivedThrough;
+        return ready && through != null && (from == null || !from.isAfter(through));
+    }
+
+    /** 보관 테이블의 가장 최근 주문일시 (보관된 주문이 없으면 null) */
+    public LocalDateTime getArchivedThrough() {
+        return archivedThrough;
+    }
+
+    /** 보관 작업 현황 (관리자용) */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("running", running.get());
+        status.put("horizonDays", horizonDays);
+        status.put("archivedThrough", archivedThrough);
+        status.put("lastRunAt", lastRunAt);
+        status.put("lastRunCount", lastRunCount);
+        return status;
+    }
+
+    /** 기동 시 보관 테이블을 준비하고 보관 기준 일시를 읽습니다. (JPA 스키마 갱신 이후) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureTables() {
+        try {
+            for (ArchiveTable table : TABLES) {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table.archive + " LIKE " + table.source);
+                Map<String, String> sourceColumns = columns(table.source);
+                Map<String, String> archiveColumns = columns(table.archive);
+                for (Map.Entry<String, String> column : sourceColumns.entrySet()) {
+                    if (!archiveColumns.containsKey(column.getKey())) {
+                        // 원본에 나중에 추가된 컬럼 (보관 테이블에서는 NULL 허용)
+                        jdbcTemplate.execute("ALTER TABLE " + table.archive + " ADD COLUMN " + column.getKey()
+                                + " " + column.getValue() + " NULL");
+                        log.info("주문 보관 테이블 컬럼 추가 - {}.{}", table.archive, column.getKey());
+                    }
+                }
+                columnLists.put(table.source, String.join(", ", sourceColumns.keySet()));
+            }
+            ready = true;
+            refreshArchivedThrough();
+        } catch (Exception e) {
+            log.error("주문 보관 테이블 준비 실패 - 보관 작업과 보관 테이블 조회를 하지 않습니다.", e);
+        }
+    }
+
+    /** 다른 서버가 옮긴 주문도 조회에 반영되도록 보관 기준 일시를 주기적으로 다시 읽습니다. */
+    @Scheduled(fixedDelayString = "${order.archive.refresh-ms:300000}", initialDelayString = "${order.archive.refresh-ms:300000}")
+    public void refreshArchivedThrough() {
+        if (!ready) {
+            return;
+        }
+        Timestamp through = jdbcTemplate.queryForObject(ARCHIVED_THROUGH_SQL, Timestamp.class);
+        archivedThrough = through != null ? through.toLocalDateTime() : null;
+    }
+
+    /** 매일 정해진 시각에 보관 작업을 실행합니다. */
+    @Scheduled(cron = "${order.archive.cron:0 40 3 * * *}")
+    public void scheduledArchive() {
+        if (enabled && ready) {
+            start();
+        }
+    }
+
+    /**
+     * 보관 작업을 백그라운드에서 시작합니다.
+     *
+     * @return 시작했으면 true, 이미 실행 중이면 false
+     * @throws IllegalStateException 보관 테이블이 준비되지 않은 경우
+     */
+    public boolean start() {
+        if (!ready) {
+            throw new IllegalStateException("주문 보관 테이블이 준비되지 않았습니다.");
+        }
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    archive(LocalDateTime.now().minusDays(horizonDays));
+                } catch (Exception e) {
+                    log.error("주문 보관 작업 실패", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void archive(LocalDateTime cutoff) {
+        long started = System.currentTimeMillis();
+        Timestamp upper = Timestamp.valueOf(cutoff);
+        Timestamp lastDate = new Timestamp(0);
+        long lastId = 0;
+        long moved = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            Timestamp afterDate = lastDate;
+            long afterId = lastId;
+            List<Object[]> chunk = transactionTemplate.execute(status -> moveChunk(upper, afterDate, afterId));
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            moved += chunk.size();
+            Object[] last = chunk.get(chunk.size() - 1);
+            lastDate = (Timestamp) last[1];
+            lastId = (Long) last[0];
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        lastRunAt = LocalDateTime.now();
+        lastRunCount = moved;
+        refreshArchivedThrough();
+        log.info("주문 보관 완료 - 기준: {} 이전, 옮긴 주문 수: {}, 소요 시간: {}ms",
+                cutoff, moved, System.currentTimeMillis() - started);
+    }
+
+    /** 묶음 하나를 옮깁니다. (트랜잭션 안에서 호출) @return 옮긴 주문의 (ID, 주문일시) */
+    private List<Object[]> moveChunk(Timestamp upper, Timestamp afterDate, long afterId) {
+        List<Object[]> chunk = new ArrayList<>(chunkSize);
+        jdbcTemplate.query(SELECT_CHUNK_SQL, (RowCallbackHandler) rs ->
+                chunk.add(new Object[]{rs.getLong("id"), rs.getTimestamp("order_date")}),
+                upper, afterDate, afterDate, afterId, chunkSize);
+        if (chunk.isEmpty()) {
+            return chunk;
+        }
+        Object[] ids = chunk.stream().map(row -> row[0]).toArray();
+        String placeholders = String.join(", ", Collections.nCopies(ids.length, "?"));
+        for (ArchiveTable table : TABLES) {
+            String columns = columnLists.get(table.source);
+            jdbcTemplate.update("INSERT INTO " + table.archive + " (" + columns + ") SELECT " + columns
+                    + " FROM " + table.source + " WHERE " + table.orderIdColumn + " IN (" + placeholders + ")", ids);
+        }
+        for (int i = TABLES.size() - 1; i >= 0; i--) {
+            ArchiveTable table = TABLES.get(i);
+            jdbcTemplate.update("DELETE FROM " + table.source + " WHERE " + table.orderIdColumn
+                    + " IN (" + placeholders + ")", ids);
+        }
+        return chunk;
+    }
+
+    private Map<String, String> columns(String table) {
+        Map<String, String> columns = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_COLUMNS_SQL, (RowCallbackHandler) rs ->
+                columns.put(rs.getString("column_name"), rs.getString("column_type")), table);
+        return columns;
+    }
+
+    /** 보관 대상 테이블 */
+    static final class ArchiveTable {
+        private final String source;
+        private final String archive;
+        private final String orderIdColumn;
+
+        private ArchiveTable(String source, String archive, String orderIdColumn) {
+            this.source = source;
+            this.archive = archive;
+            this.orderIdColumn = orderIdColumn;
+        }
+    }
+}
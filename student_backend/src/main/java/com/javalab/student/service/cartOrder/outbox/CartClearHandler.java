@@ -0,0 +1,49 @@
+package com.javalab.student.service.cartOrder.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javalab.student.constant.OutboxEventType;
+import com.javalab.student.repository.cartOrder.CartItemRepository;
+import com.javalab.student.service.cartOrder.RedisCartStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 완료 후 장바구니 비우기
+ * - 주문한 상품의 아이템만 Redis 장바구니에서 지우고(다음 반영 때 DB 에도 반영됨), DB 장바구니 아이템도 한 번의 DELETE 로 지웁니다.
+ *   결제 후 이 이벤트가 처리되기 전에 새로 담은 다른 상품은 남습니다.
+ * - 상품 목록이 없는 이벤트(이전 형식)는 장바구니 전체를 비웁니다.
+ * - 이미 지워졌으면 아무것도 바뀌지 않으므로 다시 전달되어도 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartClearHandler implements OutboxEventHandler {
+
+    private final RedisCartStore redisCartStore;
+    private final CartItemRepository cartItemRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public OutboxEventType getType() {
+        return OutboxEventType.CART_CLEAR;
+    }
+
+    @Override
+    @Transactional
+    public void handle(Long orderId, String payload) throws Exception {
+        CartClearPayload cart = objectMapper.readValue(payload, CartClearPayload.class);
+        int deleted;
+        if (cart.getProductIds() == null) {
+            redisCartStore.clear(cart.getEmail());
+            deleted = cartItemRepository.deleteByMemberId(cart.getMemberId());
+        } else if (cart.getProductIds().isEmpty()) {
+            deleted = 0;
+        } else {
+            redisCartStore.removeProducts(cart.getEmail(), cart.getProductIds());
+            deleted = cartItemRepository.deleteByMemberIdAndProductIds(cart.getMemberId(), cart.getProductIds());
+        }
+        log.info("결제 완료 후 장바구니 비움 - 주문 ID: {}, 회원 ID: {}, 삭제된 DB 아이템 수: {}", orderId, cart.getMemberId(), deleted);
+    }
+}
@@ -0,0 +1,25 @@
+package com.javalab.student.service.cartOrder.outbox;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 장바구니 비우기 이벤트 내용 (OutboxEventType.CART_CLEAR)
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartClearPayload {
+
+    /** 회원 ID (DB 장바구니) */
+    private Long memberId;
+
+    /** 회원 이메일 (Redis 장바구니 키) */
+    private String email;
+
+    /** 결제된 주문의 상품 ID 목록 (이 상품들만 장바구니에서 지움, 없으면 장바구니 전체를 비움) */
+    private List<Long> productIds;
+}
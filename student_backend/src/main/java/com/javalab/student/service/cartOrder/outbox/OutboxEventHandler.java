@@ -0,0 +1,22 @@
+package com.javalab.student.service.cartOrder.outbox;
+
+import com.javalab.student.constant.OutboxEventType;
+
+/**
+ * 아웃박스 이벤트 핸들러
+ * - 종류(getType)마다 빈 하나를 등록하면 OutboxRelay 가 찾아 호출합니다.
+ * - 처리 후 완료 기록 전에 서버가 멈추면 같은 이벤트가 다시 전달되므로(최소 한 번 전달) 여러 번 처리해도 결과가 같아야 합니다.
+ */
+public interface OutboxEventHandler {
+
+    /** 처리할 이벤트 종류 */
+    OutboxEventType getType();
+
+    /**
+     * 이벤트를 처리합니다. 예외를 던지면 백오프 후 다시 전달되고, 재시도 횟수를 넘기면 데드 레터(DEAD)로 남습니다.
+     *
+     * @param aggregateId 관련 ID (주문 ID 등)
+     * @param payload     이벤트 내용 (JSON)
+     */
+    void handle(Long aggregateId, String payload) throws Exception;
+}
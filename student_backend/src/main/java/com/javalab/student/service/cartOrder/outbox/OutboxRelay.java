@@ -0,0 +1,286 @@
+package com.javalab.student.service.cartOrder.outbox;
+
+import com.javalab.student.constant.OutboxEventStatus;
+import com.javalab.student.constant.OutboxEventType;
+import com.javalab.student.dto.cartOrder.OutboxStatusDto;
+import com.javalab.student.repository.cartOrder.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * outbox_event 에 쌓인 이벤트를 전용 스레드 하나가 묶음(outbox.relay.batch-size)으로 가져가 종류별 핸들러에 전달합니다.
+ * - 가져가기: SELECT ... FOR UPDATE SKIP LOCKED 로 다른 서버가 잠근 행은 건너뛰고, 같은 트랜잭션에서 PROCESSING 으로 바꿔
+ *   next_attempt_at 을 잠금 만료 시각(outbox.relay.lock-ms)으로 둡니다. 처리 중 서버가 멈추면 만료 후 다시 가져갑니다.
+ * - 처리: 성공한 이벤트는 묶음 단위 UPDATE 한 번으로 DONE 으로 기록합니다.
+ *   실패하면 지수 백오프로 다시 PENDING 으로 두고, outbox.relay.max-attempts 를 넘기면 DEAD(데드 레터)로 남깁니다.
+ * - 실행 시점: 이벤트를 추가한 트랜잭션이 커밋되면 바로 깨우고(wakeUp), 놓친 이벤트와 재시도는 outbox.relay.poll-interval-ms 주기로 처리합니다.
+ * - 같은 주문의 이벤트라도 처리 순서는 보장하지 않습니다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    /** 한 번 깨어났을 때 처리할 최대 묶음 수 (나머지는 다음 주기) */
+    private static final int MAX_BATCHES_PER_DRAIN = 20;
+
+    private static final String CLAIM_SQL =
+            "SELECT event_id, event_type, aggregate_id, payload, attempts FROM outbox_event " +
+            "WHERE status IN ('PENDING', 'PROCESSING') AND next_attempt_at <= ? " +
+            "ORDER BY event_id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String MARK_PROCESSING_SQL =
+            "UPDATE outbox_event SET status = 'PROCESSING', next_attempt_at = ? WHERE event_id IN (%s)";
+    private static final String MARK_DONE_SQL =
+            "UPDATE outbox_event SET status = 'DONE', processed_at = ?, last_error = NULL " +
+            "WHERE event_id IN (%s) AND status = 'PROCESSING'";
+    private static final String RESCHEDULE_SQL =
+            "UPDATE outbox_event SET status = 'PENDING', attempts = ?, next_attempt_at = ?, last_error = ? " +
+            "WHERE event_id = ? AND status = 'PROCESSING'";
+    private static final String MARK_DEAD_SQL =
+            "UPDATE outbox_event SET status = 'DEAD', attempts = ?, processed_at = ?, last_error = ? " +
+            "WHERE event_id = ? AND status = 'PROCESSING'";
+    private static final String PURGE_SQL =
+            "DELETE FROM outbox_event WHERE status = 'DONE' AND processed_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<OutboxEventType, OutboxEventHandler> handlers = new EnumMap<>(OutboxEventType.class);
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long lockMillis;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final int retentionDays;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       OutboxEventRepository outboxEventRepository,
+                       List<OutboxEventHandler> handlerBeans,
+                       @Value("${outbox.relay.batch-size:50}") int batchSize,
+                       @Value("${outbox.relay.max-attempts:8}") int maxAttempts,
+                       @Value("${outbox.relay.lock-ms:60000}") long lockMillis,
+                       @Value("${outbox.relay.backoff-ms:2000}") long baseBackoffMillis,
+                       @Value("${outbox.relay.max-backoff-ms:600000}") long maxBackoffMillis,
+                       @Value("${outbox.retention-days:7}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.outboxEventRepository = outboxEventRepository;
+        for (OutboxEventHandler handler : handlerBeans) {
+            if (handlers.put(handler.getType(), handler) != null) {
+                throw new IllegalStateException("같은 종류의 아웃박스 핸들러가 둘 이상입니다: " + handler.getType());
+            }
+        }
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lockMillis = lockMillis;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.retentionDays = retentionDays;
+        // 실행 중 1개 + 대기 1개: 이미 다음 실행이 예약되어 있으면 추가 요청은 버림
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "outbox-relay");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * 릴레이를 깨웁니다. (이벤트를 추가한 트랜잭션 커밋 직후, 호출 스레드를 막지 않음)
+     */
+    public void wakeUp() {
+        executor.execute(this::drain);
+    }
+
+    /** 놓친 이벤트와 재시도 시각이 된 이벤트 처리 */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:1000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /** 처리가 끝난 지 outbox.retention-days 일이 지난 이벤트 삭제 */
+    @Scheduled(cron = "${outbox.purge-cron:0 20 4 * * *}")
+    public void purge() {
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        int deleted;
+        int total = 0;
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, before, 1000);
+            total += deleted;
+        } while (deleted == 1000);
+        if (total > 0) {
+            log.info("처리 완료된 아웃박스 이벤트 삭제 - {}건", total);
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_DRAIN; i++) {
+                List<ClaimedEvent> events = claim();
+                if (events.isEmpty()) {
+                    return;
+                }
+                deliver(events);
+                if (events.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 실행 실패", e);
+        }
+    }
+
+    /** 처리할 차례인 이벤트를 잠그고 PROCESSING 으로 바꿉니다. (다른 서버가 잠근 행은 건너뜀) */
+    private List<ClaimedEvent> claim() {
+        List<ClaimedEvent> events = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<ClaimedEvent> claimed = new ArrayList<>();
+            jdbcTemplate.query(CLAIM_SQL, (RowCallbackHandler) rs -> claimed.add(new ClaimedEvent(
+                    rs.getLong("event_id"),
+                    rs.getString("event_type"),
+                    rs.getObject("aggregate_id", Long.class),
+                    rs.getString("payload"),
+                    rs.getInt("attempts"))),
+                    Timestamp.valueOf(now), batchSize);
+            if (!claimed.isEmpty()) {
+                List<Object> args = new ArrayList<>();
+                args.add(Timestamp.valueOf(now.plusNanos(lockMillis * 1_000_000)));
+                claimed.forEach(event -> args.add(event.id));
+                jdbcTemplate.update(String.format(MARK_PROCESSING_SQL, placeholders(claimed.size())), args.toArray());
+            }
+            return claimed;
+        });
+        return events != null ? events : Collections.emptyList();
+    }
+
+    private void deliver(List<ClaimedEvent> events) {
+        List<Long> done = new ArrayList<>(events.size());
+        for (ClaimedEvent event : events) {
+            OutboxEventHandler handler = handlerOf(event.type);
+            if (handler == null) {
+                markDead(event, "처리할 핸들러가 없습니다: " + event.type);
+                continue;
+            }
+            try {
+                handler.handle(event.aggregateId, event.payload);
+                done.add(event.id);
+            } catch (Exception e) {
+                fail(event, e);
+            }
+        }
+        if (!done.isEmpty()) {
+            List<Object> args = new ArrayList<>();
+            args.add(Timestamp.valueOf(LocalDateTime.now()));
+            args.addAll(done);
+            jdbcTemplate.update(String.format(MARK_DONE_SQL, placeholders(done.size())), args.toArray());
+        }
+    }
+
+    private void fail(ClaimedEvent event, Exception e) {
+        int attempts = event.attempts + 1;
+        if (attempts >= maxAttempts) {
+            markDead(event, e.toString());
+            log.error("아웃박스 이벤트 처리 실패 (재시도 횟수 초과, 데드 레터) - 이벤트 ID: {}, 종류: {}, 관련 ID: {}",
+                    event.id, event.type, event.aggregateId, e);
+            return;
+        }
+        long backoff = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempts - 1, 20));
+        jdbcTemplate.update(RESCHEDULE_SQL, attempts, Timestamp.valueOf(LocalDateTime.now().plusNanos(backoff * 1_000_000)),
+                truncate(e.toString()), event.id);
+        log.warn("아웃박스 이벤트 처리 재시도 예정 - 이벤트 ID: {}, 종류: {}, 시도: {}, 대기: {}ms, 사유: {}",
+                event.id, event.type, attempts, backoff, e.toString());
+    }
+
+    private void markDead(ClaimedEvent event, String error) {
+        jdbcTemplate.update(MARK_DEAD_SQL, event.attempts + 1, Timestamp.valueOf(LocalDateTime.now()), truncate(error), event.id);
+    }
+
+    private OutboxEventHandler handlerOf(String type) {
+        try {
+            return handlers.get(OutboxEventType.valueOf(type));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 아웃박스 처리 현황 (관리자용)
+     */
+    public OutboxStatusDto getStatus() {
+        return OutboxStatusDto.builder()
+                .pending(outboxEventRepository.countByStatus(OutboxEventStatus.PENDING))
+                .processing(outboxEventRepository.countByStatus(OutboxEventStatus.PROCESSING))
+                .dead(outboxEventRepository.countByStatus(OutboxEventStatus.DEAD))
+                .build();
+    }
+
+    /**
+     * 데드 레터 이벤트를 다시 처리합니다. (시도 횟수 초기화)
+     *
+     * @return 다시 처리 대기로 돌렸으면 true, DEAD 상태가 아니면 false
+     */
+    public boolean retryDead(Long eventId) {
+        boolean retried = outboxEventRepository.retryDead(eventId, LocalDateTime.now()) == 1;
+        if (retried) {
+            log.info("데드 레터 아웃박스 이벤트 재처리 요청 - 이벤트 ID: {}", eventId);
+            wakeUp();
+        }
+        return retried;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /** 가져간 이벤트 */
+    private static class ClaimedEvent {
+        private final Long id;
+        private final String type;
+        private final Long aggregateId;
+        private final String payload;
+        private final int attempts;
+
+        ClaimedEvent(Long id, String type, Long aggregateId, String payload, int attempts) {
+            this.id = id;
+            this.type = type;
+            this.aggregateId = aggregateId;
+            this.payload = payload;
+            this.attempts = attempts;
+        }
+    }
+}
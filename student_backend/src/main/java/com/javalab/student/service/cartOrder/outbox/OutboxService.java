@@ -0,0 +1,61 @@
+package com.javalab.student.service.cartOrder.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javalab.student.constant.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 추가
+ * - 호출한 트랜잭션 안에서 outbox_event 에 INSERT 한 번만 합니다. 후속 작업(Redis, 구독 처리 등)은 커밋 후 OutboxRelay 가 처리하므로
+ *   주문/결제 트랜잭션의 길이와 응답 시간이 후속 작업에 묶이지 않습니다.
+ * - 커밋되면 릴레이를 바로 깨워 폴링 주기를 기다리지 않고 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_event (event_type, aggregate_id, payload, status, attempts, next_attempt_at, created_at) " +
+            "VALUES (?, ?, ?, 'PENDING', 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxRelay outboxRelay;
+
+    /**
+     * 이벤트를 추가합니다. (트랜잭션 안에서 호출)
+     *
+     * @param type        이벤트 종류
+     * @param aggregateId 관련 ID (주문 ID 등)
+     * @param payload     이벤트 내용 (JSON 으로 저장)
+     * @throws IllegalStateException 트랜잭션 밖에서 호출한 경우
+     */
+    public void append(OutboxEventType type, Long aggregateId, Object payload) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("아웃박스 이벤트는 트랜잭션 안에서 추가해야 합니다. 종류: " + type);
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 내용을 JSON 으로 바꿀 수 없습니다. 종류: " + type, e);
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_SQL, type.name(), aggregateId, json, now, now);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.wakeUp();
+            }
+        });
+    }
+}
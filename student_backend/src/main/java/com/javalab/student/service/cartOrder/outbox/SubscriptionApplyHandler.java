@@ -0,0 +1,58 @@
+package com.javalab.student.service.cartOrder.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javalab.student.constant.OutboxEventType;
+import com.javalab.student.service.subscription.SubscriptionService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정기 구독 결제 후 구독 반영
+ * - 활성 구독이 있으면 다음 회차 상품 목록을 결제한 상품으로 바꾸고, 없으면 새 구독을 만듭니다.
+ * - 다시 전달되면 앞서 만든 구독이 활성 구독으로 조회되어 다음 회차 상품만 같은 목록으로 다시 바뀝니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriptionApplyHandler implements OutboxEventHandler {
+
+    private final SubscriptionService subscriptionService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public OutboxEventType getType() {
+        return OutboxEventType.SUBSCRIPTION_APPLY;
+    }
+
+    @Override
+    public void handle(Long orderId, String payload) throws Exception {
+        SubscriptionApplyPayload subscription = objectMapper.readValue(payload, SubscriptionApplyPayload.class);
+
+        // 사용자가 기존 구독자인지 확인합니다.
+        boolean isSubscribed;
+        try {
+            subscriptionService.getSubscription(subscription.getMemberId());
+            isSubscribed = true;
+        } catch (EntityNotFoundException e) {
+            // 활성화된 구독 정보가 없는 경우
+            isSubscribed = false;
+        }
+
+        if (isSubscribed) {
+            log.info("기존 구독자입니다. 다음 결제 상품 목록을 업데이트합니다. 주문 ID: {}", orderId);
+            subscriptionService.updateNextSubscriptionItems(subscription.getMemberId(), subscription.getItems());
+        } else {
+            log.info("새로운 구독자입니다. 새로운 구독을 생성하고 상품 목록을 업데이트합니다. 주문 ID: {}", orderId);
+            subscriptionService.createSubscription(
+                    subscription.getMemberId(),
+                    subscription.getPayMethod(),
+                    subscription.getPostalCode(),
+                    subscription.getAddress(),
+                    subscription.getAddress(), // 상세 주소가 별도로 없다면 이렇게 사용
+                    subscription.getItems()
+            );
+        }
+    }
+}
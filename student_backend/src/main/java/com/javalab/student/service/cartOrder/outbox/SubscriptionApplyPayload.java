@@ -0,0 +1,32 @@
+package com.javalab.student.service.cartOrder.outbox;
+
+import com.javalab.student.dto.Subscription.SubscriptionUpdateNextItemDto;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 정기 구독 반영 이벤트 내용 (OutboxEventType.SUBSCRIPTION_APPLY)
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubscriptionApplyPayload {
+
+    /** 회원 ID */
+    private Long memberId;
+
+    /** 결제 수단 */
+    private String payMethod;
+
+    /** 우편번호 */
+    private String postalCode;
+
+    /** 배송지 주소 */
+    private String address;
+
+    /** 결제한 상품 (다음 회차 상품) */
+    private List<SubscriptionUpdateNextItemDto> items;
+}
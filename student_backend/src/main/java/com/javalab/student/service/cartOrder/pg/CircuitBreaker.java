@@ -0,0 +1,93 @@
+package com.javalab.student.service.cartOrder.pg;
+
+/**
+ * 서킷 브레이커 (연속 실패 기준)
+ *
+ * - CLOSED: 정상. 연속 실패가 failureThreshold 에 이르면 OPEN 으로 바뀝니다.
+ * - OPEN: 호출하지 않고 바로 실패합니다. openMillis 가 지나면 HALF_OPEN 으로 바뀝니다.
+ * - HALF_OPEN: 한 번만 시험 호출을 허용합니다. 성공하면 CLOSED, 실패하면 다시 OPEN 입니다.
+ * PG 가 응답하지 않을 때 요청마다 제한 시간을 기다리지 않고 바로 실패시켜, 장애 중에도 스레드가 묶이지 않게 합니다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        if (failureThreshold <= 0 || openMillis <= 0) {
+            throw new IllegalArgumentException("failureThreshold 와 openMillis 는 0보다 커야 합니다.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * 호출해도 되는지 확인합니다. true 를 받았으면 결과를 onSuccess()/onFailure() 로 알려야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    /** 호출 성공 (PG 가 정상 응답함) */
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /** 호출 실패 (통신 오류, 시간 초과, PG 서버 오류) */
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    /** 시험 호출을 하지 못하고 끝난 경우 (호출 전 거절 등) 다음 요청이 시험 호출을 할 수 있게 합니다. */
+    public synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /** OPEN 상태가 풀리기까지 남은 시간 (밀리초, OPEN 이 아니면 0) */
+    public synchronized long getRemainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, openMillis - (System.currentTimeMillis() - openedAt));
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+}
@@ -0,0 +1,106 @@
+package com.javalab.student.service.cartOrder.pg;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javalab.student.config.portone.PortOneProperties;
+import com.javalab.student.dto.cartOrder.PgCallStatsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포트원(Iamport) 결제 조회
+ *
+ * PortOneApiClient 로 포트원 REST API 를 직접 호출합니다. (keep-alive 연결 재사용, 인증 토큰 재사용, 호출별 응답 시간 통계)
+ * - 조회마다 payment.pg.timeout-ms 의 마감 시각을 정하고, 동시 호출 한도 대기/토큰 발급/결제 조회를 모두 그 안에 끝냅니다.
+ * - 동시 호출은 payment.pg.max-concurrency 개까지만 보내고, 마감 시각까지 자리가 나지 않으면 실패시켜
+ *   PG 장애가 요청 스레드 전체로 번지지 않게 합니다. (벌크헤드)
+ * - 통신 오류/시간 초과/PG 서버 오류가 연속되면 서킷 브레이커가 열려 payment.pg.circuit.open-ms 동안 호출 없이 바로 실패합니다.
+ *   그 뒤 한 번 시험 호출해 성공하면 다시 정상 호출합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.pg.stub", havingValue = "false", matchIfMissing = true)
+public class IamportPaymentGateway implements PaymentGateway {
+
+    private final PortOneApiClient apiClient;
+    private final long timeoutMillis;
+    private final Semaphore permits;
+    private final CircuitBreaker circuitBreaker;
+
+    public IamportPaymentGateway(PortOneProperties portOneProperties,
+                                 ObjectMapper objectMapper,
+                                 @Value("${payment.pg.base-url:https://api.iamport.kr}") String baseUrl,
+                                 @Value("${payment.pg.connect-timeout-ms:2000}") long connectTimeoutMillis,
+                                 @Value("${payment.pg.token-refresh-ahead-ms:300000}") long tokenRefreshAheadMillis,
+                                 @Value("${payment.pg.timeout-ms:5000}") long timeoutMillis,
+                                 @Value("${payment.pg.max-concurrency:8}") int maxConcurrency,
+                                 @Value("${payment.pg.circuit.failure-threshold:5}") int failureThreshold,
+                                 @Value("${payment.pg.circuit.open-ms:30000}") long openMillis) {
+        this.apiClient = new PortOneApiClient(baseUrl, portOneProperties.getApiKey(), portOneProperties.getApiSecret(),
+                objectMapper, Duration.ofMillis(connectTimeoutMillis), timeoutMillis, tokenRefreshAheadMillis);
+        this.timeoutMillis = timeoutMillis;
+        this.permits = new Semaphore(maxConcurrency);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMillis);
+    }
+
+    @Override
+    public PgPayment getPayment(String impUid) {
+        if (!circuitBreaker.tryAcquire()) {
+            apiClient.getPaymentStats().count(PgCallStats.Outcome.CIRCUIT_OPEN);
+            throw new PaymentGatewayException("PG 장애로 결제 조회를 잠시 중단했습니다. "
+                    + (circuitBreaker.getRemainingOpenMillis() / 1000 + 1) + "초 후 다시 시도해 주세요.");
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                circuitBreaker.onIgnored();
+                apiClient.getPaymentStats().count(PgCallStats.Outcome.REJECTED);
+                throw new PaymentGatewayException("PG 조회 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            circuitBreaker.onIgnored();
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayException("PG 결제 조회가 중단되었습니다. imp_uid=" + impUid, e);
+        }
+
+        try {
+            PgPayment payment = apiClient.getPayment(impUid, deadline);
+            circuitBreaker.onSuccess();
+            return payment;
+        } catch (IllegalArgumentException e) {
+            // PG 는 정상 응답함 (결제 없음, 잘못된 요청 등)
+            circuitBreaker.onSuccess();
+            throw e;
+        } catch (PaymentGatewayException e) {
+            if (e.getCause() instanceof InterruptedException) {
+                circuitBreaker.onIgnored();
+            } else {
+                circuitBreaker.onFailure();
+                log.warn("PG 결제 조회 실패 - imp_uid: {}, 사유: {}", impUid, e.getMessage());
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw new PaymentGatewayException("❌ 포트원 결제 조회 실패: " + e, e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public List<PgCallStatsDto> getCallStats() {
+        return List.of(apiClient.getTokenStats().toDto(), apiClient.getPaymentStats().toDto());
+    }
+}
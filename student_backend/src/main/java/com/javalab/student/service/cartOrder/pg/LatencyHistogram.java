@@ -0,0 +1,92 @@
+package com.javalab.student.service.cartOrder.pg;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 구간 응답 시간 히스토그램
+ * - 구간 경계(ms)마다 LongAdder 하나씩 두므로 기록은 잠금 없이 상수 시간입니다.
+ * - 백분위는 그 값이 속한 구간의 상한으로 돌려줍니다. (구간 밖이면 최댓값)
+ */
+public class LatencyHistogram {
+
+    /** 구간 상한 (ms, 포함) - 마지막 구간은 그 이상 전부 */
+    static final long[] BOUNDS_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MILLIS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMillis = new LongAdder();
+    private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /** 걸린 시간을 기록합니다. */
+    public void record(long elapsedNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(Math.max(0, elapsedNanos));
+        int index = 0;
+        while (index < BOUNDS_MILLIS.length && millis > BOUNDS_MILLIS[index]) {
+            index++;
+        }
+        buckets[index].increment();
+        count.increment();
+        totalMillis.add(millis);
+        maxMillis.accumulate(millis);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMaxMillis() {
+        return maxMillis.get();
+    }
+
+    /** 평균 (ms, 기록이 없으면 0) */
+    public long getMeanMillis() {
+        long calls = count.sum();
+        return calls == 0 ? 0 : totalMillis.sum() / calls;
+    }
+
+    /**
+     * 백분위 응답 시간 (ms, 구간 상한 기준, 기록이 없으면 0)
+     *
+     * @param percentile 0 ~ 100
+     */
+    public long getPercentileMillis(double percentile) {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(BOUNDS_MILLIS[i], getMaxMillis());
+            }
+        }
+        return getMaxMillis();
+    }
+
+    /** 구간별 건수 ("le_5ms" ... "gt_10000ms") */
+    public Map<String, Long> getBuckets() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+            result.put("le_" + BOUNDS_MILLIS[i] + "ms", buckets[i].sum());
+        }
+        result.put("gt_" + BOUNDS_MILLIS[BOUNDS_MILLIS.length - 1] + "ms", buckets[BOUNDS_MILLIS.length].sum());
+        return result;
+    }
+}
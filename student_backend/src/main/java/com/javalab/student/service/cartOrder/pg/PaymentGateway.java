@@ -0,0 +1,54 @@
+package com.javalab.student.service.cartOrder.pg;
+
+import com.javalab.student.dto.cartOrder.PgCallStatsDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * PG 결제 조회 인터페이스
+ * - 운영: IamportPaymentGateway (포트원 API, 연결/토큰 재사용, 제한 시간 적용)
+ * - 로컬/테스트: StubPaymentGateway (payment.pg.stub=true)
+ */
+public interface PaymentGateway {
+
+    /**
+     * PG 결제 고유 번호로 결제 정보를 조회합니다.
+     * - DB 트랜잭션 밖에서 호출해야 합니다. (PG 응답을 기다리는 동안 DB 커넥션을 잡지 않도록)
+     *
+     * @param impUid PG 결제 고유 번호
+     * @return 결제 정보
+     * @throws IllegalArgumentException PG 에 결제 정보가 없는 경우
+     * @throws PaymentGatewayException PG 호출이 실패하거나 제한 시간을 넘긴 경우
+     */
+    PgPayment getPayment(String impUid);
+
+    /**
+     * PG 정산 내역을 imp_uid 오름차순으로 나눠 조회합니다. (정산 대사용)
+     * - DB 트랜잭션 밖에서 호출해야 합니다.
+     *
+     * @param from        결제일 시작 (null 이면 처음부터)
+     * @param to          결제일 종료, 포함 (null 이면 끝까지)
+     * @param afterImpUid 직전 페이지 마지막 imp_uid (첫 페이지면 null)
+     * @param limit       최대 건수
+     * @return 정산 건 (imp_uid 오름차순, limit 보다 적으면 마지막 페이지)
+     * @throws IllegalStateException 정산 내역 조회를 지원하지 않는 경우 (정산 파일로 대사)
+     */
+    default List<PgPayment> getSettlements(LocalDate from, LocalDate to, String afterImpUid, int limit) {
+        throw new IllegalStateException("이 PG 연동은 정산 내역 조회를 지원하지 않습니다. 정산 파일로 대사하세요.");
+    }
+
+    /**
+     * PG 호출 서킷 브레이커 상태 (서킷 브레이커가 없으면 항상 CLOSED)
+     */
+    default CircuitBreaker.State getCircuitState() {
+        return CircuitBreaker.State.CLOSED;
+    }
+
+    /**
+     * PG 호출 종류별 결과 건수와 응답 시간 통계 (통계를 남기지 않으면 빈 목록)
+     */
+    default List<PgCallStatsDto> getCallStats() {
+        return List.of();
+    }
+}
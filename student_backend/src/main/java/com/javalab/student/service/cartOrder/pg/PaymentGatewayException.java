@@ -0,0 +1,16 @@
+package com.javalab.student.service.cartOrder.pg;
+
+/**
+ * PG 호출 실패 (통신 오류, 제한 시간 초과 등)
+ * - 결제 정보가 잘못된 경우(IllegalArgumentException)와 달리 같은 요청을 다시 시도할 수 있습니다.
+ */
+public class PaymentGatewayException extends RuntimeException {
+
+    public PaymentGatewayException(String message) {
+        super(message);
+    }
+
+    public PaymentGatewayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
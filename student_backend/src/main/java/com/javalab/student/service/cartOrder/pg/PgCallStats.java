@@ -0,0 +1,76 @@
+package com.javalab.student.service.cartOrder.pg;
+
+import com.javalab.student.dto.cartOrder.PgCallStatsDto;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PG 호출 종류 하나의 결과별 건수와 응답 시간 분포
+ */
+public class PgCallStats {
+
+    public enum Outcome {
+        /** 정상 응답 (2xx) */
+        SUCCESS,
+        /** PG 가 거절한 요청 (4xx) */
+        CLIENT_ERROR,
+        /** PG 서버 오류 (5xx) */
+        SERVER_ERROR,
+        /** 제한 시간 초과 */
+        TIMEOUT,
+        /** 연결/통신 오류 */
+        IO_ERROR,
+        /** 동시 호출 한도 초과 (보내지 않음) */
+        REJECTED,
+        /** 서킷 브레이커 열림 (보내지 않음) */
+        CIRCUIT_OPEN
+    }
+
+    private final String operation;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final Map<Outcome, LongAdder> outcomes = new EnumMap<>(Outcome.class);
+
+    public PgCallStats(String operation) {
+        this.operation = operation;
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, new LongAdder());
+        }
+    }
+
+    /** PG 로 보낸 호출의 결과와 걸린 시간을 기록합니다. */
+    public void record(Outcome outcome, long elapsedNanos) {
+        outcomes.get(outcome).increment();
+        latency.record(elapsedNanos);
+    }
+
+    /** 보내지 않은 호출(REJECTED, CIRCUIT_OPEN)을 셉니다. */
+    public void count(Outcome outcome) {
+        outcomes.get(outcome).increment();
+    }
+
+    public long getCount(Outcome outcome) {
+        return outcomes.get(outcome).sum();
+    }
+
+    public PgCallStatsDto toDto() {
+        return PgCallStatsDto.builder()
+                .operation(operation)
+                .calls(latency.getCount())
+                .success(getCount(Outcome.SUCCESS))
+                .clientError(getCount(Outcome.CLIENT_ERROR))
+                .serverError(getCount(Outcome.SERVER_ERROR))
+                .timeout(getCount(Outcome.TIMEOUT))
+                .ioError(getCount(Outcome.IO_ERROR))
+                .rejected(getCount(Outcome.REJECTED))
+                .circuitOpen(getCount(Outcome.CIRCUIT_OPEN))
+                .meanMillis(latency.getMeanMillis())
+                .p50Millis(latency.getPercentileMillis(50))
+                .p95Millis(latency.getPercentileMillis(95))
+                .p99Millis(latency.getPercentileMillis(99))
+                .maxMillis(latency.getMaxMillis())
+                .latencyBuckets(latency.getBuckets())
+                .build();
+    }
+}
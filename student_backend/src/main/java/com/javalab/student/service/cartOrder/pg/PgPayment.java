@@ -0,0 +1,54 @@
+package com.javalab.student.service.cartOrder.pg;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * PG사에서 조회한 결제 정보 (검증에 필요한 항목만)
+ */
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+public class PgPayment {
+
+    /** PG 결제 고유 번호 */
+    private final String impUid;
+
+    /** 가맹점 주문 번호 */
+    private final String merchantUid;
+
+    /** 결제 금액 */
+    private final BigDecimal amount;
+
+    /** 결제 상태 (paid, ready, cancelled, failed) */
+    private final String status;
+
+    /** 결제 수단 (card, trans, vbank 등) */
+    private final String payMethod;
+
+    /** 주문명 */
+    private final String name;
+
+    /** 구매자 이메일 */
+    private final String buyerEmail;
+
+    /** 구매자 이름 */
+    private final String buyerName;
+
+    /** 구매자 연락처 */
+    private final String buyerTel;
+
+    /** 구매자 주소 */
+    private final String buyerAddr;
+
+    /** 구매자 우편번호 */
+    private final String buyerPostcode;
+
+    /** 결제 시각 (Unix Timestamp, 초) */
+    private final Long paidAt;
+}
@@ -0,0 +1,321 @@
+package com.javalab.student.service.cartOrder.pg;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 포트원(Iamport) REST API 클라이언트
+ *
+ * - 연결: JDK HttpClient 하나를 모든 호출이 함께 쓰므로 PG 서버와의 keep-alive 연결을 재사용합니다. (호출마다 TCP/TLS 연결을 새로 맺지 않음)
+ * - 인증 토큰: 발급받은 액세스 토큰을 만료 전까지 재사용합니다. 만료 refreshAheadMillis 전부터는 현재 토큰을 쓰면서 백그라운드에서 새로 발급받고,
+ *   토큰이 없거나 만료되었으면 호출들이 발급 요청 하나를 함께 기다립니다. (single-flight, 동시에 토큰 발급 요청이 몰리지 않음)
+ *   만료 시각은 PG 응답의 now/expired_at 차이로 계산하므로 서버 간 시계 차이와 관계없습니다.
+ * - 제한 시간: 호출마다 마감 시각(deadline)을 받아 토큰 대기와 결제 조회 요청을 합쳐 그 안에 끝냅니다.
+ * - 통계: 토큰 발급/결제 조회별 결과 건수와 응답 시간 히스토그램을 남깁니다. (PgCallStats)
+ * - PG 가 401 을 돌려주면(토큰 폐기 등) 토큰을 버리고 한 번만 새 토큰으로 다시 조회합니다.
+ *   다시 조회해도 401/403 이면 PG 쪽 인증 장애(키 폐기, 토큰 서버 장애 등)로 보고 재시도 가능한 실패(PaymentGatewayException)로 던집니다.
+ */
+@Slf4j
+public class PortOneApiClient {
+
+    private static final String TOKEN_PATH = "/users/getToken";
+    private static final String PAYMENT_PATH = "/payments/";
+    /** 만료 시각에 이만큼 못 미쳐도 만료된 것으로 봅니다. (요청이 PG 에 도착하기 전에 만료되지 않도록) */
+    private static final long EXPIRY_MARGIN_MILLIS = 10_000;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String apiKey;
+    private final String apiSecret;
+    private final long tokenTimeoutMillis;
+    private final long refreshAheadMillis;
+
+    private final AtomicReference<CompletableFuture<AccessToken>> tokenRefresh = new AtomicReference<>();
+    private volatile AccessToken token;
+
+    private final PgCallStats tokenStats = new PgCallStats("token");
+    private final PgCallStats paymentStats = new PgCallStats("payment");
+
+    /**
+     * @param baseUrl            PG API 주소 (예: https://api.iamport.kr)
+     * @param connectTimeout     연결 제한 시간
+     * @param tokenTimeoutMillis 토큰 발급 요청 제한 시간
+     * @param refreshAheadMillis 만료 전 미리 새 토큰을 받는 시간
+     */
+    public PortOneApiClient(String baseUrl, String apiKey, String apiSecret, ObjectMapper objectMapper,
+                            Duration connectTimeout, long tokenTimeoutMillis, long refreshAheadMillis) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.apiKey = apiKey;
+        this.apiSecret = apiSecret;
+        this.objectMapper = objectMapper;
+        this.tokenTimeoutMillis = tokenTimeoutMillis;
+        this.refreshAheadMillis = refreshAheadMillis;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    /**
+     * 결제 정보를 조회합니다.
+     *
+     * @param impUid        PG 결제 고유 번호
+     * @param deadlineNanos 마감 시각 (System.nanoTime 기준)
+     * @throws IllegalArgumentException PG 에 결제 정보가 없거나 PG 가 요청을 거절한 경우 (인증 실패 제외)
+     * @throws PaymentGatewayException  통신 오류, 제한 시간 초과, PG 서버 오류, 토큰 발급 실패, 새 토큰으로도 인증 실패(401/403)
+     */
+    public PgPayment getPayment(String impUid, long deadlineNanos) {
+        String accessToken = accessToken(deadlineNanos);
+        HttpResponse<String> response = send(paymentStats, paymentRequest(impUid, accessToken), deadlineNanos);
+        if (response.statusCode() == 401) {
+            invalidate(accessToken);
+            response = send(paymentStats, paymentRequest(impUid, accessToken(deadlineNanos)), deadlineNanos);
+        }
+
+        int status = response.statusCode();
+        if (status >= 500) {
+            throw new PaymentGatewayException("❌ 포트원 결제 조회 실패: HTTP " + status);
+        }
+        if (status == 401 || status == 403) {
+            throw new PaymentGatewayException("❌ 포트원 결제 조회 인증 실패: HTTP " + status);
+        }
+        if (status == 404) {
+            throw new IllegalArgumentException("❌ 결제 정보 없음: imp_uid=" + impUid);
+        }
+        if (status >= 400) {
+            throw new IllegalArgumentException("❌ 포트원 결제 조회 실패: HTTP " + status + " " + response.body());
+        }
+        JsonNode payment = readJson(response.body()).path("response");
+        if (payment.isMissingNode() || payment.isNull()) {
+            throw new IllegalArgumentException("❌ 결제 정보 없음: imp_uid=" + impUid);
+        }
+        long paidAt = payment.path("paid_at").asLong(0);
+        return PgPayment.builder()
+                .impUid(text(payment, "imp_uid"))
+                .merchantUid(text(payment, "merchant_uid"))
+                .amount(payment.hasNonNull("amount") ? payment.get("amount").decimalValue() : BigDecimal.ZERO)
+                .status(text(payment, "status"))
+                .payMethod(text(payment, "pay_method"))
+                .name(text(payment, "name"))
+                .buyerEmail(text(payment, "buyer_email"))
+                .buyerName(text(payment, "buyer_name"))
+                .buyerTel(text(payment, "buyer_tel"))
+                .buyerAddr(text(payment, "buyer_addr"))
+                .buyerPostcode(text(payment, "buyer_postcode"))
+                .paidAt(paidAt > 0 ? paidAt : null)
+                .build();
+    }
+
+    public PgCallStats getTokenStats() {
+        return tokenStats;
+    }
+
+    public PgCallStats getPaymentStats() {
+        return paymentStats;
+    }
+
+    /** 쓸 수 있는 토큰을 돌려줍니다. 곧 만료되면 백그라운드에서 새로 받고, 이미 만료되었으면 새 토큰을 기다립니다. */
+    private String accessToken(long deadlineNanos) {
+        AccessToken current = token;
+        long now = System.currentTimeMillis();
+        if (current != null && now < current.expiresAt - EXPIRY_MARGIN_MILLIS) {
+            if (now >= current.expiresAt - refreshAheadMillis) {
+                refreshToken();
+            }
+            return current.value;
+        }
+
+        CompletableFuture<AccessToken> refresh = refreshToken();
+        try {
+            return refresh.get(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS).value;
+        } catch (TimeoutException e) {
+            throw new PaymentGatewayException("PG 인증 토큰 발급을 기다리는 중 제한 시간을 넘겼습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayException("PG 인증 토큰 발급 대기가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new PaymentGatewayException("PG 인증 토큰 발급 실패: " + e.getCause(), e.getCause());
+        }
+    }
+
+    /** 진행 중인 토큰 발급이 있으면 그것을, 없으면 새로 시작한 발급을 돌려줍니다. */
+    private CompletableFuture<AccessToken> refreshToken() {
+        while (true) {
+            CompletableFuture<AccessToken> running = tokenRefresh.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<AccessToken> mine = new CompletableFuture<>();
+            if (tokenRefresh.compareAndSet(null, mine)) {
+                startRefresh(mine);
+                return mine;
+            }
+        }
+    }
+
+    private void startRefresh(CompletableFuture<AccessToken> mine) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(baseUrl + TOKEN_PATH))
+                    .timeout(Duration.ofMillis(tokenTimeoutMillis))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                            Map.of("imp_key", apiKey, "imp_secret", apiSecret))))
+                    .build();
+        } catch (IOException | RuntimeException e) {
+            tokenRefresh.compareAndSet(mine, null);
+            mine.completeExceptionally(new PaymentGatewayException("PG 인증 토큰 요청을 만들 수 없습니다.", e));
+            return;
+        }
+
+        long started = System.nanoTime();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .whenComplete((response, error) -> {
+                    AccessToken fresh = null;
+                    RuntimeException failure = null;
+                    try {
+                        if (error != null) {
+                            failure = toGatewayException(tokenStats, unwrap(error), System.nanoTime() - started,
+                                    "PG 인증 토큰 발급");
+                        } else {
+                            tokenStats.record(outcomeOf(response.statusCode()), System.nanoTime() - started);
+                            fresh = parseToken(response);
+                        }
+                    } catch (RuntimeException e) {
+                        failure = e;
+                    }
+                    if (fresh != null) {
+                        token = fresh;
+                    }
+                    tokenRefresh.compareAndSet(mine, null);
+                    if (fresh != null) {
+                        mine.complete(fresh);
+                    } else {
+                        log.warn("PG 인증 토큰 발급 실패: {}", failure.getMessage());
+                        mine.completeExceptionally(failure);
+                    }
+                });
+    }
+
+    private AccessToken parseToken(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            throw new PaymentGatewayException("PG 인증 토큰 발급 실패: HTTP " + response.statusCode());
+        }
+        JsonNode body = readJson(response.body()).path("response");
+        String value = text(body, "access_token");
+        long serverNow = body.path("now").asLong(0);
+        long expiredAt = body.path("expired_at").asLong(0);
+        if (value == null || expiredAt <= serverNow) {
+            throw new PaymentGatewayException("PG 인증 토큰 응답이 올바르지 않습니다.");
+        }
+        return new AccessToken(value, System.currentTimeMillis() + (expiredAt - serverNow) * 1000);
+    }
+
+    /** PG 가 거절한 토큰을 버립니다. (그 사이 다른 호출이 새 토큰을 받았으면 그대로 둠) */
+    private void invalidate(String value) {
+        AccessToken current = token;
+        if (current != null && current.value.equals(value)) {
+            token = null;
+        }
+    }
+
+    private HttpRequest.Builder paymentRequest(String impUid, String accessToken) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + PAYMENT_PATH + URLEncoder.encode(impUid, StandardCharsets.UTF_8)))
+                .header("Authorization", accessToken)
+                .GET();
+    }
+
+    /** 남은 시간을 요청 제한 시간으로 걸어 보냅니다. */
+    private HttpResponse<String> send(PgCallStats stats, HttpRequest.Builder request, long deadlineNanos) {
+        long remaining = remainingNanos(deadlineNanos);
+        if (remaining <= 0) {
+            stats.count(PgCallStats.Outcome.TIMEOUT);
+            throw new PaymentGatewayException("PG 호출 제한 시간을 넘겼습니다.");
+        }
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request.timeout(Duration.ofNanos(remaining)).build(),
+                    HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            stats.record(outcomeOf(response.statusCode()), System.nanoTime() - started);
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayException("PG 호출이 중단되었습니다.", e);
+        } catch (IOException e) {
+            throw toGatewayException(stats, e, System.nanoTime() - started, "PG 결제 조회");
+        }
+    }
+
+    private static PaymentGatewayException toGatewayException(PgCallStats stats, Throwable error, long elapsedNanos,
+                                                              String action) {
+        if (error instanceof HttpTimeoutException) {
+            stats.record(PgCallStats.Outcome.TIMEOUT, elapsedNanos);
+            log.warn("{} 시간 초과 - {}ms", action, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            return new PaymentGatewayException(action + " 시간이 초과되었습니다.", error);
+        }
+        stats.record(PgCallStats.Outcome.IO_ERROR, elapsedNanos);
+        return new PaymentGatewayException("❌ " + action + " 실패: " + error.getMessage(), error);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static PgCallStats.Outcome outcomeOf(int status) {
+        if (status >= 500) {
+            return PgCallStats.Outcome.SERVER_ERROR;
+        }
+        return status >= 400 ? PgCallStats.Outcome.CLIENT_ERROR : PgCallStats.Outcome.SUCCESS;
+    }
+
+    private static long remainingNanos(long deadlineNanos) {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    private JsonNode readJson(String body) {
+        try {
+            return objectMapper.readTree(body == null || body.isEmpty() ? "{}" : body);
+        } catch (IOException e) {
+            throw new PaymentGatewayException("PG 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null && !value.isNull() ? value.asText() : null;
+    }
+
+    /** 액세스 토큰과 로컬 시계 기준 만료 시각 (epoch ms) */
+    private static final class AccessToken {
+        private final String value;
+        private final long expiresAt;
+
+        private AccessToken(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
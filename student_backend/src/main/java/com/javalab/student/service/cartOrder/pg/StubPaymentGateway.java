@@ -0,0 +1,114 @@
+package com.javalab.student.service.cartOrder.pg;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 로컬/테스트용 PG 스텁 (payment.pg.stub=true)
+ *
+ * 포트원에 접속하지 않고, register() 로 등록한 결제만 결제 완료(paid)로 돌려줍니다.
+ * - payment.pg.stub.delay-ms 로 PG 응답 지연을 흉내낼 수 있습니다.
+ * - 조회 횟수를 세므로 재시도/중복 요청 시 PG 호출 횟수를 확인할 수 있습니다.
+ * - 등록한 결제를 imp_uid 순으로 보관하므로 정산 내역 조회(getSettlements)로 정산 대사를 로컬에서 돌려볼 수 있습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.pg.stub", havingValue = "true")
+public class StubPaymentGateway implements PaymentGateway {
+
+    private final NavigableMap<String, PgPayment> payments = new ConcurrentSkipListMap<>();
+    private final Map<String, Integer> calls = new ConcurrentHashMap<>();
+    private volatile long delayMillis;
+
+    public StubPaymentGateway(@Value("${payment.pg.stub.delay-ms:0}") long delayMillis) {
+        this.delayMillis = delayMillis;
+        log.warn("PG 스텁 사용 중 (payment.pg.stub=true) - 실제 결제는 검증되지 않습니다.");
+    }
+
+    /**
+     * 결제 완료된 결제를 등록합니다.
+     */
+    public void register(String impUid, String merchantUid, BigDecimal amount) {
+        payments.put(impUid, PgPayment.builder()
+                .impUid(impUid)
+                .merchantUid(merchantUid)
+                .amount(amount)
+                .status("paid")
+                .payMethod("card")
+                .paidAt(System.currentTimeMillis() / 1000)
+                .build());
+    }
+
+    /**
+     * 결제를 PG 에서 취소된 상태(cancelled)로 바꿉니다.
+     */
+    public void cancel(String impUid) {
+        payments.computeIfPresent(impUid, (key, payment) -> PgPayment.builder()
+                .impUid(payment.getImpUid())
+                .merchantUid(payment.getMerchantUid())
+                .amount(payment.getAmount())
+                .status("cancelled")
+                .payMethod(payment.getPayMethod())
+                .paidAt(payment.getPaidAt())
+                .build());
+    }
+
+    /** PG 응답 지연 시간 (밀리초) */
+    public void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    /** 결제 고유 번호별 조회 횟수 */
+    public int getCallCount(String impUid) {
+        return calls.getOrDefault(impUid, 0);
+    }
+
+    /** 등록된 결제와 조회 횟수를 모두 지웁니다. */
+    public void reset() {
+        payments.clear();
+        calls.clear();
+        delayMillis = 0;
+    }
+
+    @Override
+    public PgPayment getPayment(String impUid) {
+        calls.merge(impUid, 1, Integer::sum);
+        if (delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PaymentGatewayException("PG 결제 조회가 중단되었습니다. imp_uid=" + impUid, e);
+            }
+        }
+        PgPayment payment = payments.get(impUid);
+        if (payment == null) {
+            throw new IllegalArgumentException("❌ 결제 정보 없음: imp_uid=" + impUid);
+        }
+        return payment;
+    }
+
+    @Override
+    public List<PgPayment> getSettlements(LocalDate from, LocalDate to, String afterImpUid, int limit) {
+        ZoneId zone = ZoneId.systemDefault();
+        Long fromSecond = from != null ? from.atStartOfDay(zone).toEpochSecond() : null;
+        Long toSecond = to != null ? to.plusDays(1).atStartOfDay(zone).toEpochSecond() : null;
+        NavigableMap<String, PgPayment> tail = afterImpUid != null ? payments.tailMap(afterImpUid, false) : payments;
+        return tail.values().stream()
+                .filter(payment -> fromSecond == null || (payment.getPaidAt() != null && payment.getPaidAt() >= fromSecond))
+                .filter(payment -> toSecond == null || (payment.getPaidAt() != null && payment.getPaidAt() < toSecond))
+                .limit(limit)
+                .toList();
+    }
+}
@@ -0,0 +1,22 @@
+package com.javalab.student.service.cartOrder.sales;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 주문 매출 변경 이벤트
+ * - 주문의 재고 예약이 결제 완료로 확정되거나(매출 추가), 확정된 예약이 취소로 해제될 때(매출 차감) 발행됩니다.
+ * - 예약 상태의 조건부 UPDATE 가 성공한 경우에만 발행되므로 같은 결제/취소가 다시 처리되어도 한 번만 발행됩니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class OrderSalesChangedEvent {
+
+    /** 주문 ID */
+    private final Long orderId;
+
+    /** true 면 결제 취소 (매출 차감) */
+    private final boolean canceled;
+}
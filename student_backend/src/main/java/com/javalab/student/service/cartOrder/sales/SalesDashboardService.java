@@ -0,0 +1,160 @@
+package com.javalab.student.service.cartOrder.sales;
+
+import com.javalab.student.constant.SalesDimension;
+import com.javalab.student.constant.SalesPeriod;
+import com.javalab.student.dto.cartOrder.SalesBreakdownDto;
+import com.javalab.student.dto.cartOrder.SalesTrendDto;
+import com.javalab.student.entity.cartOrder.SalesRollup;
+import com.javalab.student.entity.product.Product;
+import com.javalab.student.entity.product.ProductCategory;
+import com.javalab.student.repository.cartOrder.SalesRollupRepository;
+import com.javalab.student.repository.product.ProductCategoryRepository;
+import com.javalab.student.repository.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 매출 화면 조회 서비스
+ * - 주문/주문 아이템/결제 테이블은 읽지 않고 매출 집계(sales_rollup)만 읽으므로 주문 수와 관계없이 조회 비용이 기간 길이에만 비례합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SalesDashboardService {
+
+    /** 일별 조회 최대 기간 (일) */
+    private static final long MAX_DAILY_DAYS = 366;
+    /** 월별 조회 최대 기간 (개월) */
+    private static final long MAX_MONTHLY_MONTHS = 120;
+    /** 기준별 조회 최대 개수 */
+    private static final int MAX_BREAKDOWN_LIMIT = 100;
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final ProductRepository productRepository;
+    private final ProductCategoryRepository productCategoryRepository;
+
+    /**
+     * 기간별 전체 매출을 조회합니다. 주문이 없는 기간은 0 으로 채웁니다.
+     *
+     * @param period 기간 단위
+     * @param from   시작일 (월별이면 그 달부터)
+     * @param to     종료일 (월별이면 그 달까지)
+     * @throws IllegalArgumentException 기간이 잘못되었거나 너무 긴 경우
+     */
+    public List<SalesTrendDto> getTrend(SalesPeriod period, LocalDate from, LocalDate to) {
+        LocalDate start = periodStart(period, from);
+        LocalDate end = periodStart(period, to);
+        validateRange(period, start, end);
+
+        Map<LocalDate, SalesRollup> rows = salesRollupRepository
+                .findByPeriodTypeAndDimensionAndPeriodStartBetweenOrderByPeriodStartAsc(period, SalesDimension.TOTAL, start, end)
+                .stream()
+                .collect(Collectors.toMap(SalesRollup::getPeriodStart, Function.identity()));
+
+        List<SalesTrendDto> trend = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = next(period, date)) {
+            SalesRollup row = rows.get(date);
+            trend.add(SalesTrendDto.builder()
+                    .periodStart(date)
+                    .orderCount(row != null ? row.getOrderCount() : 0)
+                    .quantity(row != null ? row.getQuantity() : 0)
+                    .revenue(row != null ? row.getRevenue() : BigDecimal.ZERO)
+                    .build());
+        }
+        return trend;
+    }
+
+    /**
+     * 기간 안의 매출을 상품/카테고리/결제 수단별로 합쳐 매출액 상위 limit 개를 조회합니다.
+     *
+     * @param dimension 집계 기준 (TOTAL 제외)
+     * @param period    기간 단위 (월 단위로 충분하면 MONTHLY 가 읽는 행이 적음)
+     * @param from      시작일
+     * @param to        종료일
+     * @param limit     최대 개수
+     * @throws IllegalArgumentException 기준/기간이 잘못된 경우
+     */
+    public List<SalesBreakdownDto> getBreakdown(SalesDimension dimension, SalesPeriod period,
+                                                LocalDate from, LocalDate to, int limit) {
+        if (dimension == SalesDimension.TOTAL) {
+            throw new IllegalArgumentException("전체 매출은 기간별 매출 조회를 사용하세요.");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("조회 개수는 1 이상이어야 합니다.");
+        }
+        LocalDate start = periodStart(period, from);
+        LocalDate end = periodStart(period, to);
+        validateRange(period, start, end);
+
+        List<Object[]> rows = salesRollupRepository.sumByDimensionKey(period, dimension, start, end,
+                PageRequest.of(0, Math.min(limit, MAX_BREAKDOWN_LIMIT)));
+        Map<String, String> labels = labels(dimension, rows);
+
+        List<SalesBreakdownDto> breakdown = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            String key = (String) row[0];
+            breakdown.add(SalesBreakdownDto.builder()
+                    .key(key)
+                    .label(labels.getOrDefault(key, key))
+                    .orderCount(((Number) row[1]).longValue())
+                    .quantity(((Number) row[2]).longValue())
+                    .revenue((BigDecimal) row[3])
+                    .build());
+        }
+        return breakdown;
+    }
+
+    /** 상품/카테고리 ID 를 이름으로 바꿉니다. (조회된 상위 행만, 삭제된 상품/카테고리는 ID 그대로 표시) */
+    private Map<String, String> labels(SalesDimension dimension, List<Object[]> rows) {
+        if (dimension == SalesDimension.PAYMENT_METHOD || rows.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = rows.stream().map(row -> Long.valueOf((String) row[0])).toList();
+        Map<String, String> labels = new HashMap<>();
+        if (dimension == SalesDimension.PRODUCT) {
+            for (Product product : productRepository.findAllById(ids)) {
+                labels.put(String.valueOf(product.getId()), product.getName());
+            }
+        } else {
+            for (ProductCategory category : productCategoryRepository.findAllById(ids)) {
+                labels.put(String.valueOf(category.getId()), category.getName());
+            }
+        }
+        return labels;
+    }
+
+    private static LocalDate periodStart(SalesPeriod period, LocalDate date) {
+        if (period == null || date == null) {
+            throw new IllegalArgumentException("기간 단위와 기간을 입력하세요.");
+        }
+        return period == SalesPeriod.MONTHLY ? date.withDayOfMonth(1) : date;
+    }
+
+    private static LocalDate next(SalesPeriod period, LocalDate date) {
+        return period == SalesPeriod.MONTHLY ? date.plusMonths(1) : date.plusDays(1);
+    }
+
+    private static void validateRange(SalesPeriod period, LocalDate start, LocalDate end) {
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다: " + start + " ~ " + end);
+        }
+        if (period == SalesPeriod.DAILY && ChronoUnit.DAYS.between(start, end) >= MAX_DAILY_DAYS) {
+            throw new IllegalArgumentException("일별 조회는 최대 " + MAX_DAILY_DAYS + "일까지 가능합니다.");
+        }
+        if (period == SalesPeriod.MONTHLY && ChronoUnit.MONTHS.between(start, end) >= MAX_MONTHLY_MONTHS) {
+            throw new IllegalArgumentException("월별 조회는 최대 " + MAX_MONTHLY_MONTHS + "개월까지 가능합니다.");
+        }
+    }
+}
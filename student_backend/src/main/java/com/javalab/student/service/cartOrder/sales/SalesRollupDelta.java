@@ -0,0 +1,144 @@
+package com.javalab.student.service.cartOrder.sales;
+
+import com.javalab.student.constant.SalesDimension;
+import com.javalab.student.constant.SalesPeriod;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 매출 집계 증감분
+ * - 주문을 여러 건 받아 (기간 단위, 기간 시작일, 기준, 기준 값) 별 주문 수/수량/매출액 증감을 모읍니다.
+ * - 주문 1건은 일별/월별 각각 전체, 결제 수단, 주문에 담긴 상품, 그 상품의 카테고리에 반영됩니다.
+ *   같은 주문에 같은 상품(카테고리)이 여러 줄 있어도 주문 수는 한 번만 셉니다.
+ *   상품이 여러 카테고리에 속하면 카테고리마다 반영되므로 카테고리별 합계는 전체 매출보다 클 수 있습니다.
+ * - 항목은 키 순서로 돌려주므로 여러 트랜잭션이 같은 행을 같은 순서로 잠급니다. (교착 상태 방지)
+ */
+public class SalesRollupDelta {
+
+    static final String TOTAL_KEY = "ALL";
+    static final String UNKNOWN_PAYMENT_METHOD = "UNKNOWN";
+
+    private static final Comparator<Key> KEY_ORDER = Comparator
+            .comparing(Key::getPeriod)
+            .thenComparing(Key::getDimension)
+            .thenComparing(Key::getPeriodStart)
+            .thenComparing(Key::getDimensionKey);
+
+    private final Map<Key, Values> entries = new TreeMap<>(KEY_ORDER);
+
+    /**
+     * 주문 1건을 더하거나 뺍니다.
+     *
+     * @param orderDate          주문일
+     * @param paymentMethod      결제 수단 (없으면 null)
+     * @param orderAmount        주문 금액
+     * @param items              주문 아이템
+     * @param categoriesByProduct 상품 ID → 카테고리 ID 목록 (없는 상품은 카테고리 집계에서 빠짐)
+     * @param canceled           true 면 뺌 (결제 취소)
+     */
+    public void addOrder(LocalDate orderDate, String paymentMethod, BigDecimal orderAmount, List<Item> items,
+                         Map<Long, List<Long>> categoriesByProduct, boolean canceled) {
+        int sign = canceled ? -1 : 1;
+        long totalQuantity = 0;
+        Map<Long, Values> byProduct = new HashMap<>();
+        Map<Long, Values> byCategory = new HashMap<>();
+        for (Item item : items) {
+            BigDecimal itemRevenue = item.getOrderPrice().multiply(BigDecimal.valueOf(item.getCount()));
+            totalQuantity += item.getCount();
+            if (item.getProductId() == null) {
+                continue; // 삭제된 상품: 전체/결제 수단 집계에만 반영
+            }
+            byProduct.computeIfAbsent(item.getProductId(), id -> new Values(1, 0, BigDecimal.ZERO))
+                    .add(0, item.getCount(), itemRevenue);
+            for (Long categoryId : categoriesByProduct.getOrDefault(item.getProductId(), Collections.emptyList())) {
+                byCategory.computeIfAbsent(categoryId, id -> new Values(1, 0, BigDecimal.ZERO))
+                        .add(0, item.getCount(), itemRevenue);
+            }
+        }
+        String method = paymentMethod != null && !paymentMethod.isBlank() ? paymentMethod : UNKNOWN_PAYMENT_METHOD;
+        BigDecimal amount = orderAmount != null ? orderAmount : BigDecimal.ZERO;
+
+        for (SalesPeriod period : SalesPeriod.values()) {
+            LocalDate periodStart = period == SalesPeriod.MONTHLY ? orderDate.withDayOfMonth(1) : orderDate;
+            add(period, periodStart, SalesDimension.TOTAL, TOTAL_KEY, sign, 1, totalQuantity, amount);
+            add(period, periodStart, SalesDimension.PAYMENT_METHOD, method, sign, 1, totalQuantity, amount);
+            byProduct.forEach((productId, values) -> add(period, periodStart, SalesDimension.PRODUCT,
+                    String.valueOf(productId), sign, values.orderCount, values.quantity, values.revenue));
+            byCategory.forEach((categoryId, values) -> add(period, periodStart, SalesDimension.CATEGORY,
+                    String.valueOf(categoryId), sign, values.orderCount, values.quantity, values.revenue));
+        }
+    }
+
+    private void add(SalesPeriod period, LocalDate periodStart, SalesDimension dimension, String dimensionKey,
+                     int sign, long orderCount, long quantity, BigDecimal revenue) {
+        entries.computeIfAbsent(new Key(period, periodStart, dimension, dimensionKey), key -> new Values(0, 0, BigDecimal.ZERO))
+                .add(sign * orderCount, sign * quantity, sign > 0 ? revenue : revenue.negate());
+    }
+
+    /** 모은 증감분 (키 순서) */
+    public Map<Key, Values> getEntries() {
+        return Collections.unmodifiableMap(entries);
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /** 주문 아이템 1줄 */
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class Item {
+        private final Long productId;
+        private final int count;
+        private final BigDecimal orderPrice;
+    }
+
+    /** 집계 행 키 */
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    public static class Key {
+        private final SalesPeriod period;
+        private final LocalDate periodStart;
+        private final SalesDimension dimension;
+        private final String dimensionKey;
+    }
+
+    /** 집계 값 증감 */
+    @Getter
+    @ToString
+    public static class Values {
+        private long orderCount;
+        private long quantity;
+        private BigDecimal revenue;
+
+        Values(long orderCount, long quantity, BigDecimal revenue) {
+            this.orderCount = orderCount;
+            this.quantity = quantity;
+            this.revenue = revenue;
+        }
+
+        void add(long orderCount, long quantity, BigDecimal revenue) {
+            this.orderCount += orderCount;
+            this.quantity += quantity;
+            this.revenue = this.revenue.add(revenue);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.javalab.student.service.cartOrder.sales;
+
+import com.javalab.student.constant.OrderStatus;
+import com.javalab.student.constant.SalesDimension;
+import com.javalab.student.constant.SalesPeriod;
+import com.javalab.student.service.cartOrder.archive.OrderArchiveService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 매출 집계(sales_rollup) 갱신 서비스
+ *
+ * - 증분 반영: 결제 완료/결제 취소 이벤트(OrderSalesChangedEvent)가 커밋된 뒤, 그 주문 1건만 읽어 증감분을
+ *   INSERT ... ON DUPLICATE KEY UPDATE 로 더합니다. 주문 수와 관계없이 이벤트당 조회 2번, 배치 1번입니다.
+ *   반영에 실패하면 로그만 남기며, 해당 기간을 다시 집계(rebuild)하면 바로잡힙니다.
+ * - 다시 집계: 지정한 달들의 집계 행을 지우고 결제된 주문을 주문 ID 순으로 sales.rollup.rebuild-chunk-size 건씩 읽어
+ *   청크마다 더합니다. 청크마다 트랜잭션을 나누므로 주문 이력이 많아도 메모리와 잠금 시간이 청크 크기로 제한됩니다.
+ *   다시 집계하는 동안 그 기간의 주문이 결제/취소되면 이중 반영되거나 빠질 수 있으므로 주문이 적은 시간에 실행합니다.
+ *   기간이 보관된 주문(OrderArchiveService)을 포함하면 보관 테이블도 같은 방식으로 읽습니다. (보관 작업과 겹치지 않게 실행)
+ */
+@Slf4j
+@Service
+public class SalesRollupService {
+
+    /** 매출로 집계하는 주문 상태 (결제 후 취소되지 않은 주문) */
+    static final Set<OrderStatus> SALES_STATUSES = EnumSet.of(
+            OrderStatus.PAYMENT_COMPLETED, OrderStatus.PREPARING_SHIPMENT, OrderStatus.IN_TRANSIT,
+            OrderStatus.DELIVERED, OrderStatus.RETURN_REQUESTED, OrderStatus.ORDER_COMPLETED);
+
+    private static final String SELECT_ORDER_SQL =
+            "SELECT o.id, o.order_date, o.payment_method, o.order_amount, oi.product_id, oi.count, oi.order_price " +
+            "FROM orders o LEFT JOIN order_item oi ON oi.order_id = o.id WHERE o.id = ?";
+    private static final String SELECT_CATEGORIES_SQL =
+            "SELECT product_id, category_id FROM product_category_mapping WHERE product_id IN (%s)";
+    private static final String SELECT_ALL_CATEGORIES_SQL =
+            "SELECT product_id, category_id FROM product_category_mapping";
+    private static final String STREAM_ORDERS_SQL =
+            "SELECT o.id, o.order_date, o.payment_method, o.order_amount, oi.product_id, oi.count, oi.order_price " +
+            "FROM (SELECT id FROM %1$s WHERE order_date >= ? AND order_date < ? AND id > ? AND order_status IN (" +
+            SALES_STATUSES.stream().map(status -> "'" + status.name() + "'").collect(Collectors.joining(", ")) + ") " +
+            "      ORDER BY id LIMIT ?) page " +
+            "JOIN %1$s o ON o.id = page.id LEFT JOIN %2$s oi ON oi.order_id = o.id " +
+            "ORDER BY o.id";
+    private static final String DELETE_ROLLUP_SQL =
+            "DELETE FROM sales_rollup WHERE period_type = ? AND dimension = ? AND period_start >= ? AND period_start <= ?";
+    private static final String UPSERT_ROLLUP_SQL =
+            "INSERT INTO sales_rollup (period_type, dimension, period_start, dimension_key, order_count, quantity, revenue, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count), quantity = quantity + VALUES(quantity), " +
+            "revenue = revenue + VALUES(revenue), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderArchiveService orderArchiveService;
+    private final int chunkSize;
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public SalesRollupService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              OrderArchiveService orderArchiveService,
+                              @Value("${sales.rollup.rebuild-chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderArchiveService = orderArchiveService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 결제 트랜잭션 커밋 직후(AFTER_COMMIT)에도 별도 트랜잭션으로 커밋되도록 REQUIRES_NEW
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sales-rollup-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 결제 완료/결제 취소가 커밋되면 그 주문을 집계에 반영합니다.
+     */
+    @TransactionalEventListener
+    public void onOrderSalesChanged(OrderSalesChangedEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyOrder(event.getOrderId(), event.isCanceled()));
+        } catch (Exception e) {
+            log.error("매출 집계 반영 실패 (해당 기간 다시 집계 필요) - 주문 ID: {}, 취소: {}",
+                    event.getOrderId(), event.isCanceled(), e);
+        }
+    }
+
+    private void applyOrder(Long orderId, boolean canceled) {
+        List<OrderRow> rows = new ArrayList<>();
+        jdbcTemplate.query(SELECT_ORDER_SQL, (RowCallbackHandler) rs -> rows.add(OrderRow.of(rs)), orderId);
+        if (rows.isEmpty()) {
+            log.warn("매출 집계 대상 주문이 없습니다. 주문 ID: {}", orderId);
+            return;
+        }
+        Set<Long> productIds = rows.stream().map(row -> row.productId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, List<Long>> categories = new HashMap<>();
+        if (!productIds.isEmpty()) {
+            String placeholders = productIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+            jdbcTemplate.query(String.format(SELECT_CATEGORIES_SQL, placeholders),
+                    (RowCallbackHandler) rs -> categories.computeIfAbsent(rs.getLong("product_id"), id -> new ArrayList<>())
+                            .add(rs.getLong("category_id")),
+                    productIds.toArray());
+        }
+
+        SalesRollupDelta delta = new SalesRollupDelta();
+        addOrder(delta, rows, categories, canceled);
+        upsert(delta);
+    }
+
+    /**
+     * 지정한 달들의 매출 집계를 주문 이력에서 다시 만듭니다. (백그라운드 실행)
+     * - from 이 속한 달의 1일부터 to 가 속한 달의 말일까지 일별/월별 집계를 모두 다시 만듭니다.
+     *
+     * @return 시작했으면 true, 이미 실행 중이면 false
+     * @throws IllegalArgumentException 기간이 잘못된 경우
+     */
+    public boolean rebuild(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("다시 집계할 기간이 잘못되었습니다: " + from + " ~ " + to);
+        }
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        LocalDate firstDay = from.withDayOfMonth(1);
+        LocalDate lastDay = to.withDayOfMonth(to.lengthOfMonth());
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuildRange(firstDay, lastDay);
+                } catch (Exception e) {
+                    log.error("매출 다시 집계 실패 - 기간: {} ~ {}", firstDay, lastDay, e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuilding.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /** 다시 집계가 실행 중인지 */
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    private void rebuildRange(LocalDate firstDay, LocalDate lastDay) {
+        long start = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (SalesPeriod period : SalesPeriod.values()) {
+                for (SalesDimension dimension : SalesDimension.values()) {
+                    jdbcTemplate.update(DELETE_ROLLUP_SQL, period.name(), dimension.name(),
+                            Date.valueOf(firstDay), Date.valueOf(lastDay));
+                }
+            }
+        });
+
+        Map<Long, List<Long>> categories = new HashMap<>();
+        jdbcTemplate.query(SELECT_ALL_CATEGORIES_SQL, (RowCallbackHandler) rs -> categories
+                .computeIfAbsent(rs.getLong("product_id"), id -> new ArrayList<>())
+                .add(rs.getLong("category_id")));
+
+        Timestamp lower = Timestamp.valueOf(firstDay.atStartOfDay());
+        Timestamp upper = Timestamp.valueOf(lastDay.plusDays(1).atStartOfDay());
+        long orderCount = streamOrders(String.format(STREAM_ORDERS_SQL, "orders", "order_item"), lower, upper, categories);
+        if (orderArchiveService.includesArchive(firstDay.atStartOfDay())) {
+            orderCount += streamOrders(String.format(STREAM_ORDERS_SQL, "orders_archive", "order_item_archive"),
+                    lower, upper, categories);
+        }
+        log.info("매출 다시 집계 완료 - 기간: {} ~ {}, 주문 수: {}, 소요 시간: {}ms",
+                firstDay, lastDay, orderCount, System.currentTimeMillis() - start);
+    }
+
+    /** 주문 테이블(원본 또는 보관) 하나에서 기간 안의 결제된 주문을 청크 단위로 읽어 더합니다. @return 주문 수 */
+    private long streamOrders(String sql, Timestamp lower, Timestamp upper, Map<Long, List<Long>> categories) {
+        long lastOrderId = 0;
+        long orderCount = 0;
+        SalesRollupDelta delta = new SalesRollupDelta();
+        while (true) {
+            List<OrderRow> rows = new ArrayList<>();
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> rows.add(OrderRow.of(rs)),
+                    lower, upper, lastOrderId, chunkSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            int orders = addOrders(delta, rows, categories);
+            transactionTemplate.executeWithoutResult(status -> upsert(delta));
+            delta.clear();
+            orderCount += orders;
+            lastOrderId = rows.get(rows.size() - 1).orderId;
+            if (orders < chunkSize) {
+                break;
+            }
+        }
+        return orderCount;
+    }
+
+    /** 주문 ID 순으로 정렬된 행을 주문 단위로 묶어 더합니다. @return 주문 수 */
+    private int addOrders(SalesRollupDelta delta, List<OrderRow> rows, Map<Long, List<Long>> categories) {
+        int orders = 0;
+        int from = 0;
+        for (int i = 1; i <= rows.size(); i++) {
+            if (i == rows.size() || !rows.get(i).orderId.equals(rows.get(from).orderId)) {
+                addOrder(delta, rows.subList(from, i), categories, false);
+                orders++;
+                from = i;
+            }
+        }
+        return orders;
+    }
+
+    private void addOrder(SalesRollupDelta delta, List<OrderRow> rows, Map<Long, List<Long>> categories, boolean canceled) {
+        OrderRow first = rows.get(0);
+        List<SalesRollupDelta.Item> items = new ArrayList<>(rows.size());
+        for (OrderRow row : rows) {
+            if (row.count != null) {
+                items.add(new SalesRollupDelta.Item(row.productId, row.count, row.orderPrice));
+            }
+        }
+        delta.addOrder(first.orderDate.toLocalDate(), first.paymentMethod, first.orderAmount, items, categories, canceled);
+    }
+
+    private void upsert(SalesRollupDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<SalesRollupDelta.Key, SalesRollupDelta.Values>> entries = new ArrayList<>(delta.getEntries().entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_ROLLUP_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SalesRollupDelta.Key key = entries.get(i).getKey();
+                SalesRollupDelta.Values values = entries.get(i).getValue();
+                ps.setString(1, key.getPeriod().name());
+                ps.setString(2, key.getDimension().name());
+                ps.setDate(3, Date.valueOf(key.getPeriodStart()));
+                ps.setString(4, key.getDimensionKey());
+                ps.setLong(5, values.getOrderCount());
+                ps.setLong(6, values.getQuantity());
+                ps.setBigDecimal(7, values.getRevenue());
+                ps.setTimestamp(8, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /** 주문 + 주문 아이템 조인 결과 1행 (아이템이 없으면 productId/count/orderPrice 가 null) */
+    private static class OrderRow {
+        private Long orderId;
+        private LocalDateTime orderDate;
+        private String paymentMethod;
+        private BigDecimal orderAmount;
+        private Long productId;
+        private Integer count;
+        private BigDecimal orderPrice;
+
+        static OrderRow of(ResultSet rs) throws SQLException {
+            OrderRow row = new OrderRow();
+            row.orderId = rs.getLong("id");
+            row.orderDate = rs.getTimestamp("order_date").toLocalDateTime();
+            row.paymentMethod = rs.getString("payment_method");
+            row.orderAmount = rs.getBigDecimal("order_amount");
+            row.productId = rs.getObject("product_id", Long.class);
+            row.count = rs.getObject("count", Integer.class);
+            row.orderPrice = rs.getBigDecimal("order_price");
+            return row;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.javalab.student.service.cartOrder.settlement;
+
+import com.javalab.student.service.cartOrder.pg.PgPayment;
+import com.javalab.student.service.product.bulk.CsvReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정산 파일(CSV) 정산 내역
+ * - 첫 줄은 헤더이며 imp_uid, amount, status 열이 필요하고 merchant_uid 열은 선택입니다. (순서/대소문자/밑줄 무관)
+ * - 한 줄씩 스트리밍으로 읽습니다.
+ */
+public class CsvSettlementSource implements SettlementSource {
+
+    private final Reader reader;
+    private final CsvReader csv;
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    public CsvSettlementSource(Reader reader) throws IOException {
+        this.reader = reader;
+        this.csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("빈 정산 파일입니다.");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(normalize(header.get(i)), i);
+        }
+        if (!columns.containsKey("impuid") || !columns.containsKey("amount") || !columns.containsKey("status")) {
+            throw new IllegalArgumentException("정산 파일 헤더에 imp_uid, amount, status 열이 필요합니다.");
+        }
+    }
+
+    @Override
+    public PgPayment next() throws IOException {
+        List<String> record = csv.next();
+        if (record == null) {
+            return null;
+        }
+        String impUid = column(record, "impuid");
+        String amount = column(record, "amount");
+        String status = column(record, "status");
+        if (impUid == null || amount == null || status == null) {
+            throw new IllegalArgumentException("정산 파일 " + csv.getRecordLine() + "번째 줄: imp_uid, amount, status 값이 필요합니다.");
+        }
+        try {
+            return PgPayment.builder()
+                    .impUid(impUid)
+                    .merchantUid(column(record, "merchantuid"))
+                    .amount(new BigDecimal(amount.replace(",", "")))
+                    .status(status.toLowerCase())
+                    .build();
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("정산 파일 " + csv.getRecordLine() + "번째 줄: amount 값이 숫자가 아닙니다: " + amount);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String column(List<String> record, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String normalize(String header) {
+        return header.replace("\uFEFF", "").replace("_", "").trim().toLowerCase();
+    }
+}
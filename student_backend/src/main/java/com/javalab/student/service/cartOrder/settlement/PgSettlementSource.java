@@ -0,0 +1,54 @@
+package com.javalab.student.service.cartOrder.settlement;
+
+import com.javalab.student.service.cartOrder.pg.PaymentGateway;
+import com.javalab.student.service.cartOrder.pg.PgPayment;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * PG 정산 내역 조회(PaymentGateway.getSettlements) 정산 내역
+ * - 직전 페이지 마지막 imp_uid 다음부터 pageSize 건씩 나눠 조회하므로 메모리에는 한 페이지만 올라갑니다.
+ */
+public class PgSettlementSource implements SettlementSource {
+
+    private final PaymentGateway paymentGateway;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final int pageSize;
+    private Iterator<PgPayment> page = Collections.emptyIterator();
+    private String lastImpUid;
+    private boolean lastPage;
+
+    public PgSettlementSource(PaymentGateway paymentGateway, LocalDate from, LocalDate to, int pageSize) {
+        this.paymentGateway = paymentGateway;
+        this.from = from;
+        this.to = to;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public PgPayment next() {
+        if (!page.hasNext()) {
+            if (lastPage) {
+                return null;
+            }
+            List<PgPayment> payments = paymentGateway.getSettlements(from, to, lastImpUid, pageSize);
+            lastPage = payments.size() < pageSize;
+            page = payments.iterator();
+            if (!page.hasNext()) {
+                return null;
+            }
+        }
+        PgPayment payment = page.next();
+        lastImpUid = payment.getImpUid();
+        return payment;
+    }
+
+    @Override
+    public void close() {
+        page = Collections.emptyIterator();
+    }
+}
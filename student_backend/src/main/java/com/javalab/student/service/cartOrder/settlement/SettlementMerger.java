@@ -0,0 +1,154 @@
+package com.javalab.student.service.cartOrder.settlement;
+
+import com.javalab.student.constant.SettlementMismatchType;
+import com.javalab.student.entity.cartOrder.SettlementMismatch;
+import com.javalab.student.service.cartOrder.pg.PgPayment;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+/**
+ * PG 정산 내역과 결제 기록의 병합 조인(merge join)
+ *
+ * 두 쪽 모두 imp_uid 오름차순으로 한 건씩 받아 작은 쪽을 앞으로 보내며 비교합니다.
+ * - 결제 기록을 onPayment 로 하나씩 넘기면, 그보다 앞선 정산 건은 MISSING_IN_DB 로,
+ *   같은 imp_uid 의 정산 건이 없으면 MISSING_IN_PG 로 보고합니다.
+ * - 같은 imp_uid 면 금액(AMOUNT_MISMATCH)과 결제/취소 상태(STATUS_MISMATCH)를 비교합니다.
+ * - finish 에서 남은 정산 건을 모두 MISSING_IN_DB 로 보고합니다.
+ * 메모리에는 현재 정산 건 1건만 두므로 건수와 관계없이 일정한 메모리로 동작합니다.
+ * 어느 쪽이든 imp_uid 순서가 어긋나거나 중복되면 병합 결과를 믿을 수 없으므로 IllegalStateException 으로 중단합니다.
+ */
+public class SettlementMerger {
+
+    static final String PAID = "paid";
+    static final String CANCELLED = "cancelled";
+
+    private final SettlementSource source;
+    private final Long runId;
+    private final Consumer<SettlementMismatch> sink;
+    private PgPayment current;
+    private String lastPgImpUid;
+    private String lastDbImpUid;
+
+    @Getter
+    private long pgCount;
+    @Getter
+    private long dbCount;
+    @Getter
+    private long matchedCount;
+    @Getter
+    private long missingInDbCount;
+    @Getter
+    private long missingInPgCount;
+    @Getter
+    private long amountMismatchCount;
+    @Getter
+    private long statusMismatchCount;
+
+    /**
+     * @param source 정산 내역 (imp_uid 오름차순)
+     * @param runId  대사 실행 ID (불일치 건에 기록)
+     * @param sink   불일치 건을 받을 곳
+     */
+    public SettlementMerger(SettlementSource source, Long runId, Consumer<SettlementMismatch> sink) throws IOException {
+        this.source = source;
+        this.runId = runId;
+        this.sink = sink;
+        this.current = nextPg();
+    }
+
+    /**
+     * 결제 기록 1건을 병합합니다. (imp_uid 오름차순으로 호출)
+     */
+    public void onPayment(LocalPayment payment) throws IOException {
+        if (lastDbImpUid != null && payment.getImpUid().compareTo(lastDbImpUid) <= 0) {
+            throw new IllegalStateException("결제 기록이 imp_uid 순으로 정렬되어 있지 않습니다: "
+                    + lastDbImpUid + " 다음 " + payment.getImpUid() + " (DB 정렬 규칙 확인 필요)");
+        }
+        lastDbImpUid = payment.getImpUid();
+        dbCount++;
+
+        while (current != null && current.getImpUid().compareTo(payment.getImpUid()) < 0) {
+            report(SettlementMismatchType.MISSING_IN_DB, current, null);
+            current = nextPg();
+        }
+        if (current == null || !current.getImpUid().equals(payment.getImpUid())) {
+            report(SettlementMismatchType.MISSING_IN_PG, null, payment);
+            return;
+        }
+
+        boolean matched = true;
+        if (current.getAmount() == null || payment.getAmount() == null
+                || current.getAmount().compareTo(payment.getAmount()) != 0) {
+            report(SettlementMismatchType.AMOUNT_MISMATCH, current, payment);
+            matched = false;
+        }
+        if (!payment.getStatus().equals(current.getStatus())) {
+            report(SettlementMismatchType.STATUS_MISMATCH, current, payment);
+            matched = false;
+        }
+        if (matched) {
+            matchedCount++;
+        }
+        current = nextPg();
+    }
+
+    /**
+     * 결제 기록을 모두 넘긴 뒤 호출합니다. 남은 정산 건을 MISSING_IN_DB 로 보고합니다.
+     */
+    public void finish() throws IOException {
+        while (current != null) {
+            report(SettlementMismatchType.MISSING_IN_DB, current, null);
+            current = nextPg();
+        }
+    }
+
+    private PgPayment nextPg() throws IOException {
+        PgPayment next = source.next();
+        if (next == null) {
+            return null;
+        }
+        if (lastPgImpUid != null && next.getImpUid().compareTo(lastPgImpUid) <= 0) {
+            throw new IllegalStateException("정산 내역이 imp_uid 순으로 정렬되어 있지 않거나 중복되었습니다: "
+                    + lastPgImpUid + " 다음 " + next.getImpUid());
+        }
+        lastPgImpUid = next.getImpUid();
+        pgCount++;
+        return next;
+    }
+
+    private void report(SettlementMismatchType type, PgPayment pg, LocalPayment db) {
+        switch (type) {
+            case MISSING_IN_DB -> missingInDbCount++;
+            case MISSING_IN_PG -> missingInPgCount++;
+            case AMOUNT_MISMATCH -> amountMismatchCount++;
+            case STATUS_MISMATCH -> statusMismatchCount++;
+        }
+        sink.accept(SettlementMismatch.builder()
+                .runId(runId)
+                .mismatchType(type)
+                .impUid(pg != null ? pg.getImpUid() : db.getImpUid())
+                .merchantUid(pg != null ? pg.getMerchantUid() : null)
+                .orderId(db != null ? db.getOrderId() : null)
+                .pgAmount(pg != null ? pg.getAmount() : null)
+                .dbAmount(db != null ? db.getAmount() : null)
+                .pgStatus(pg != null ? pg.getStatus() : null)
+                .dbStatus(db != null ? db.getStatus() : null)
+                .build());
+    }
+
+    /** 결제 기록 1건 (상태는 PG 상태 표기에 맞춰 paid/cancelled) */
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class LocalPayment {
+        private final String impUid;
+        private final Long orderId;
+        private final BigDecimal amount;
+        private final String status;
+    }
+}
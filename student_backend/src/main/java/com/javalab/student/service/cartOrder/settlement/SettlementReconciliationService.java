@@ -0,0 +1,370 @@
+package com.javalab.student.service.cartOrder.settlement;
+
+import com.javalab.student.constant.ReconciliationStatus;
+import com.javalab.student.constant.SettlementMismatchType;
+import com.javalab.student.entity.cartOrder.SettlementMismatch;
+import com.javalab.student.entity.cartOrder.SettlementReconciliation;
+import com.javalab.student.repository.cartOrder.SettlementMismatchRepository;
+import com.javalab.student.repository.cartOrder.SettlementReconciliationRepository;
+import com.javalab.student.service.cartOrder.archive.OrderArchiveService;
+import com.javalab.student.service.cartOrder.pg.PaymentGateway;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * PG 정산 대사 서비스
+ *
+ * PG 가 실제로 정산한 내역과 결제(payment) 기록을 imp_uid 기준으로 맞춰 보고 불일치 건을 보고서 테이블에 남깁니다.
+ * - 정산 내역: 업로드한 정산 파일(CSV) 또는 PG 정산 내역 조회(PaymentGateway.getSettlements, 로컬은 PG 스텁)
+ * - 결제 기록: payment 를 imp_uid 유니크 인덱스 순서로 순방향 커서로 읽습니다. (settlement.reconcile.fetch-size 건씩)
+ * - 두 흐름을 SettlementMerger 로 병합 조인하므로 건수(수백만 건)와 관계없이 메모리에는 정산 1건(또는 1페이지)과
+ *   기록 대기 중인 불일치 건(settlement.reconcile.write-batch-size)만 올라갑니다.
+ * - 불일치 건은 JDBC 배치 INSERT 로 커서와 다른 커넥션에서 기록합니다.
+ * - 기간이 보관된 주문(OrderArchiveService)을 포함하면 보관 테이블을 UNION ALL 로 함께 읽습니다.
+ *   이때는 인덱스 순서로 읽을 수 없어 DB 에서 정렬하므로 오래된 기간 대사는 기간을 나눠 실행합니다.
+ *
+ * 대사는 한 번에 하나만 백그라운드에서 실행합니다.
+ * 포트원 imp_uid 는 "imp_" + 숫자라 DB 정렬 규칙(collation)과 관계없이 인덱스 순서가 문자열 순서와 같습니다.
+ * 다른 형식이 섞여 순서가 어긋나면 대사를 실패로 끝냅니다. (SettlementMerger)
+ */
+@Slf4j
+@Service
+public class SettlementReconciliationService {
+
+    public static final String SOURCE_FILE = "FILE";
+    public static final String SOURCE_PG = "PG";
+
+    /** 불일치 건 조회 한 페이지 최대 건수 */
+    private static final int MAX_MISMATCH_PAGE_SIZE = 500;
+
+    private static final String SELECT_PAYMENTS_SQL =
+            "SELECT p.imp_uid, p.order_id, p.amount, p.pay_status, p.order_status AS payment_order_status, " +
+            "       o.order_status " +
+            "FROM %1$s p JOIN %2$s o ON o.id = p.order_id " +
+            "WHERE p.imp_uid IS NOT NULL%3$s";
+    private static final String INSERT_MISMATCH_SQL =
+            "INSERT INTO settlement_mismatch (run_id, mismatch_type, imp_uid, merchant_uid, order_id, " +
+            "pg_amount, db_amount, pg_status, db_status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PaymentGateway paymentGateway;
+    private final OrderArchiveService orderArchiveService;
+    private final SettlementReconciliationRepository reconciliationRepository;
+    private final SettlementMismatchRepository mismatchRepository;
+    private final int fetchSize;
+    private final int writeBatchSize;
+    private final int pgPageSize;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public SettlementReconciliationService(JdbcTemplate jdbcTemplate,
+                                           PaymentGateway paymentGateway,
+                                           OrderArchiveService orderArchiveService,
+                                           SettlementReconciliationRepository reconciliationRepository,
+                                           SettlementMismatchRepository mismatchRepository,
+                                           @Value("${settlement.reconcile.fetch-size:1000}") int fetchSize,
+                                           @Value("${settlement.reconcile.write-batch-size:500}") int writeBatchSize,
+                                           @Value("${settlement.reconcile.pg-page-size:1000}") int pgPageSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.paymentGateway = paymentGateway;
+        this.orderArchiveService = orderArchiveService;
+        this.reconciliationRepository = reconciliationRepository;
+        this.mismatchRepository = mismatchRepository;
+        this.fetchSize = fetchSize;
+        this.writeBatchSize = writeBatchSize;
+        this.pgPageSize = pgPageSize;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "settlement-reconcile");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 정산 파일로 대사를 시작합니다. (백그라운드 실행)
+     * - 요청이 끝나면 업로드 스트림을 읽을 수 없으므로 임시 파일로 복사한 뒤 시작하고, 끝나면 임시 파일을 지웁니다.
+     *
+     * @param in   정산 파일 (CSV, UTF-8, imp_uid 오름차순)
+     * @param from 대사 기간 시작일 (결제 시각 기준, null 이면 처음부터)
+     * @param to   대사 기간 종료일, 포함 (null 이면 끝까지)
+     * @return 대사 실행 ID
+     * @throws IllegalArgumentException 기간이 잘못된 경우
+     * @throws IllegalStateException 이미 대사가 실행 중인 경우
+     */
+    public Long startFile(InputStream in, LocalDate from, LocalDate to) throws IOException {
+        validatePeriod(from, to);
+        Path file = Files.createTempFile("settlement-", ".csv");
+        try {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            return start(SOURCE_FILE, from, to, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * PG 정산 내역 조회로 대사를 시작합니다. (백그라운드 실행)
+     *
+     * @throws IllegalArgumentException 기간이 잘못된 경우
+     * @throws IllegalStateException 이미 대사가 실행 중인 경우
+     */
+    public Long startPg(LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        return start(SOURCE_PG, from, to, null);
+    }
+
+    /** 대사가 실행 중인지 */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 대사 실행 기록을 조회합니다.
+     *
+     * @throws EntityNotFoundException 실행 기록이 없는 경우
+     */
+    public SettlementReconciliation getRun(Long runId) {
+        return reconciliationRepository.findById(runId)
+                .orElseThrow(() -> new EntityNotFoundException("대사 실행 기록을 찾을 수 없습니다. ID: " + runId));
+    }
+
+    /** 최근 대사 실행 기록 20건 */
+    public List<SettlementReconciliation> getRecentRuns() {
+        return reconciliationRepository.findTop20ByOrderByIdDesc();
+    }
+
+    /**
+     * 불일치 건을 ID 순으로 나눠 조회합니다.
+     *
+     * @param runId   대사 실행 ID
+     * @param type    불일치 유형 (null 이면 전체)
+     * @param afterId 직전 페이지 마지막 ID (첫 페이지면 null)
+     * @param size    페이지 크기 (최대 500)
+     */
+    public List<SettlementMismatch> getMismatches(Long runId, SettlementMismatchType type, Long afterId, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("조회 개수는 1 이상이어야 합니다.");
+        }
+        PageRequest page = PageRequest.of(0, Math.min(size, MAX_MISMATCH_PAGE_SIZE));
+        long cursor = afterId != null ? afterId : 0L;
+        return type == null
+                ? mismatchRepository.findByRunIdAndIdGreaterThanOrderByIdAsc(runId, cursor, page)
+                : mismatchRepository.findByRunIdAndMismatchTypeAndIdGreaterThanOrderByIdAsc(runId, type, cursor, page);
+    }
+
+    /** 서버가 대사 도중 내려가 RUNNING 으로 남은 실행 기록을 실패로 바꿉니다. (기동 직후) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedRuns() {
+        try {
+            for (SettlementReconciliation run : reconciliationRepository.findByStatus(ReconciliationStatus.RUNNING)) {
+                run.setStatus(ReconciliationStatus.FAILED);
+                run.setMessage("서버 재시작으로 중단되었습니다.");
+                run.setFinishedAt(LocalDateTime.now());
+                reconciliationRepository.save(run);
+            }
+        } catch (Exception e) {
+            log.warn("중단된 정산 대사 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Long start(String source, LocalDate from, LocalDate to, Path file) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("정산 대사가 이미 실행 중입니다.");
+        }
+        try {
+            SettlementReconciliation run = reconciliationRepository.save(SettlementReconciliation.builder()
+                    .source(source)
+                    .periodFrom(from)
+                    .periodTo(to)
+                    .status(ReconciliationStatus.RUNNING)
+                    .startedAt(LocalDateTime.now())
+                    .build());
+            executor.execute(() -> {
+                try {
+                    reconcile(run, file);
+                } finally {
+                    running.set(false);
+                    if (file != null) {
+                        try {
+                            Files.deleteIfExists(file);
+                        } catch (IOException e) {
+                            log.warn("정산 임시 파일 삭제 실패: {}", file);
+                        }
+                    }
+                }
+            });
+            log.info("정산 대사 시작 - 실행 ID: {}, 출처: {}, 기간: {} ~ {}", run.getId(), source, from, to);
+            return run.getId();
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private void reconcile(SettlementReconciliation run, Path file) {
+        long started = System.currentTimeMillis();
+        MismatchWriter writer = new MismatchWriter();
+        SettlementMerger merger = null;
+        try (SettlementSource source = file != null
+                ? new CsvSettlementSource(Files.newBufferedReader(file, StandardCharsets.UTF_8))
+                : new PgSettlementSource(paymentGateway, run.getPeriodFrom(), run.getPeriodTo(), pgPageSize)) {
+            merger = new SettlementMerger(source, run.getId(), writer);
+            streamPayments(run.getPeriodFrom(), run.getPeriodTo(), merger);
+            merger.finish();
+            writer.flush();
+            run.setStatus(ReconciliationStatus.COMPLETED);
+        } catch (Exception e) {
+            Throwable cause = e instanceof UncheckedIOException ? e.getCause() : e;
+            log.error("정산 대사 실패 - 실행 ID: {}", run.getId(), cause);
+            run.setStatus(ReconciliationStatus.FAILED);
+            run.setMessage(truncate(cause.getMessage()));
+            try {
+                writer.flush(); // 실패 전까지 찾은 불일치 건도 남김
+            } catch (Exception flushError) {
+                log.warn("정산 대사 불일치 건 기록 실패 - 실행 ID: {}", run.getId(), flushError);
+            }
+        }
+        if (merger != null) {
+            run.setPgCount(merger.getPgCount());
+            run.setDbCount(merger.getDbCount());
+            run.setMatchedCount(merger.getMatchedCount());
+            run.setMissingInDbCount(merger.getMissingInDbCount());
+            run.setMissingInPgCount(merger.getMissingInPgCount());
+            run.setAmountMismatchCount(merger.getAmountMismatchCount());
+            run.setStatusMismatchCount(merger.getStatusMismatchCount());
+        }
+        run.setFinishedAt(LocalDateTime.now());
+        reconciliationRepository.save(run);
+        log.info("정산 대사 종료 - 실행 ID: {}, 상태: {}, PG: {}, DB: {}, 일치: {}, 소요: {}ms", run.getId(), run.getStatus(),
+                run.getPgCount(), run.getDbCount(), run.getMatchedCount(), System.currentTimeMillis() - started);
+    }
+
+    /** 결제 기록을 imp_uid 순으로 한 행씩 읽어 병합합니다. (트랜잭션 밖, 순방향 커서) */
+    private void streamPayments(LocalDate from, LocalDate to, SettlementMerger merger) {
+        // 결제 시각(paid_at)은 Unix Timestamp(초)
+        ZoneId zone = ZoneId.systemDefault();
+        StringBuilder conditions = new StringBuilder();
+        List<Long> args = new ArrayList<>();
+        if (from != null) {
+            conditions.append(" AND p.paid_at >= ?");
+            args.add(from.atStartOfDay(zone).toEpochSecond());
+        }
+        if (to != null) {
+            conditions.append(" AND p.paid_at < ?");
+            args.add(to.plusDays(1).atStartOfDay(zone).toEpochSecond());
+        }
+        String sql = String.format(SELECT_PAYMENTS_SQL, "payment", "orders", conditions);
+        if (orderArchiveService.includesArchive(from != null ? from.atStartOfDay() : null)) {
+            sql = "(" + sql + ") UNION ALL ("
+                    + String.format(SELECT_PAYMENTS_SQL, "payment_archive", "orders_archive", conditions) + ")";
+            args.addAll(new ArrayList<>(args));
+        }
+        String orderedSql = sql + " ORDER BY imp_uid";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(orderedSql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setLong(i + 1, args.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            try {
+                merger.onPayment(new SettlementMerger.LocalPayment(
+                        rs.getString("imp_uid"),
+                        rs.getLong("order_id"),
+                        rs.getBigDecimal("amount"),
+                        isCanceled(rs.getString("pay_status"), rs.getString("payment_order_status"), rs.getString("order_status"))
+                                ? SettlementMerger.CANCELLED : SettlementMerger.PAID));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /** 결제 취소, 웹훅 취소(payment.order_status), 관리자 주문 취소(orders.order_status) 중 하나라도 있으면 취소 */
+    private static boolean isCanceled(String payStatus, String paymentOrderStatus, String orderStatus) {
+        return "CANCEL".equals(payStatus) || "CANCELED".equals(paymentOrderStatus) || "CANCELED".equals(orderStatus);
+    }
+
+    private static void validatePeriod(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("대사 기간이 잘못되었습니다: " + from + " ~ " + to);
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    /** 불일치 건을 모아 JDBC 배치 INSERT 로 기록 */
+    private class MismatchWriter implements Consumer<SettlementMismatch> {
+        private final List<SettlementMismatch> buffer = new ArrayList<>(writeBatchSize);
+
+        @Override
+        public void accept(SettlementMismatch mismatch) {
+            buffer.add(mismatch);
+            if (buffer.size() >= writeBatchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(INSERT_MISMATCH_SQL, buffer, buffer.size(), (ps, mismatch) -> {
+                ps.setLong(1, mismatch.getRunId());
+                ps.setString(2, mismatch.getMismatchType().name());
+                ps.setString(3, mismatch.getImpUid());
+                ps.setString(4, mismatch.getMerchantUid());
+                if (mismatch.getOrderId() != null) {
+                    ps.setLong(5, mismatch.getOrderId());
+                } else {
+                    ps.setNull(5, Types.BIGINT);
+                }
+                ps.setBigDecimal(6, mismatch.getPgAmount());
+                ps.setBigDecimal(7, mismatch.getDbAmount());
+                ps.setString(8, mismatch.getPgStatus());
+                ps.setString(9, mismatch.getDbStatus());
+            });
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.javalab.student.service.cartOrder.settlement;
+
+import com.javalab.student.service.cartOrder.pg.PgPayment;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * PG 정산 내역 출처 (대사 시 한 건씩 순서대로 읽음)
+ * - 정산 건은 imp_uid 오름차순(문자열 코드 포인트 순)이어야 합니다. 순서가 어긋나면 SettlementMerger 가 대사를 중단합니다.
+ * - 구현체는 한 번에 한 건(또는 한 페이지)만 메모리에 올립니다.
+ */
+public interface SettlementSource extends Closeable {
+
+    /**
+     * 다음 정산 건을 읽습니다.
+     *
+     * @return 정산 건 (끝이면 null)
+     * @throws IllegalArgumentException 정산 내역 형식이 잘못된 경우
+     */
+    PgPayment next() throws IOException;
+}
@@ -0,0 +1,69 @@
+package com.javalab.student.service.coalescing;
+
+import com.javalab.student.dto.RequestCoalescingStatsDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 동시 조회 요청 합치기 (single-flight)
+ * - 프로모션 등으로 같은 공개 자원(상품 목록, 상품 상세, 설문 카테고리, 인기 상품)에 요청이 몰릴 때
+ *   진행 중인 조회 하나의 결과를 동시에 도착한 요청들이 함께 받도록 합니다.
+ * - 그룹별 대기 시간: request.coalescing.timeout-ms.{그룹} (없으면 request.coalescing.default-timeout-ms)
+ * - 로그인 여부와 상관없이 같은 응답을 주는 조회에만 사용하므로 인증/비인증 요청이 결과를 공유해도 안전합니다.
+ */
+@Component
+public class RequestCoalescer {
+
+    public static final String PRODUCT_LIST = "product-list";
+    public static final String PRODUCT_DETAIL = "product-detail";
+    public static final String SURVEY_CATEGORIES = "survey-categories";
+    public static final String TRENDING_PRODUCTS = "trending-products";
+
+    private final Environment environment;
+    private final long defaultTimeoutMillis;
+    private final ConcurrentHashMap<String, SingleFlightGroup> groups = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(Environment environment,
+                            @Value("${request.coalescing.default-timeout-ms:3000}") long defaultTimeoutMillis) {
+        this.environment = environment;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+    }
+
+    /**
+     * 그룹/키가 같은 동시 조회를 하나로 합쳐 실행합니다.
+     * @param group 그룹명 (대기 시간과 통계 단위)
+     * @param key 그룹 안에서의 조회 키
+     * @param loader 실제 조회
+     * @return 조회 결과 (다른 요청과 공유될 수 있으므로 수정하지 않음)
+     */
+    public <T> T execute(String group, Object key, Supplier<T> loader) {
+        return group(group).execute(key, loader);
+    }
+
+    /** 그룹별 통계 */
+    public List<RequestCoalescingStatsDto> getStats() {
+        return groups.values().stream()
+                .sorted(Comparator.comparing(SingleFlightGroup::getName))
+                .map(group -> RequestCoalescingStatsDto.builder()
+                        .group(group.getName())
+                        .timeoutMillis(group.getTimeoutMillis())
+                        .inFlight(group.getInFlight())
+                        .executions(group.getExecutions())
+                        .collapsed(group.getCollapsed())
+                        .timeouts(group.getTimeouts())
+                        .failures(group.getFailures())
+                        .build())
+                .toList();
+    }
+
+    private SingleFlightGroup group(String name) {
+        return groups.computeIfAbsent(name, key -> new SingleFlightGroup(key,
+                environment.getProperty("request.coalescing.timeout-ms." + key, Long.class, defaultTimeoutMillis)));
+    }
+}
@@ -0,0 +1,125 @@
+package com.javalab.student.service.coalescing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합치는 single-flight 그룹
+ * - 키별로 먼저 도착한 요청(리더)만 실제 조회를 실행하고, 그동안 도착한 같은 키의 요청(팔로워)은 리더의 결과를 함께 받습니다.
+ * - 조회가 끝나면 키를 비우므로 결과를 보관하지 않습니다. (캐시가 아님)
+ * - 팔로워는 timeoutMillis 까지만 기다리고, 그 안에 리더가 끝나지 않으면 직접 조회합니다.
+ * - 리더의 조회가 실패하면 기다리던 팔로워도 같은 예외를 받습니다.
+ *
+ * 결과 객체는 여러 요청이 함께 사용하므로 호출자는 결과를 수정하면 안 되고,
+ * 키에는 응답을 바꾸는 값(경로 변수, 파라미터)이 모두 들어가야 합니다. 사용자별 응답에는 사용하지 않습니다.
+ */
+public class SingleFlightGroup {
+
+    private final String name;
+    private final long timeoutMillis;
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public SingleFlightGroup(String name, long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("대기 시간은 0보다 커야 합니다. 그룹: " + name);
+        }
+        this.name = name;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 키의 조회를 실행하거나, 같은 키의 조회가 진행 중이면 그 결과를 기다립니다.
+     * @param key 조회 키 (equals/hashCode 구현 필요)
+     * @param loader 실제 조회
+     * @return 조회 결과 (여러 요청이 공유할 수 있음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running == null) {
+            return lead(key, mine, loader);
+        }
+
+        try {
+            T result = (T) running.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            collapsed.increment();
+            return result;
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            executions.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            collapsed.increment();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("합쳐진 조회 실패 - 그룹: " + name + ", 키: " + key, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("합쳐진 조회 대기 중 인터럽트 - 그룹: " + name + ", 키: " + key, e);
+        }
+    }
+
+    private <T> T lead(Object key, CompletableFuture<Object> mine, Supplier<T> loader) {
+        executions.increment();
+        try {
+            T result = loader.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            failures.increment();
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /** 현재 진행 중인 키 수 */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    /** 실제로 실행된 조회 수 (리더 + 대기 시간 초과로 직접 조회한 팔로워) */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /** 다른 요청의 조회 결과를 받아 실행을 건너뛴 요청 수 */
+    public long getCollapsed() {
+        return collapsed.sum();
+    }
+
+    /** 대기 시간을 넘겨 직접 조회한 요청 수 */
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    /** 리더 조회 실패 수 */
+    public long getFailures() {
+        return failures.sum();
+    }
+}
@@ -0,0 +1,109 @@
+package com.javalab.student.service.healthSurvey;
+
+import com.javalab.student.dto.healthSurvey.RecommendedIngredientDTO;
+import com.javalab.student.dto.healthSurvey.RecommendedProductDTO;
+import com.javalab.student.entity.healthSurvey.Recommendation;
+import com.javalab.student.entity.product.ProductImg;
+import com.javalab.student.repository.healthSurvey.RecommendationRepository;
+import com.javalab.student.repository.healthSurvey.RecommendedIngredientRepository;
+import com.javalab.student.repository.healthSurvey.RecommendedProductRepository;
+import com.javalab.student.repository.product.ProductImgRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 결과 조회 전용 서비스
+ * - 추천 영양 성분/추천 제품을 트랜잭션 안에서 평면 DTO 로 만들어 반환합니다.
+ * - 추천 제품은 상품/대표 이미지/관련 영양성분을 각각 한 번의 쿼리로 모아 조립하므로
+ *   open-in-view 없이도 지연 로딩이 일어나지 않고, 제품 수만큼 쿼리가 늘어나지도 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecommendationQueryService {
+
+    private static final String MAIN_IMAGE_TYPE = "대표";
+
+    /** 대표 이미지가 여러 장이면 순서(order)가 가장 앞선 이미지를 사용 */
+    private static final Comparator<ProductImg> IMAGE_ORDER =
+            Comparator.comparing((ProductImg img) -> img.getOrder() == null ? 0 : img.getOrder())
+                    .thenComparing(ProductImg::getId);
+
+    private final RecommendationRepository recommendationRepository;
+    private final RecommendedIngredientRepository recommendedIngredientRepository;
+    private final RecommendedProductRepository recommendedProductRepository;
+    private final ProductImgRepository productImgRepository;
+
+    /**
+     * 회원의 최신 추천 영양 성분 목록
+     * @throws EntityNotFoundException 추천 데이터가 없는 경우
+     */
+    public List<RecommendedIngredientDTO> getRecommendedIngredients(Long memberId) {
+        Recommendation latest = findLatest(memberId);
+        return recommendedIngredientRepository.findByRecommendationId(latest.getId()).stream()
+                .map(ingredient -> {
+                    RecommendedIngredientDTO dto = new RecommendedIngredientDTO();
+                    dto.setId(ingredient.getId());
+                    dto.setIngredientName(ingredient.getIngredientName());
+                    dto.setScore(ingredient.getScore());
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 회원의 최신 추천 제품 목록
+     * @throws EntityNotFoundException 추천 데이터가 없는 경우
+     */
+    public List<RecommendedProductDTO> getRecommendedProducts(Long memberId) {
+        return findRecommendedProducts(findLatest(memberId).getId());
+    }
+
+    /** 추천 ID 의 추천 제품 목록 (상품명, 가격, 대표 이미지, 관련 영양성분 포함) */
+    public List<RecommendedProductDTO> findRecommendedProducts(Long recommendationId) {
+        List<RecommendedProductDTO> products = new ArrayList<>();
+        Map<Long, RecommendedProductDTO> byId = new HashMap<>();
+        Map<Long, List<RecommendedProductDTO>> byProductId = new HashMap<>();
+        for (Object[] row : recommendedProductRepository.findRowsByRecommendationId(recommendationId)) {
+            BigDecimal price = (BigDecimal) row[3];
+            RecommendedProductDTO dto = new RecommendedProductDTO((Long) row[0], (Long) row[1], (String) row[2],
+                    price != null ? price.doubleValue() : null, null, (String) row[4], new ArrayList<>());
+            products.add(dto);
+            byId.put(dto.getId(), dto);
+            byProductId.computeIfAbsent(dto.getProductId(), id -> new ArrayList<>()).add(dto);
+        }
+        if (products.isEmpty()) {
+            return products;
+        }
+
+        for (Object[] row : recommendedProductRepository.findRelatedIngredientRowsByIds(byId.keySet())) {
+            byId.get((Long) row[0]).getRelatedIngredients().add((String) row[1]);
+        }
+
+        Map<Long, ProductImg> mainImages = new HashMap<>();
+        for (Object[] row : productImgRepository.findRowsByProductIds(byProductId.keySet())) {
+            ProductImg img = (ProductImg) row[1];
+            if (MAIN_IMAGE_TYPE.equals(img.getImageType())) {
+                mainImages.merge((Long) row[0], img, (a, b) -> IMAGE_ORDER.compare(a, b) <= 0 ? a : b);
+            }
+        }
+        mainImages.forEach((productId, img) ->
+                byProductId.get(productId).forEach(dto -> dto.setMainImageUrl(img.getImageUrl())));
+        return products;
+    }
+
+    private Recommendation findLatest(Long memberId) {
+        return recommendationRepository.findTopByMemberIdOrderByCreatedAtDesc(memberId)
+                .orElseThrow(() -> new EntityNotFoundException("추천 데이터가 없습니다."));
+    }
+}
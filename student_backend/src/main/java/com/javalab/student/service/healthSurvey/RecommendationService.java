@@ -40,6 +40,7 @@ public class RecommendationService {
     private final MemberResponseOptionRepository memberResponseOptionRepository;
     private final ProductRepository productRepository;
     private final HealthRecordService healthRecordService;
+    private final RecommendationQueryService recommendationQueryService;
 
     /**
      * 현재 로그인한 사용자의 건강 분석 및 추천 정보를 제공합니다.
@@ -162,8 +163,17 @@ public class RecommendationService {
             // 10. 결과 반환 데이터 구성
             Map<String, Object> result = new HashMap<>();
             result.put("healthAnalysis", healthAnalysis);
-            result.put("recommendedIngredients", recommendedIngredients);
-            result.put("recommendations", recommendedProducts);
+            // 엔티티 대신 DTO 로 반환 (open-in-view 비활성화 - 응답 직렬화 중 지연 로딩 불가)
+            result.put("recommendedIngredients", recommendedIngredients.stream()
+                    .map(ingredient -> {
+                        RecommendedIngredientDTO ingredientDTO = new RecommendedIngredientDTO();
+                        ingredientDTO.setId(ingredient.getId());
+                        ingredientDTO.setIngredientName(ingredient.getIngredientName());
+                        ingredientDTO.setScore(ingredient.getScore());
+                        return ingredientDTO;
+                    })
+                    .toList());
+            result.put("recommendations", recommendationQueryService.findRecommendedProducts(recommendation.getId()));
 
             log.info("10. 결과 데이터 구성 완료");
 
@@ -0,0 +1,19 @@
+package com.javalab.student.service.product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 상품 변경 이벤트
+ * - ProductServiceImpl 에서 상품이 생성/수정될 때 발행됩니다.
+ * - 메모리 인덱스들은 @TransactionalEventListener 로 커밋 이후에 이 이벤트를 받아 자신을 갱신합니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    /** 변경된 상품의 스냅샷 (트랜잭션 안에서 생성됨) */
+    private final ProductSnapshot snapshot;
+}
@@ -0,0 +1,168 @@
+package com.javalab.student.service.product;
+
+import com.javalab.student.dto.product.ProductImgDto;
+import com.javalab.student.dto.product.ProductResponseDTO;
+import com.javalab.student.entity.product.ProductImg;
+import com.javalab.student.repository.product.ProductImgRepository;
+import com.javalab.student.repository.product.ProductRepository;
+import com.javalab.student.service.product.related.RelatedProductIndex;
+import com.javalab.student.service.product.trending.TrendingProductService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 조회 전용 서비스 (읽기 모델)
+ * - open-in-view 를 끈 상태에서 상품 목록/상세 조회 API 가 사용하는 서비스입니다.
+ * - 엔티티 그래프를 직렬화하지 않고, 상품 ID 를 먼저 구한 뒤 ID 목록으로 프로젝션 쿼리 4개
+ *   (상품 기본 정보, 카테고리명, 영양 성분명, 이미지)만 실행해 평면 DTO(ProductResponseDTO)를 조립합니다.
+ * - 모든 조회는 이 서비스의 읽기 전용 트랜잭션 안에서 끝나므로, 응답 직렬화 중에는 DB 커넥션을 잡고 있지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductQueryService {
+
+    private static final String MAIN_IMAGE_TYPE = "대표";
+
+    private final ProductRepository productRepository;
+    private final ProductImgRepository productImgRepository;
+    private final RelatedProductIndex relatedProductIndex;
+    private final TrendingProductService trendingProductService;
+
+    /** 전체 상품 목록 */
+    public List<ProductResponseDTO> getProductList() {
+        return findResponsesInOrder(productRepository.findAllIds());
+    }
+
+    /** 전체 상품 목록 (페이징) */
+    public Page<ProductResponseDTO> getProducts(Pageable pageable) {
+        return toPage(productRepository.findIds(pageable), pageable);
+    }
+
+    /** 카테고리별 상품 목록 */
+    public List<ProductResponseDTO> getProductsByCategory(Long categoryId) {
+        return findResponsesInOrder(productRepository.findIdsByCategoryId(categoryId));
+    }
+
+    /**
+     * 함께 구매한 상품 목록 (함께 구매 순위 순, 판매중 상품만)
+     * - 순위는 CoPurchaseMiningService 가 미리 계산해 둔 메모리 인덱스에서 가져옵니다.
+     */
+    public List<ProductResponseDTO> getRelatedProducts(Long productId, int limit) {
+        return findResponsesInOrder(relatedProductIndex.getRelatedProductIds(productId, limit)).stream()
+                .filter(product -> Boolean.TRUE.equals(product.getActive()))
+                .toList();
+    }
+
+    /**
+     * 인기 상품 목록 (시간 감쇠 인기 점수 순, 판매중 상품만)
+     * - 순위는 TrendingProductService 의 Redis 인기 점수에서 가져옵니다.
+     */
+    public List<ProductResponseDTO> getTrendingProducts(int limit) {
+        int size = Math.max(1, Math.min(limit, trendingProductService.getMaxLimit()));
+        return findResponsesInOrder(trendingProductService.getTrendingProductIds(size * 2)).stream()
+                .filter(product -> Boolean.TRUE.equals(product.getActive()))
+                .limit(size)
+                .toList();
+    }
+
+    /** 카테고리별 상품 목록 (페이징) */
+    public Page<ProductResponseDTO> getProductsByCategory(Long categoryId, Pageable pageable) {
+        return toPage(productRepository.findIdsByCategoryId(categoryId, pageable), pageable);
+    }
+
+    /** 영양 성분을 포함하는 상품 목록 (카테고리명 순, 중복 제거) */
+    public List<ProductResponseDTO> getProductsSortedByIngredientAndCategory(Long ingredientId) {
+        List<Long> productIds = new ArrayList<>(
+                new LinkedHashSet<>(productRepository.findIdsByIngredientIdOrderByCategoryName(ingredientId)));
+        return findResponsesInOrder(productIds);
+    }
+
+    /**
+     * 상품 단건 조회
+     * @throws EntityNotFoundException 상품이 없는 경우
+     */
+    public ProductResponseDTO getProductById(Long productId) {
+        List<ProductResponseDTO> responses = findResponsesInOrder(List.of(productId));
+        if (responses.isEmpty()) {
+            throw new EntityNotFoundException("상품을 찾을 수 없습니다. ID: " + productId);
+        }
+        return responses.get(0);
+    }
+
+    /**
+     * 상품 ID 목록을 같은 순서의 응답 DTO 목록으로 바꿉니다. (없는 ID 는 건너뜀)
+     * - 검색/필터 결과처럼 순서가 정해진 ID 목록을 조립할 때도 사용합니다.
+     */
+    public List<ProductResponseDTO> findResponsesInOrder(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProductResponseDTO> responses = new HashMap<>();
+        for (Object[] row : productRepository.findSummaryRowsByIds(productIds)) {
+            Long id = (Long) row[0];
+            responses.put(id, ProductResponseDTO.builder()
+                    .id(id)
+                    .name((String) row[1])
+                    .price((BigDecimal) row[2])
+                    .stock((Integer) row[3])
+                    .active((Boolean) row[4])
+                    .description((String) row[5])
+                    .categories(new ArrayList<>())
+                    .ingredients(new ArrayList<>())
+                    .build());
+        }
+        for (Object[] row : productRepository.findCategoryNameRowsByIds(productIds)) {
+            responses.get((Long) row[0]).getCategories().add((String) row[1]);
+        }
+        for (Object[] row : productRepository.findIngredientNameRowsByIds(productIds)) {
+            responses.get((Long) row[0]).getIngredients().add((String) row[1]);
+        }
+        attachImages(responses);
+
+        List<ProductResponseDTO> ordered = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            ProductResponseDTO response = responses.get(productId);
+            if (response != null) {
+                ordered.add(response);
+            }
+        }
+        return ordered;
+    }
+
+    /** 이미지 목록과 대표 이미지 URL 설정 (이미지가 없으면 둘 다 null) */
+    private void attachImages(Map<Long, ProductResponseDTO> responses) {
+        Map<Long, List<ProductImg>> imagesByProduct = new HashMap<>();
+        for (Object[] row : productImgRepository.findRowsByProductIds(responses.keySet())) {
+            imagesByProduct.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((ProductImg) row[1]);
+        }
+        imagesByProduct.forEach((productId, images) -> {
+            images.sort(Comparator.comparing((ProductImg img) -> img.getOrder() == null ? 0 : img.getOrder())
+                    .thenComparing(ProductImg::getId));
+            ProductResponseDTO response = responses.get(productId);
+            response.setProductImgList(images.stream().map(ProductImgDto::fromEntity).toList());
+            response.setMainImageUrl(images.stream()
+                    .filter(img -> MAIN_IMAGE_TYPE.equals(img.getImageType()))
+                    .map(ProductImg::getImageUrl)
+                    .findFirst()
+                    .orElse(null));
+        });
+    }
+
+    private Page<ProductResponseDTO> toPage(Page<Long> idPage, Pageable pageable) {
+        return new PageImpl<>(findResponsesInOrder(idPage.getContent()), pageable, idPage.getTotalElements());
+    }
+}
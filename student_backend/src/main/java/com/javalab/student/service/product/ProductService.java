@@ -1,8 +1,11 @@
 package com.javalab.student.service.product;
 
 import com.javalab.student.dto.product.ProductDto;
+import com.javalab.student.dto.product.ProductFacetFilterDto;
+import com.javalab.student.dto.product.ProductFacetResponseDto;
 import com.javalab.student.dto.product.ProductFormDto;
 import com.javalab.student.dto.product.ProductResponseDTO;
+import com.javalab.student.dto.product.ProductSuggestionDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,6 +27,9 @@ public interface ProductService {
     /** 상품 활성화/비활성화 */
     void toggleProductActive(Long id);
 
+    /** 상품 카테고리만 수정 */
+    void updateProductCategories(Long id, List<Long> categoryIds);
+
     /** 전체 상품 목록 조회 */
     List<ProductResponseDTO> getProductList();
 
@@ -35,6 +41,12 @@ public interface ProductService {
     /** 검색 메서드 추가 */
     Page<ProductResponseDTO> searchProducts(String field, String query, Pageable pageable);
 
+    /** 상품 필터(패싯) 조회 - 카테고리/영양성분/가격대/판매 상태 조합과 항목별 상품 수 */
+    ProductFacetResponseDto filterProducts(ProductFacetFilterDto filter);
+
+    /** 검색어 자동완성 (상품명/영양성분/카테고리, 초성 검색 지원) */
+    List<ProductSuggestionDto> suggestProducts(String query, int limit);
+
     /** 상품 이미지 삭제 */
     void deleteProductImage(Long productId, String imageType, Integer imageIndex);
 }
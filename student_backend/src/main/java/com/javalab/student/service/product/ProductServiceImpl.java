@@ -4,17 +4,30 @@ import com.javalab.student.dto.product.ProductFormDto;
 import com.javalab.student.entity.product.ProductImg;
 import com.javalab.student.repository.product.ProductImgRepository;
 import com.javalab.student.dto.product.ProductDto;
+import com.javalab.student.dto.product.ProductFacetFilterDto;
+import com.javalab.student.dto.product.ProductFacetResponseDto;
 import com.javalab.student.dto.product.ProductResponseDTO;
+import com.javalab.student.dto.product.ProductSuggestionDto;
 import com.javalab.student.entity.product.Product;
 import com.javalab.student.entity.product.ProductCategory;
 import com.javalab.student.entity.product.ProductIngredient;
 import com.javalab.student.repository.product.ProductCategoryRepository;
-import com.javalab.student.repository.product.ProductIngredientCategoryRepository;
 import com.javalab.student.repository.product.ProductIngredientRepository;
 import com.javalab.student.repository.product.ProductRepository;
+import com.javalab.student.service.product.detail.ProductDetailChangedEvent;
+import com.javalab.student.service.product.facet.ProductFacetIndex;
+import com.javalab.student.service.product.facet.ProductFacetResult;
+import com.javalab.student.service.product.search.ProductSearchField;
+import com.javalab.student.service.product.search.ProductSearchIndex;
+import com.javalab.student.service.product.search.ProductSearchResult;
+import com.javalab.student.service.product.search.ProductSuggestIndex;
+import com.javalab.student.service.product.taxonomy.TaxonomyService;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -40,8 +53,13 @@ public class ProductServiceImpl implements ProductService {
     private final ProductImgRepository productImgRepository; // ProductImgRepository 주입
     private final ProductCategoryRepository categoryRepository;
     private final ProductIngredientRepository ingredientRepository;
-    private final ProductIngredientCategoryRepository ingredientCategoryRepository;
+    private final TaxonomyService taxonomyService;
+    private final ProductQueryService productQueryService;
     private final ModelMapper modelMapper;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Value("${itemImgLocation}")
@@ -51,14 +69,24 @@ public class ProductServiceImpl implements ProductService {
                               ProductImgRepository productImgRepository,
                               ProductCategoryRepository categoryRepository,
                               ProductIngredientRepository ingredientRepository,
-                              ProductIngredientCategoryRepository ingredientCategoryRepository,
-                              ModelMapper modelMapper) {
+                              TaxonomyService taxonomyService,
+                              ProductQueryService productQueryService,
+                              ModelMapper modelMapper,
+                              ProductSearchIndex productSearchIndex,
+                              ProductSuggestIndex productSuggestIndex,
+                              ProductFacetIndex productFacetIndex,
+                              ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
         this.productImgRepository = productImgRepository;
         this.categoryRepository = categoryRepository;
         this.ingredientRepository = ingredientRepository;
-        this.ingredientCategoryRepository = ingredientCategoryRepository;
+        this.taxonomyService = taxonomyService;
+        this.productQueryService = productQueryService;
         this.modelMapper = modelMapper;
+        this.productSearchIndex = productSearchIndex;
+        this.productSuggestIndex = productSuggestIndex;
+        this.productFacetIndex = productFacetIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     /** 상품 생성 */
@@ -93,6 +121,7 @@ public class ProductServiceImpl implements ProductService {
 
         // ✅ 상품 저장
         Product savedProduct = productRepository.save(product);
+        publishProductChanged(savedProduct);
 
         // ✅ 대표 이미지 저장
         if (productFormDto.getMainImageFile() != null) {
@@ -131,6 +160,9 @@ public class ProductServiceImpl implements ProductService {
             }
         }
 
+        // ✅ 대표 이미지 URL 컬럼 갱신 (장바구니 등 목록 화면에서 이미지 조회 없이 사용)
+        refreshMainImageUrl(savedProduct);
+
         // ✅ DTO 반환
         return new ProductDto(savedProduct.getId(), savedProduct.getName(), savedProduct.getDescription(),
                 savedProduct.getPrice(), savedProduct.getStock(), savedProduct.isActive(), null);
@@ -155,16 +187,14 @@ public class ProductServiceImpl implements ProductService {
         List<ProductIngredient> newIngredients = ingredientRepository.findAllById(productFormDto.getIngredientIds());
         existingProduct.setIngredients(newIngredients);
 
-        // ✅ 카테고리 자동 재설정
-        List<ProductCategory> updatedCategories = new ArrayList<>();
-        for (ProductIngredient ingredient : newIngredients) {
-            List<ProductCategory> mappedCategories = ingredientCategoryRepository.findCategoriesByIngredientId(ingredient.getId());
-            updatedCategories.addAll(mappedCategories);
-        }
-        existingProduct.setCategories(updatedCategories.stream().distinct().collect(Collectors.toList()));
+        // ✅ 카테고리 자동 재설정 (영양성분 → 카테고리는 메모리 분류 그래프에서 조회, 카테고리 엔티티는 한 번에 로딩)
+        List<Long> categoryIds = taxonomyService.findCategoryIdsByIngredientIds(
+                newIngredients.stream().map(ProductIngredient::getId).toList());
+        existingProduct.setCategories(new ArrayList<>(categoryRepository.findAllById(categoryIds)));
 
         // ✅ 변경된 상품 정보 저장
         Product updatedProduct = productRepository.save(existingProduct);
+        publishProductChanged(updatedProduct);
 
         // ✅ 대표 이미지 처리 (새로운 이미지가 제공된 경우만 업데이트)
         if (productFormDto.getMainImageFile() != null) {
@@ -211,6 +241,14 @@ public class ProductServiceImpl implements ProductService {
             }
         }
 
+        // ✅ 대표 이미지가 바뀐 경우 대표 이미지 URL 컬럼 갱신
+        if (productFormDto.getMainImageFile() != null) {
+            refreshMainImageUrl(updatedProduct);
+        }
+
+        // ✅ 상품 버전 증가 (상품 상세 ETag 갱신, 엔티티 저장에는 버전이 포함되지 않음)
+        productRepository.increaseVersion(id);
+
         // ✅ 직접 DTO 반환
         return new ProductDto(updatedProduct.getId(), updatedProduct.getName(), updatedProduct.getDescription(),
                 updatedProduct.getPrice(), updatedProduct.getStock(), updatedProduct.isActive(), null);
@@ -219,12 +257,13 @@ public class ProductServiceImpl implements ProductService {
 
 
 
-    /** 상품 단건 조회 */
+    /**
+     * 상품 단건 조회
+     * - 조회 전용 서비스(ProductQueryService)의 프로젝션 쿼리로 DTO 를 만듭니다.
+     */
     @Override
     public ProductResponseDTO getProductById(Long id) { // ✅ 반환 타입 ProductResponseDTO 로 변경
-        Product product = productRepository.findProductByIdWithCategories(id)
-                .orElseThrow(() -> new RuntimeException("Product not found"));
-        return ProductResponseDTO.fromEntity(product); // ✅ ProductResponseDTO.fromEntity() 사용
+        return productQueryService.getProductById(id);
     }
 
     // Product 엔티티를 ProductDto 로 변환하면서 대표 이미지 URL 설정 (ProductResponseDTO 로 변경, 이름 변경)
@@ -239,43 +278,60 @@ public class ProductServiceImpl implements ProductService {
 
     /** 상품 활성화/비활성화 */
     @Override
+    @Transactional
     public void toggleProductActive(Long id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
         product.setActive(!product.isActive());
-        productRepository.save(product);
+        publishProductChanged(productRepository.save(product));
+        productRepository.increaseVersion(id);
+    }
+
+    /** 상품 카테고리만 수정 */
+    @Override
+    @Transactional
+    public void updateProductCategories(Long id, List<Long> categoryIds) {
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Product not found"));
+        product.setCategories(categoryRepository.findAllById(categoryIds));
+        publishProductChanged(productRepository.save(product));
+        productRepository.increaseVersion(id);
     }
 
     /** 전체 상품 목록 조회 */
     @Override
     public List<ProductResponseDTO> getProductList() {
-        List<Product> products = productRepository.findAll();
-        return products.stream()
-                .map(product -> ProductResponseDTO.fromEntity(product)) // ProductResponseDTO.fromEntity 사용
-                .collect(Collectors.toList());
+        return productQueryService.getProductList();
     }
 
     /** 영양 성분과 카테고리 기준으로 정렬된 상품 조회 */
     @Override
     public List<ProductResponseDTO> getProductsSortedByIngredientAndCategory(Long ingredientId) {
-        List<Product> products = productRepository.findProductsByIngredientAndCategory(ingredientId);
-        return products.stream()
-                .map(product -> ProductResponseDTO.fromEntity(product)) // ProductResponseDTO.fromEntity 사용
-                .collect(Collectors.toList());
+        return productQueryService.getProductsSortedByIngredientAndCategory(ingredientId);
     }
 
     @Override
     public List<ProductResponseDTO> getProductsByCategory(Long categoryId) {
-        List<Product> products = productRepository.findByCategories_Id(categoryId);
-        return products.stream()
-                .map(product -> ProductResponseDTO.fromEntity(product)) // ProductResponseDTO.fromEntity 사용
-                .collect(Collectors.toList());
+        return productQueryService.getProductsByCategory(categoryId);
     }
 
-    // 검색 기능 구현
+    /**
+     * 검색 기능 구현
+     * - 메모리 검색 인덱스(ProductSearchIndex)에서 관련도 순으로 현재 페이지의 상품 ID 만 구한 뒤,
+     *   해당 페이지의 상품만 DB 에서 조회(hydrate)합니다.
+     * - 인덱스 적재 전이거나 검색어가 비어 있으면 기존 DB 검색을 사용합니다.
+     * - 알 수 없는 검색 필드는 기존과 같이 전체 상품 목록을 반환합니다.
+     */
     @Override
     @Transactional(readOnly = true)
     public Page<ProductResponseDTO> searchProducts(String field, String query, Pageable pageable) {
+        ProductSearchField searchField = ProductSearchField.fromLabel(field);
+        if (searchField != null && productSearchIndex.isReady() && query != null && !query.isBlank()) {
+            ProductSearchResult result = productSearchIndex.search(
+                    searchField, query, pageable.getOffset(), pageable.getPageSize());
+            return new PageImpl<>(findResponsesInOrder(result.getProductIds()), pageable, result.getTotalElements());
+        }
+
         Page<Product> productPage;
 
         if ("상품명".equals(field)) {
@@ -288,11 +344,65 @@ public class ProductServiceImpl implements ProductService {
             // 기본값: 전체 상품 조회
             productPage = productRepository.findAll(pageable);
         }
-        List<ProductResponseDTO> dtoList = productPage.getContent().stream()
-                .map(product -> ProductResponseDTO.fromEntity(product)) // ProductResponseDTO.fromEntity 사용
+        List<Long> productIds = productPage.getContent().stream()
+                .map(Product::getId)
                 .collect(Collectors.toList());
 
-        return new PageImpl<>(dtoList, pageable, productPage.getTotalElements());
+        return new PageImpl<>(findResponsesInOrder(productIds), pageable, productPage.getTotalElements());
+    }
+
+    /**
+     * 상품 필터(패싯) 조회
+     * - 필터 조합과 항목별 상품 수는 메모리 패싯 인덱스(ProductFacetIndex)의 BitSet 연산으로 구합니다.
+     * - DB 는 현재 페이지 상품을 ID 로 한 번 조회할 때만 사용합니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProductFacetResponseDto filterProducts(ProductFacetFilterDto filter) {
+        if (!productFacetIndex.isReady()) {
+            throw new IllegalStateException("상품 필터 인덱스가 아직 준비되지 않았습니다.");
+        }
+        ProductFacetResult result = productFacetIndex.filter(filter);
+        return ProductFacetResponseDto.builder()
+                .totalElements(result.getTotalElements())
+                .page(filter.getPage())
+                .size(Math.min(filter.getSize(), ProductFacetIndex.MAX_PAGE_SIZE))
+                .content(findResponsesInOrder(result.getProductIds()))
+                .categories(result.getCategories())
+                .ingredients(result.getIngredients())
+                .priceBands(result.getPriceBands())
+                .activeCount(result.getActiveCount())
+                .inactiveCount(result.getInactiveCount())
+                .build();
+    }
+
+    /**
+     * 검색어 자동완성
+     * - 메모리 자동완성 인덱스(ProductSuggestIndex)만 사용하므로 DB 조회가 없습니다.
+     * - 인덱스 적재 전에는 빈 목록을 반환합니다.
+     */
+    @Override
+    public List<ProductSuggestionDto> suggestProducts(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return productSuggestIndex.suggest(query, limit);
+    }
+
+    /**
+     * 메모리 인덱스가 정한 순서대로 상품을 조회해 DTO 로 변환합니다.
+     * - ID 목록으로 프로젝션 쿼리만 실행한 뒤 원래 순서로 다시 정렬합니다.
+     */
+    private List<ProductResponseDTO> findResponsesInOrder(List<Long> productIds) {
+        return productQueryService.findResponsesInOrder(productIds);
+    }
+
+    /**
+     * 상품 변경 이벤트 발행
+     * - 메모리 인덱스들이 커밋 이후 이 스냅샷으로 자신을 갱신합니다.
+     */
+    private void publishProductChanged(Product product) {
+        eventPublisher.publishEvent(new ProductChangedEvent(ProductSnapshot.fromEntity(product)));
     }
 
     // 이미지 저장 로직 (재사용 가능하도록 별도 메소드 추출)
@@ -360,5 +470,35 @@ public class ProductServiceImpl implements ProductService {
                 productImgRepository.delete(detailImage); // DB에서 삭제
             }
         }
+
+        // 대표 이미지를 지운 경우 대표 이미지 URL 컬럼 갱신
+        if ("대표".equals(imageType)) {
+            refreshMainImageUrl(product);
+        }
+
+        // 상품 버전 증가 후 상세 응답 갱신 (커밋 이후)
+        productRepository.increaseVersion(productId);
+        eventPublisher.publishEvent(new ProductDetailChangedEvent(List.of(productId)));
+    }
+
+    /**
+     * 대표 이미지 URL 컬럼(main_image_url)을 현재 대표 이미지(순서가 가장 앞선 것)로 맞춥니다.
+     * - 대표 이미지가 없으면 null 로 비웁니다.
+     */
+    private void refreshMainImageUrl(Product product) {
+        ProductImg mainImage = productImgRepository.findFirstByProductIdAndImageTypeOrderByOrderAsc(product.getId(), "대표");
+        product.setMainImageUrl(mainImage != null ? mainImage.getImageUrl() : null);
+    }
+
+    /**
+     * 대표 이미지 URL 컬럼이 비어 있는 기존 상품을 채웁니다. (애플리케이션 기동 직후, 이미 채워진 상품은 건너뜀)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void fillMissingMainImageUrls() {
+        int updated = productRepository.fillMissingMainImageUrls();
+        if (updated > 0) {
+            log.info("대표 이미지 URL 컬럼 보정 완료 - 상품 수: {}", updated);
+        }
     }
-}
\ No newline at end of file
+}
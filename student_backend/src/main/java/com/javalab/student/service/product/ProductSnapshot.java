@@ -0,0 +1,57 @@
+package com.javalab.student.service.product;
+
+import com.javalab.student.entity.product.Product;
+import com.javalab.student.entity.product.ProductCategory;
+import com.javalab.student.entity.product.ProductIngredient;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 상품 스냅샷
+ * - 트랜잭션 안에서 Product 엔티티의 값을 복사해 둔 불변 객체입니다.
+ * - 검색 인덱스 등 메모리 기반 조회 구조는 엔티티(지연 로딩) 대신 이 스냅샷만 사용합니다.
+ */
+@Getter
+@Builder
+@ToString
+public class ProductSnapshot {
+
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final BigDecimal price;
+    private final int stock;
+    private final boolean active;
+    private final List<Long> categoryIds;
+    private final List<String> categoryNames;
+    private final List<Long> ingredientIds;
+    private final List<String> ingredientNames;
+
+    /**
+     * Product 엔티티를 스냅샷으로 변환합니다.
+     * - 카테고리/영양성분 컬렉션을 읽으므로 트랜잭션(영속성 컨텍스트) 안에서 호출해야 합니다.
+     * @param product 상품 엔티티
+     * @return 상품 스냅샷
+     */
+    public static ProductSnapshot fromEntity(Product product) {
+        List<ProductCategory> categories = product.getCategories() != null ? product.getCategories() : List.of();
+        List<ProductIngredient> ingredients = product.getIngredients() != null ? product.getIngredients() : List.of();
+
+        return ProductSnapshot.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .stock(product.getStock())
+                .active(product.isActive())
+                .categoryIds(categories.stream().map(ProductCategory::getId).toList())
+                .categoryNames(categories.stream().map(ProductCategory::getName).toList())
+                .ingredientIds(ingredients.stream().map(ProductIngredient::getId).toList())
+                .ingredientNames(ingredients.stream().map(ProductIngredient::getIngredientName).toList())
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.javalab.student.service.product.bulk;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 리더 (RFC 4180)
+ * - 한 번에 한 레코드만 메모리에 올립니다.
+ * - 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이스케이프된 큰따옴표("")를 지원합니다.
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private long line = 1;
+    private long recordLine;
+    private int pushback = -2;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /** 마지막으로 읽은 레코드가 시작된 줄 번호 (1부터) */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    /**
+     * 다음 레코드를 읽습니다.
+     * @return 필드 목록 (파일 끝이면 null)
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {   // 빈 줄 건너뛰기
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException(recordLine + "번째 줄: 닫히지 않은 큰따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = n;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') {
+                        unread(n);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushback != -2) {
+            c = pushback;
+            pushback = -2;
+        } else {
+            c = reader.read();
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        if (c == '\n') {
+            line--;
+        }
+        pushback = c;
+    }
+}
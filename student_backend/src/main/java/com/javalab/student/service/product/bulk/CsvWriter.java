@@ -0,0 +1,47 @@
+package com.javalab.student.service.product.bulk;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV 라이터 (RFC 4180)
+ * - 쉼표, 큰따옴표, 줄바꿈이 들어간 필드만 큰따옴표로 감쌉니다.
+ */
+public class CsvWriter {
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * 한 레코드를 씁니다. (null 필드는 빈 값)
+     * @param fields 필드 값
+     */
+    public void writeRecord(Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(fields[i] == null ? "" : fields[i].toString());
+        }
+        writer.write("\r\n");
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean needsQuote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,534 @@
+package com.javalab.student.service.product.bulk;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javalab.student.dto.product.ProductBulkRowDto;
+import com.javalab.student.dto.product.ProductImportResultDto;
+import com.javalab.student.entity.product.ProductCategory;
+import com.javalab.student.entity.product.ProductIngredient;
+import com.javalab.student.repository.product.ProductCategoryRepository;
+import com.javalab.student.repository.product.ProductIngredientRepository;
+import com.javalab.student.service.product.detail.ProductDetailCache;
+import com.javalab.student.service.product.search.ProductIndexLoader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 대량 등록(import) / 내보내기(export) 서비스
+ *
+ * 등록
+ * - CSV/JSON 을 한 행씩 스트리밍으로 읽고, 카테고리/영양성분 이름은 미리 읽어 둔 Map 으로 ID 를 찾습니다.
+ * - 500 행씩 모아 JDBC 배치(INSERT/UPDATE, 매핑 테이블)로 쓰고, 묶음마다 트랜잭션을 커밋합니다.
+ * - 묶음 쓰기가 실패하면 그 묶음만 한 행씩 다시 써서 실패한 행을 찾아 오류로 보고합니다.
+ * - 등록이 끝나면 상품 메모리 인덱스(검색/자동완성/필터)를 한 번에 다시 적재합니다.
+ *
+ * 내보내기
+ * - 읽기 전용, 순방향(forward-only) 커서로 한 행씩 읽어 바로 응답 스트림에 씁니다.
+ *
+ * 메모리 사용량은 상품 수와 무관하게 묶음 크기와 카테고리/영양성분 수에만 비례합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductBulkService {
+
+    public static final List<String> CSV_HEADER =
+            List.of("id", "name", "description", "price", "stock", "active", "categories", "ingredients");
+
+    /** CSV 안에서 카테고리/영양성분 이름 구분자 */
+    private static final String LIST_SEPARATOR = "|";
+    private static final int CHUNK_SIZE = 500;
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String INSERT_PRODUCT_SQL =
+            "INSERT INTO product (name, description, price, stock, active, main_image_url) VALUES (?, ?, ?, ?, ?, '')";
+    private static final String UPDATE_PRODUCT_SQL =
+            "UPDATE product SET name = ?, description = ?, price = ?, stock = ?, active = ?, version = version + 1 WHERE id = ?";
+    private static final String DELETE_CATEGORY_MAPPING_SQL = "DELETE FROM product_category_mapping WHERE product_id = ?";
+    private static final String DELETE_INGREDIENT_MAPPING_SQL = "DELETE FROM product_ingredient_mapping WHERE product_id = ?";
+    private static final String INSERT_CATEGORY_MAPPING_SQL =
+            "INSERT INTO product_category_mapping (product_id, category_id) VALUES (?, ?)";
+    private static final String INSERT_INGREDIENT_MAPPING_SQL =
+            "INSERT INTO product_ingredient_mapping (product_id, id) VALUES (?, ?)";
+    private static final String EXPORT_SQL =
+            "SELECT p.id, p.name, p.description, p.price, p.stock, p.active, " +
+            "(SELECT GROUP_CONCAT(c.name ORDER BY c.id SEPARATOR '|') FROM product_category_mapping m " +
+            "  JOIN product_category c ON c.id = m.category_id WHERE m.product_id = p.id) AS categories, " +
+            "(SELECT GROUP_CONCAT(i.ingredient_name ORDER BY i.id SEPARATOR '|') FROM product_ingredient_mapping m " +
+            "  JOIN product_ingredient i ON i.id = m.id WHERE m.product_id = p.id) AS ingredients " +
+            "FROM product p ORDER BY p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductCategoryRepository categoryRepository;
+    private final ProductIngredientRepository ingredientRepository;
+    private final ProductIndexLoader productIndexLoader;
+    private final ProductDetailCache productDetailCache;
+
+    /**
+     * CSV 대량 등록
+     * - 첫 줄은 헤더이며 CSV_HEADER 의 열 이름을 사용합니다. (순서 무관, name/price 는 필수)
+     * @param in CSV 입력 스트림 (UTF-8)
+     * @return 등록 결과
+     */
+    public ProductImportResultDto importCsv(InputStream in) throws IOException {
+        CsvReader reader = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("빈 CSV 파일입니다.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).replace("\uFEFF", "").trim().toLowerCase(), i);
+        }
+        if (!columns.containsKey("name") || !columns.containsKey("price")) {
+            throw new IllegalArgumentException("CSV 헤더에 name, price 열이 필요합니다.");
+        }
+
+        ImportContext context = new ImportContext();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            long row = reader.getRecordLine();
+            try {
+                context.add(row, toRow(record, columns));
+            } catch (IllegalArgumentException e) {
+                context.error(row, e.getMessage());
+            }
+        }
+        return context.finish();
+    }
+
+    /**
+     * JSON 대량 등록
+     * - 최상위가 ProductBulkRowDto 객체의 배열이어야 합니다.
+     * @param in JSON 입력 스트림
+     * @return 등록 결과
+     */
+    public ProductImportResultDto importJson(InputStream in) throws IOException {
+        ImportContext context = new ImportContext();
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON 은 상품 객체의 배열이어야 합니다.");
+            }
+            long row = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                row++;
+                // 행마다 트리로 읽은 뒤 변환하므로, 한 행의 형식 오류가 다음 행 파싱에 영향을 주지 않습니다.
+                JsonNode node = parser.readValueAsTree();
+                try {
+                    context.add(row, objectMapper.treeToValue(node, ProductBulkRowDto.class));
+                } catch (IOException | IllegalArgumentException e) {
+                    context.error(row, e.getMessage());
+                }
+            }
+        }
+        return context.finish();
+    }
+
+    /**
+     * 전체 상품을 CSV 로 내보냅니다. (엑셀 호환을 위해 UTF-8 BOM 포함)
+     * @param out 응답 출력 스트림
+     */
+    public void exportCsv(OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeRecord(CSV_HEADER.toArray());
+        streamProducts(row -> {
+            try {
+                csv.writeRecord(row.getId(), row.getName(), row.getDescription(), row.getPrice(), row.getStock(),
+                        row.getActive(), String.join(LIST_SEPARATOR, row.getCategories()),
+                        String.join(LIST_SEPARATOR, row.getIngredients()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        csv.flush();
+    }
+
+    /**
+     * 전체 상품을 JSON 배열로 내보냅니다.
+     * @param out 응답 출력 스트림
+     */
+    public void exportJson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            streamProducts(row -> {
+                try {
+                    generator.writeObject(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    /** 순방향 커서로 상품을 한 행씩 읽어 consumer 에 넘깁니다. */
+    private void streamProducts(Consumer<ProductBulkRowDto> consumer) throws IOException {
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                        EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(EXPORT_FETCH_SIZE);
+                return ps;
+            }, (RowCallbackHandler) rs -> consumer.accept(ProductBulkRowDto.builder()
+                    .id(rs.getLong("id"))
+                    .name(rs.getString("name"))
+                    .description(rs.getString("description"))
+                    .price(rs.getBigDecimal("price"))
+                    .stock(rs.getInt("stock"))
+                    .active(rs.getBoolean("active"))
+                    .categories(splitList(rs.getString("categories")))
+                    .ingredients(splitList(rs.getString("ingredients")))
+                    .build()));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** CSV 레코드를 행 DTO 로 변환합니다. (형식 오류는 IllegalArgumentException) */
+    private ProductBulkRowDto toRow(List<String> record, Map<String, Integer> columns) {
+        return ProductBulkRowDto.builder()
+                .id(parseLong(column(record, columns, "id"), "id"))
+                .name(column(record, columns, "name"))
+                .description(column(record, columns, "description"))
+                .price(parseDecimal(column(record, columns, "price")))
+                .stock(parseInt(column(record, columns, "stock")))
+                .active(parseBoolean(column(record, columns, "active")))
+                .categories(splitList(column(record, columns, "categories")))
+                .ingredients(splitList(column(record, columns, "ingredients")))
+                .build();
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Long parseLong(String value, String column) {
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static Integer parseInt(String value) {
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("stock 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static BigDecimal parseDecimal(String value) {
+        try {
+            return value == null ? null : new BigDecimal(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("price 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (value.toLowerCase()) {
+            case "true", "1", "y", "yes" -> true;
+            case "false", "0", "n", "no" -> false;
+            default -> throw new IllegalArgumentException("active 값은 true/false 여야 합니다: " + value);
+        };
+    }
+
+    private static List<String> splitList(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split("\\" + LIST_SEPARATOR))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+
+    /** 검증/ID 변환이 끝나 쓰기를 기다리는 행 */
+    private static final class PendingRow {
+        private final long row;
+        private final ProductBulkRowDto dto;
+        private final List<Long> categoryIds;
+        private final List<Long> ingredientIds;
+        private Long productId;
+
+        private PendingRow(long row, ProductBulkRowDto dto, List<Long> categoryIds, List<Long> ingredientIds) {
+            this.row = row;
+            this.dto = dto;
+            this.categoryIds = categoryIds;
+            this.ingredientIds = ingredientIds;
+            this.productId = dto.getId();
+        }
+    }
+
+    /** 한 번의 등록 요청 상태 (미리 읽은 이름 → ID Map, 묶음 버퍼, 집계) */
+    private final class ImportContext {
+        private final Map<String, Long> categoryIds;
+        private final Map<String, Long> ingredientIds;
+        private final List<PendingRow> buffer = new ArrayList<>(CHUNK_SIZE);
+        private final List<ProductImportResultDto.RowError> errors = new ArrayList<>();
+        private long inserted;
+        private long updated;
+        private long failed;
+
+        private ImportContext() {
+            this.categoryIds = categoryRepository.findAll().stream()
+                    .collect(Collectors.toMap(ProductCategory::getName, ProductCategory::getId));
+            this.ingredientIds = ingredientRepository.findAll().stream()
+                    .collect(Collectors.toMap(ProductIngredient::getIngredientName, ProductIngredient::getId));
+        }
+
+        private void add(long row, ProductBulkRowDto dto) {
+            if (dto.getName() == null || dto.getName().isBlank()) {
+                error(row, "상품명(name)은 필수입니다.");
+                return;
+            }
+            if (dto.getName().length() > 255) {
+                error(row, "상품명은 255자를 넘을 수 없습니다.");
+                return;
+            }
+            if (dto.getPrice() == null || dto.getPrice().signum() < 0) {
+                error(row, "가격(price)은 0 이상이어야 합니다.");
+                return;
+            }
+            if (dto.getStock() != null && dto.getStock() < 0) {
+                error(row, "재고(stock)는 0 이상이어야 합니다.");
+                return;
+            }
+            List<Long> categories = resolve(dto.getCategories(), categoryIds);
+            List<Long> ingredients = resolve(dto.getIngredients(), ingredientIds);
+            if (categories == null || ingredients == null) {
+                List<String> unknownNames = new ArrayList<>(unknown(dto.getCategories(), categoryIds));
+                unknownNames.addAll(unknown(dto.getIngredients(), ingredientIds));
+                error(row, "등록되지 않은 카테고리/영양성분입니다: " + String.join(", ", unknownNames));
+                return;
+            }
+            buffer.add(new PendingRow(row, dto, categories, ingredients));
+            if (buffer.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        private void error(long row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ProductImportResultDto.RowError(row, message));
+            }
+        }
+
+        private ProductImportResultDto finish() {
+            flush();
+            long totalRows = inserted + updated + failed;
+            if (inserted + updated > 0) {
+                productIndexLoader.reload();
+                productDetailCache.clear();
+            }
+            log.info("상품 대량 등록 완료 - 전체: {}, 신규: {}, 수정: {}, 실패: {}", totalRows, inserted, updated, failed);
+            return ProductImportResultDto.builder()
+                    .totalRows(totalRows)
+                    .inserted(inserted)
+                    .updated(updated)
+                    .failed(failed)
+                    .errors(errors)
+                    .build();
+        }
+
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            List<PendingRow> chunk = new ArrayList<>(buffer);
+            buffer.clear();
+
+            // 존재하지 않는 상품 ID 를 수정하려는 행은 쓰기 전에 걸러냅니다.
+            Set<Long> existing = existingIds(chunk);
+            List<PendingRow> writable = new ArrayList<>(chunk.size());
+            for (PendingRow pending : chunk) {
+                if (pending.productId != null && !existing.contains(pending.productId)) {
+                    error(pending.row, "존재하지 않는 상품 ID 입니다: " + pending.productId);
+                } else {
+                    writable.add(pending);
+                }
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(writable));
+                count(writable);
+            } catch (DataAccessException e) {
+                log.warn("상품 대량 등록 묶음 쓰기 실패 - 행 단위로 다시 시도합니다: {}", e.getMessage());
+                for (PendingRow pending : writable) {
+                    pending.productId = pending.dto.getId();
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> write(List.of(pending)));
+                        count(List.of(pending));
+                    } catch (DataAccessException rowError) {
+                        error(pending.row, NestedExceptionUtils.getMostSpecificCause(rowError).getMessage());
+                    }
+                }
+            }
+        }
+
+        private void count(List<PendingRow> rows) {
+            for (PendingRow pending : rows) {
+                if (pending.dto.getId() == null) {
+                    inserted++;
+                } else {
+                    updated++;
+                }
+            }
+        }
+    }
+
+    /** 묶음 안에서 수정 대상 ID 중 실제로 존재하는 ID */
+    private Set<Long> existingIds(List<PendingRow> chunk) {
+        List<Long> ids = chunk.stream().map(p -> p.productId).filter(Objects::nonNull).toList();
+        if (ids.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM product WHERE id IN (" + placeholders + ")", Long.class, ids.toArray()));
+    }
+
+    /** 한 묶음을 JDBC 배치로 씁니다. (호출한 트랜잭션 안에서 실행) */
+    private void write(List<PendingRow> rows) {
+        List<PendingRow> inserts = rows.stream().filter(p -> p.dto.getId() == null).toList();
+        List<PendingRow> updates = rows.stream().filter(p -> p.dto.getId() != null).toList();
+
+        if (!inserts.isEmpty()) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_PRODUCT_SQL, Statement.RETURN_GENERATED_KEYS),
+                    productSetter(inserts, false), keyHolder);
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            if (keys.size() != inserts.size()) {
+                throw new IllegalStateException("생성된 상품 ID 수가 등록 행 수와 다릅니다.");
+            }
+            for (int i = 0; i < inserts.size(); i++) {
+                inserts.get(i).productId = ((Number) keys.get(i).values().iterator().next()).longValue();
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_PRODUCT_SQL, productSetter(updates, true));
+            List<Object[]> ids = updates.stream().map(p -> new Object[]{p.productId}).toList();
+            jdbcTemplate.batchUpdate(DELETE_CATEGORY_MAPPING_SQL, ids);
+            jdbcTemplate.batchUpdate(DELETE_INGREDIENT_MAPPING_SQL, ids);
+        }
+
+        List<Object[]> categoryMappings = new ArrayList<>();
+        List<Object[]> ingredientMappings = new ArrayList<>();
+        for (PendingRow pending : rows) {
+            pending.categoryIds.forEach(id -> categoryMappings.add(new Object[]{pending.productId, id}));
+            pending.ingredientIds.forEach(id -> ingredientMappings.add(new Object[]{pending.productId, id}));
+        }
+        if (!categoryMappings.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CATEGORY_MAPPING_SQL, categoryMappings);
+        }
+        if (!ingredientMappings.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_INGREDIENT_MAPPING_SQL, ingredientMappings);
+        }
+    }
+
+    private static BatchPreparedStatementSetter productSetter(List<PendingRow> rows, boolean withId) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ProductBulkRowDto dto = rows.get(i).dto;
+                ps.setString(1, dto.getName().trim());
+                if (dto.getDescription() != null) {
+                    ps.setString(2, dto.getDescription());
+                } else {
+                    ps.setNull(2, Types.VARCHAR);
+                }
+                ps.setBigDecimal(3, dto.getPrice());
+                ps.setInt(4, dto.getStock() != null ? dto.getStock() : 0);
+                ps.setBoolean(5, dto.getActive() == null || dto.getActive());
+                if (withId) {
+                    ps.setLong(6, rows.get(i).productId);
+                }
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        };
+    }
+
+    /** 이름 목록을 ID 목록으로 바꿉니다. 하나라도 없으면 null */
+    private static List<Long> resolve(List<String> names, Map<String, Long> ids) {
+        if (names == null || names.isEmpty()) {
+            return List.of();
+        }
+        List<Long> result = new ArrayList<>(names.size());
+        for (String name : names) {
+            Long id = ids.get(name.trim());
+            if (id == null) {
+                return null;
+            }
+            if (!result.contains(id)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static List<String> unknown(List<String> names, Map<String, Long> ids) {
+        if (names == null) {
+            return List.of();
+        }
+        return names.stream().filter(name -> !ids.containsKey(name.trim())).toList();
+    }
+}
@@ -0,0 +1,161 @@
+package com.javalab.student.service.product.detail;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javalab.student.dto.product.ProductDetailDto;
+import com.javalab.student.entity.product.Product;
+import com.javalab.student.repository.product.ProductRepository;
+import com.javalab.student.service.coalescing.RequestCoalescer;
+import com.javalab.student.service.product.ProductChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 상세 응답 캐시 (읽기 모델)
+ * - 상품별로 JSON 바이트를 미리 만들어 두고 크기 제한 LRU 로 보관합니다. (product.detail.cache.max-size)
+ * - 상품 변경(ProductChangedEvent, ProductDetailChangedEvent)이 커밋되면 캐시에 있던 항목은 새 버전으로 다시 만들고,
+ *   캐시에 없던 항목은 다음 조회 때 만듭니다.
+ * - 조회 도중 변경이 커밋되면(invalidations 증가) 그 조회 결과는 응답에만 쓰고 캐시에는 넣지 않아 이전 버전이 남지 않습니다.
+ * - 같은 상품은 항상 더 높은 버전으로만 교체합니다.
+ * - 캐시에 없는 상품을 여러 요청이 동시에 조회하면 DB 조회는 한 번만 실행하고 결과를 함께 받습니다. (RequestCoalescer)
+ *   합치기 키에 변경 반영 횟수를 넣어, 변경이 커밋된 뒤 도착한 요청이 그 전에 시작된 조회 결과를 받지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class ProductDetailCache {
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTransaction;
+    private final RequestCoalescer requestCoalescer;
+    private final int maxSize;
+
+    /** 접근 순서 LinkedHashMap (가장 오래 조회되지 않은 항목부터 제거) */
+    private final Map<Long, ProductDetailView> views;
+
+    /** 변경 반영 횟수 (조회 중 변경 여부 판단용) */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ProductDetailCache(ProductRepository productRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              RequestCoalescer requestCoalescer,
+                              @Value("${product.detail.cache.max-size:1000}") int maxSize) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.requestCoalescer = requestCoalescer;
+        this.maxSize = maxSize;
+        this.views = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ProductDetailView> eldest) {
+                return size() > ProductDetailCache.this.maxSize;
+            }
+        };
+        // 커밋 직후(AFTER_COMMIT)에도 호출되므로 항상 새 트랜잭션(새 영속성 컨텍스트)에서 읽습니다.
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 상품 상세 응답을 조회합니다. (캐시에 없으면 DB 에서 읽어 만듭니다.)
+     * @param productId 상품 ID
+     * @return 상세 응답, 상품이 없으면 null
+     */
+    public ProductDetailView get(Long productId) {
+        ProductDetailView view;
+        synchronized (views) {
+            view = views.get(productId);
+        }
+        if (view != null) {
+            return view;
+        }
+        long observed = invalidations.get();
+        return requestCoalescer.execute(RequestCoalescer.PRODUCT_DETAIL, productId + "@" + observed, () -> {
+            ProductDetailView loaded = load(productId);
+            if (loaded != null && invalidations.get() == observed) {
+                putIfNewer(loaded);
+            }
+            return loaded;
+        });
+    }
+
+    /** 상품 생성/수정 반영 (트랜잭션 커밋 이후) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        refresh(event.getSnapshot().getId());
+    }
+
+    /** 재고/이미지 변경 반영 (트랜잭션 커밋 이후) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductDetailChanged(ProductDetailChangedEvent event) {
+        event.getProductIds().forEach(this::refresh);
+    }
+
+    /** 캐시를 모두 비웁니다. (상품 대량 등록 등 개별 이벤트 없이 여러 상품이 바뀐 경우) */
+    public void clear() {
+        invalidations.incrementAndGet();
+        synchronized (views) {
+            views.clear();
+        }
+    }
+
+    /** 캐시에 있던 상품이면 새 버전으로 다시 만들고, 없던 상품이면 진행 중인 조회만 무효화합니다. */
+    private void refresh(Long productId) {
+        invalidations.incrementAndGet();
+        boolean cached;
+        synchronized (views) {
+            cached = views.containsKey(productId);
+        }
+        if (!cached) {
+            return;
+        }
+        try {
+            ProductDetailView view = load(productId);
+            if (view == null) {
+                synchronized (views) {
+                    views.remove(productId);
+                }
+            } else {
+                putIfNewer(view);
+            }
+        } catch (Exception e) {
+            log.error("상품 상세 캐시 갱신 실패 - 캐시에서 제거합니다. 상품 ID: {}", productId, e);
+            synchronized (views) {
+                views.remove(productId);
+            }
+        }
+    }
+
+    private void putIfNewer(ProductDetailView view) {
+        synchronized (views) {
+            ProductDetailView current = views.get(view.getProductId());
+            if (current == null || current.getVersion() < view.getVersion()) {
+                views.put(view.getProductId(), view);
+            }
+        }
+    }
+
+    private ProductDetailView load(Long productId) {
+        ProductDetailDto dto = readTransaction.execute(status -> productRepository.findById(productId)
+                .map(ProductDetailDto::fromEntity)
+                .orElse(null));
+        if (dto == null) {
+            return null;
+        }
+        try {
+            return new ProductDetailView(dto.getId(), dto.getVersion(), objectMapper.writeValueAsBytes(dto));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상품 상세 JSON 직렬화 실패 - 상품 ID: " + productId, e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.javalab.student.service.product.detail;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Collection;
+
+/**
+ * 상품 상세 변경 이벤트
+ * - 검색 인덱스와는 무관하지만 상세 화면 내용이 바뀌는 변경(재고 증감, 이미지 추가/삭제)에 발행됩니다.
+ * - 상품 자체의 생성/수정은 ProductChangedEvent 로 전달됩니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ProductDetailChangedEvent {
+
+    /** 상세 내용이 바뀐 상품 ID 목록 */
+    private final Collection<Long> productIds;
+}
@@ -0,0 +1,45 @@
+package com.javalab.student.service.product.detail;
+
+import lombok.Getter;
+
+/**
+ * 미리 직렬화된 상품 상세 응답 (불변)
+ * - body 는 ProductDetailDto 의 JSON 바이트이며, ETag 는 상품 ID 와 버전으로 만든 강한(strong) ETag 입니다.
+ */
+@Getter
+public final class ProductDetailView {
+
+    private final long productId;
+    private final long version;
+    private final String etag;
+    private final byte[] body;
+
+    ProductDetailView(long productId, long version, byte[] body) {
+        this.productId = productId;
+        this.version = version;
+        this.etag = "\"" + productId + "-" + version + "\"";
+        this.body = body;
+    }
+
+    /**
+     * If-None-Match 헤더 값이 현재 ETag 와 일치하는지 확인합니다.
+     * - 여러 값(쉼표 구분), "*", 약한 비교(W/ 접두사 무시)를 지원합니다.
+     * @param ifNoneMatch If-None-Match 헤더 값 (없으면 null)
+     * @return 일치하면 true (304 응답 대상)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,258 @@
+package com.javalab.student.service.product.facet;
+
+import com.javalab.student.constant.FacetMatch;
+import com.javalab.student.constant.PriceBand;
+import com.javalab.student.dto.product.FacetCountDto;
+import com.javalab.student.dto.product.ProductFacetFilterDto;
+import com.javalab.student.service.product.ProductChangedEvent;
+import com.javalab.student.service.product.ProductSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 패싯(필터) 메모리 인덱스
+ * - 상품마다 0부터 시작하는 순번(ordinal)을 부여하고,
+ *   카테고리/영양성분/가격대/판매 상태별로 "해당 상품 순번에 비트가 켜진" BitSet 을 하나씩 유지합니다.
+ * - 필터 조합은 BitSet 의 and/or 연산으로, 항목별 상품 수는 교집합의 cardinality 로 계산하므로
+ *   매핑 테이블 조인이나 SQL 없이 응답할 수 있습니다.
+ * - 항목별 상품 수는 "그 항목을 추가로 선택했을 때"의 건수입니다.
+ *   OR 그룹은 자기 그룹의 조건을 뺀 나머지 조건으로, AND 그룹은 전체 조건으로 계산합니다.
+ * - 상품 변경은 ProductChangedEvent 를 통해 커밋 이후 반영됩니다.
+ */
+@Slf4j
+@Component
+public class ProductFacetIndex {
+
+    /** 한 페이지 최대 상품 수 (요청 크기가 더 크면 이 값으로 줄임) */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<Long> productIds = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final BitSet active = new BitSet();
+    private final Map<Long, BitSet> categoryBits = new HashMap<>();
+    private final Map<Long, BitSet> ingredientBits = new HashMap<>();
+    private final Map<PriceBand, BitSet> priceBits = new EnumMap<>(PriceBand.class);
+    private final Map<Long, String> categoryNames = new TreeMap<>();
+    private final Map<Long, String> ingredientNames = new TreeMap<>();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 상품으로 인덱스를 새로 만듭니다.
+     * @param snapshots 전체 상품 스냅샷
+     */
+    public void rebuild(Collection<ProductSnapshot> snapshots) {
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            productIds.clear();
+            live.clear();
+            active.clear();
+            categoryBits.clear();
+            ingredientBits.clear();
+            priceBits.clear();
+            categoryNames.clear();
+            ingredientNames.clear();
+            snapshots.forEach(this::putInternal);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 패싯 인덱스 구성 완료 - 상품 수: {}", snapshots.size());
+    }
+
+    /**
+     * 상품 하나를 반영(추가 또는 교체)합니다.
+     * @param snapshot 상품 스냅샷
+     */
+    public void put(ProductSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            putInternal(snapshot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 상품 변경 이벤트 반영 (트랜잭션 커밋 이후) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        put(event.getSnapshot());
+    }
+
+    /**
+     * 필터 조건에 맞는 상품과 항목별 상품 수를 구합니다.
+     * @param filter 필터 조건
+     * @return 전체 건수, 요청 페이지 상품 ID(순번 = 등록 순, 최대 MAX_PAGE_SIZE 개), 항목별 상품 수
+     * @throws IllegalArgumentException 페이지 번호가 음수이거나 페이지 크기가 1 미만인 경우
+     */
+    public ProductFacetResult filter(ProductFacetFilterDto filter) {
+        if (filter.getPage() < 0 || filter.getSize() < 1) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상, 페이지 크기는 1 이상이어야 합니다. page: "
+                    + filter.getPage() + ", size: " + filter.getSize());
+        }
+        lock.readLock().lock();
+        try {
+            BitSet base = (BitSet) live.clone();
+            BitSet activeFilter = null;
+            if (filter.getActive() != null) {
+                activeFilter = (BitSet) live.clone();
+                if (filter.getActive()) {
+                    activeFilter.and(active);
+                } else {
+                    activeFilter.andNot(active);
+                }
+            }
+            BitSet categoryFilter = combine(categoryBits, filter.getCategoryIds(), filter.getCategoryMatch());
+            BitSet ingredientFilter = combine(ingredientBits, filter.getIngredientIds(), filter.getIngredientMatch());
+            BitSet priceFilter = combine(priceBits, filter.getPriceBands(), FacetMatch.ANY);
+
+            BitSet matched = intersect(base, activeFilter, categoryFilter, ingredientFilter, priceFilter);
+            boolean categoryAll = filter.getCategoryMatch() == FacetMatch.ALL;
+            boolean ingredientAll = filter.getIngredientMatch() == FacetMatch.ALL;
+
+            BitSet categoryContext = categoryAll ? matched
+                    : intersect(base, activeFilter, ingredientFilter, priceFilter);
+            BitSet ingredientContext = ingredientAll ? matched
+                    : intersect(base, activeFilter, categoryFilter, priceFilter);
+            BitSet priceContext = intersect(base, activeFilter, categoryFilter, ingredientFilter);
+            BitSet activeContext = intersect(base, categoryFilter, ingredientFilter, priceFilter);
+
+            long activeCount = countAnd(activeContext, active);
+            return ProductFacetResult.builder()
+                    .totalElements(matched.cardinality())
+                    .productIds(page(matched, filter.getPage(), filter.getSize()))
+                    .categories(counts(categoryNames, categoryBits, categoryContext))
+                    .ingredients(counts(ingredientNames, ingredientBits, ingredientContext))
+                    .priceBands(priceCounts(priceContext))
+                    .activeCount(activeCount)
+                    .inactiveCount(activeContext.cardinality() - activeCount)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putInternal(ProductSnapshot snapshot) {
+        int ordinal = ordinals.computeIfAbsent(snapshot.getId(), id -> {
+            productIds.add(id);
+            return productIds.size() - 1;
+        });
+        clearOrdinal(ordinal);
+
+        live.set(ordinal);
+        active.set(ordinal, snapshot.isActive());
+        List<Long> categoryIds = snapshot.getCategoryIds();
+        for (int i = 0; i < categoryIds.size(); i++) {
+            categoryBits.computeIfAbsent(categoryIds.get(i), id -> new BitSet()).set(ordinal);
+            categoryNames.put(categoryIds.get(i), snapshot.getCategoryNames().get(i));
+        }
+        List<Long> ingredientIds = snapshot.getIngredientIds();
+        for (int i = 0; i < ingredientIds.size(); i++) {
+            ingredientBits.computeIfAbsent(ingredientIds.get(i), id -> new BitSet()).set(ordinal);
+            ingredientNames.put(ingredientIds.get(i), snapshot.getIngredientNames().get(i));
+        }
+        PriceBand band = PriceBand.of(snapshot.getPrice());
+        if (band != null) {
+            priceBits.computeIfAbsent(band, b -> new BitSet()).set(ordinal);
+        }
+    }
+
+    /** 이전 값의 비트를 모두 지웁니다. (항목 수만큼의 비트 연산) */
+    private void clearOrdinal(int ordinal) {
+        live.clear(ordinal);
+        active.clear(ordinal);
+        categoryBits.values().forEach(bits -> bits.clear(ordinal));
+        ingredientBits.values().forEach(bits -> bits.clear(ordinal));
+        priceBits.values().forEach(bits -> bits.clear(ordinal));
+    }
+
+    /** 선택 값들의 BitSet 을 OR/AND 로 결합합니다. 선택이 없으면 null(조건 없음) */
+    private static <K> BitSet combine(Map<K, BitSet> index, List<K> keys, FacetMatch match) {
+        if (keys == null || keys.isEmpty()) {
+            return null;
+        }
+        BitSet result = null;
+        for (K key : keys) {
+            BitSet bits = index.getOrDefault(key, new BitSet());
+            if (result == null) {
+                result = (BitSet) bits.clone();
+            } else if (match == FacetMatch.ALL) {
+                result.and(bits);
+            } else {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    /** null 이 아닌 조건들의 교집합 (첫 번째 인자는 복사되므로 변경되지 않습니다.) */
+    private static BitSet intersect(BitSet base, BitSet... filters) {
+        BitSet result = (BitSet) base.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private static long countAnd(BitSet context, BitSet bits) {
+        BitSet tmp = (BitSet) context.clone();
+        tmp.and(bits);
+        return tmp.cardinality();
+    }
+
+    private List<FacetCountDto> counts(Map<Long, String> names, Map<Long, BitSet> index, BitSet context) {
+        List<FacetCountDto> result = new ArrayList<>(names.size());
+        names.forEach((key, name) -> result.add(FacetCountDto.builder()
+                .key(String.valueOf(key))
+                .name(name)
+                .count(countAnd(context, index.getOrDefault(key, new BitSet())))
+                .build()));
+        return result;
+    }
+
+    private List<FacetCountDto> priceCounts(BitSet context) {
+        List<FacetCountDto> result = new ArrayList<>(PriceBand.values().length);
+        for (PriceBand band : PriceBand.values()) {
+            result.add(FacetCountDto.builder()
+                    .key(band.name())
+                    .name(band.getLabel())
+                    .count(countAnd(context, priceBits.getOrDefault(band, new BitSet())))
+                    .build());
+        }
+        return result;
+    }
+
+    /** 켜진 비트를 순서대로 건너뛰며 요청 페이지의 상품 ID 만 꺼냅니다. (페이지 크기는 MAX_PAGE_SIZE 까지) */
+    private List<Long> page(BitSet matched, int page, int size) {
+        int limit = Math.min(size, MAX_PAGE_SIZE);
+        long offset = (long) page * limit;
+        List<Long> ids = new ArrayList<>(Math.min(limit, matched.cardinality()));
+        long skipped = 0;
+        for (int i = matched.nextSetBit(0); i >= 0 && ids.size() < limit; i = matched.nextSetBit(i + 1)) {
+            if (skipped++ < offset) {
+                continue;
+            }
+            ids.add(productIds.get(i));
+        }
+        return ids;
+    }
+}
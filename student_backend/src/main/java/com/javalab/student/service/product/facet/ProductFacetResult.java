@@ -0,0 +1,25 @@
+package com.javalab.student.service.product.facet;
+
+import com.javalab.student.dto.product.FacetCountDto;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 패싯 인덱스 조회 결과
+ * - 전체 건수, 요청 페이지의 상품 ID, 항목별 상품 수
+ */
+@Getter
+@Builder
+@ToString
+public class ProductFacetResult {
+    private final long totalElements;
+    private final List<Long> productIds;
+    private final List<FacetCountDto> categories;
+    private final List<FacetCountDto> ingredients;
+    private final List<FacetCountDto> priceBands;
+    private final long activeCount;
+    private final long inactiveCount;
+}
@@ -0,0 +1,90 @@
+package com.javalab.student.service.product.related;
+
+import java.util.Arrays;
+
+/**
+ * 함께 구매 집계 (장바구니 = 결제된 주문 1건)
+ * - 주문마다 서로 다른 상품 목록을 받아, 상품별 구매 주문 수와 상품 쌍별 동시 구매 주문 수를 셉니다.
+ * - 상품 쌍은 (작은 ID, 큰 ID) 를 long 하나로 묶어 LongIntCounter 에 저장합니다.
+ * - 상품 종류가 maxBasketSize 를 넘는 주문(대량 구매)은 쌍 수가 제곱으로 늘고 연관성도 약하므로 건너뜁니다.
+ */
+public class CoPurchaseCounts {
+
+    private final int maxBasketSize;
+    private final LongIntCounter pairCounts = new LongIntCounter(1 << 12);
+    private final LongIntCounter productCounts = new LongIntCounter(1 << 8);
+    private long basketCount;
+    private long skippedBaskets;
+
+    public CoPurchaseCounts(int maxBasketSize) {
+        this.maxBasketSize = maxBasketSize;
+    }
+
+    /**
+     * 주문 1건의 상품 ID 를 반영합니다. (중복 ID 는 한 번만 셈, 배열 앞부분 length 개만 사용하며 정렬됨)
+     * @return 반영했으면 true, 빈 주문이거나 너무 큰 주문이라 건너뛰었으면 false
+     */
+    public boolean addBasket(long[] productIds, int length) {
+        Arrays.sort(productIds, 0, length);
+        int distinct = 0;
+        for (int i = 0; i < length; i++) {
+            if (productIds[i] <= 0 || productIds[i] > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("상품 ID 범위를 벗어났습니다: " + productIds[i]);
+            }
+            if (distinct == 0 || productIds[distinct - 1] != productIds[i]) {
+                productIds[distinct++] = productIds[i];
+            }
+        }
+        if (distinct == 0) {
+            return false;
+        }
+        if (distinct > maxBasketSize) {
+            skippedBaskets++;
+            return false;
+        }
+
+        basketCount++;
+        for (int i = 0; i < distinct; i++) {
+            productCounts.add(productIds[i], 1);
+            for (int j = i + 1; j < distinct; j++) {
+                pairCounts.add(pairKey(productIds[i], productIds[j]), 1);
+            }
+        }
+        return true;
+    }
+
+    /** 상품 쌍 키 (작은 ID 가 상위 32비트) */
+    public static long pairKey(long productA, long productB) {
+        long low = Math.min(productA, productB);
+        long high = Math.max(productA, productB);
+        return (low << 32) | high;
+    }
+
+    /** 쌍 키의 작은 상품 ID */
+    public static long firstOf(long pairKey) {
+        return pairKey >>> 32;
+    }
+
+    /** 쌍 키의 큰 상품 ID */
+    public static long secondOf(long pairKey) {
+        return pairKey & 0xFFFFFFFFL;
+    }
+
+    public LongIntCounter getPairCounts() {
+        return pairCounts;
+    }
+
+    public LongIntCounter getProductCounts() {
+        return productCounts;
+    }
+
+    /** 반영한 주문 수 */
+    public long getBasketCount() {
+        return basketCount;
+    }
+
+    /** 너무 커서 건너뛴 주문 수 */
+    public long getSkippedBaskets() {
+        return skippedBaskets;
+    }
+}
@@ -0,0 +1,311 @@
+package com.javalab.student.service.product.related;
+
+import com.javalab.student.constant.OrderStatus;
+import com.javalab.student.entity.product.CoPurchaseMiningState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 함께 구매(자주 함께 구매한 상품) 집계 작업
+ *
+ * 결제된 주문을 주문 ID 순서로 스트리밍하며 주문마다 상품 쌍을 세고(CoPurchaseCounts), 누적 집계 테이블에 더합니다.
+ * - 증분 집계: co_purchase_mining_state 의 마지막 주문 ID 이후 주문만 읽습니다.
+ *   입금 대기 주문이 결제 완료로 바뀔 시간을 주기 위해 co-purchase.mining.settle-days 일 이전 주문까지만 반영합니다.
+ * - 순위 계산: 누적 쌍 집계 전체(주문 이력이 아닌 쌍 테이블)를 읽어 상품별 lift 상위 K개를 다시 만들고
+ *   product_relation 테이블을 교체한 뒤, 커밋되면 메모리 인덱스(RelatedProductIndex)를 교체합니다.
+ * - 집계 전체가 한 트랜잭션이고 상태 행을 잠그므로, 실패하면 아무것도 반영되지 않고 여러 서버가 동시에 돌려도 중복 집계되지 않습니다.
+ * - 정기구독 결제도 주문(Order)으로 생성되므로 함께 반영됩니다.
+ */
+@Slf4j
+@Service
+public class CoPurchaseMiningService {
+
+    /** 결제가 끝난 주문 상태 (취소/반품 요청 제외) */
+    private static final Set<OrderStatus> PAID_STATUSES = EnumSet.of(
+            OrderStatus.PAYMENT_COMPLETED, OrderStatus.PREPARING_SHIPMENT, OrderStatus.IN_TRANSIT,
+            OrderStatus.DELIVERED, OrderStatus.ORDER_COMPLETED);
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_STATE_SQL =
+            "INSERT IGNORE INTO co_purchase_mining_state (id, last_order_id, basket_count) VALUES (?, 0, 0)";
+    private static final String LOCK_STATE_SQL =
+            "SELECT last_order_id, basket_count FROM co_purchase_mining_state WHERE id = ? FOR UPDATE";
+    private static final String UPDATE_STATE_SQL =
+            "UPDATE co_purchase_mining_state SET last_order_id = ?, basket_count = ?, mined_at = ? WHERE id = ?";
+    private static final String MAX_ORDER_ID_SQL =
+            "SELECT COALESCE(MAX(id), 0) FROM orders WHERE order_date < ?";
+    private static final String STREAM_ORDER_ITEMS_SQL =
+            "SELECT oi.order_id, oi.product_id FROM order_item oi JOIN orders o ON o.id = oi.order_id " +
+            "WHERE o.id > ? AND o.id <= ? AND oi.product_id IS NOT NULL AND o.order_status IN (" +
+            PAID_STATUSES.stream().map(status -> "'" + status.name() + "'").collect(Collectors.joining(", ")) + ") " +
+            "ORDER BY oi.order_id";
+    private static final String UPSERT_PAIR_SQL =
+            "INSERT INTO product_pair_count (product_a_id, product_b_id, pair_count) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE pair_count = pair_count + VALUES(pair_count)";
+    private static final String UPSERT_PRODUCT_SQL =
+            "INSERT INTO product_purchase_count (product_id, basket_count) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE basket_count = basket_count + VALUES(basket_count)";
+    private static final String SELECT_PAIRS_SQL =
+            "SELECT product_a_id, product_b_id, pair_count FROM product_pair_count WHERE pair_count >= ?";
+    private static final String SELECT_PRODUCT_COUNTS_SQL =
+            "SELECT product_id, basket_count FROM product_purchase_count";
+    private static final String DELETE_RELATIONS_SQL = "DELETE FROM product_relation";
+    private static final String INSERT_RELATION_SQL =
+            "INSERT INTO product_relation (product_id, related_product_id, relation_rank, lift, pair_count) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_RELATIONS_SQL =
+            "SELECT product_id, related_product_id FROM product_relation ORDER BY product_id, relation_rank";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RelatedProductIndex relatedProductIndex;
+    private final int topK;
+    private final int minPairCount;
+    private final int maxBasketSize;
+    private final int settleDays;
+
+    public CoPurchaseMiningService(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   RelatedProductIndex relatedProductIndex,
+                                   @Value("${co-purchase.top-k:10}") int topK,
+                                   @Value("${co-purchase.min-pair-count:2}") int minPairCount,
+                                   @Value("${co-purchase.max-basket-size:50}") int maxBasketSize,
+                                   @Value("${co-purchase.mining.settle-days:1}") int settleDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relatedProductIndex = relatedProductIndex;
+        this.topK = topK;
+        this.minPairCount = minPairCount;
+        this.maxBasketSize = maxBasketSize;
+        this.settleDays = settleDays;
+    }
+
+    /** 상품당 최대 함께 구매 상품 수 */
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * 저장된 함께 구매 결과로 메모리 인덱스를 적재합니다. (애플리케이션 기동 직후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        try {
+            Map<Long, List<Long>> rows = new HashMap<>();
+            jdbcTemplate.query(SELECT_RELATIONS_SQL, (RowCallbackHandler) rs -> rows
+                    .computeIfAbsent(rs.getLong("product_id"), id -> new ArrayList<>())
+                    .add(rs.getLong("related_product_id")));
+            Map<Long, long[]> index = new HashMap<>(rows.size() * 2);
+            rows.forEach((productId, ids) -> index.put(productId, ids.stream().mapToLong(Long::longValue).toArray()));
+            relatedProductIndex.replace(Collections.unmodifiableMap(index));
+            log.info("함께 구매 인덱스 적재 완료 - 상품 수: {}", index.size());
+        } catch (Exception e) {
+            log.error("함께 구매 인덱스 적재 실패 - 함께 구매 상품 없이 동작합니다.", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 증분 집계 (co-purchase.mining.cron)
+     */
+    @Scheduled(cron = "${co-purchase.mining.cron:0 30 3 * * *}")
+    public void scheduledMine() {
+        try {
+            mine();
+        } catch (Exception e) {
+            log.error("함께 구매 집계 실패", e);
+        }
+    }
+
+    /**
+     * 새로 결제된 주문을 반영하고 함께 구매 순위를 다시 계산합니다.
+     * @return 반영한 주문 수
+     */
+    public long mine() {
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDate.now().minusDays(settleDays).atStartOfDay();
+        MiningResult result = transactionTemplate.execute(status -> mineInTransaction(cutoff));
+        if (result == null) {
+            return 0;
+        }
+        relatedProductIndex.replace(result.index);
+        log.info("함께 구매 집계 완료 - 새 주문: {}, 건너뛴 대량 주문: {}, 마지막 주문 ID: {}, 연관 상품이 있는 상품: {}, 소요 시간: {}ms",
+                result.newBaskets, result.skippedBaskets, result.lastOrderId, result.index.size(),
+                System.currentTimeMillis() - start);
+        return result.newBaskets;
+    }
+
+    private MiningResult mineInTransaction(LocalDateTime cutoff) {
+        jdbcTemplate.update(INSERT_STATE_SQL, CoPurchaseMiningState.SINGLETON_ID);
+        long[] state = jdbcTemplate.queryForObject(LOCK_STATE_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong("last_order_id"), rs.getLong("basket_count")},
+                CoPurchaseMiningState.SINGLETON_ID);
+        long lastOrderId = state[0];
+        long totalBaskets = state[1];
+
+        Long upperOrderId = jdbcTemplate.queryForObject(MAX_ORDER_ID_SQL, Long.class, Timestamp.valueOf(cutoff));
+        CoPurchaseCounts delta = new CoPurchaseCounts(maxBasketSize);
+        if (upperOrderId != null && upperOrderId > lastOrderId) {
+            streamBaskets(lastOrderId, upperOrderId, delta);
+            mergeCounts(delta);
+            lastOrderId = upperOrderId;
+            totalBaskets += delta.getBasketCount();
+        }
+        jdbcTemplate.update(UPDATE_STATE_SQL, lastOrderId, totalBaskets,
+                Timestamp.valueOf(LocalDateTime.now()), CoPurchaseMiningState.SINGLETON_ID);
+
+        Map<Long, List<CoPurchaseRanker.Relation>> ranked = rankFromTotals(totalBaskets);
+        replaceRelations(ranked);
+
+        Map<Long, long[]> index = new HashMap<>(ranked.size() * 2);
+        ranked.forEach((productId, relations) -> index.put(productId, relations.stream()
+                .mapToLong(CoPurchaseRanker.Relation::getRelatedProductId)
+                .toArray()));
+        return new MiningResult(delta.getBasketCount(), delta.getSkippedBaskets(), lastOrderId,
+                Collections.unmodifiableMap(index));
+    }
+
+    /** (fromOrderId, toOrderId] 범위의 결제 주문을 주문 단위로 묶어 집계합니다. */
+    private void streamBaskets(long fromOrderId, long toOrderId, CoPurchaseCounts counts) {
+        BasketCollector collector = new BasketCollector(counts);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    STREAM_ORDER_ITEMS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setLong(1, fromOrderId);
+            ps.setLong(2, toOrderId);
+            return ps;
+        }, (RowCallbackHandler) rs -> collector.accept(rs.getLong("order_id"), rs.getLong("product_id")));
+        collector.flush();
+    }
+
+    /** 이번에 센 쌍/상품 개수를 누적 테이블에 더합니다. */
+    private void mergeCounts(CoPurchaseCounts delta) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        delta.getPairCounts().forEach((pairKey, count) -> {
+            batch.add(new Object[]{CoPurchaseCounts.firstOf(pairKey), CoPurchaseCounts.secondOf(pairKey), count});
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(UPSERT_PAIR_SQL, batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_PAIR_SQL, batch);
+            batch.clear();
+        }
+
+        delta.getProductCounts().forEach((productId, count) -> batch.add(new Object[]{productId, count}));
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_PRODUCT_SQL, batch);
+        }
+    }
+
+    /** 누적 집계 테이블 전체로 상품별 lift 상위 K개를 계산합니다. */
+    private Map<Long, List<CoPurchaseRanker.Relation>> rankFromTotals(long totalBaskets) {
+        LongIntCounter pairCounts = new LongIntCounter(1 << 12);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    SELECT_PAIRS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setInt(1, minPairCount);
+            return ps;
+        }, (RowCallbackHandler) rs -> pairCounts.add(
+                CoPurchaseCounts.pairKey(rs.getLong("product_a_id"), rs.getLong("product_b_id")),
+                rs.getInt("pair_count")));
+
+        LongIntCounter productCounts = new LongIntCounter(1 << 8);
+        jdbcTemplate.query(SELECT_PRODUCT_COUNTS_SQL, (RowCallbackHandler) rs ->
+                productCounts.add(rs.getLong("product_id"), rs.getInt("basket_count")));
+
+        return CoPurchaseRanker.rank(pairCounts, productCounts, totalBaskets, topK, minPairCount);
+    }
+
+    /** product_relation 테이블을 새 순위로 교체합니다. */
+    private void replaceRelations(Map<Long, List<CoPurchaseRanker.Relation>> ranked) {
+        jdbcTemplate.update(DELETE_RELATIONS_SQL);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (List<CoPurchaseRanker.Relation> relations : ranked.values()) {
+            for (int i = 0; i < relations.size(); i++) {
+                CoPurchaseRanker.Relation relation = relations.get(i);
+                batch.add(new Object[]{relation.getProductId(), relation.getRelatedProductId(), i + 1,
+                        relation.getLift(), relation.getPairCount()});
+                if (batch.size() == BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(INSERT_RELATION_SQL, batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_RELATION_SQL, batch);
+        }
+    }
+
+    /** 주문 ID 순으로 들어오는 (주문 ID, 상품 ID) 행을 주문 단위로 모읍니다. */
+    private static final class BasketCollector {
+        private final CoPurchaseCounts counts;
+        private long currentOrderId = -1;
+        private long[] productIds = new long[16];
+        private int length;
+
+        private BasketCollector(CoPurchaseCounts counts) {
+            this.counts = counts;
+        }
+
+        private void accept(long orderId, long productId) {
+            if (orderId != currentOrderId) {
+                flush();
+                currentOrderId = orderId;
+            }
+            if (length == productIds.length) {
+                productIds = Arrays.copyOf(productIds, length * 2);
+            }
+            productIds[length++] = productId;
+        }
+
+        private void flush() {
+            if (length > 0) {
+                counts.addBasket(productIds, length);
+                length = 0;
+            }
+        }
+    }
+
+    /** 한 번의 집계 결과 */
+    private static final class MiningResult {
+        private final long newBaskets;
+        private final long skippedBaskets;
+        private final long lastOrderId;
+        private final Map<Long, long[]> index;
+
+        private MiningResult(long newBaskets, long skippedBaskets, long lastOrderId, Map<Long, long[]> index) {
+            this.newBaskets = newBaskets;
+            this.skippedBaskets = skippedBaskets;
+            this.lastOrderId = lastOrderId;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.javalab.student.service.product.related;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 함께 구매 상품 순위 계산 (lift 기준 상위 K개)
+ * - lift(A, B) = 전체 주문 수 × A·B 동시 구매 주문 수 / (A 구매 주문 수 × B 구매 주문 수)
+ *   1 보다 크면 우연보다 자주 함께 팔린다는 뜻입니다. 인기 상품이 모든 상품의 연관 상품으로 올라오는 것을 막아 줍니다.
+ * - 동시 구매 수가 minPairCount 미만인 쌍은 lift 가 우연히 커지기 쉬우므로 제외합니다.
+ * - 상품마다 크기 K 의 최소 힙으로 상위 K개만 유지합니다.
+ */
+public final class CoPurchaseRanker {
+
+    /** 함께 구매 상품 한 건 */
+    public static final class Relation {
+        private final long productId;
+        private final long relatedProductId;
+        private final double lift;
+        private final int pairCount;
+
+        public Relation(long productId, long relatedProductId, double lift, int pairCount) {
+            this.productId = productId;
+            this.relatedProductId = relatedProductId;
+            this.lift = lift;
+            this.pairCount = pairCount;
+        }
+
+        public long getProductId() {
+            return productId;
+        }
+
+        public long getRelatedProductId() {
+            return relatedProductId;
+        }
+
+        public double getLift() {
+            return lift;
+        }
+
+        public int getPairCount() {
+            return pairCount;
+        }
+    }
+
+    /** 순위 순서: lift 높은 순 → 동시 구매 수 많은 순 → 상품 ID 작은 순 */
+    public static final Comparator<Relation> RANK_ORDER = Comparator
+            .comparingDouble(Relation::getLift).reversed()
+            .thenComparing(Comparator.comparingInt(Relation::getPairCount).reversed())
+            .thenComparingLong(Relation::getRelatedProductId);
+
+    private CoPurchaseRanker() {
+    }
+
+    /**
+     * 상품별 함께 구매 상위 K개를 계산합니다.
+     * @param pairCounts 상품 쌍 키(CoPurchaseCounts.pairKey) → 동시 구매 주문 수
+     * @param productCounts 상품 ID → 구매 주문 수
+     * @param basketCount 전체 주문 수
+     * @param topK 상품당 최대 개수
+     * @param minPairCount 최소 동시 구매 주문 수
+     * @return 상품 ID → 순위 순 목록
+     */
+    public static Map<Long, List<Relation>> rank(LongIntCounter pairCounts, LongIntCounter productCounts,
+                                                 long basketCount, int topK, int minPairCount) {
+        Map<Long, PriorityQueue<Relation>> heaps = new HashMap<>();
+        if (basketCount <= 0 || topK <= 0) {
+            return Map.of();
+        }
+        pairCounts.forEach((pairKey, pairCount) -> {
+            if (pairCount < minPairCount) {
+                return;
+            }
+            long productA = CoPurchaseCounts.firstOf(pairKey);
+            long productB = CoPurchaseCounts.secondOf(pairKey);
+            int countA = productCounts.get(productA);
+            int countB = productCounts.get(productB);
+            if (countA == 0 || countB == 0) {
+                return;
+            }
+            double lift = (double) basketCount * pairCount / ((double) countA * countB);
+            offer(heaps, new Relation(productA, productB, lift, pairCount), topK);
+            offer(heaps, new Relation(productB, productA, lift, pairCount), topK);
+        });
+
+        Map<Long, List<Relation>> ranked = new HashMap<>(heaps.size() * 2);
+        heaps.forEach((productId, heap) -> {
+            List<Relation> relations = new ArrayList<>(heap);
+            relations.sort(RANK_ORDER);
+            ranked.put(productId, relations);
+        });
+        return ranked;
+    }
+
+    /** 최소 힙(가장 순위가 낮은 항목이 맨 앞)에 넣고 K개를 넘으면 가장 낮은 항목을 버립니다. */
+    private static void offer(Map<Long, PriorityQueue<Relation>> heaps, Relation relation, int topK) {
+        PriorityQueue<Relation> heap = heaps.computeIfAbsent(relation.getProductId(),
+                id -> new PriorityQueue<>(RANK_ORDER.reversed()));
+        if (heap.size() < topK) {
+            heap.add(relation);
+        } else if (RANK_ORDER.compare(relation, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(relation);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.javalab.student.service.product.related;
+
+/**
+ * long 키 → int 개수 카운터 (개방 주소법 해시 맵)
+ * - 박싱된 Long/Integer 없이 배열 두 개(long[], int[])만 사용하므로 상품 쌍 수백만 개도 작은 메모리로 셉니다.
+ * - 선형 탐사, 적재율 50% 를 넘으면 두 배로 늘립니다. 삭제는 지원하지 않습니다.
+ * - 키 0 은 빈 칸 표시로 쓰므로 사용할 수 없습니다. (상품 ID 는 1 부터 시작)
+ */
+public class LongIntCounter {
+
+    /** 키/값 순회 콜백 */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, int value);
+    }
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+
+    public LongIntCounter() {
+        this(16);
+    }
+
+    public LongIntCounter(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(8, expectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * 키의 개수를 delta 만큼 더합니다.
+     * @return 더한 뒤의 개수
+     */
+    public int add(long key, int delta) {
+        if (key == 0) {
+            throw new IllegalArgumentException("키 0 은 사용할 수 없습니다.");
+        }
+        int slot = slot(key);
+        if (keys[slot] == key) {
+            return values[slot] += delta;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return delta;
+    }
+
+    /** 키의 개수 (없으면 0) */
+    public int get(long key) {
+        if (key == 0) {
+            return 0;
+        }
+        int slot = slot(key);
+        return keys[slot] == key ? values[slot] : 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /** 키가 있는 칸, 없으면 키가 들어갈 빈 칸 */
+    private int slot(long key) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,54 @@
+package com.javalab.student.service.product.related;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 함께 구매한 상품 메모리 인덱스
+ * - 상품 ID → 함께 구매 상위 상품 ID 배열(순위 순)을 들고 있어 조회는 해시 조회 한 번으로 끝납니다.
+ * - 집계가 끝나면 통째로 새 맵으로 교체하므로 조회에는 잠금이 없습니다.
+ */
+@Component
+public class RelatedProductIndex {
+
+    /** null 이면 아직 적재 전 */
+    private volatile Map<Long, long[]> related;
+
+    public boolean isReady() {
+        return related != null;
+    }
+
+    /** 인덱스 교체 (호출 후 맵을 수정하지 않아야 함) */
+    public void replace(Map<Long, long[]> related) {
+        this.related = related;
+    }
+
+    /**
+     * 함께 구매한 상품 ID 목록
+     * @param productId 기준 상품 ID
+     * @param limit 최대 개수
+     * @return 순위 순 상품 ID 목록 (없으면 빈 목록)
+     */
+    public List<Long> getRelatedProductIds(Long productId, int limit) {
+        Map<Long, long[]> current = related;
+        long[] ids = current != null ? current.get(productId) : null;
+        if (ids == null || limit <= 0) {
+            return List.of();
+        }
+        int size = Math.min(limit, ids.length);
+        List<Long> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(ids[i]);
+        }
+        return result;
+    }
+
+    /** 함께 구매 상품이 있는 상품 수 */
+    public int size() {
+        Map<Long, long[]> current = related;
+        return current != null ? current.size() : 0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.javalab.student.service.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한글 문자 바이그램(2-gram) 토크나이저
+ * - 한국어는 조사/어미가 붙어 단어 경계가 모호하므로 형태소 분석 대신 글자 단위 바이그램을 사용합니다.
+ *   예) "비타민C 영양제" → [비타, 타민, 민c, 영양, 양제]
+ * - 공백/기호를 기준으로 구간(run)을 나누고, 구간 안에서만 바이그램을 만듭니다.
+ * - 한 글자 검색어(예: "철")도 찾을 수 있도록 색인 시에는 유니그램도 함께 만듭니다.
+ */
+public final class HangulBigramTokenizer {
+
+    private HangulBigramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 목록을 만듭니다. (중복 포함 → 빈도(tf) 계산에 사용)
+     * @param text 원본 텍스트
+     * @return 유니그램 + 바이그램 토큰 목록
+     */
+    public static List<String> indexTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String run : runs(text)) {
+            for (int i = 0; i < run.length(); i++) {
+                terms.add(run.substring(i, i + 1));
+                if (i + 1 < run.length()) {
+                    terms.add(run.substring(i, i + 2));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어 토큰 목록을 만듭니다. (중복 제거)
+     * - 두 글자 이상인 구간은 바이그램만, 한 글자 구간은 유니그램을 사용합니다.
+     * @param query 검색어
+     * @return 검색어 토큰 목록
+     */
+    public static List<String> queryTerms(String query) {
+        LinkedHashSet<String> terms = new LinkedHashSet<>();
+        for (String run : runs(query)) {
+            if (run.length() == 1) {
+                terms.add(run);
+                continue;
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                terms.add(run.substring(i, i + 2));
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * 비교용 정규화 문자열을 만듭니다. (NFC 정규화, 소문자 변환, 공백/기호 제거)
+     * @param text 원본 텍스트
+     * @return 정규화된 문자열 (null 이면 빈 문자열)
+     */
+    public static String normalize(String text) {
+        StringBuilder sb = new StringBuilder();
+        for (String run : runs(text)) {
+            sb.append(run);
+        }
+        return sb.toString();
+    }
+
+    /** 글자/숫자로만 이루어진 구간 목록으로 나눕니다. */
+    private static List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return runs;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                runs.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            runs.add(current.toString());
+        }
+        return runs;
+    }
+}
@@ -0,0 +1,53 @@
+package com.javalab.student.service.product.search;
+
+/**
+ * 한글 초성 유틸리티
+ * - 완성형 한글 음절(가~힣)을 초성 자모(ㄱ~ㅎ)로 바꿉니다.
+ *   예) "비타민c" → "ㅂㅌㅁc"
+ * - 음절 코드 = 0xAC00 + (초성 × 21 + 중성) × 28 + 종성 이므로, 초성 인덱스 = (코드 - 0xAC00) / 588 입니다.
+ */
+public final class HangulChosung {
+
+    private static final char HANGUL_BEGIN = 0xAC00;
+    private static final char HANGUL_END = 0xD7A3;
+    private static final int CHOSUNG_UNIT = 21 * 28;
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulChosung() {
+    }
+
+    /**
+     * 문자열의 한글 음절을 초성으로 바꿉니다. (한글 음절이 아닌 문자는 그대로 둡니다.)
+     * @param text 정규화된 문자열
+     * @return 초성 문자열
+     */
+    public static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                sb.append(CHOSUNG[(c - HANGUL_BEGIN) / CHOSUNG_UNIT]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 자모(ㄱ~ㅎ)가 하나라도 포함되어 있는지 확인합니다.
+     * - 사용자가 "ㅂㅌㅁ" 처럼 초성으로 입력한 경우를 구분하는 데 사용합니다.
+     */
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
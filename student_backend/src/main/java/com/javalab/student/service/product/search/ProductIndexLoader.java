@@ -0,0 +1,129 @@
+package com.javalab.student.service.product.search;
+
+import com.javalab.student.constant.OrderStatus;
+import com.javalab.student.entity.product.ProductCategory;
+import com.javalab.student.entity.product.ProductIngredient;
+import com.javalab.student.repository.cartOrder.OrderItemRepository;
+import com.javalab.student.repository.product.ProductCategoryRepository;
+import com.javalab.student.repository.product.ProductIngredientRepository;
+import com.javalab.student.repository.product.ProductRepository;
+import com.javalab.student.service.product.ProductSnapshot;
+import com.javalab.student.service.product.facet.ProductFacetIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 메모리 인덱스 초기 적재
+ * - 애플리케이션이 완전히 기동된 후(ApplicationReadyEvent) 전체 상품을 한 번 읽어 인덱스를 구성합니다.
+ *   상품/카테고리/영양성분을 각각 프로젝션 쿼리 한 번씩으로 읽어, 상품 수와 관계없이 쿼리는 세 번입니다.
+ * - 적재에 실패해도 애플리케이션은 계속 동작하며, 검색은 기존 DB(LIKE) 검색으로 대체됩니다.
+ * - 자동완성 인덱스의 인기 점수(판매 수량)는 매일 새벽 한 번 다시 집계합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductIndexLoader {
+
+    private final ProductRepository productRepository;
+    private final ProductCategoryRepository productCategoryRepository;
+    private final ProductIngredientRepository productIngredientRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final ProductFacetIndex productFacetIndex;
+
+    /**
+     * 전체 상품으로 메모리 인덱스를 다시 적재합니다.
+     * - 애플리케이션 기동 직후, 그리고 상품 대량 등록(ProductBulkService) 직후에 호출됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void reload() {
+        try {
+            long start = System.currentTimeMillis();
+            List<ProductSnapshot> snapshots = loadSnapshots();
+            productSearchIndex.rebuild(snapshots);
+            productFacetIndex.rebuild(snapshots);
+            productSuggestIndex.rebuild(snapshots,
+                    productCategoryRepository.findAll().stream()
+                            .collect(Collectors.toMap(ProductCategory::getId, ProductCategory::getName)),
+                    productIngredientRepository.findAll().stream()
+                            .collect(Collectors.toMap(ProductIngredient::getId, ProductIngredient::getIngredientName)),
+                    loadSalesCounts());
+            log.info("상품 메모리 인덱스 적재 완료 - 상품 수: {}, 소요 시간: {}ms", snapshots.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("상품 메모리 인덱스 적재 실패 - DB 검색으로 대체합니다.", e);
+        }
+    }
+
+    /**
+     * 자동완성 인기 점수 갱신
+     * - 매일 새벽 4시에 상품별 판매 수량을 다시 집계합니다.
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional(readOnly = true)
+    public void refreshSalesCounts() {
+        try {
+            productSuggestIndex.updateSalesCounts(loadSalesCounts());
+        } catch (Exception e) {
+            log.error("자동완성 인기 점수 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 전체 상품 스냅샷
+     * - 엔티티의 카테고리/영양성분 컬렉션을 상품마다 지연 로딩하지 않고, 연관 행을 한 번에 읽어 상품 ID 로 묶습니다.
+     */
+    private List<ProductSnapshot> loadSnapshots() {
+        Map<Long, List<Object[]>> categories = groupByProductId(productRepository.findAllCategoryRows());
+        Map<Long, List<Object[]>> ingredients = groupByProductId(productRepository.findAllIngredientRows());
+        List<ProductSnapshot> snapshots = new ArrayList<>();
+        for (Object[] row : productRepository.findAllSummaryRows()) {
+            Long productId = (Long) row[0];
+            List<Object[]> categoryRows = categories.getOrDefault(productId, List.of());
+            List<Object[]> ingredientRows = ingredients.getOrDefault(productId, List.of());
+            snapshots.add(ProductSnapshot.builder()
+                    .id(productId)
+                    .name((String) row[1])
+                    .price((BigDecimal) row[2])
+                    .stock((Integer) row[3])
+                    .active((Boolean) row[4])
+                    .description((String) row[5])
+                    .categoryIds(categoryRows.stream().map(r -> (Long) r[1]).toList())
+                    .categoryNames(categoryRows.stream().map(r -> (String) r[2]).toList())
+                    .ingredientIds(ingredientRows.stream().map(r -> (Long) r[1]).toList())
+                    .ingredientNames(ingredientRows.stream().map(r -> (String) r[2]).toList())
+                    .build());
+        }
+        return snapshots;
+    }
+
+    private static Map<Long, List<Object[]>> groupByProductId(List<Object[]> rows) {
+        Map<Long, List<Object[]>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(row);
+        }
+        return grouped;
+    }
+
+    /** 취소된 주문을 제외한 상품별 판매 수량 */
+    private Map<Long, Long> loadSalesCounts() {
+        Map<Long, Long> salesCounts = new HashMap<>();
+        for (Object[] row : orderItemRepository.sumCountGroupByProductId(List.of(OrderStatus.CANCELED))) {
+            salesCounts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return salesCounts;
+    }
+}
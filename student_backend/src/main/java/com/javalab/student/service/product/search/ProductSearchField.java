@@ -0,0 +1,59 @@
+package com.javalab.student.service.product.search;
+
+import com.javalab.student.service.product.ProductSnapshot;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 상품 검색 대상 필드
+ * - label : 관리자 화면에서 넘어오는 검색 필드 이름 ("상품명", "카테고리", "영양성분")
+ * - weight : 관련도 점수 계산 시 필드 가중치
+ */
+public enum ProductSearchField {
+    NAME("상품명", 3.0f, ProductSnapshot::getName),
+    CATEGORY("카테고리", 2.0f, snapshot -> join(snapshot.getCategoryNames())),
+    INGREDIENT("영양성분", 2.0f, snapshot -> join(snapshot.getIngredientNames())),
+    DESCRIPTION("상품설명", 1.0f, ProductSnapshot::getDescription);
+
+    private final String label;
+    private final float weight;
+    private final Function<ProductSnapshot, String> extractor;
+
+    ProductSearchField(String label, float weight, Function<ProductSnapshot, String> extractor) {
+        this.label = label;
+        this.weight = weight;
+        this.extractor = extractor;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public float getWeight() {
+        return weight;
+    }
+
+    /** 스냅샷에서 이 필드의 텍스트를 꺼냅니다. */
+    public String textOf(ProductSnapshot snapshot) {
+        return extractor.apply(snapshot);
+    }
+
+    /**
+     * 화면의 검색 필드 이름으로 enum 을 찾습니다.
+     * @param label 검색 필드 이름
+     * @return 일치하는 필드, 없으면 null
+     */
+    public static ProductSearchField fromLabel(String label) {
+        for (ProductSearchField field : values()) {
+            if (field.label.equals(label)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static String join(List<String> names) {
+        return names != null ? String.join(" ", names) : null;
+    }
+}
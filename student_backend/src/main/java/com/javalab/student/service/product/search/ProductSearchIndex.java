@@ -0,0 +1,250 @@
+package com.javalab.student.service.product.search;
+
+import com.javalab.student.service.product.ProductChangedEvent;
+import com.javalab.student.service.product.ProductSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 검색용 메모리 역색인(inverted index)
+ * - 상품명, 카테고리명, 영양성분명, 상품설명을 한글 바이그램으로 색인합니다.
+ * - 필드별로 [토큰 → (상품 ID → 빈도)] 형태의 포스팅 목록을 유지합니다.
+ * - 관련도 점수는 필드 가중치 × IDF × 빈도 포화(BM25 방식)의 합이며,
+ *   검색어 전체가 상품명 등에 그대로 포함되어 있으면 추가 점수를 줍니다. (정규화된 필드 텍스트는 색인 시 한 번만 만들어 둠)
+ * - 검색은 DB 를 전혀 사용하지 않고, 최종 페이지의 상품 ID 만 반환합니다.
+ * - 상품 변경은 ProductChangedEvent 를 통해 커밋 이후 증분 반영됩니다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    /** BM25 빈도 포화 계수 */
+    private static final float K1 = 1.2f;
+    /** 검색어 토큰 중 최소 일치 비율 (60% 이상 일치해야 결과에 포함) */
+    private static final double MIN_SHOULD_MATCH = 0.6;
+    /** 검색어 전체가 필드에 포함된 경우의 추가 점수 (필드 가중치와 곱해짐) */
+    private static final float PHRASE_BOOST = 2.0f;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<ProductSearchField, Map<String, Map<Long, Integer>>> postings = new EnumMap<>(ProductSearchField.class);
+    private final Map<Long, IndexedProduct> documents = new HashMap<>();
+    private volatile boolean ready;
+
+    public ProductSearchIndex() {
+        for (ProductSearchField field : ProductSearchField.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * 초기 색인이 완료되었는지 여부
+     * - 완료 전에는 ProductServiceImpl 이 기존 LIKE 검색으로 대체합니다.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 상품으로 인덱스를 새로 만듭니다.
+     * @param snapshots 전체 상품 스냅샷
+     */
+    public void rebuild(Collection<ProductSnapshot> snapshots) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.values().forEach(Map::clear);
+            for (ProductSnapshot snapshot : snapshots) {
+                addInternal(snapshot);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 검색 인덱스 구성 완료 - 상품 수: {}", snapshots.size());
+    }
+
+    /**
+     * 상품 하나를 색인(추가 또는 교체)합니다.
+     * @param snapshot 상품 스냅샷
+     */
+    public void put(ProductSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(snapshot.getId());
+            addInternal(snapshot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 하나를 인덱스에서 제거합니다.
+     * @param productId 상품 ID
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 변경 이벤트 수신 (트랜잭션 커밋 이후)
+     * - 트랜잭션 밖에서 발행된 경우에도 바로 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        put(event.getSnapshot());
+    }
+
+    /**
+     * 검색어로 상품을 검색합니다.
+     * @param field 검색 필드 (null 이면 전체 필드)
+     * @param query 검색어
+     * @param offset 페이지 시작 위치
+     * @param limit 페이지 크기
+     * @return 전체 건수와 요청 페이지의 상품 ID 목록 (관련도 내림차순, 같으면 ID 오름차순)
+     */
+    public ProductSearchResult search(ProductSearchField field, String query, long offset, int limit) {
+        List<String> terms = HangulBigramTokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            return ProductSearchResult.empty();
+        }
+        String phrase = HangulBigramTokenizer.normalize(query);
+        ProductSearchField[] fields = field != null ? new ProductSearchField[]{field} : ProductSearchField.values();
+        int minMatch = Math.max(1, (int) Math.ceil(terms.size() * MIN_SHOULD_MATCH));
+
+        List<Map.Entry<Long, Float>> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int docCount = documents.size();
+            Map<Long, Accumulator> scores = new HashMap<>();
+
+            for (int termIndex = 0; termIndex < terms.size(); termIndex++) {
+                String term = terms.get(termIndex);
+                for (ProductSearchField f : fields) {
+                    Map<Long, Integer> posting = postings.get(f).get(term);
+                    if (posting == null) {
+                        continue;
+                    }
+                    double idf = Math.log(1 + (docCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                        int tf = entry.getValue();
+                        Accumulator acc = scores.computeIfAbsent(entry.getKey(), id -> new Accumulator());
+                        acc.score += (float) (f.getWeight() * idf * (tf * (K1 + 1)) / (tf + K1));
+                        if (acc.lastTermIndex != termIndex) {
+                            acc.lastTermIndex = termIndex;
+                            acc.matchedTerms++;
+                        }
+                    }
+                }
+            }
+
+            for (Map.Entry<Long, Accumulator> entry : scores.entrySet()) {
+                Accumulator acc = entry.getValue();
+                if (acc.matchedTerms < minMatch) {
+                    continue;
+                }
+                float score = acc.score;
+                if (phrase.length() >= 2) {
+                    IndexedProduct document = documents.get(entry.getKey());
+                    for (ProductSearchField f : fields) {
+                        if (document.normalizedText(f).contains(phrase)) {
+                            score += PHRASE_BOOST * f.getWeight();
+                        }
+                    }
+                }
+                hits.add(Map.entry(entry.getKey(), score));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.<Map.Entry<Long, Float>>comparingDouble(Map.Entry::getValue).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        int from = (int) Math.min(offset, hits.size());
+        int to = Math.min(from + limit, hits.size());
+        List<Long> pageIds = hits.subList(from, to).stream().map(Map.Entry::getKey).toList();
+        return new ProductSearchResult(hits.size(), pageIds);
+    }
+
+    /** 인덱스에 포함된 상품 수 */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(ProductSnapshot snapshot) {
+        documents.put(snapshot.getId(), new IndexedProduct(snapshot));
+        for (ProductSearchField field : ProductSearchField.values()) {
+            Map<String, Integer> termFrequencies = new HashMap<>();
+            for (String term : HangulBigramTokenizer.indexTerms(field.textOf(snapshot))) {
+                termFrequencies.merge(term, 1, Integer::sum);
+            }
+            Map<String, Map<Long, Integer>> fieldPostings = postings.get(field);
+            termFrequencies.forEach((term, tf) ->
+                    fieldPostings.computeIfAbsent(term, t -> new HashMap<>()).put(snapshot.getId(), tf));
+        }
+    }
+
+    private void removeInternal(Long productId) {
+        IndexedProduct previous = documents.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        for (ProductSearchField field : ProductSearchField.values()) {
+            Map<String, Map<Long, Integer>> fieldPostings = postings.get(field);
+            for (String term : new HashSet<>(HangulBigramTokenizer.indexTerms(field.textOf(previous.snapshot)))) {
+                Map<Long, Integer> posting = fieldPostings.get(term);
+                if (posting != null) {
+                    posting.remove(productId);
+                    if (posting.isEmpty()) {
+                        fieldPostings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+
+    /** 색인된 상품 (스냅샷과 필드별 정규화 텍스트 - 검색어 전체 일치 추가 점수 계산용) */
+    private static class IndexedProduct {
+        private final ProductSnapshot snapshot;
+        private final Map<ProductSearchField, String> normalizedTexts = new EnumMap<>(ProductSearchField.class);
+
+        private IndexedProduct(ProductSnapshot snapshot) {
+            this.snapshot = snapshot;
+            for (ProductSearchField field : ProductSearchField.values()) {
+                normalizedTexts.put(field, HangulBigramTokenizer.normalize(field.textOf(snapshot)));
+            }
+        }
+
+        private String normalizedText(ProductSearchField field) {
+            return normalizedTexts.get(field);
+        }
+    }
+
+    /** 검색 중 상품별 점수 누적용 */
+    private static class Accumulator {
+        private float score;
+        private int matchedTerms;
+        private int lastTermIndex = -1;
+    }
+}
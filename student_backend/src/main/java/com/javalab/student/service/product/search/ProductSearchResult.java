@@ -0,0 +1,25 @@
+package com.javalab.student.service.product.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 상품 검색 인덱스 조회 결과
+ * - totalElements : 조건에 맞는 전체 상품 수
+ * - productIds : 요청한 페이지에 해당하는 상품 ID (관련도 순)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ProductSearchResult {
+
+    private final long totalElements;
+    private final List<Long> productIds;
+
+    public static ProductSearchResult empty() {
+        return new ProductSearchResult(0, List.of());
+    }
+}
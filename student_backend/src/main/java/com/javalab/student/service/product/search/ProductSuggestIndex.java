@@ -0,0 +1,172 @@
+package com.javalab.student.service.product.search;
+
+import com.javalab.student.dto.product.ProductSuggestionDto;
+import com.javalab.student.service.product.ProductChangedEvent;
+import com.javalab.student.service.product.ProductSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색어 자동완성 인덱스
+ * - 상품명, 영양성분명, 카테고리명을 접두사 트라이(SuggestTrie)에 넣어 두고 입력 중인 검색어의 후보를 바로 돌려줍니다.
+ * - 이름의 각 단어 시작 위치부터도 키를 넣으므로 "플러스" 로 "철분 플러스" 를 찾을 수 있습니다.
+ * - 초성 트라이를 함께 두어 "ㅂㅌㅁ" 처럼 초성으로 입력해도 "비타민" 계열 후보를 찾습니다.
+ * - 인기 점수: 상품은 누적 판매 수량, 영양성분/카테고리는 해당 항목을 가진 판매중 상품 수
+ * - 트라이는 변경 시 통째로 새로 만들어 교체(copy-on-write)하므로 조회에는 잠금이 없습니다.
+ */
+@Slf4j
+@Component
+public class ProductSuggestIndex {
+
+    public static final String TYPE_PRODUCT = "PRODUCT";
+    public static final String TYPE_INGREDIENT = "INGREDIENT";
+    public static final String TYPE_CATEGORY = "CATEGORY";
+
+    /** 한 번에 반환하는 최대 후보 수 */
+    public static final int MAX_LIMIT = SuggestTrie.TOP_K;
+
+    private final Map<Long, ProductSnapshot> products = new HashMap<>();
+    private final Map<Long, String> categories = new HashMap<>();
+    private final Map<Long, String> ingredients = new HashMap<>();
+    private Map<Long, Long> salesCounts = new HashMap<>();
+
+    /** 조회용 트라이 묶음 (null 이면 아직 적재 전) */
+    private volatile Tries tries;
+
+    public boolean isReady() {
+        return tries != null;
+    }
+
+    /**
+     * 전체 데이터로 자동완성 인덱스를 새로 만듭니다.
+     * @param snapshots 전체 상품 스냅샷
+     * @param categoryNames 카테고리 ID → 이름
+     * @param ingredientNames 영양성분 ID → 이름
+     * @param salesCounts 상품 ID → 누적 판매 수량
+     */
+    public synchronized void rebuild(Collection<ProductSnapshot> snapshots, Map<Long, String> categoryNames,
+                                     Map<Long, String> ingredientNames, Map<Long, Long> salesCounts) {
+        products.clear();
+        snapshots.forEach(snapshot -> products.put(snapshot.getId(), snapshot));
+        categories.clear();
+        categories.putAll(categoryNames);
+        ingredients.clear();
+        ingredients.putAll(ingredientNames);
+        this.salesCounts = new HashMap<>(salesCounts);
+        tries = buildTries();
+        log.info("자동완성 인덱스 구성 완료 - 상품: {}, 카테고리: {}, 영양성분: {}",
+                products.size(), categories.size(), ingredients.size());
+    }
+
+    /**
+     * 상품별 판매 수량(인기 점수)만 갱신합니다.
+     * @param salesCounts 상품 ID → 누적 판매 수량
+     */
+    public synchronized void updateSalesCounts(Map<Long, Long> salesCounts) {
+        this.salesCounts = new HashMap<>(salesCounts);
+        if (tries != null) {
+            tries = buildTries();
+        }
+    }
+
+    /**
+     * 상품 변경 이벤트 반영 (트랜잭션 커밋 이후)
+     * - 상품에 새로 연결된 카테고리/영양성분 이름도 함께 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        ProductSnapshot snapshot = event.getSnapshot();
+        products.put(snapshot.getId(), snapshot);
+        putAll(categories, snapshot.getCategoryIds(), snapshot.getCategoryNames());
+        putAll(ingredients, snapshot.getIngredientIds(), snapshot.getIngredientNames());
+        if (tries != null) {
+            tries = buildTries();
+        }
+    }
+
+    /**
+     * 입력 중인 검색어의 자동완성 후보를 조회합니다.
+     * @param query 검색어 (접두사 또는 초성)
+     * @param limit 최대 후보 수 (1 ~ MAX_LIMIT)
+     * @return 인기순 후보 목록
+     */
+    public List<ProductSuggestionDto> suggest(String query, int limit) {
+        Tries current = tries;
+        String normalized = HangulBigramTokenizer.normalize(query);
+        if (current == null || normalized.isEmpty()) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<SuggestTrie.Entry> candidates = new ArrayList<>(current.text.prefix(normalized));
+        if (HangulChosung.containsChosung(normalized)) {
+            candidates.addAll(current.chosung.prefix(HangulChosung.toChosung(normalized)));
+        }
+        return SuggestTrie.top(candidates, size).stream()
+                .map(entry -> ProductSuggestionDto.builder()
+                        .type(entry.type)
+                        .id(entry.id)
+                        .text(entry.text)
+                        .build())
+                .toList();
+    }
+
+    /** 현재 상태로 트라이를 새로 만듭니다. (synchronized 메서드 안에서만 호출) */
+    private Tries buildTries() {
+        Map<Long, Long> categoryCounts = new HashMap<>();
+        Map<Long, Long> ingredientCounts = new HashMap<>();
+        Tries built = new Tries();
+
+        for (ProductSnapshot product : products.values()) {
+            if (!product.isActive() || product.getName() == null) {
+                continue;
+            }
+            product.getCategoryIds().forEach(id -> categoryCounts.merge(id, 1L, Long::sum));
+            product.getIngredientIds().forEach(id -> ingredientCounts.merge(id, 1L, Long::sum));
+            built.add(new SuggestTrie.Entry(TYPE_PRODUCT, product.getId(), product.getName(),
+                    salesCounts.getOrDefault(product.getId(), 0L)));
+        }
+        categories.forEach((id, name) ->
+                built.add(new SuggestTrie.Entry(TYPE_CATEGORY, id, name, categoryCounts.getOrDefault(id, 0L))));
+        ingredients.forEach((id, name) ->
+                built.add(new SuggestTrie.Entry(TYPE_INGREDIENT, id, name, ingredientCounts.getOrDefault(id, 0L))));
+
+        built.text.freeze();
+        built.chosung.freeze();
+        return built;
+    }
+
+    private static void putAll(Map<Long, String> target, List<Long> ids, List<String> names) {
+        for (int i = 0; i < ids.size() && i < names.size(); i++) {
+            target.put(ids.get(i), names.get(i));
+        }
+    }
+
+    /** 원문 트라이와 초성 트라이 */
+    private static final class Tries {
+        private final SuggestTrie text = new SuggestTrie();
+        private final SuggestTrie chosung = new SuggestTrie();
+
+        /** 이름 전체와 각 단어 시작 위치부터의 접미어를 키로 넣습니다. */
+        private void add(SuggestTrie.Entry entry) {
+            if (entry.text == null || entry.text.isBlank()) {
+                return;
+            }
+            String[] words = entry.text.trim().split("\\s+");
+            for (int i = 0; i < words.length; i++) {
+                String key = HangulBigramTokenizer.normalize(String.join(" ", List.of(words).subList(i, words.length)));
+                if (!key.isEmpty()) {
+                    text.insert(key, entry);
+                    chosung.insert(HangulChosung.toChosung(key), entry);
+                }
+            }
+        }
+    }
+}
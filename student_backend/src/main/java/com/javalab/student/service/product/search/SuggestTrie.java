@@ -0,0 +1,139 @@
+package com.javalab.student.service.product.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 자동완성용 접두사 트라이(prefix trie)
+ * - 키를 삽입할 때 경로상의 모든 노드에 "인기순 상위 TOP_K 개" 후보를 크기 제한 힙(bounded heap)으로 유지합니다.
+ * - freeze() 이후에는 읽기 전용이므로 여러 스레드가 잠금 없이 조회할 수 있습니다.
+ * - 조회는 접두사 길이만큼 노드를 따라가면 끝나므로(O(접두사 길이)) 초당 수천 건도 부담이 없습니다.
+ */
+final class SuggestTrie {
+
+    /** 노드마다 보관하는 최대 후보 수 */
+    static final int TOP_K = 10;
+
+    /** 인기 내림차순 → 짧은 이름 우선 → 가나다순 */
+    static final Comparator<Entry> RANKING = Comparator.comparingLong((Entry e) -> e.popularity).reversed()
+            .thenComparingInt(e -> e.text.length())
+            .thenComparing(e -> e.text);
+
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private final Node root = new Node();
+    private boolean frozen;
+
+    /**
+     * 키를 삽입합니다. (freeze() 이전에만 호출)
+     * @param key 정규화된 키
+     * @param entry 자동완성 후보
+     */
+    void insert(String key, Entry entry) {
+        if (frozen) {
+            throw new IllegalStateException("이미 고정된 트라이에는 키를 추가할 수 없습니다.");
+        }
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            node.offer(entry);
+        }
+    }
+
+    /** 빌드용 힙을 정렬된 배열로 바꾸고 트라이를 읽기 전용으로 고정합니다. */
+    SuggestTrie freeze() {
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (node.heap != null) {
+                Entry[] top = node.heap.toArray(EMPTY);
+                Arrays.sort(top, RANKING);
+                node.top = top;
+                node.heap = null;
+            }
+            node.children.values().forEach(stack::push);
+        }
+        frozen = true;
+        return this;
+    }
+
+    /**
+     * 접두사로 시작하는 키의 상위 후보를 반환합니다.
+     * @param prefix 정규화된 접두사
+     * @return 인기순 후보 (최대 TOP_K 개)
+     */
+    List<Entry> prefix(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node == null || prefix.isEmpty() ? List.of() : Arrays.asList(node.top);
+    }
+
+    /**
+     * 여러 후보 목록을 합쳐 상위 limit 개를 고릅니다. (같은 후보는 한 번만)
+     * @param candidates 후보 목록
+     * @param limit 최대 개수
+     * @return 인기순 상위 후보
+     */
+    static List<Entry> top(Collection<Entry> candidates, int limit) {
+        PriorityQueue<Entry> heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Entry entry : candidates) {
+            if (heap.contains(entry)) {
+                continue;
+            }
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<Entry> result = new ArrayList<>(heap);
+        result.sort(RANKING);
+        return result;
+    }
+
+    /** 자동완성 후보 (유형, ID, 표시 이름, 인기 점수) */
+    static final class Entry {
+        final String type;
+        final Long id;
+        final String text;
+        final long popularity;
+
+        Entry(String type, Long id, String text, long popularity) {
+            this.type = type;
+            this.id = id;
+            this.text = text;
+            this.popularity = popularity;
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        /** 빌드 중 후보 힙 (가장 순위가 낮은 후보가 맨 앞) */
+        private PriorityQueue<Entry> heap;
+        /** 고정 후 후보 배열 (순위순) */
+        private Entry[] top = EMPTY;
+
+        private void offer(Entry entry) {
+            if (heap == null) {
+                heap = new PriorityQueue<>(TOP_K + 1, RANKING.reversed());
+            }
+            if (heap.contains(entry)) {
+                return;
+            }
+            heap.offer(entry);
+            if (heap.size() > TOP_K) {
+                heap.poll();
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.javalab.student.service.product.taxonomy;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 분류(카테고리/영양성분/매핑) 변경 이벤트
+ * - TaxonomyEntityListener 가 트랜잭션당 한 번 발행합니다.
+ * - TaxonomyService 는 커밋 이후 이 이벤트를 받아 분류 그래프를 통째로 다시 만듭니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class TaxonomyChangedEvent {
+
+    /** 변경된 엔티티 이름 (로그용) */
+    private final String source;
+}
@@ -0,0 +1,44 @@
+package com.javalab.student.service.product.taxonomy;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 분류 엔티티(ProductCategory, ProductIngredient, ProductIngredientCategoryMapping) 변경 감지 리스너
+ * - Spring Boot 가 Hibernate 에 SpringBeanContainer 를 등록하므로 @EntityListeners 로 지정하면 이 빈이 주입됩니다.
+ * - 한 트랜잭션에서 매핑을 여러 건 저장해도 TaxonomyChangedEvent 는 한 번만 발행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaxonomyEntityListener {
+
+    /** 현재 트랜잭션에서 이미 이벤트를 발행했는지 표시하는 리소스 키 */
+    private static final Object PUBLISHED_KEY = TaxonomyEntityListener.class.getName() + ".published";
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (TransactionSynchronizationManager.hasResource(PUBLISHED_KEY)) {
+                return;
+            }
+            TransactionSynchronizationManager.bindResource(PUBLISHED_KEY, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PUBLISHED_KEY);
+                }
+            });
+        }
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(entity.getClass().getSimpleName()));
+    }
+}
@@ -0,0 +1,200 @@
+package com.javalab.student.service.product.taxonomy;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 ↔ 영양성분 분류 그래프 (불변)
+ * - 카테고리/영양성분 ID 는 정렬된 long[] 로 두고, ID → 순번은 이진 탐색으로 찾습니다.
+ * - 인접 목록은 CSR(Compressed Sparse Row) 형식의 int[] 두 벌(영양성분 → 카테고리, 카테고리 → 영양성분)로 저장합니다.
+ *   예) 영양성분 순번 i 의 카테고리 순번 = categoriesByIngredient[categoryOffsets[i] .. categoryOffsets[i + 1])
+ * - 객체 그래프 없이 기본형 배열만 쓰므로 조회 시 DB 접근이나 박싱이 없습니다.
+ * - 생성 이후 변경되지 않으므로 여러 스레드가 잠금 없이 읽을 수 있습니다.
+ */
+public final class TaxonomyGraph {
+
+    private final long[] categoryIds;
+    private final String[] categoryNames;
+    private final long[] ingredientIds;
+    private final String[] ingredientNames;
+    private final int[] categoryOffsets;
+    private final int[] categoriesByIngredient;
+    private final int[] ingredientOffsets;
+    private final int[] ingredientsByCategory;
+
+    private TaxonomyGraph(long[] categoryIds, String[] categoryNames, long[] ingredientIds, String[] ingredientNames,
+                          int[] categoryOffsets, int[] categoriesByIngredient,
+                          int[] ingredientOffsets, int[] ingredientsByCategory) {
+        this.categoryIds = categoryIds;
+        this.categoryNames = categoryNames;
+        this.ingredientIds = ingredientIds;
+        this.ingredientNames = ingredientNames;
+        this.categoryOffsets = categoryOffsets;
+        this.categoriesByIngredient = categoriesByIngredient;
+        this.ingredientOffsets = ingredientOffsets;
+        this.ingredientsByCategory = ingredientsByCategory;
+    }
+
+    /**
+     * 그래프를 만듭니다.
+     * @param categories 카테고리 ID → 이름
+     * @param ingredients 영양성분 ID → 이름
+     * @param mappings [영양성분 ID, 카테고리 ID] 목록 (중복/알 수 없는 ID 는 무시)
+     * @return 불변 그래프
+     */
+    public static TaxonomyGraph build(Map<Long, String> categories, Map<Long, String> ingredients, List<long[]> mappings) {
+        long[] categoryIds = categories.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        long[] ingredientIds = ingredients.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        String[] categoryNames = new String[categoryIds.length];
+        String[] ingredientNames = new String[ingredientIds.length];
+        for (int i = 0; i < categoryIds.length; i++) {
+            categoryNames[i] = categories.get(categoryIds[i]);
+        }
+        for (int i = 0; i < ingredientIds.length; i++) {
+            ingredientNames[i] = ingredients.get(ingredientIds[i]);
+        }
+
+        // 간선을 (영양성분 순번 × 카테고리 수 + 카테고리 순번) 하나의 long 으로 바꿔 정렬/중복 제거
+        long[] edges = new long[mappings.size()];
+        int edgeCount = 0;
+        for (long[] mapping : mappings) {
+            int ingredient = Arrays.binarySearch(ingredientIds, mapping[0]);
+            int category = Arrays.binarySearch(categoryIds, mapping[1]);
+            if (ingredient >= 0 && category >= 0) {
+                edges[edgeCount++] = (long) ingredient * categoryIds.length + category;
+            }
+        }
+        Arrays.sort(edges, 0, edgeCount);
+        int unique = 0;
+        for (int i = 0; i < edgeCount; i++) {
+            if (unique == 0 || edges[unique - 1] != edges[i]) {
+                edges[unique++] = edges[i];
+            }
+        }
+
+        int[] categoryOffsets = new int[ingredientIds.length + 1];
+        int[] categoriesByIngredient = new int[unique];
+        int[] ingredientOffsets = new int[categoryIds.length + 1];
+        int[] ingredientsByCategory = new int[unique];
+        for (int i = 0; i < unique; i++) {
+            categoryOffsets[(int) (edges[i] / categoryIds.length) + 1]++;
+            ingredientOffsets[(int) (edges[i] % categoryIds.length) + 1]++;
+        }
+        for (int i = 0; i < ingredientIds.length; i++) {
+            categoryOffsets[i + 1] += categoryOffsets[i];
+        }
+        for (int i = 0; i < categoryIds.length; i++) {
+            ingredientOffsets[i + 1] += ingredientOffsets[i];
+        }
+        int[] categoryCursor = Arrays.copyOf(categoryOffsets, ingredientIds.length);
+        int[] ingredientCursor = Arrays.copyOf(ingredientOffsets, categoryIds.length);
+        for (int i = 0; i < unique; i++) {
+            int ingredient = (int) (edges[i] / categoryIds.length);
+            int category = (int) (edges[i] % categoryIds.length);
+            categoriesByIngredient[categoryCursor[ingredient]++] = category;
+            ingredientsByCategory[ingredientCursor[category]++] = ingredient;
+        }
+
+        return new TaxonomyGraph(categoryIds, categoryNames, ingredientIds, ingredientNames,
+                categoryOffsets, categoriesByIngredient, ingredientOffsets, ingredientsByCategory);
+    }
+
+    /**
+     * 여러 영양성분에 연결된 카테고리 순번 (중복 없음, 카테고리 ID 오름차순)
+     * @param ingredientIdList 영양성분 ID 목록 (알 수 없는 ID 는 무시)
+     * @return 카테고리 순번 배열
+     */
+    public int[] categoryIndexesForIngredients(Collection<Long> ingredientIdList) {
+        boolean[] seen = new boolean[categoryIds.length];
+        int count = 0;
+        for (Long ingredientId : ingredientIdList) {
+            int ingredient = ingredientId == null ? -1 : Arrays.binarySearch(ingredientIds, ingredientId);
+            if (ingredient < 0) {
+                continue;
+            }
+            for (int e = categoryOffsets[ingredient]; e < categoryOffsets[ingredient + 1]; e++) {
+                if (!seen[categoriesByIngredient[e]]) {
+                    seen[categoriesByIngredient[e]] = true;
+                    count++;
+                }
+            }
+        }
+        int[] result = new int[count];
+        for (int i = 0, r = 0; r < count; i++) {
+            if (seen[i]) {
+                result[r++] = i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 여러 영양성분에 연결된 카테고리 ID (중복 없음, 오름차순)
+     */
+    public long[] categoryIdsForIngredients(Collection<Long> ingredientIdList) {
+        int[] indexes = categoryIndexesForIngredients(ingredientIdList);
+        long[] result = new long[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            result[i] = categoryIds[indexes[i]];
+        }
+        return result;
+    }
+
+    /**
+     * 카테고리에 속한 영양성분 순번 (영양성분 ID 오름차순, 알 수 없는 카테고리면 빈 배열)
+     */
+    public int[] ingredientIndexesInCategory(long categoryId) {
+        int category = Arrays.binarySearch(categoryIds, categoryId);
+        if (category < 0) {
+            return new int[0];
+        }
+        return Arrays.copyOfRange(ingredientsByCategory, ingredientOffsets[category], ingredientOffsets[category + 1]);
+    }
+
+    /**
+     * 카테고리에 속한 영양성분 ID (오름차순)
+     */
+    public long[] ingredientIdsInCategory(long categoryId) {
+        int[] indexes = ingredientIndexesInCategory(categoryId);
+        long[] result = new long[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            result[i] = ingredientIds[indexes[i]];
+        }
+        return result;
+    }
+
+    public boolean containsCategory(long categoryId) {
+        return Arrays.binarySearch(categoryIds, categoryId) >= 0;
+    }
+
+    public int categoryCount() {
+        return categoryIds.length;
+    }
+
+    public int ingredientCount() {
+        return ingredientIds.length;
+    }
+
+    public long categoryId(int index) {
+        return categoryIds[index];
+    }
+
+    public String categoryName(int index) {
+        return categoryNames[index];
+    }
+
+    public long ingredientId(int index) {
+        return ingredientIds[index];
+    }
+
+    public String ingredientName(int index) {
+        return ingredientNames[index];
+    }
+
+    /** 매핑(간선) 수 */
+    public int mappingCount() {
+        return categoriesByIngredient.length;
+    }
+}
@@ -0,0 +1,213 @@
+package com.javalab.student.service.product.taxonomy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리/영양성분 분류 서비스
+ * - 분류 데이터(카테고리, 영양성분, 영양성분-카테고리 매핑)는 수십~수백 건 규모이고 거의 바뀌지 않으므로
+ *   메모리에 TaxonomyGraph 로 올려 두고 조회 시 DB 를 전혀 사용하지 않습니다.
+ * - 목록 API 응답은 그래프를 만들 때 JSON 바이트로 미리 직렬화해 두고 그대로 내려줍니다.
+ * - 분류 엔티티가 바뀌면(TaxonomyChangedEvent) 커밋 이후 새 그래프를 만들어 참조 하나만 교체하므로
+ *   조회 스레드는 항상 완전한 이전 그래프 또는 완전한 새 그래프 중 하나만 봅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaxonomyService {
+
+    private static final String SELECT_CATEGORIES_SQL = "SELECT id, name FROM product_category";
+    private static final String SELECT_INGREDIENTS_SQL = "SELECT id, ingredient_name FROM product_ingredient";
+    private static final String SELECT_MAPPINGS_SQL =
+            "SELECT ingredient_id, category_id FROM product_ingredient_category_mapping";
+
+    private static final byte[] EMPTY_ARRAY_JSON = {'[', ']'};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** 현재 분류 데이터 (null 이면 아직 적재 전) */
+    private volatile Snapshot snapshot;
+
+    /**
+     * 분류 데이터를 DB 에서 다시 읽어 그래프와 JSON 응답을 새로 만든 뒤 한 번에 교체합니다.
+     * - 애플리케이션 기동 직후와 분류 변경 커밋 이후에 호출됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        Map<Long, String> categories = new HashMap<>();
+        jdbcTemplate.query(SELECT_CATEGORIES_SQL, rs -> {
+            categories.put(rs.getLong(1), rs.getString(2));
+        });
+        Map<Long, String> ingredients = new HashMap<>();
+        jdbcTemplate.query(SELECT_INGREDIENTS_SQL, rs -> {
+            ingredients.put(rs.getLong(1), rs.getString(2));
+        });
+        List<long[]> mappings = new ArrayList<>();
+        jdbcTemplate.query(SELECT_MAPPINGS_SQL, rs -> {
+            mappings.add(new long[]{rs.getLong(1), rs.getLong(2)});
+        });
+
+        snapshot = new Snapshot(TaxonomyGraph.build(categories, ingredients, mappings));
+        log.info("분류 그래프 구성 완료 - 카테고리: {}, 영양성분: {}, 매핑: {}, 소요 시간: {}ms",
+                categories.size(), ingredients.size(), snapshot.graph.mappingCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 분류 변경 이벤트 반영 (트랜잭션 커밋 이후)
+     * - 최초 적재 전(기동 중 데이터 초기화 등)에는 무시하고 ApplicationReadyEvent 적재에 맡깁니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaxonomyChanged(TaxonomyChangedEvent event) {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("분류 그래프 재구성 실패 - 이전 그래프를 계속 사용합니다. 변경 원인: {}", event.getSource(), e);
+        }
+    }
+
+    /** 현재 분류 그래프 */
+    public TaxonomyGraph getGraph() {
+        return current().graph;
+    }
+
+    /**
+     * 여러 영양성분에 연결된 카테고리 ID (중복 없음, 오름차순)
+     * @param ingredientIds 영양성분 ID 목록
+     * @return 카테고리 ID 목록
+     */
+    public List<Long> findCategoryIdsByIngredientIds(Collection<Long> ingredientIds) {
+        long[] categoryIds = current().graph.categoryIdsForIngredients(ingredientIds);
+        List<Long> result = new ArrayList<>(categoryIds.length);
+        for (long categoryId : categoryIds) {
+            result.add(categoryId);
+        }
+        return result;
+    }
+
+    /** 전체 카테고리 JSON: [{"id":1,"name":"..."}, ...] (ID 오름차순) */
+    public byte[] getCategoriesJson() {
+        return current().categoriesJson;
+    }
+
+    /** 전체 영양성분 JSON: [{"id":1,"ingredientName":"..."}, ...] (ID 오름차순) */
+    public byte[] getIngredientsJson() {
+        return current().ingredientsJson;
+    }
+
+    /**
+     * 여러 영양성분에 연결된 카테고리 JSON (미리 직렬화된 항목을 이어 붙임)
+     * @param ingredientIds 영양성분 ID 목록
+     * @return [{"id":1,"name":"..."}, ...]
+     */
+    public byte[] getCategoriesJsonByIngredientIds(Collection<Long> ingredientIds) {
+        Snapshot current = current();
+        return joinArray(current.categoryItems, current.graph.categoryIndexesForIngredients(ingredientIds));
+    }
+
+    /**
+     * 카테고리에 속한 영양성분 JSON
+     * @param categoryId 카테고리 ID
+     * @return [{"id":1,"ingredientName":"..."}, ...], 없는 카테고리면 null
+     */
+    public byte[] getIngredientsJsonByCategoryId(long categoryId) {
+        Snapshot current = current();
+        if (!current.graph.containsCategory(categoryId)) {
+            return null;
+        }
+        return joinArray(current.ingredientItems, current.graph.ingredientIndexesInCategory(categoryId));
+    }
+
+    /** 적재 전이면 그 자리에서 적재합니다. (기동 직후 요청 대비) */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static byte[] joinArray(byte[][] items, int[] indexes) {
+        if (indexes.length == 0) {
+            return EMPTY_ARRAY_JSON;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(indexes.length * 48);
+        out.write('[');
+        for (int i = 0; i < indexes.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(items[indexes[i]]);
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    private static int[] allIndexes(int size) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        return indexes;
+    }
+
+    /** 그래프와 미리 직렬화된 JSON 묶음 (불변) */
+    private final class Snapshot {
+        private final TaxonomyGraph graph;
+        /** 카테고리 순번별 JSON 객체 */
+        private final byte[][] categoryItems;
+        /** 영양성분 순번별 JSON 객체 */
+        private final byte[][] ingredientItems;
+        private final byte[] categoriesJson;
+        private final byte[] ingredientsJson;
+
+        private Snapshot(TaxonomyGraph graph) {
+            this.graph = graph;
+            this.categoryItems = new byte[graph.categoryCount()][];
+            for (int i = 0; i < categoryItems.length; i++) {
+                categoryItems[i] = toJson("name", graph.categoryId(i), graph.categoryName(i));
+            }
+            this.ingredientItems = new byte[graph.ingredientCount()][];
+            for (int i = 0; i < ingredientItems.length; i++) {
+                ingredientItems[i] = toJson("ingredientName", graph.ingredientId(i), graph.ingredientName(i));
+            }
+            this.categoriesJson = joinArray(categoryItems, allIndexes(categoryItems.length));
+            this.ingredientsJson = joinArray(ingredientItems, allIndexes(ingredientItems.length));
+        }
+
+        private byte[] toJson(String nameField, long id, String name) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", id);
+            item.put(nameField, name);
+            try {
+                return objectMapper.writeValueAsBytes(item);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("분류 JSON 직렬화 실패 - id: " + id, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.javalab.student.service.product.trending;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * 상품 구매 확정 이벤트
+ * - 결제가 완료되어 재고 예약이 확정될 때 발행됩니다. (인기 상품 점수 반영)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ProductPurchasedEvent {
+
+    /** 상품 ID → 구매 수량 */
+    private final Map<Long, Integer> quantities;
+}
@@ -0,0 +1,331 @@
+package com.javalab.student.service.product.trending;
+
+import com.javalab.student.service.coalescing.RequestCoalescer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인기 상품(트렌딩) 순위 서비스
+ *
+ * 상품 조회와 구매를 Redis 정렬 집합(sorted set)에 시간 감쇠 점수로 누적합니다.
+ * - 감쇠: 점수가 반감기(trending.half-life-hours)마다 절반이 되도록 지수 감쇠합니다.
+ *   저장된 점수를 매번 줄이지 않고, 새로 더하는 가중치를 기준 시각 이후 경과 시간만큼 키워서 더합니다. (forward decay)
+ *   가중치가 너무 커지지 않도록 주기적으로 전체 점수를 한 번에 줄이고(ZUNIONSTORE WEIGHTS) 기준 시각을 현재로 옮깁니다.
+ *   점수 반영과 재조정은 Lua 스크립트로 기준 시각과 함께 원자적으로 처리하므로 여러 서버가 동시에 실행해도 안전합니다.
+ * - 조회 수는 요청마다 Redis 에 쓰지 않고 메모리에 모았다가 주기적으로 한 번에 반영합니다.
+ * - 상위 N개 조회는 짧은 로컬 캐시로 응답하고, Redis 장애 시에는 직전 결과나 DB 스냅샷으로 응답합니다.
+ * - 주기적으로 전체 점수를 MariaDB(trending_product_snapshot)에 저장하고, 기동 시 Redis 가 비어 있으면 복구합니다.
+ */
+@Slf4j
+@Service
+public class TrendingProductService {
+
+    static final String SCORE_KEY = "trending:products";
+    static final String BASE_KEY = "trending:products:base";
+
+    /** 기준 시각 이후 경과 시간만큼 가중치를 키워 여러 상품 점수를 더합니다. ARGV: 현재 시각, 감쇠율, (상품 ID, 가중치)... */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SETNX', KEYS[2], ARGV[1]) " +
+            "local base = tonumber(redis.call('GET', KEYS[2])) " +
+            "local growth = math.exp(tonumber(ARGV[2]) * (tonumber(ARGV[1]) - base)) " +
+            "for i = 3, #ARGV, 2 do " +
+            "  redis.call('ZINCRBY', KEYS[1], tonumber(ARGV[i + 1]) * growth, ARGV[i]) " +
+            "end " +
+            "return (#ARGV - 2) / 2", Long.class);
+
+    /** 전체 점수를 현재 시각 기준으로 줄이고, 너무 작아진 항목과 최대 개수 초과분을 정리합니다. ARGV: 현재 시각, 감쇠율, 최소 점수, 최대 개수 */
+    private static final RedisScript<Long> RESCALE_SCRIPT = new DefaultRedisScript<>(
+            "local base = tonumber(redis.call('GET', KEYS[2])) " +
+            "if not base then return 0 end " +
+            "local now = tonumber(ARGV[1]) " +
+            "local factor = math.exp(-tonumber(ARGV[2]) * (now - base)) " +
+            "redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', tostring(factor)) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3]) " +
+            "local size = redis.call('ZCARD', KEYS[1]) " +
+            "local max = tonumber(ARGV[4]) " +
+            "if size > max then redis.call('ZREMRANGEBYRANK', KEYS[1], 0, size - max - 1) size = max end " +
+            "redis.call('SET', KEYS[2], ARGV[1]) " +
+            "return size", Long.class);
+
+    /** 기준 시각과 전체 점수를 함께 읽습니다. 결과: [기준 시각, 상품 ID, 점수, 상품 ID, 점수, ...] */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SNAPSHOT_SCRIPT = new DefaultRedisScript<>(
+            "local base = redis.call('GET', KEYS[2]) " +
+            "if not base then return {} end " +
+            "local entries = redis.call('ZREVRANGE', KEYS[1], 0, -1, 'WITHSCORES') " +
+            "table.insert(entries, 1, base) " +
+            "return entries", List.class);
+
+    /** Redis 에 인기 점수가 없을 때만 스냅샷을 복구합니다. ARGV: 기준 시각, (상품 ID, 점수)... */
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 or redis.call('EXISTS', KEYS[2]) == 1 then return 0 end " +
+            "redis.call('SET', KEYS[2], ARGV[1]) " +
+            "for i = 2, #ARGV, 2 do " +
+            "  redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i]) " +
+            "end " +
+            "return (#ARGV - 1) / 2", Long.class);
+
+    private static final String SELECT_SNAPSHOT_SQL =
+            "SELECT product_id, score, base_epoch_second FROM trending_product_snapshot";
+    private static final String SELECT_SNAPSHOT_TOP_SQL =
+            "SELECT product_id FROM trending_product_snapshot ORDER BY score DESC, product_id LIMIT ?";
+    private static final String DELETE_SNAPSHOT_SQL = "DELETE FROM trending_product_snapshot";
+    private static final String INSERT_SNAPSHOT_SQL =
+            "INSERT INTO trending_product_snapshot (product_id, score, base_epoch_second, snapshot_at) VALUES (?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RequestCoalescer requestCoalescer;
+
+    /** 초당 감쇠율 (ln 2 / 반감기) */
+    private final double decayRate;
+    private final double viewWeight;
+    private final double purchaseWeight;
+    private final double minScore;
+    private final int maxSize;
+    private final int maxLimit;
+    private final long cacheTtlMillis;
+
+    /** 아직 Redis 에 반영하지 않은 상품별 가중치 합 */
+    private final ConcurrentHashMap<Long, Double> pending = new ConcurrentHashMap<>();
+
+    /** 상위 상품 ID 로컬 캐시 */
+    private volatile CachedTop cachedTop;
+
+    public TrendingProductService(@Qualifier("redisStringTemplate") RedisTemplate<String, String> redisTemplate,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  RequestCoalescer requestCoalescer,
+                                  @Value("${trending.half-life-hours:72}") double halfLifeHours,
+                                  @Value("${trending.view-weight:1}") double viewWeight,
+                                  @Value("${trending.purchase-weight:10}") double purchaseWeight,
+                                  @Value("${trending.min-score:0.01}") double minScore,
+                                  @Value("${trending.max-size:10000}") int maxSize,
+                                  @Value("${trending.max-limit:50}") int maxLimit,
+                                  @Value("${trending.cache-ttl-ms:10000}") long cacheTtlMillis) {
+        if (halfLifeHours <= 0) {
+            throw new IllegalArgumentException("trending.half-life-hours 는 0보다 커야 합니다: " + halfLifeHours);
+        }
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.requestCoalescer = requestCoalescer;
+        this.decayRate = Math.log(2) / (halfLifeHours * 3600);
+        this.viewWeight = viewWeight;
+        this.purchaseWeight = purchaseWeight;
+        this.minScore = minScore;
+        this.maxSize = maxSize;
+        this.maxLimit = maxLimit;
+        this.cacheTtlMillis = cacheTtlMillis;
+    }
+
+    /** 한 번에 조회할 수 있는 최대 인기 상품 수 */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /** 상품 상세 조회 반영 */
+    public void recordView(Long productId) {
+        pending.merge(productId, viewWeight, Double::sum);
+    }
+
+    /**
+     * 구매 확정 반영 (트랜잭션 커밋 이후)
+     * - 결제 트랜잭션이 롤백되면 반영되지 않습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductPurchased(ProductPurchasedEvent event) {
+        event.getQuantities().forEach((productId, quantity) ->
+                pending.merge(productId, purchaseWeight * quantity, Double::sum));
+    }
+
+    /**
+     * 인기 상품 ID 목록 (인기순)
+     * - 로컬 캐시가 만료되면 동시에 들어온 요청 중 하나만 Redis 를 조회합니다.
+     * @param limit 최대 개수
+     */
+    public List<Long> getTrendingProductIds(int limit) {
+        CachedTop current = cachedTop;
+        List<Long> ids = current != null && !current.isExpired(System.currentTimeMillis(), cacheTtlMillis)
+                ? current.productIds
+                : requestCoalescer.execute(RequestCoalescer.TRENDING_PRODUCTS, "top", this::reloadTop);
+        return ids.subList(0, Math.min(Math.max(limit, 0), ids.size()));
+    }
+
+    /**
+     * 모아 둔 조회/구매 가중치를 Redis 에 반영합니다.
+     * - 실패하면 가중치를 다시 모아 두었다가 다음 주기에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${trending.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Long, Double> drained = new HashMap<>();
+        for (Long productId : pending.keySet()) {
+            Double weight = pending.remove(productId);
+            if (weight != null) {
+                drained.put(productId, weight);
+            }
+        }
+        List<String> args = new ArrayList<>(drained.size() * 2 + 2);
+        args.add(String.valueOf(Instant.now().getEpochSecond()));
+        args.add(String.valueOf(decayRate));
+        drained.forEach((productId, weight) -> {
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(weight));
+        });
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(SCORE_KEY, BASE_KEY), args.toArray());
+        } catch (Exception e) {
+            drained.forEach((productId, weight) -> pending.merge(productId, weight, Double::sum));
+            log.warn("인기 상품 점수 반영 실패 - 다음 주기에 다시 반영합니다. 상품 수: {}, 원인: {}", drained.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 점수를 현재 시각 기준으로 재조정하고 오래된 항목을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${trending.rescale-interval-ms:3600000}")
+    public void rescale() {
+        try {
+            Long size = redisTemplate.execute(RESCALE_SCRIPT, List.of(SCORE_KEY, BASE_KEY),
+                    String.valueOf(Instant.now().getEpochSecond()), String.valueOf(decayRate),
+                    String.valueOf(minScore), String.valueOf(maxSize));
+            log.debug("인기 상품 점수 재조정 완료 - 상품 수: {}", size);
+        } catch (Exception e) {
+            log.warn("인기 상품 점수 재조정 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 점수를 MariaDB 스냅샷으로 저장합니다. (Redis 데이터 유실 대비)
+     * - Redis 에 점수가 없으면 기존 스냅샷을 지우지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${trending.snapshot-interval-ms:600000}",
+            initialDelayString = "${trending.snapshot-interval-ms:600000}")
+    public void saveSnapshot() {
+        List<?> entries;
+        try {
+            entries = redisTemplate.execute(SNAPSHOT_SCRIPT, List.of(SCORE_KEY, BASE_KEY));
+        } catch (Exception e) {
+            log.warn("인기 상품 스냅샷 조회 실패: {}", e.getMessage());
+            return;
+        }
+        if (entries == null || entries.size() < 3) {
+            return;
+        }
+        long base = Long.parseLong(String.valueOf(entries.get(0)));
+        Timestamp snapshotAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(entries.size() / 2);
+        for (int i = 1; i + 1 < entries.size(); i += 2) {
+            rows.add(new Object[]{Long.valueOf(String.valueOf(entries.get(i))),
+                    Double.valueOf(String.valueOf(entries.get(i + 1))), base, snapshotAt});
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_SNAPSHOT_SQL);
+            for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+            }
+        });
+        log.info("인기 상품 스냅샷 저장 완료 - 상품 수: {}", rows.size());
+    }
+
+    /**
+     * 기동 시 Redis 에 인기 점수가 없으면 마지막 스냅샷으로 복구합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSnapshot() {
+        try {
+            List<String> args = new ArrayList<>();
+            jdbcTemplate.query(SELECT_SNAPSHOT_SQL, (RowCallbackHandler) rs -> {
+                if (args.isEmpty()) {
+                    args.add(String.valueOf(rs.getLong("base_epoch_second")));
+                }
+                args.add(String.valueOf(rs.getLong("product_id")));
+                args.add(String.valueOf(rs.getDouble("score")));
+            });
+            if (args.isEmpty()) {
+                return;
+            }
+            Long restored = redisTemplate.execute(RESTORE_SCRIPT, List.of(SCORE_KEY, BASE_KEY), args.toArray());
+            if (restored != null && restored > 0) {
+                log.info("인기 상품 점수를 스냅샷에서 복구했습니다 - 상품 수: {}", restored);
+            }
+        } catch (Exception e) {
+            log.warn("인기 상품 스냅샷 복구 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 상위 상품 ID 를 다시 읽어 로컬 캐시에 넣습니다.
+     * - 비활성 상품을 걸러낼 여유를 두고 최대 개수의 두 배를 읽습니다.
+     * - Redis 를 읽지 못하면 직전 결과를 한 주기 더 쓰고, 직전 결과도 없으면 DB 스냅샷으로 응답합니다.
+     */
+    private List<Long> reloadTop() {
+        long now = System.currentTimeMillis();
+        CachedTop current = cachedTop;
+        if (current != null && !current.isExpired(now, cacheTtlMillis)) {
+            return current.productIds;
+        }
+        int fetchSize = maxLimit * 2;
+        List<Long> productIds;
+        try {
+            productIds = new ArrayList<>(fetchSize);
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(SCORE_KEY, 0, fetchSize - 1);
+            if (members != null) {
+                for (String member : members) {
+                    productIds.add(Long.valueOf(member));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("인기 상품 조회 실패 - {}: {}", current != null ? "직전 결과로 응답" : "DB 스냅샷으로 응답", e.getMessage());
+            productIds = current != null
+                    ? current.productIds
+                    : jdbcTemplate.queryForList(SELECT_SNAPSHOT_TOP_SQL, Long.class, fetchSize);
+        }
+        List<Long> loaded = List.copyOf(productIds);
+        cachedTop = new CachedTop(loaded, now);
+        return loaded;
+    }
+
+    /** 상위 상품 ID 캐시 항목 */
+    private static final class CachedTop {
+        private final List<Long> productIds;
+        private final long loadedAt;
+
+        private CachedTop(List<Long> productIds, long loadedAt) {
+            this.productIds = productIds;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return now - loadedAt >= ttlMillis;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.javalab.student.service.subscription;
 
+import com.javalab.student.dto.Subscription.SubscriptionNextItemDto;
 import com.javalab.student.dto.Subscription.SubscriptionResponseDto;
 import com.javalab.student.dto.Subscription.SubscriptionUpdateNextItemDto;
 import com.javalab.student.entity.Member;
@@ -344,7 +345,7 @@ public class SubscriptionService {
      * @param newItemDto
      */
     @Transactional
-    public SubscriptionNextItem addNextSubscriptionItem(Long subscriptionId, SubscriptionUpdateNextItemDto newItemDto) {
+    public SubscriptionNextItemDto addNextSubscriptionItem(Long subscriptionId, SubscriptionUpdateNextItemDto newItemDto) {
         Subscription subscription = subscriptionRepository.findById(subscriptionId)
                 .orElseThrow(() -> new RuntimeException("구독 정보를 찾을 수 없습니다."));
 
@@ -358,8 +359,8 @@ public class SubscriptionService {
                 .nextMonthPrice(newItemDto.getNextMonthPrice())
                 .build();
 
-        // ✅ 새로운 아이템 저장 후 반환
-        return subscriptionNextItemRepository.save(newItem);
+        // ✅ 새로운 아이템 저장 후 DTO 로 반환
+        return new SubscriptionNextItemDto(subscriptionNextItemRepository.save(newItem));
     }
 
     /**
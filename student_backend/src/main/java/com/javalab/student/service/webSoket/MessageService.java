@@ -33,6 +33,7 @@ public class MessageService {
      * @param userId 사용자 ID
      * @return 사용자가 보낸 메시지 목록
      */
+    @Transactional(readOnly = true)
     public List<MessageResponseDto> getSentMessages(Long userId) {
         Member sender = memberRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
@@ -47,10 +48,14 @@ public class MessageService {
      * @param userId 사용자 ID
      * @return 사용자가 받은 메시지 목록
      */
-    public List<Message> getReceivedMessages(Long userId) {
+    @Transactional(readOnly = true)
+    public List<MessageResponseDto> getReceivedMessages(Long userId) {
         Member receiver = memberRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        return messageRepository.findByReceiverOrderByRegTimeDesc(receiver);
+        List<Message> messages = messageRepository.findByReceiverOrderByRegTimeDesc(receiver);
+        return messages.stream()
+                .map(MessageResponseDto::new)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -114,6 +119,7 @@ public class MessageService {
      * @param userId 사용자 ID
      * @return MessageResponseDto 목록
      */
+    @Transactional(readOnly = true)
     public List<MessageResponseDto> getMessagesByUserId(Long userId) {
         Member recipient = memberRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("수신자 정보를 찾을 수 없습니다."));
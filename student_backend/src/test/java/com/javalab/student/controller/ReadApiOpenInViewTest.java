@@ -0,0 +1,262 @@
+package com.javalab.student.controller;
+
+import com.javalab.student.constant.OrderStatus;
+import com.javalab.student.constant.Role;
+import com.javalab.student.entity.Member;
+import com.javalab.student.entity.cartOrder.Order;
+import com.javalab.student.entity.cartOrder.OrderItem;
+import com.javalab.student.entity.healthSurvey.Recommendation;
+import com.javalab.student.entity.healthSurvey.RecommendedIngredient;
+import com.javalab.student.entity.healthSurvey.RecommendedProduct;
+import com.javalab.student.entity.message.Message;
+import com.javalab.student.entity.product.Product;
+import com.javalab.student.entity.subscription.Subscription;
+import com.javalab.student.entity.subscription.SubscriptionItem;
+import com.javalab.student.entity.subscription.SubscriptionNextItem;
+import com.javalab.student.repository.MemberRepository;
+import com.javalab.student.repository.MessageRepository;
+import com.javalab.student.repository.SubscriptionRepository;
+import com.javalab.student.repository.cartOrder.OrderRepository;
+import com.javalab.student.repository.healthSurvey.RecommendationRepository;
+import com.javalab.student.repository.product.ProductRepository;
+import com.javalab.student.support.TransactionBoundaryStatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * open-in-view 비활성화 상태의 상품 외 조회 API 테스트
+ * - 회원, 메시지, 주문(관리자), 구독, 추천 조회 API 가 트랜잭션 밖에서 SQL 을 실행하지 않고(지연 로딩 없음)
+ *   정상 응답하는지 확인한다. (상품 조회는 ProductReadOpenInViewTest)
+ * - 실제 DB(MariaDB)를 사용하며, 테스트가 만든 데이터는 종료 후 삭제한다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.open-in-view=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.javalab.student.support.TransactionBoundaryStatementInspector"
+})
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // 실제 DB 사용
+class ReadApiOpenInViewTest {
+
+    private static final BigDecimal PRICE = BigDecimal.valueOf(15_000);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private RecommendationRepository recommendationRepository;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private Member member;
+    private Member sender;
+    private Long productId;
+    private Long messageId;
+    private Long orderId;
+    private Long subscriptionId;
+    private Long recommendationId;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(newMember("osiv-member-" + suffix + "@test.com", "조회테스트회원" + suffix));
+        sender = memberRepository.save(newMember("osiv-sender-" + suffix + "@test.com", "조회테스트발신자" + suffix));
+        Product product = productRepository.save(Product.builder()
+                .name("open-in-view 조회 테스트 상품")
+                .price(PRICE)
+                .stock(10)
+                .active(true)
+                .build());
+        productId = product.getId();
+
+        messageId = messageRepository.save(Message.builder()
+                .sender(sender)
+                .receiver(member)
+                .content("open-in-view 테스트 메시지")
+                .read(false)
+                .build()).getId();
+
+        Order order = Order.builder()
+                .member(member)
+                .orderDate(LocalDateTime.now())
+                .orderStatus(OrderStatus.PAYMENT_COMPLETED)
+                .amount(PRICE)
+                .build();
+        List<OrderItem> orderItems = new ArrayList<>();
+        orderItems.add(OrderItem.builder()
+                .order(order)
+                .product(product)
+                .orderPrice(PRICE)
+                .count(1)
+                .build());
+        order.setOrderItems(orderItems);
+        orderId = orderRepository.save(order).getId();
+
+        Subscription subscription = Subscription.builder()
+                .member(member)
+                .startDate(LocalDate.now())
+                .lastBillingDate(LocalDate.now())
+                .nextBillingDate(LocalDate.now().plusMonths(1))
+                .status("ACTIVE")
+                .paymentMethod("card")
+                .currentCycle(1)
+                .items(new ArrayList<>())
+                .nextItems(new ArrayList<>())
+                .build();
+        subscription.getItems().add(SubscriptionItem.builder()
+                .subscription(subscription)
+                .product(product)
+                .productId(productId)
+                .quantity(1)
+                .price(PRICE.doubleValue())
+                .build());
+        subscription.getNextItems().add(SubscriptionNextItem.builder()
+                .subscription(subscription)
+                .product(product)
+                .productId(productId)
+                .nextMonthQuantity(1)
+                .nextMonthPrice(PRICE.doubleValue())
+                .build());
+        subscriptionId = subscriptionRepository.save(subscription).getId();
+
+        Recommendation recommendation = new Recommendation();
+        recommendation.setMemberId(member.getId());
+        recommendation.setCreatedAt(LocalDateTime.now());
+        RecommendedIngredient ingredient = new RecommendedIngredient();
+        ingredient.setRecommendation(recommendation);
+        ingredient.setIngredientName("비타민C");
+        ingredient.setScore(3);
+        RecommendedProduct recommendedProduct = RecommendedProduct.builder()
+                .reason("open-in-view 테스트 추천")
+                .relatedIngredients(new ArrayList<>(List.of("비타민C")))
+                .build();
+        recommendedProduct.setRecommendation(recommendation);
+        recommendedProduct.setProduct(product);
+        recommendation.setRecommendedIngredients(new ArrayList<>(List.of(ingredient)));
+        recommendation.setRecommendedProducts(new ArrayList<>(List.of(recommendedProduct)));
+        recommendationId = recommendationRepository.save(recommendation).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionBoundaryStatementInspector.stop();
+        recommendationRepository.deleteById(recommendationId);
+        subscriptionRepository.deleteById(subscriptionId);
+        orderRepository.deleteById(orderId);
+        messageRepository.deleteById(messageId);
+        productRepository.deleteById(productId);
+        memberRepository.deleteAll(List.of(member, sender));
+    }
+
+    @DisplayName("회원/메시지 조회 API 는 트랜잭션 밖에서 SQL 을 실행하지 않는다.")
+    @Test
+    void memberAndMessageReadApis_noSqlOutsideTransaction() throws Exception {
+        TransactionBoundaryStatementInspector.start();
+
+        mockMvc.perform(get("/api/members/{id}", member.getId()).with(asMember()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/members/search").param("query", "조회테스트회원" + suffix).with(asMember()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1));
+        mockMvc.perform(get("/api/members").param("size", "5").with(asAdmin()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/messages/received/{userId}", member.getId()).with(asMember()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].senderName").value(sender.getName()));
+        mockMvc.perform(get("/api/messages/sent/{userId}", sender.getId()).with(asMember()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].receiverName").value(member.getName()));
+        mockMvc.perform(get("/api/messages/{userId}", member.getId()).with(asMember()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].senderName").value(sender.getName()));
+        mockMvc.perform(get("/api/messages/unread/{userId}", member.getId()).with(asMember()))
+                .andExpect(status().isOk());
+
+        assertNoSqlOutsideTransaction();
+    }
+
+    @DisplayName("주문/구독/추천 조회 API 는 트랜잭션 밖에서 SQL 을 실행하지 않는다.")
+    @Test
+    void orderSubscriptionAndRecommendationReadApis_noSqlOutsideTransaction() throws Exception {
+        TransactionBoundaryStatementInspector.start();
+
+        mockMvc.perform(get("/api/admin/orders").param("memberName", member.getName()).with(asAdmin()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1));
+        mockMvc.perform(get("/api/subscription").param("memberId", String.valueOf(member.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].productName").value("open-in-view 조회 테스트 상품"))
+                .andExpect(jsonPath("$.nextItems[0].productName").value("open-in-view 조회 테스트 상품"));
+        mockMvc.perform(get("/api/recommendation/ingredients").with(asMember()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].ingredientName").value("비타민C"));
+        mockMvc.perform(get("/api/recommendation/products").with(asMember()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+        mockMvc.perform(get("/api/recommendation/history").with(asMember()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/recommendation/health-records").with(asMember()))
+                .andExpect(status().isOk());
+
+        assertNoSqlOutsideTransaction();
+    }
+
+    private void assertNoSqlOutsideTransaction() {
+        List<String> outside = TransactionBoundaryStatementInspector.stop();
+        assertThat(outside).as("트랜잭션 밖에서 실행된 SQL").isEmpty();
+    }
+
+    private RequestPostProcessor asMember() {
+        return user(member.getEmail()).roles("USER");
+    }
+
+    private RequestPostProcessor asAdmin() {
+        return user("osiv-admin-" + suffix + "@test.com").roles("ADMIN");
+    }
+
+    private static Member newMember(String email, String name) {
+        Member member = new Member();
+        member.setEmail(email);
+        member.setName(name);
+        member.setPassword("osiv-test");
+        member.setPhone("010-0000-0000");
+        member.setRole(Role.USER);
+        member.setActivate(true);
+        member.setSocial(false);
+        return member;
+    }
+}
@@ -0,0 +1,114 @@
+package com.javalab.student.controller.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javalab.student.dto.product.ProductResponseDTO;
+import com.javalab.student.entity.product.Product;
+import com.javalab.student.entity.product.ProductImg;
+import com.javalab.student.repository.product.ProductRepository;
+import com.javalab.student.service.product.ProductQueryService;
+import com.javalab.student.support.TransactionBoundaryStatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * open-in-view 비활성화 상태의 상품 조회 테스트
+ * - 상품 조회 API 와 조회 전용 서비스가 트랜잭션 밖에서 SQL 을 실행하지 않고(지연 로딩 없음),
+ *   반환한 DTO 를 트랜잭션 밖에서 직렬화해도 LazyInitializationException 이 나지 않는지 확인한다.
+ * - 실제 DB(MariaDB)를 사용하며, 테스트가 만든 데이터는 종료 후 삭제한다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.open-in-view=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.javalab.student.support.TransactionBoundaryStatementInspector"
+})
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // 실제 DB 사용
+class ProductReadOpenInViewTest {
+
+    private static final String MAIN_IMAGE_URL = "/api/products/images/osiv-test-main.png";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductQueryService productQueryService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.builder()
+                .name("open-in-view 테스트 상품")
+                .price(BigDecimal.valueOf(12_000))
+                .stock(10)
+                .active(true)
+                .build();
+        product.getProductImgList().add(ProductImg.builder()
+                .product(product)
+                .imageUrl(MAIN_IMAGE_URL)
+                .imageType("대표")
+                .order(0)
+                .build());
+        productId = productRepository.save(product).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionBoundaryStatementInspector.stop();
+        productRepository.deleteById(productId);
+    }
+
+    @DisplayName("상품 조회 API 는 트랜잭션 밖에서 SQL 을 실행하지 않는다.")
+    @Test
+    void productReadApis_noSqlOutsideTransaction() throws Exception {
+        TransactionBoundaryStatementInspector.start();
+
+        mockMvc.perform(get("/api/products")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/products/paged").param("size", "5")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/products/{id}", productId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/products/{id}/dto", productId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mainImageUrl").value(MAIN_IMAGE_URL))
+                .andExpect(jsonPath("$.productImgList.length()").value(1));
+
+        List<String> outside = TransactionBoundaryStatementInspector.stop();
+        assertThat(outside).as("트랜잭션 밖에서 실행된 SQL").isEmpty();
+    }
+
+    @DisplayName("조회 전용 서비스의 DTO 는 트랜잭션 밖에서 직렬화해도 지연 로딩이 없다.")
+    @Test
+    void queryServiceDtos_serializeOutsideTransaction() throws Exception {
+        ProductResponseDTO single = productQueryService.getProductById(productId);
+        List<ProductResponseDTO> ordered = productQueryService.findResponsesInOrder(List.of(productId, -1L));
+
+        TransactionBoundaryStatementInspector.start();
+        String json = objectMapper.writeValueAsString(List.of(single, ordered));
+        List<String> outside = TransactionBoundaryStatementInspector.stop();
+
+        assertThat(outside).isEmpty();
+        assertThat(json).contains(MAIN_IMAGE_URL);
+        assertThat(single.getCategories()).isEmpty();
+        assertThat(ordered).extracting(ProductResponseDTO::getId).containsExactly(productId);
+    }
+}
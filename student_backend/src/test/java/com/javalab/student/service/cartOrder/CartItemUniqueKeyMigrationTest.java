@@ -0,0 +1,109 @@
+package com.javalab.student.service.cartOrder;
+
+import com.javalab.student.constant.Role;
+import com.javalab.student.entity.Member;
+import com.javalab.student.entity.cartOrder.Cart;
+import com.javalab.student.entity.product.Product;
+import com.javalab.student.repository.MemberRepository;
+import com.javalab.student.repository.cartOrder.CartRepository;
+import com.javalab.student.repository.product.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 장바구니 아이템 유니크 키 적용 테스트
+ * - 키가 없고 같은 (cart_id, product_id) 행이 여러 개 있는 테이블에서 수량을 한 행으로 합치고 키를 추가하는지 확인한다.
+ * - 실제 DB(MariaDB)를 사용하며, 테스트가 만든 데이터는 종료 후 삭제한다. (키는 테스트 안에서 다시 추가됨)
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // 실제 DB 사용
+class CartItemUniqueKeyMigrationTest {
+
+    /** 유니크 키를 지우는 동안 cart_id 외래 키가 쓸 임시 인덱스 */
+    private static final String TEMP_INDEX = "ix_cart_item_key_test";
+
+    private static final String INSERT_CART_ITEM_SQL =
+            "INSERT INTO cart_item (cart_id, product_id, quantity, reg_time, update_time, created_by, modified_by) " +
+            "VALUES (?, ?, ?, NOW(), NOW(), 'test', 'test')";
+
+    @Autowired
+    private CartItemUniqueKeyMigration migration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Member member;
+    private Long cartId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Member newMember = new Member();
+        newMember.setEmail("cart-key-" + UUID.randomUUID().toString().substring(0, 8) + "@test.com");
+        newMember.setName("장바구니키테스트회원");
+        newMember.setPassword("cart-key-test");
+        newMember.setPhone("010-0000-0000");
+        newMember.setRole(Role.USER);
+        newMember.setActivate(true);
+        newMember.setSocial(false);
+        member = memberRepository.save(newMember);
+        cartId = cartRepository.save(Cart.createCart(member)).getId();
+        productId = productRepository.save(Product.builder()
+                .name("장바구니 키 테스트 상품")
+                .price(BigDecimal.valueOf(5_000))
+                .stock(10)
+                .active(true)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        migration.apply(); // 실패한 경우에도 키를 되돌려 둠
+        jdbcTemplate.execute("DROP INDEX IF EXISTS " + TEMP_INDEX + " ON cart_item");
+        jdbcTemplate.update("DELETE FROM cart_item WHERE cart_id = ?", cartId);
+        cartRepository.deleteById(cartId);
+        productRepository.deleteById(productId);
+        memberRepository.delete(member);
+    }
+
+    @DisplayName("apply(): 중복 행의 수량을 한 행으로 합치고 유니크 키를 추가한다.")
+    @Test
+    void apply_mergesDuplicatesAndAddsKey() {
+        jdbcTemplate.execute("CREATE INDEX " + TEMP_INDEX + " ON cart_item (cart_id)");
+        jdbcTemplate.execute("ALTER TABLE cart_item DROP INDEX uk_cart_item_cart_product");
+        for (int quantity : List.of(1, 2, 3)) {
+            jdbcTemplate.update(INSERT_CART_ITEM_SQL, cartId, productId, quantity);
+        }
+
+        migration.apply();
+
+        List<Integer> quantities = jdbcTemplate.queryForList(
+                "SELECT quantity FROM cart_item WHERE cart_id = ? AND product_id = ?", Integer.class, cartId, productId);
+        assertThat(quantities).containsExactly(6);
+        assertThatThrownBy(() -> jdbcTemplate.update(INSERT_CART_ITEM_SQL, cartId, productId, 1))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+}
@@ -0,0 +1,193 @@
+package com.javalab.student.service.cartOrder;
+
+import com.javalab.student.constant.Role;
+import com.javalab.student.dto.cartOrder.PaymentRequestDto;
+import com.javalab.student.entity.Member;
+import com.javalab.student.entity.cartOrder.Address;
+import com.javalab.student.entity.cartOrder.DeliveryInfo;
+import com.javalab.student.entity.cartOrder.Order;
+import com.javalab.student.entity.product.Product;
+import com.javalab.student.repository.MemberRepository;
+import com.javalab.student.repository.cartOrder.CartRepository;
+import com.javalab.student.repository.cartOrder.DeliveryInfoRepository;
+import com.javalab.student.repository.cartOrder.OrderRepository;
+import com.javalab.student.repository.cartOrder.StockReservationRepository;
+import com.javalab.student.repository.product.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 배송 주소 테스트
+ * - 주문 생성 시 선택한 저장 배송지(savedAddressId)가 주문 배송 주소로 복사되는지,
+ *   다른 회원의 배송지는 사용할 수 없는지 확인한다.
+ * - 실제 DB(MariaDB)와 Redis 를 사용하며, 테스트가 만든 데이터는 종료 후 삭제한다.
+ *   (장바구니 write-behind 반영이 테스트 도중 DB 장바구니를 만들지 않도록 반영 주기를 늘린다)
+ */
+@SpringBootTest(properties = "cart.store.flush-interval-ms=3600000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // 실제 DB 사용
+class OrderAddressTest {
+
+    private static final BigDecimal PRICE = BigDecimal.valueOf(12_000);
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private RedisCartStore redisCartStore;
+
+    @Autowired
+    @Qualifier("redisStringTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private DeliveryInfoRepository deliveryInfoRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private Member member;
+    private Member other;
+    private Long productId;
+    private Long cartItemId;
+    private final List<Long> deliveryInfoIds = new ArrayList<>();
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(newMember("order-address-" + suffix + "@test.com"));
+        other = memberRepository.save(newMember("order-address-other-" + suffix + "@test.com"));
+        productId = productRepository.save(Product.builder()
+                .name("주문 배송 주소 테스트 상품")
+                .price(PRICE)
+                .stock(10)
+                .active(true)
+                .build()).getId();
+        cartItemId = redisCartStore.add(member.getEmail(), productId, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (orderId != null) {
+            stockReservationRepository.deleteAll(stockReservationRepository.findByOrderId(orderId));
+            orderRepository.deleteById(orderId);
+        }
+        redisTemplate.opsForSet().remove("cart:dirty", member.getEmail());
+        redisTemplate.delete("cart:" + member.getEmail());
+        cartRepository.findByMemberId(member.getId()).ifPresent(cartRepository::delete);
+        deliveryInfoRepository.deleteAllById(deliveryInfoIds);
+        productRepository.deleteById(productId);
+        memberRepository.deleteAll(List.of(member, other));
+    }
+
+    @DisplayName("createOrder(): 저장된 배송지를 지정하면 그 내용이 주문 배송 주소로 저장된다.")
+    @Test
+    void createOrder_copiesSavedDeliveryInfo() {
+        Long savedAddressId = saveDeliveryInfo(member);
+
+        orderId = paymentService.createOrder(newRequest(savedAddressId), member.getEmail(), "oneTime").getId();
+
+        Address address = transactionTemplate.execute(status ->
+                orderRepository.findById(orderId).orElseThrow().getAddress());
+        assertThat(address).isNotNull();
+        assertThat(address.getName()).isEqualTo("홍길동");
+        assertThat(address.getPhone()).isEqualTo("010-1234-5678");
+        assertThat(address.getZipcode()).isEqualTo("06236");
+        assertThat(address.getAddr()).isEqualTo("서울특별시 강남구 테헤란로 123");
+        assertThat(address.getAddrDetail()).isEqualTo("4층");
+        assertThat(address.getMemo()).isEqualTo("문 앞에 놓아주세요");
+    }
+
+    @DisplayName("createOrder(): 배송지를 지정하지 않으면 배송 주소 없이 주문이 저장된다.")
+    @Test
+    void createOrder_withoutSavedAddress() {
+        orderId = paymentService.createOrder(newRequest(null), member.getEmail(), "oneTime").getId();
+
+        Address address = transactionTemplate.execute(status ->
+                orderRepository.findById(orderId).orElseThrow().getAddress());
+        assertThat(address).isNull();
+    }
+
+    @DisplayName("createOrder(): 다른 회원의 배송지로는 주문할 수 없다.")
+    @Test
+    void createOrder_rejectsOtherMembersDeliveryInfo() {
+        Long otherAddressId = saveDeliveryInfo(other);
+
+        assertThatThrownBy(() -> paymentService.createOrder(newRequest(otherAddressId), member.getEmail(), "oneTime"))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        assertThat(productRepository.findById(productId).orElseThrow().getStock()).isEqualTo(10);
+    }
+
+    private Long saveDeliveryInfo(Member owner) {
+        Long id = deliveryInfoRepository.save(DeliveryInfo.builder()
+                .member(owner)
+                .deliveryName("집")
+                .recipientName("홍길동")
+                .recipientPhone("010-1234-5678")
+                .postalCode("06236")
+                .roadAddress("서울특별시 강남구 테헤란로 123")
+                .detailAddress("4층")
+                .deliveryMemo("문 앞에 놓아주세요")
+                .isDefault(true)
+                .build()).getId();
+        deliveryInfoIds.add(id);
+        return id;
+    }
+
+    private PaymentRequestDto newRequest(Long savedAddressId) {
+        PaymentRequestDto.CartOrderItemDto item = new PaymentRequestDto.CartOrderItemDto();
+        item.setCartItemId(cartItemId);
+        item.setQuantity(2);
+        item.setPrice(PRICE);
+        return PaymentRequestDto.builder()
+                .payMethod("card")
+                .cartOrderItems(List.of(item))
+                .savedAddressId(savedAddressId)
+                .build();
+    }
+
+    private static Member newMember(String email) {
+        Member member = new Member();
+        member.setEmail(email);
+        member.setName("배송지테스트회원");
+        member.setPassword("order-address-test");
+        member.setPhone("010-0000-0000");
+        member.setRole(Role.USER);
+        member.setActivate(true);
+        member.setSocial(false);
+        return member;
+    }
+}
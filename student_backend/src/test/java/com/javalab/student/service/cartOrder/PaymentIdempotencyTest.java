@@ -0,0 +1,213 @@
+package com.javalab.student.service.cartOrder;
+
+import com.javalab.student.constant.OrderStatus;
+import com.javalab.student.dto.cartOrder.PaymentRequestDto;
+import com.javalab.student.entity.cartOrder.Order;
+import com.javalab.student.entity.cartOrder.OrderItem;
+import com.javalab.student.entity.product.Product;
+import com.javalab.student.repository.cartOrder.OrderRepository;
+import com.javalab.student.repository.cartOrder.PaymentIdempotencyKeyRepository;
+import com.javalab.student.repository.cartOrder.PaymentRepository;
+import com.javalab.student.repository.cartOrder.StockReservationRepository;
+import com.javalab.student.repository.product.ProductRepository;
+import com.javalab.student.service.cartOrder.pg.StubPaymentGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 결제 멱등성 테스트
+ * - PG 스텁(payment.pg.stub=true)으로 같은 imp_uid 결제 요청을 동시에/반복해서 보내도 결제가 한 번만 반영되는지 확인한다.
+ * - 실제 DB(MariaDB)를 사용하며, 테스트가 만든 데이터는 종료 후 삭제한다.
+ */
+@SpringBootTest(properties = {"payment.pg.stub=true", "payment.pg.stub.delay-ms=200"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // 실제 DB 사용
+class PaymentIdempotencyTest {
+
+    private static final BigDecimal PRICE = BigDecimal.valueOf(10_000);
+    private static final int RETRIES = 8;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private StubPaymentGateway stubPaymentGateway;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private PaymentIdempotencyKeyRepository paymentIdempotencyKeyRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long productId;
+    private Long orderId;
+    private String impUid;
+    private final Queue<String> idempotencyKeys = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(Product.builder()
+                .name("결제 멱등성 테스트 상품")
+                .price(PRICE)
+                .stock(10)
+                .active(true)
+                .build()).getId();
+        orderId = transactionTemplate.execute(status -> {
+            Order order = orderRepository.save(newOrder());
+            stockReservationService.reserve(order);
+            return order.getId();
+        });
+        impUid = "imp_test_" + UUID.randomUUID();
+        stubPaymentGateway.reset();
+        stubPaymentGateway.setDelayMillis(200);
+        stubPaymentGateway.register(impUid, String.valueOf(orderId), PRICE);
+        idempotencyKeys.add("imp:" + impUid);
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentIdempotencyKeyRepository.deleteAllById(idempotencyKeys);
+        paymentRepository.findByImpUid(impUid).ifPresent(paymentRepository::delete);
+        stockReservationRepository.deleteAll(stockReservationRepository.findByOrderId(orderId));
+        orderRepository.deleteById(orderId);
+        productRepository.deleteById(productId);
+    }
+
+    @DisplayName("processPayment(): 같은 imp_uid 로 동시에 여러 번 요청해도 결제는 한 건만 저장되고 모두 같은 결과를 받는다.")
+    @Test
+    void processPayment_concurrentRetries() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(RETRIES);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(RETRIES);
+        Queue<PaymentResult> results = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < RETRIES; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    results.add(paymentService.processPayment(newRequest(), "idempotency@test.com", "oneTime", null));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(results).hasSize(RETRIES);
+        assertThat(results.stream().filter(result -> !result.isReplayed()).count()).isEqualTo(1);
+        assertThat(results.stream().map(result -> result.getBody().get("paymentId")).distinct().count()).isEqualTo(1);
+        assertThat(paymentRepository.findByImpUid(impUid)).isPresent();
+        assertThat(orderRepository.findById(orderId).orElseThrow().getOrderStatus()).isEqualTo(OrderStatus.PAYMENT_COMPLETED);
+    }
+
+    @DisplayName("processPayment(): 처리된 결제를 다시 요청하면 PG 를 다시 조회하지 않고 처음 결과를 돌려준다.")
+    @Test
+    void processPayment_replayReturnsOriginal() {
+        PaymentResult first = paymentService.processPayment(newRequest(), "idempotency@test.com", "oneTime", null);
+        int calls = stubPaymentGateway.getCallCount(impUid);
+
+        PaymentResult replay = paymentService.processPayment(newRequest(), "idempotency@test.com", "oneTime", null);
+
+        assertThat(first.isReplayed()).isFalse();
+        assertThat(replay.isReplayed()).isTrue();
+        assertThat(replay.getBody()).isEqualTo(first.getBody());
+        assertThat(stubPaymentGateway.getCallCount(impUid)).isEqualTo(calls);
+    }
+
+    @DisplayName("processPayment(): 같은 멱등 키로 다른 결제를 요청하면 거절한다.")
+    @Test
+    void processPayment_keyReusedForOtherPayment() {
+        String key = "checkout-" + UUID.randomUUID();
+        idempotencyKeys.add(key);
+        paymentService.processPayment(newRequest(), "idempotency@test.com", "oneTime", key);
+
+        PaymentRequestDto other = newRequest();
+        other.setImpUid("imp_other_" + UUID.randomUUID());
+
+        assertThatThrownBy(() -> paymentService.processPayment(other, "idempotency@test.com", "oneTime", key))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("processPayment(): PG 결제 금액이 주문 금액과 다르면 결제를 반영하지 않는다.")
+    @Test
+    void processPayment_rejectsAmountDifferentFromOrder() {
+        BigDecimal tampered = BigDecimal.valueOf(100);
+        stubPaymentGateway.register(impUid, String.valueOf(orderId), tampered);
+        PaymentRequestDto request = newRequest();
+        request.setPaidAmount(tampered);
+
+        assertThatThrownBy(() -> paymentService.processPayment(request, "idempotency@test.com", "oneTime", null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(paymentRepository.findByImpUid(impUid)).isEmpty();
+        assertThat(orderRepository.findById(orderId).orElseThrow().getOrderStatus()).isEqualTo(OrderStatus.ORDERED);
+    }
+
+    private PaymentRequestDto newRequest() {
+        return PaymentRequestDto.builder()
+                .impUid(impUid)
+                .merchantUid(orderId)
+                .name("결제 멱등성 테스트 상품")
+                .paidAmount(PRICE)
+                .selectedPaymentMethod("card")
+                .paidAt(System.currentTimeMillis() / 1000)
+                .build();
+    }
+
+    private Order newOrder() {
+        Product product = productRepository.getReferenceById(productId);
+        Order order = Order.builder()
+                .orderDate(LocalDateTime.now())
+                .orderStatus(OrderStatus.ORDERED)
+                .amount(PRICE)
+                .build();
+        List<OrderItem> items = new ArrayList<>();
+        items.add(OrderItem.builder()
+                .order(order)
+                .product(product)
+                .orderPrice(PRICE)
+                .count(1)
+                .build());
+        order.setOrderItems(items);
+        return order;
+    }
+}
@@ -0,0 +1,202 @@
+package com.javalab.student.service.cartOrder;
+
+import com.javalab.student.constant.OrderStatus;
+import com.javalab.student.constant.ReservationStatus;
+import com.javalab.student.entity.cartOrder.Order;
+import com.javalab.student.entity.cartOrder.OrderItem;
+import com.javalab.student.entity.product.Product;
+import com.javalab.student.repository.cartOrder.OrderRepository;
+import com.javalab.student.repository.cartOrder.StockReservationRepository;
+import com.javalab.student.repository.product.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 재고 예약 동시성 테스트 (경합 벤치마크)
+ * - 재고 50개인 상품 하나에 200건의 주문이 동시에 들어와도 정확히 50건만 성공하고 재고가 음수가 되지 않는지 확인한다.
+ * - 실제 DB(MariaDB)를 사용하며, 테스트가 만든 데이터는 종료 후 삭제한다.
+ */
+@Slf4j
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // 실제 DB 사용
+class StockReservationConcurrencyTest {
+
+    private static final int STOCK = 50;
+    private static final int CHECKOUTS = 200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long productId;
+    private final Queue<Long> orderIds = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.builder()
+                .name("동시성 테스트 상품")
+                .price(BigDecimal.valueOf(10_000))
+                .stock(STOCK)
+                .active(true)
+                .build();
+        productId = productRepository.save(product).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long orderId : orderIds) {
+            stockReservationRepository.deleteAll(stockReservationRepository.findByOrderId(orderId));
+        }
+        orderRepository.deleteAllById(orderIds);
+        productRepository.deleteById(productId);
+    }
+
+    @DisplayName("reserve(): 한 상품에 동시 주문이 몰려도 재고만큼만 성공하고 초과 판매가 없다.")
+    @Test
+    void reserve_concurrentCheckouts() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CHECKOUTS);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        for (int i = 0; i < CHECKOUTS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    transactionTemplate.executeWithoutResult(status -> {
+                        Order order = orderRepository.save(newOrder());
+                        stockReservationService.reserve(order);
+                        orderIds.add(order.getId());
+                    });
+                    success.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    soldOut.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+        log.info("동시 주문 {}건 처리 - 성공: {}, 재고 부족: {}, 소요 시간: {}ms ({} 건/초)",
+                CHECKOUTS, success.get(), soldOut.get(), elapsedMs, CHECKOUTS * 1000L / Math.max(elapsedMs, 1));
+
+        assertThat(success.get()).isEqualTo(STOCK);
+        assertThat(soldOut.get()).isEqualTo(CHECKOUTS - STOCK);
+        assertThat(productRepository.findById(productId).orElseThrow().getStock()).isZero();
+    }
+
+    @DisplayName("release(): 여러 번 호출해도 재고는 한 번만 복원된다.")
+    @Test
+    void release_isIdempotent() {
+        Long orderId = transactionTemplate.execute(status -> {
+            Order order = orderRepository.save(newOrder());
+            stockReservationService.reserve(order);
+            return order.getId();
+        });
+        orderIds.add(orderId);
+
+        stockReservationService.release(orderId);
+        stockReservationService.release(orderId);
+
+        assertThat(productRepository.findById(productId).orElseThrow().getStock()).isEqualTo(STOCK);
+    }
+
+    @DisplayName("confirm(): 결제 대기 시간 초과로 만료된 예약은 재고를 다시 차감하고 확정한다.")
+    @Test
+    void confirm_revivesExpiredReservation() {
+        Long orderId = reserveNewOrder();
+        stockReservationService.expire(orderId);
+        assertThat(stockReservationService.isExpired(orderId)).isTrue();
+
+        stockReservationService.confirm(orderId);
+
+        assertThat(stockReservationRepository.findByOrderId(orderId))
+                .allMatch(reservation -> reservation.getStatus() == ReservationStatus.CONFIRMED);
+        assertThat(productRepository.findById(productId).orElseThrow().getStock()).isEqualTo(STOCK - 1);
+    }
+
+    @DisplayName("confirm(): 관리자/PG 취소로 해제된 예약은 되살리지 않는다.")
+    @Test
+    void confirm_rejectsReleasedReservation() {
+        Long orderId = reserveNewOrder();
+        stockReservationService.release(orderId);
+        assertThat(stockReservationService.isExpired(orderId)).isFalse();
+
+        assertThatThrownBy(() -> stockReservationService.confirm(orderId))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(stockReservationRepository.findByOrderId(orderId))
+                .allMatch(reservation -> reservation.getStatus() == ReservationStatus.RELEASED);
+        assertThat(productRepository.findById(productId).orElseThrow().getStock()).isEqualTo(STOCK);
+    }
+
+    private Long reserveNewOrder() {
+        Long orderId = transactionTemplate.execute(status -> {
+            Order order = orderRepository.save(newOrder());
+            stockReservationService.reserve(order);
+            return order.getId();
+        });
+        orderIds.add(orderId);
+        return orderId;
+    }
+
+    private Order newOrder() {
+        Product product = productRepository.getReferenceById(productId);
+        Order order = Order.builder()
+                .orderDate(LocalDateTime.now())
+                .orderStatus(OrderStatus.ORDERED)
+                .amount(BigDecimal.valueOf(10_000))
+                .build();
+        List<OrderItem> items = new ArrayList<>();
+        items.add(OrderItem.builder()
+                .order(order)
+                .product(product)
+                .orderPrice(BigDecimal.valueOf(10_000))
+                .count(1)
+                .build());
+        order.setOrderItems(items);
+        return order;
+    }
+}
@@ -0,0 +1,63 @@
+package com.javalab.student.service.cartOrder.pg;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 100;
+
+    @DisplayName("연속 실패가 기준에 이르면 열리고, 열린 동안은 호출을 거절한다.")
+    @Test
+    void opensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(2, OPEN_MILLIS);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @DisplayName("성공하면 연속 실패 횟수가 초기화된다.")
+    @Test
+    void successResetsFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(2, OPEN_MILLIS);
+
+        breaker.tryAcquire();
+        breaker.onFailure();
+        breaker.tryAcquire();
+        breaker.onSuccess();
+        breaker.tryAcquire();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.getConsecutiveFailures()).isEqualTo(1);
+    }
+
+    @DisplayName("차단 시간이 지나면 시험 호출 한 번만 허용하고, 결과에 따라 닫히거나 다시 열린다.")
+    @Test
+    void halfOpenAllowsSingleTrial() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(1, OPEN_MILLIS);
+        breaker.tryAcquire();
+        breaker.onFailure();
+
+        Thread.sleep(OPEN_MILLIS + 20);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(OPEN_MILLIS + 20);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+}
@@ -0,0 +1,178 @@
+package com.javalab.student.service.cartOrder.pg;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PortOneApiClientTest {
+
+    private static final long TIMEOUT_MILLIS = 2000;
+
+    private PortOneStubServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new PortOneStubServer();
+        server.register("imp_1", new BigDecimal("15000"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private PortOneApiClient client(long refreshAheadMillis) {
+        return new PortOneApiClient(server.baseUrl(), "key", "secret", new ObjectMapper(),
+                Duration.ofMillis(500), TIMEOUT_MILLIS, refreshAheadMillis);
+    }
+
+    private static long deadline(long millis) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    @DisplayName("토큰을 한 번 발급받아 이후 조회에 재사용한다.")
+    @Test
+    void reusesAccessToken() {
+        PortOneApiClient client = client(60_000);
+
+        for (int i = 0; i < 5; i++) {
+            PgPayment payment = client.getPayment("imp_1", deadline(TIMEOUT_MILLIS));
+            assertThat(payment.getAmount()).isEqualByComparingTo("15000");
+            assertThat(payment.getStatus()).isEqualTo("paid");
+        }
+
+        assertThat(server.getTokenRequests()).isEqualTo(1);
+        assertThat(server.getPaymentRequests()).isEqualTo(5);
+        assertThat(client.getPaymentStats().getCount(PgCallStats.Outcome.SUCCESS)).isEqualTo(5);
+    }
+
+    @DisplayName("토큰이 없을 때 동시에 들어온 조회들은 토큰 발급 요청 하나를 함께 기다린다.")
+    @Test
+    void concurrentCallsShareOneTokenRequest() throws Exception {
+        server.setTokenDelayMillis(200);
+        PortOneApiClient client = client(60_000);
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<PgPayment>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return client.getPayment("imp_1", deadline(TIMEOUT_MILLIS));
+                }));
+            }
+            start.countDown();
+            for (Future<PgPayment> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getImpUid()).isEqualTo("imp_1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(server.getTokenRequests()).isEqualTo(1);
+    }
+
+    @DisplayName("만료가 가까운 토큰은 그대로 쓰면서 백그라운드에서 새로 발급받는다.")
+    @Test
+    void refreshesTokenBeforeExpiry() throws Exception {
+        server.setTokenLifetimeSeconds(60);
+        PortOneApiClient client = client(60_000);
+
+        client.getPayment("imp_1", deadline(TIMEOUT_MILLIS));
+        Thread.sleep(50);
+        server.setTokenDelayMillis(500);
+        long started = System.nanoTime();
+        client.getPayment("imp_1", deadline(TIMEOUT_MILLIS));
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(500);
+        long waitUntil = System.currentTimeMillis() + 3000;
+        while (server.getTokenRequests() < 2 && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(20);
+        }
+        assertThat(server.getTokenRequests()).isEqualTo(2);
+    }
+
+    @DisplayName("PG 가 토큰을 거절하면 새 토큰으로 한 번 다시 조회한다.")
+    @Test
+    void retriesOnceWithFreshTokenOnUnauthorized() {
+        PortOneApiClient client = client(60_000);
+        client.getPayment("imp_1", deadline(TIMEOUT_MILLIS));
+
+        server.revokeTokens();
+        PgPayment payment = client.getPayment("imp_1", deadline(TIMEOUT_MILLIS));
+
+        assertThat(payment.getImpUid()).isEqualTo("imp_1");
+        assertThat(server.getTokenRequests()).isEqualTo(2);
+    }
+
+    @DisplayName("새 토큰으로 다시 조회해도 401 이면 잘못된 요청이 아니라 재시도 가능한 PG 실패로 던진다.")
+    @Test
+    void failsAsGatewayErrorWhenFreshTokenIsAlsoRejected() {
+        PortOneApiClient client = client(60_000);
+        client.getPayment("imp_1", deadline(TIMEOUT_MILLIS));
+
+        server.setRejectNewTokens(true);
+        server.revokeTokens();
+
+        assertThatThrownBy(() -> client.getPayment("imp_1", deadline(TIMEOUT_MILLIS)))
+                .isInstanceOf(PaymentGatewayException.class);
+        assertThat(server.getTokenRequests()).isEqualTo(2);
+        assertThat(server.getPaymentRequests()).isEqualTo(3);
+    }
+
+    @DisplayName("토큰 발급이 인증 오류로 실패하면 재시도 가능한 PG 실패로 던진다.")
+    @Test
+    void failsAsGatewayErrorWhenTokenIssuanceIsRejected() {
+        server.setTokenStatus(401);
+        PortOneApiClient client = client(60_000);
+
+        assertThatThrownBy(() -> client.getPayment("imp_1", deadline(TIMEOUT_MILLIS)))
+                .isInstanceOf(PaymentGatewayException.class);
+        assertThat(server.getPaymentRequests()).isZero();
+    }
+
+    @DisplayName("응답이 마감 시각보다 늦으면 기다리지 않고 시간 초과로 실패한다.")
+    @Test
+    void failsAtDeadlineOnSlowResponse() {
+        PortOneApiClient client = client(60_000);
+        client.getPayment("imp_1", deadline(TIMEOUT_MILLIS));
+        server.setPaymentDelayMillis(1500);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> client.getPayment("imp_1", deadline(200)))
+                .isInstanceOf(PaymentGatewayException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+        assertThat(client.getPaymentStats().getCount(PgCallStats.Outcome.TIMEOUT)).isEqualTo(1);
+    }
+
+    @DisplayName("PG 서버 오류는 재시도 가능한 실패로, 결제 없음은 잘못된 요청으로 구분한다.")
+    @Test
+    void classifiesServerErrorAndNotFound() {
+        PortOneApiClient client = client(60_000);
+        server.failPayments(1, 503);
+
+        assertThatThrownBy(() -> client.getPayment("imp_1", deadline(TIMEOUT_MILLIS)))
+                .isInstanceOf(PaymentGatewayException.class);
+        assertThatThrownBy(() -> client.getPayment("imp_missing", deadline(TIMEOUT_MILLIS)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(client.getPaymentStats().getCount(PgCallStats.Outcome.SERVER_ERROR)).isEqualTo(1);
+        assertThat(client.getPaymentStats().getCount(PgCallStats.Outcome.CLIENT_ERROR)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,167 @@
+package com.javalab.student.service.cartOrder.pg;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 포트원 API 스텁 서버 (localhost, 임의 포트)
+ *
+ * /users/getToken 과 /payments/{imp_uid} 만 흉내냅니다.
+ * - tokenDelayMillis/paymentDelayMillis 로 느린 응답을, failPayments(n, status) 로 다음 n 번의 결제 조회 실패를 만듭니다.
+ * - revokeTokens() 로 발급한 토큰을 모두 무효화해 401 응답을 만들 수 있습니다.
+ * - setRejectNewTokens(true) 로 새로 발급한 토큰도 결제 조회에서 계속 401 을 받게 하고,
+ *   setTokenStatus(status) 로 토큰 발급 자체를 실패시킬 수 있습니다. (PG 인증 장애)
+ */
+class PortOneStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, BigDecimal> payments = new ConcurrentHashMap<>();
+    private final Set<String> validTokens = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+    private final AtomicInteger paymentRequests = new AtomicInteger();
+    private final AtomicInteger remainingFailures = new AtomicInteger();
+
+    private volatile long tokenDelayMillis;
+    private volatile long paymentDelayMillis;
+    private volatile long tokenLifetimeSeconds = 1800;
+    private volatile int failureStatus = 500;
+    private volatile boolean rejectNewTokens;
+    private volatile int tokenStatus = 200;
+
+    PortOneStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/users/getToken", this::handleToken);
+        server.createContext("/payments/", this::handlePayment);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void register(String impUid, BigDecimal amount) {
+        payments.put(impUid, amount);
+    }
+
+    void setTokenDelayMillis(long tokenDelayMillis) {
+        this.tokenDelayMillis = tokenDelayMillis;
+    }
+
+    void setPaymentDelayMillis(long paymentDelayMillis) {
+        this.paymentDelayMillis = paymentDelayMillis;
+    }
+
+    void setTokenLifetimeSeconds(long tokenLifetimeSeconds) {
+        this.tokenLifetimeSeconds = tokenLifetimeSeconds;
+    }
+
+    /** 다음 count 번의 결제 조회에 status 로 응답합니다. */
+    void failPayments(int count, int status) {
+        this.failureStatus = status;
+        this.remainingFailures.set(count);
+    }
+
+    void revokeTokens() {
+        validTokens.clear();
+    }
+
+    void setRejectNewTokens(boolean rejectNewTokens) {
+        this.rejectNewTokens = rejectNewTokens;
+    }
+
+    void setTokenStatus(int tokenStatus) {
+        this.tokenStatus = tokenStatus;
+    }
+
+    int getTokenRequests() {
+        return tokenRequests.get();
+    }
+
+    int getPaymentRequests() {
+        return paymentRequests.get();
+    }
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        int sequence = tokenRequests.incrementAndGet();
+        sleep(tokenDelayMillis);
+        if (tokenStatus != 200) {
+            respond(exchange, tokenStatus, "{\"code\":-1,\"message\":\"stub token failure\",\"response\":null}");
+            return;
+        }
+        String token = "token-" + sequence;
+        if (!rejectNewTokens) {
+            validTokens.add(token);
+        }
+        long now = System.currentTimeMillis() / 1000;
+        respond(exchange, 200, "{\"code\":0,\"message\":null,\"response\":{\"access_token\":\"" + token
+                + "\",\"now\":" + now + ",\"expired_at\":" + (now + tokenLifetimeSeconds) + "}}");
+    }
+
+    private void handlePayment(HttpExchange exchange) throws IOException {
+        paymentRequests.incrementAndGet();
+        sleep(paymentDelayMillis);
+        if (remainingFailures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+            respond(exchange, failureStatus, "{\"code\":-1,\"message\":\"stub failure\",\"response\":null}");
+            return;
+        }
+        String token = exchange.getRequestHeaders().getFirst("Authorization");
+        if (token == null || !validTokens.contains(token)) {
+            respond(exchange, 401, "{\"code\":-1,\"message\":\"Unauthorized\",\"response\":null}");
+            return;
+        }
+        String impUid = exchange.getRequestURI().getPath().substring("/payments/".length());
+        BigDecimal amount = payments.get(impUid);
+        if (amount == null) {
+            respond(exchange, 404, "{\"code\":1,\"message\":\"존재하지 않는 결제정보입니다.\",\"response\":null}");
+            return;
+        }
+        respond(exchange, 200, "{\"code\":0,\"message\":null,\"response\":{\"imp_uid\":\"" + impUid
+                + "\",\"merchant_uid\":\"order-" + impUid + "\",\"amount\":" + amount
+                + ",\"status\":\"paid\",\"pay_method\":\"card\",\"paid_at\":" + System.currentTimeMillis() / 1000 + "}}");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        try {
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 제한 시간으로 먼저 끊은 경우
+            exchange.close();
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
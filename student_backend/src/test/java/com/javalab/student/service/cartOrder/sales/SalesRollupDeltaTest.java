@@ -0,0 +1,70 @@
+package com.javalab.student.service.cartOrder.sales;
+
+import com.javalab.student.constant.SalesDimension;
+import com.javalab.student.constant.SalesPeriod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SalesRollupDeltaTest {
+
+    private static final LocalDate ORDER_DATE = LocalDate.of(2025, 3, 14);
+
+    @DisplayName("주문 1건은 일별/월별 전체, 결제 수단, 상품, 카테고리에 반영되고 같은 상품은 주문 수를 한 번만 센다.")
+    @Test
+    void addsOrderToEveryDimension() {
+        SalesRollupDelta delta = new SalesRollupDelta();
+        delta.addOrder(ORDER_DATE, "card", new BigDecimal("35000"),
+                List.of(new SalesRollupDelta.Item(1L, 2, new BigDecimal("10000")),
+                        new SalesRollupDelta.Item(1L, 1, new BigDecimal("10000")),
+                        new SalesRollupDelta.Item(2L, 1, new BigDecimal("5000"))),
+                Map.of(1L, List.of(10L), 2L, List.of(10L, 20L)), false);
+
+        SalesRollupDelta.Values total = values(delta, SalesPeriod.DAILY, ORDER_DATE, SalesDimension.TOTAL, "ALL");
+        assertThat(total.getOrderCount()).isEqualTo(1);
+        assertThat(total.getQuantity()).isEqualTo(4);
+        assertThat(total.getRevenue()).isEqualByComparingTo("35000");
+
+        SalesRollupDelta.Values product = values(delta, SalesPeriod.MONTHLY, LocalDate.of(2025, 3, 1), SalesDimension.PRODUCT, "1");
+        assertThat(product.getOrderCount()).isEqualTo(1);
+        assertThat(product.getQuantity()).isEqualTo(3);
+        assertThat(product.getRevenue()).isEqualByComparingTo("30000");
+
+        SalesRollupDelta.Values category = values(delta, SalesPeriod.DAILY, ORDER_DATE, SalesDimension.CATEGORY, "10");
+        assertThat(category.getOrderCount()).isEqualTo(1);
+        assertThat(category.getQuantity()).isEqualTo(4);
+        assertThat(category.getRevenue()).isEqualByComparingTo("35000");
+
+        assertThat(values(delta, SalesPeriod.DAILY, ORDER_DATE, SalesDimension.PAYMENT_METHOD, "card").getOrderCount()).isEqualTo(1);
+    }
+
+    @DisplayName("결제 취소는 같은 주문의 결제 반영을 상쇄한다.")
+    @Test
+    void cancelOffsetsPayment() {
+        SalesRollupDelta delta = new SalesRollupDelta();
+        List<SalesRollupDelta.Item> items = List.of(new SalesRollupDelta.Item(1L, 2, new BigDecimal("10000")));
+        delta.addOrder(ORDER_DATE, null, new BigDecimal("20000"), items, Map.of(), false);
+        delta.addOrder(ORDER_DATE, null, new BigDecimal("20000"), items, Map.of(), true);
+
+        assertThat(delta.getEntries().values()).allSatisfy(values -> {
+            assertThat(values.getOrderCount()).isZero();
+            assertThat(values.getQuantity()).isZero();
+            assertThat(values.getRevenue()).isEqualByComparingTo("0");
+        });
+        assertThat(delta.getEntries()).containsKey(new SalesRollupDelta.Key(
+                SalesPeriod.DAILY, ORDER_DATE, SalesDimension.PAYMENT_METHOD, SalesRollupDelta.UNKNOWN_PAYMENT_METHOD));
+    }
+
+    private static SalesRollupDelta.Values values(SalesRollupDelta delta, SalesPeriod period, LocalDate periodStart,
+                                                  SalesDimension dimension, String key) {
+        SalesRollupDelta.Values values = delta.getEntries().get(new SalesRollupDelta.Key(period, periodStart, dimension, key));
+        assertThat(values).isNotNull();
+        return values;
+    }
+}
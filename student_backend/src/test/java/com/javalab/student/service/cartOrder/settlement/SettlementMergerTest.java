@@ -0,0 +1,79 @@
+package com.javalab.student.service.cartOrder.settlement;
+
+import com.javalab.student.constant.SettlementMismatchType;
+import com.javalab.student.entity.cartOrder.SettlementMismatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SettlementMergerTest {
+
+    private static final String HEADER = "imp_uid,merchant_uid,amount,status\n";
+
+    @DisplayName("정산 내역과 결제 기록을 imp_uid 순으로 병합해 누락/금액/상태 불일치를 보고한다.")
+    @Test
+    void reportsMismatches() throws IOException {
+        List<SettlementMismatch> mismatches = new ArrayList<>();
+        SettlementMerger merger = new SettlementMerger(csv(HEADER +
+                "imp_001,1_1,10000,paid\n" +
+                "imp_002,2_1,\"20,000\",paid\n" +
+                "imp_004,4_1,40000,cancelled\n" +
+                "imp_005,5_1,50000,paid\n" +
+                "imp_007,7_1,70000,paid\n"), 1L, mismatches::add);
+
+        merger.onPayment(payment("imp_001", 1L, "10000", "paid"));
+        merger.onPayment(payment("imp_003", 3L, "30000", "paid"));
+        merger.onPayment(payment("imp_004", 4L, "40000", "paid"));
+        merger.onPayment(payment("imp_005", 5L, "55000", "paid"));
+        merger.finish();
+
+        assertThat(mismatches).extracting(SettlementMismatch::getImpUid, SettlementMismatch::getMismatchType)
+                .containsExactly(
+                        tuple("imp_002", SettlementMismatchType.MISSING_IN_DB),
+                        tuple("imp_003", SettlementMismatchType.MISSING_IN_PG),
+                        tuple("imp_004", SettlementMismatchType.STATUS_MISMATCH),
+                        tuple("imp_005", SettlementMismatchType.AMOUNT_MISMATCH),
+                        tuple("imp_007", SettlementMismatchType.MISSING_IN_DB));
+        assertThat(mismatches.get(0).getPgAmount()).isEqualByComparingTo("20000");
+        assertThat(mismatches.get(1).getOrderId()).isEqualTo(3L);
+        assertThat(merger.getPgCount()).isEqualTo(5);
+        assertThat(merger.getDbCount()).isEqualTo(4);
+        assertThat(merger.getMatchedCount()).isEqualTo(1);
+        assertThat(merger.getMissingInDbCount()).isEqualTo(2);
+    }
+
+    @DisplayName("정산 내역이 imp_uid 순으로 정렬되어 있지 않으면 대사를 중단한다.")
+    @Test
+    void rejectsUnsortedSettlement() throws IOException {
+        SettlementMerger merger = new SettlementMerger(csv(HEADER +
+                "imp_002,2_1,20000,paid\n" +
+                "imp_001,1_1,10000,paid\n"), 1L, mismatch -> { });
+
+        assertThatThrownBy(() -> merger.onPayment(payment("imp_002", 2L, "20000", "paid")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("정산 파일에 필수 열이 없으면 IllegalArgumentException 이 발생한다.")
+    @Test
+    void rejectsMissingColumns() {
+        assertThatThrownBy(() -> csv("imp_uid,amount\nimp_001,1000\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CsvSettlementSource csv(String content) throws IOException {
+        return new CsvSettlementSource(new StringReader(content));
+    }
+
+    private static SettlementMerger.LocalPayment payment(String impUid, Long orderId, String amount, String status) {
+        return new SettlementMerger.LocalPayment(impUid, orderId, new BigDecimal(amount), status);
+    }
+}
@@ -0,0 +1,110 @@
+package com.javalab.student.service.coalescing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightGroupTest {
+
+    private static final int CALLERS = 8;
+
+    @DisplayName("execute(): 같은 키의 동시 요청은 조회를 한 번만 실행하고 결과를 함께 받는다.")
+    @Test
+    void execute_collapsesConcurrentCalls() throws Exception {
+        SingleFlightGroup group = new SingleFlightGroup("test", 5_000);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> group.execute("k", () -> {
+                loads.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "value";
+            })));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> group.execute("k", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            // 팔로워들이 대기 상태에 들어갈 시간을 준 뒤 리더를 끝낸다.
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(group.getExecutions()).isEqualTo(1);
+        assertThat(group.getCollapsed()).isEqualTo(CALLERS - 1);
+        assertThat(group.getInFlight()).isZero();
+    }
+
+    @DisplayName("execute(): 대기 시간을 넘기면 팔로워가 직접 조회한다.")
+    @Test
+    void execute_timeoutFallsBackToOwnLoad() throws Exception {
+        SingleFlightGroup group = new SingleFlightGroup("test", 50);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> group.execute("k", () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "slow";
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(group.execute("k", () -> "own")).isEqualTo("own");
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(group.getTimeouts()).isEqualTo(1);
+        assertThat(group.getExecutions()).isEqualTo(2);
+    }
+
+    @DisplayName("execute(): 리더의 예외는 호출자에게 그대로 전달되고 키는 비워진다.")
+    @Test
+    void execute_failureClearsKey() {
+        SingleFlightGroup group = new SingleFlightGroup("test", 1_000);
+
+        assertThatThrownBy(() -> group.execute("k", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(group.getFailures()).isEqualTo(1);
+        assertThat(group.execute("k", () -> "again")).isEqualTo("again");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.javalab.student.service.product;
+
+import com.javalab.student.entity.product.Product;
+import com.javalab.student.repository.product.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 상세 버전 테스트
+ * - 상품 버전(ETag 기준 값)은 낙관적 잠금이 아니므로, 관리자 수정 도중 주문의 재고 차감이 끼어들어도
+ *   수정이 실패하지 않고 차감된 재고도 덮어쓰지 않는지 확인한다.
+ * - 실제 DB(MariaDB)를 사용하며, 테스트가 만든 데이터는 종료 후 삭제한다.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // 실제 DB 사용
+class ProductVersionTest {
+
+    private static final int STOCK = 10;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(Product.builder()
+                .name("상품 버전 테스트 상품")
+                .price(BigDecimal.valueOf(9_000))
+                .stock(STOCK)
+                .active(true)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteById(productId);
+    }
+
+    @DisplayName("상품 수정 도중 재고가 차감되어도 수정이 반영되고 차감된 재고는 유지된다.")
+    @Test
+    void edit_duringStockChange() {
+        TransactionTemplate checkout = new TransactionTemplate(transactionManager);
+        checkout.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        long before = productRepository.findById(productId).orElseThrow().getVersion();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Product product = productRepository.findById(productId).orElseThrow();
+            checkout.executeWithoutResult(inner -> productRepository.decreaseStock(productId, 3));
+            product.setName("상품 버전 테스트 상품 (수정)");
+            productRepository.saveAndFlush(product);
+        });
+
+        Product saved = productRepository.findById(productId).orElseThrow();
+        assertThat(saved.getName()).isEqualTo("상품 버전 테스트 상품 (수정)");
+        assertThat(saved.getStock()).isEqualTo(STOCK - 3);
+        assertThat(saved.getVersion()).isEqualTo(before + 1);
+    }
+
+    @DisplayName("toggleProductActive(): 상품 상태가 바뀌면 상품 버전이 증가한다.")
+    @Test
+    void toggleProductActive_increasesVersion() {
+        long before = productRepository.findById(productId).orElseThrow().getVersion();
+
+        productService.toggleProductActive(productId);
+
+        Product saved = productRepository.findById(productId).orElseThrow();
+        assertThat(saved.isActive()).isFalse();
+        assertThat(saved.getVersion()).isEqualTo(before + 1);
+    }
+}
@@ -0,0 +1,71 @@
+package com.javalab.student.service.product.facet;
+
+import com.javalab.student.dto.product.ProductFacetFilterDto;
+import com.javalab.student.service.product.ProductSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상품 패싯 메모리 인덱스 테스트
+ * - DB 없이 스냅샷만으로 페이지 크기 제한을 검증한다.
+ */
+class ProductFacetIndexTest {
+
+    private static final int PRODUCTS = ProductFacetIndex.MAX_PAGE_SIZE + 50;
+
+    private ProductFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductFacetIndex();
+        List<ProductSnapshot> snapshots = new ArrayList<>();
+        for (long id = 1; id <= PRODUCTS; id++) {
+            snapshots.add(ProductSnapshot.builder()
+                    .id(id)
+                    .name("상품 " + id)
+                    .price(BigDecimal.valueOf(15_000))
+                    .active(true)
+                    .categoryIds(List.of())
+                    .categoryNames(List.of())
+                    .ingredientIds(List.of())
+                    .ingredientNames(List.of())
+                    .build());
+        }
+        index.rebuild(snapshots);
+    }
+
+    @DisplayName("filter(): 페이지 크기가 최대값보다 크면 최대값만큼만 돌려주고 전체 건수는 유지한다.")
+    @Test
+    void filter_clampsPageSize() {
+        ProductFacetResult result = index.filter(ProductFacetFilterDto.builder().size(Integer.MAX_VALUE).build());
+
+        assertThat(result.getTotalElements()).isEqualTo(PRODUCTS);
+        assertThat(result.getProductIds()).hasSize(ProductFacetIndex.MAX_PAGE_SIZE);
+    }
+
+    @DisplayName("filter(): 줄어든 페이지 크기로 다음 페이지를 계산한다.")
+    @Test
+    void filter_clampedSizeNextPage() {
+        ProductFacetResult result = index.filter(ProductFacetFilterDto.builder().page(1).size(Integer.MAX_VALUE).build());
+
+        assertThat(result.getProductIds()).hasSize(PRODUCTS - ProductFacetIndex.MAX_PAGE_SIZE);
+        assertThat(result.getProductIds().get(0)).isEqualTo(ProductFacetIndex.MAX_PAGE_SIZE + 1L);
+    }
+
+    @DisplayName("filter(): 페이지 크기가 1 미만이거나 페이지 번호가 음수면 거부한다.")
+    @Test
+    void filter_rejectsInvalidPage() {
+        assertThatThrownBy(() -> index.filter(ProductFacetFilterDto.builder().size(0).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.filter(ProductFacetFilterDto.builder().page(-1).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.javalab.student.service.product.related;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoPurchaseRankerTest {
+
+    @DisplayName("addBasket(): 주문 안의 중복 상품은 한 번만 세고, 상품 쌍은 순서와 관계없이 같은 키로 센다.")
+    @Test
+    void addBasket_countsDistinctPairs() {
+        CoPurchaseCounts counts = new CoPurchaseCounts(50);
+        counts.addBasket(new long[]{3, 1, 3, 2}, 4);
+        counts.addBasket(new long[]{2, 1}, 2);
+
+        assertThat(counts.getBasketCount()).isEqualTo(2);
+        assertThat(counts.getProductCounts().get(1)).isEqualTo(2);
+        assertThat(counts.getProductCounts().get(3)).isEqualTo(1);
+        assertThat(counts.getPairCounts().get(CoPurchaseCounts.pairKey(1, 2))).isEqualTo(2);
+        assertThat(counts.getPairCounts().get(CoPurchaseCounts.pairKey(1, 3))).isEqualTo(1);
+        assertThat(counts.getPairCounts().size()).isEqualTo(3);
+    }
+
+    @DisplayName("addBasket(): 상품 수가 기준을 넘는 대량 주문은 집계에서 제외한다.")
+    @Test
+    void addBasket_skipsOversizedBasket() {
+        CoPurchaseCounts counts = new CoPurchaseCounts(2);
+        assertThat(counts.addBasket(new long[]{1, 2, 3}, 3)).isFalse();
+
+        assertThat(counts.getBasketCount()).isZero();
+        assertThat(counts.getSkippedBaskets()).isEqualTo(1);
+        assertThat(counts.getPairCounts().size()).isZero();
+    }
+
+    @DisplayName("rank(): 함께 구매 상품은 lift 높은 순으로 정렬되고, 최소 동시 구매 수 미만 쌍은 제외된다.")
+    @Test
+    void rank_ordersByLiftAndAppliesMinPairCount() {
+        CoPurchaseCounts counts = new CoPurchaseCounts(50);
+        // 상품 2 는 어디에나 함께 팔리는 인기 상품, 상품 3 은 상품 1 과 주로 함께 팔림
+        counts.addBasket(new long[]{1, 2}, 2);
+        counts.addBasket(new long[]{1, 2}, 2);
+        counts.addBasket(new long[]{1, 3}, 2);
+        counts.addBasket(new long[]{1, 3}, 2);
+        counts.addBasket(new long[]{1, 4}, 2);
+        for (int i = 0; i < 5; i++) {
+            counts.addBasket(new long[]{2, 5}, 2);
+        }
+
+        Map<Long, List<CoPurchaseRanker.Relation>> ranked = CoPurchaseRanker.rank(
+                counts.getPairCounts(), counts.getProductCounts(), counts.getBasketCount(), 10, 2);
+
+        assertThat(ranked.get(1L)).extracting(CoPurchaseRanker.Relation::getRelatedProductId)
+                .containsExactly(3L, 2L);
+        assertThat(ranked.get(3L)).extracting(CoPurchaseRanker.Relation::getRelatedProductId)
+                .containsExactly(1L);
+        assertThat(ranked).doesNotContainKey(4L);
+    }
+
+    @DisplayName("rank(): 상품당 상위 K개만 남긴다.")
+    @Test
+    void rank_keepsTopK() {
+        CoPurchaseCounts counts = new CoPurchaseCounts(50);
+        for (int i = 0; i < 3; i++) {
+            counts.addBasket(new long[]{1, 2, 3, 4}, 4);
+        }
+        counts.addBasket(new long[]{1, 2}, 2);
+
+        Map<Long, List<CoPurchaseRanker.Relation>> ranked = CoPurchaseRanker.rank(
+                counts.getPairCounts(), counts.getProductCounts(), counts.getBasketCount(), 2, 1);
+
+        // lift 가 같으면 동시 구매 주문 수가 많은 순, 그다음 상품 ID 순
+        assertThat(ranked.get(1L)).extracting(CoPurchaseRanker.Relation::getRelatedProductId)
+                .containsExactly(2L, 3L);
+    }
+}
@@ -0,0 +1,100 @@
+package com.javalab.student.service.product.search;
+
+import com.javalab.student.service.product.ProductSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 검색 메모리 인덱스 테스트
+ * - DB 없이 스냅샷만으로 색인/검색/증분 갱신을 검증한다.
+ */
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.rebuild(List.of(
+                snapshot(1L, "비타민C 1000", "면역력 강화에 도움", List.of("면역력"), List.of("비타민C")),
+                snapshot(2L, "철분 플러스", "빈혈 예방", List.of("빈혈"), List.of("철분")),
+                snapshot(3L, "멀티비타민", "하루 한 알 종합 영양", List.of("피로/활력"), List.of("종합비타민", "비타민B군"))
+        ));
+    }
+
+    @DisplayName("search(): 바이그램으로 상품명/성분명에서 검색어를 찾는다.")
+    @Test
+    void search_bigram() {
+        ProductSearchResult result = index.search(null, "비타민", 0, 10);
+
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getProductIds()).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @DisplayName("search(): 한 글자 검색어는 유니그램으로 찾는다.")
+    @Test
+    void search_singleCharacter() {
+        ProductSearchResult result = index.search(null, "철", 0, 10);
+
+        assertThat(result.getProductIds()).containsExactly(2L);
+    }
+
+    @DisplayName("search(): 검색 필드를 지정하면 해당 필드에서만 찾는다.")
+    @Test
+    void search_field() {
+        assertThat(index.search(ProductSearchField.CATEGORY, "빈혈", 0, 10).getProductIds()).containsExactly(2L);
+        assertThat(index.search(ProductSearchField.NAME, "빈혈", 0, 10).getTotalElements()).isZero();
+    }
+
+    @DisplayName("search(): offset/limit 으로 페이지를 자르고 전체 건수는 유지한다.")
+    @Test
+    void search_paging() {
+        ProductSearchResult result = index.search(null, "비타민", 1, 1);
+
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getProductIds()).hasSize(1);
+    }
+
+    @DisplayName("put(): 상품이 수정되면 이전 토큰은 제거되고 새 토큰으로 검색된다.")
+    @Test
+    void put_replacesPreviousTerms() {
+        index.put(snapshot(2L, "철분 비타민", "", List.of(), List.of()));
+
+        assertThat(index.search(null, "빈혈", 0, 10).getTotalElements()).isZero();
+        assertThat(index.search(null, "비타민", 0, 10).getProductIds()).contains(2L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @DisplayName("search(): 검색어 전체가 그대로 포함된 상품이 앞에 오고, 수정된 상품은 새 텍스트로 판단한다.")
+    @Test
+    void search_phraseBoost() {
+        index.put(snapshot(4L, "비타민 젤리", "", List.of(), List.of()));
+        index.put(snapshot(5L, "젤리 비타민", "", List.of(), List.of()));
+
+        assertThat(index.search(ProductSearchField.NAME, "비타민젤리", 0, 10).getProductIds()).containsExactly(4L, 5L);
+
+        index.put(snapshot(4L, "젤리 비타민", "", List.of(), List.of()));
+        index.put(snapshot(5L, "비타민 젤리", "", List.of(), List.of()));
+
+        assertThat(index.search(ProductSearchField.NAME, "비타민젤리", 0, 10).getProductIds()).containsExactly(5L, 4L);
+    }
+
+    private ProductSnapshot snapshot(Long id, String name, String description,
+                                     List<String> categories, List<String> ingredients) {
+        return ProductSnapshot.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .active(true)
+                .categoryIds(List.of())
+                .categoryNames(categories)
+                .ingredientIds(List.of())
+                .ingredientNames(ingredients)
+                .build();
+    }
+}
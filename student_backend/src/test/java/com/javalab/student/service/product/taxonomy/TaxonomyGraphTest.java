@@ -0,0 +1,44 @@
+package com.javalab.student.service.product.taxonomy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분류 그래프 테스트
+ * - DB 없이 카테고리/영양성분/매핑만으로 양방향 조회를 검증한다.
+ */
+class TaxonomyGraphTest {
+
+    private final TaxonomyGraph graph = TaxonomyGraph.build(
+            Map.of(10L, "면역력", 20L, "빈혈", 30L, "피로/활력"),
+            Map.of(1L, "비타민C", 2L, "철분", 3L, "비타민B군"),
+            List.of(
+                    new long[]{1L, 10L},
+                    new long[]{1L, 30L},
+                    new long[]{2L, 20L},
+                    new long[]{3L, 30L},
+                    new long[]{3L, 30L},   // 중복 매핑
+                    new long[]{99L, 10L}   // 없는 영양성분
+            ));
+
+    @DisplayName("categoryIdsForIngredients(): 여러 영양성분의 카테고리를 중복 없이 ID 순으로 돌려준다.")
+    @Test
+    void categoryIdsForIngredients() {
+        assertThat(graph.categoryIdsForIngredients(List.of(3L, 1L, 99L))).containsExactly(10L, 30L);
+        assertThat(graph.categoryIdsForIngredients(List.of())).isEmpty();
+    }
+
+    @DisplayName("ingredientIdsInCategory(): 카테고리에 속한 영양성분을 돌려주고, 없는 카테고리는 빈 배열이다.")
+    @Test
+    void ingredientIdsInCategory() {
+        assertThat(graph.ingredientIdsInCategory(30L)).containsExactly(1L, 3L);
+        assertThat(graph.ingredientIdsInCategory(20L)).containsExactly(2L);
+        assertThat(graph.ingredientIdsInCategory(40L)).isEmpty();
+        assertThat(graph.mappingCount()).isEqualTo(4);
+    }
+}
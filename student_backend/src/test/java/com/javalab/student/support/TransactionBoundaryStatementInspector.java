@@ -0,0 +1,41 @@
+package com.javalab.student.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 트랜잭션 밖에서 실행된 SQL 을 기록하는 Hibernate StatementInspector (테스트 전용)
+ * - open-in-view 를 끈 뒤에도 컨트롤러/직렬화 단계에서 지연 로딩이나 조회가 일어나는지 확인하는 데 사용합니다.
+ * - spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록하고,
+ *   start() ~ stop() 사이에 같은 스레드에서 실행된 SQL 만 기록하므로 스케줄러 등 다른 스레드의 쿼리는 섞이지 않습니다.
+ */
+public class TransactionBoundaryStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    /** 현재 스레드에서 기록 시작 */
+    public static void start() {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    /**
+     * 현재 스레드의 기록을 끝내고, 트랜잭션 밖에서 실행된 SQL 목록을 반환합니다.
+     */
+    public static List<String> stop() {
+        List<String> recorded = RECORDED.get();
+        RECORDED.remove();
+        return recorded != null ? recorded : List.of();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> recorded = RECORDED.get();
+        if (recorded != null && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            recorded.add(sql);
+        }
+        return sql;
+    }
+}